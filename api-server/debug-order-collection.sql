@@ -191,7 +191,9 @@ SELECT
     s.store_name,
     s.marketplace,
     COUNT(o.order_id) as total_orders,
-    COUNT(CASE WHEN o.raw_payload IS NOT NULL THEN 1 END) as with_raw_payload,
+    COUNT(CASE WHEN EXISTS (
+        SELECT 1 FROM order_raw_payloads p WHERE p.order_id = o.order_id AND p.marketplace_item_id = ''
+    ) THEN 1 END) as with_raw_payload,
     COUNT(CASE WHEN DATE(o.created_at) = CURRENT_DATE THEN 1 END) as created_today,
     COUNT(CASE WHEN DATE(o.updated_at) = CURRENT_DATE AND DATE(o.created_at) < CURRENT_DATE THEN 1 END) as updated_today,
     MAX(o.created_at) as last_created_at,
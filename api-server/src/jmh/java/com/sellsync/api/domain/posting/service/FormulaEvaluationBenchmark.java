@@ -0,0 +1,216 @@
+package com.sellsync.api.domain.posting.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전표 템플릿 계산식 평가 비교 (필드 1건 평가 기준)
+ *
+ * - legacyReparse: 기존 FormulaEvaluator 방식 (필드 값 → 문자열 치환 → 매 평가마다 재파싱/부분 문자열 재귀 계산)
+ * - compiled: CompiledFormula (1회 파싱한 구문 트리에 필드 값만 바인딩)
+ *
+ * 필드 추출 비용은 두 방식에 동일하므로 Map 조회로 대체 (./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormulaEvaluationBenchmark {
+
+    private static final Map<String, Object> FIELDS = Map.of(
+            "order.totalPaidAmount", 52_000L,
+            "order.totalShippingAmount", 3_000L,
+            "order.commissionAmount", 4_160L,
+            "item.quantity", 3,
+            "order.marketplaceOrderId", "2026030212345678",
+            "order.buyerName", "홍길동");
+
+    @Param({
+            "(order.totalPaidAmount - order.totalShippingAmount) / item.quantity",
+            "order.totalPaidAmount - order.commissionAmount * -1 + 100",
+            "order.marketplaceOrderId + ' ' + order.buyerName"
+    })
+    private String formula;
+
+    private CompiledFormula compiled;
+
+    @Setup
+    public void setUp() {
+        compiled = CompiledFormula.compile(formula);
+    }
+
+    @Benchmark
+    public Object legacyReparse() {
+        return LegacyFormula.evaluate(formula, FIELDS);
+    }
+
+    @Benchmark
+    public Object compiled() {
+        return compiled.evaluate(FIELDS::get);
+    }
+
+    /**
+     * 기존 FormulaEvaluator 평가 경로 (비교 기준으로만 보관)
+     */
+    private static final class LegacyFormula {
+
+        private static final Pattern FIELD_PATTERN = Pattern.compile("(order|item|mapping|erpItem)\\.[a-zA-Z][a-zA-Z0-9]*");
+
+        static Object evaluate(String formula, Map<String, Object> fields) {
+            String expression = removeSpacesOutsideStrings(replaceFieldReferences(formula, fields));
+            if (expression.contains("'") || expression.contains("\"")) {
+                return evaluateStringExpression(expression);
+            }
+            BigDecimal result = evaluateNumericExpression(expression);
+            if (result.scale() <= 0) {
+                return result.longValue();
+            }
+            return result.doubleValue();
+        }
+
+        private static String replaceFieldReferences(String formula, Map<String, Object> fields) {
+            Matcher matcher = FIELD_PATTERN.matcher(formula);
+            StringBuffer result = new StringBuffer();
+            while (matcher.find()) {
+                Object value = fields.get(matcher.group());
+                String replacement;
+                if (value == null) {
+                    replacement = "''";
+                } else if (value instanceof Number) {
+                    replacement = value.toString();
+                } else {
+                    replacement = "'" + value.toString().replace("'", "\\'") + "'";
+                }
+                matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+            }
+            matcher.appendTail(result);
+            return result.toString();
+        }
+
+        private static String removeSpacesOutsideStrings(String expression) {
+            StringBuilder result = new StringBuilder();
+            boolean inString = false;
+            char stringDelimiter = 0;
+            for (int i = 0; i < expression.length(); i++) {
+                char c = expression.charAt(i);
+                if ((c == '\'' || c == '"') && (i == 0 || expression.charAt(i - 1) != '\\')) {
+                    if (!inString) {
+                        inString = true;
+                        stringDelimiter = c;
+                    } else if (c == stringDelimiter) {
+                        inString = false;
+                    }
+                    result.append(c);
+                } else if (c != ' ' || inString) {
+                    result.append(c);
+                }
+            }
+            return result.toString();
+        }
+
+        private static String evaluateStringExpression(String expression) {
+            StringBuilder result = new StringBuilder();
+            for (String part : splitByPlusOperator(expression)) {
+                part = part.trim();
+                if ((part.startsWith("'") && part.endsWith("'"))
+                        || (part.startsWith("\"") && part.endsWith("\""))) {
+                    result.append(part, 1, part.length() - 1);
+                } else if (isNumeric(part)) {
+                    result.append(part);
+                }
+            }
+            return result.toString();
+        }
+
+        private static List<String> splitByPlusOperator(String expression) {
+            List<String> parts = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean inString = false;
+            char stringDelimiter = 0;
+            for (int i = 0; i < expression.length(); i++) {
+                char c = expression.charAt(i);
+                if ((c == '\'' || c == '"') && (i == 0 || expression.charAt(i - 1) != '\\')) {
+                    if (!inString) {
+                        inString = true;
+                        stringDelimiter = c;
+                    } else if (c == stringDelimiter) {
+                        inString = false;
+                    }
+                    current.append(c);
+                } else if (c == '+' && !inString) {
+                    parts.add(current.toString());
+                    current = new StringBuilder();
+                } else {
+                    current.append(c);
+                }
+            }
+            if (current.length() > 0) {
+                parts.add(current.toString());
+            }
+            return parts;
+        }
+
+        private static boolean isNumeric(String str) {
+            try {
+                new BigDecimal(str);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private static BigDecimal evaluateNumericExpression(String expr) {
+            while (expr.contains("(")) {
+                int start = expr.lastIndexOf('(');
+                int end = expr.indexOf(')', start);
+                BigDecimal subResult = evaluateNumericExpression(expr.substring(start + 1, end));
+                expr = expr.substring(0, start) + subResult + expr.substring(end + 1);
+            }
+
+            for (int i = expr.length() - 1; i >= 0; i--) {
+                char c = expr.charAt(i);
+                if ((c == '+' || c == '-') && i > 0 && isOperator(expr, i)) {
+                    BigDecimal leftVal = evaluateNumericExpression(expr.substring(0, i));
+                    BigDecimal rightVal = evaluateNumericExpression(expr.substring(i + 1));
+                    return c == '+' ? leftVal.add(rightVal) : leftVal.subtract(rightVal);
+                }
+            }
+
+            for (int i = expr.length() - 1; i >= 0; i--) {
+                char c = expr.charAt(i);
+                if (c == '*' || c == '/') {
+                    BigDecimal leftVal = new BigDecimal(expr.substring(0, i));
+                    BigDecimal rightVal = new BigDecimal(expr.substring(i + 1));
+                    if (c == '*') {
+                        return leftVal.multiply(rightVal);
+                    }
+                    if (rightVal.compareTo(BigDecimal.ZERO) == 0) {
+                        return BigDecimal.ZERO;
+                    }
+                    return leftVal.divide(rightVal, 10, RoundingMode.HALF_UP);
+                }
+            }
+
+            return new BigDecimal(expr);
+        }
+
+        private static boolean isOperator(String expr, int index) {
+            char prev = expr.charAt(index - 1);
+            return Character.isDigit(prev) || prev == ')';
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sellsync.api.domain.settlement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문별 정산 금액 누적 + 500건 청크 변환 비교
+ *
+ * - hashMapBoxed: 기존 방식 (HashMap&lt;String, 누적 객체&gt; + 청크마다 Long[] 박싱)
+ * - columns: OrderSettlementColumns (원시 배열 컬럼 + 재사용 청크)
+ *
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교 (./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderSettlementAccumulationBenchmark {
+
+    private static final int CHUNK_SIZE = 500;
+
+    /** 정산 요소 수 (주문당 상품 2건 + 배송비 1건) */
+    @Param({"30000", "300000"})
+    private int elements;
+
+    private String[] orderIds;
+    private boolean[] delivery;
+    private long[] commissions;
+    private long[] settlements;
+
+    @Setup
+    public void setUp() {
+        orderIds = new String[elements];
+        delivery = new boolean[elements];
+        commissions = new long[elements];
+        settlements = new long[elements];
+        for (int i = 0; i < elements; i++) {
+            orderIds[i] = "2024" + (1_000_000 + i / 3);
+            delivery[i] = i % 3 == 2;
+            commissions[i] = 100 + i % 50;
+            settlements[i] = 9_000 + i % 700;
+        }
+    }
+
+    @Benchmark
+    public void hashMapBoxed(Blackhole bh) {
+        Map<String, Totals> totals = new HashMap<>();
+        for (int i = 0; i < elements; i++) {
+            Totals data = totals.computeIfAbsent(orderIds[i], k -> new Totals());
+            if (delivery[i]) {
+                data.shippingCommission = commissions[i];
+            } else {
+                data.productCommission += commissions[i];
+                data.productSettlement += settlements[i];
+            }
+        }
+
+        List<Map.Entry<String, Totals>> entries = new ArrayList<>(totals.entrySet());
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            int size = Math.min(CHUNK_SIZE, entries.size() - from);
+            String[] ids = new String[size];
+            Long[] commissionAmounts = new Long[size];
+            Long[] shippingCommissionAmounts = new Long[size];
+            Long[] expectedSettlementAmounts = new Long[size];
+            for (int i = 0; i < size; i++) {
+                Map.Entry<String, Totals> entry = entries.get(from + i);
+                ids[i] = entry.getKey();
+                commissionAmounts[i] = entry.getValue().productCommission;
+                shippingCommissionAmounts[i] = entry.getValue().shippingCommission;
+                expectedSettlementAmounts[i] = entry.getValue().productSettlement;
+            }
+            bh.consume(ids);
+            bh.consume(commissionAmounts);
+            bh.consume(shippingCommissionAmounts);
+            bh.consume(expectedSettlementAmounts);
+        }
+    }
+
+    @Benchmark
+    public void columns(Blackhole bh) {
+        OrderSettlementColumns columns = new OrderSettlementColumns();
+        for (int i = 0; i < elements; i++) {
+            if (delivery[i]) {
+                columns.setShippingCommission(orderIds[i], commissions[i]);
+            } else {
+                columns.addProduct(orderIds[i], commissions[i], settlements[i]);
+            }
+        }
+
+        OrderSettlementColumns.Chunk chunk = columns.newChunk(Math.min(CHUNK_SIZE, columns.size()));
+        for (int from = 0; from < columns.size(); ) {
+            from += chunk.fill(from);
+            bh.consume(chunk.marketplaceOrderIds());
+            bh.consume(chunk.commissionAmounts());
+            bh.consume(chunk.shippingCommissionAmounts());
+            bh.consume(chunk.expectedSettlementAmounts());
+        }
+    }
+
+    private static final class Totals {
+        long productCommission;
+        long shippingCommission;
+        long productSettlement;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sellsync.api.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -43,35 +44,63 @@ public class AsyncConfig {
 
     /**
      * Posting 전송 전용 Executor
+     * 
+     * - PostingDispatchScheduler는 유휴 스레드 수만큼만 선점 묶음을 제출 (큐 대기 중 lease 소모 방지)
      */
     @Bean(name = "postingTaskExecutor")
-    public Executor postingTaskExecutor() {
+    public ThreadPoolTaskExecutor postingTaskExecutor(
+            @Value("${posting.dispatch.pool-size:5}") int poolSize) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);            // 기본 스레드 수 (ERP API 부하 고려)
-        executor.setMaxPoolSize(5);             // 최대 스레드 수
+        executor.setCorePoolSize(poolSize);     // 노드당 동시 전송 수 (ERP API 부하 고려)
+        executor.setMaxPoolSize(poolSize);
         executor.setQueueCapacity(50);          // 큐 크기
         executor.setThreadNamePrefix("post-");  // 스레드 이름 접두사
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
         
-        log.info("Posting Executor 초기화: corePoolSize=3, maxPoolSize=5, queueCapacity=50");
+        log.info("Posting Executor 초기화: poolSize={}, queueCapacity=50", poolSize);
         
         return executor;
     }
     
+    /**
+     * ERP 품목 동기화 전용 Executor (테넌트 병렬 동기화)
+     * 
+     * - 테넌트별 동기화는 ErpItemSyncService에서 1건으로 제한, 스레드 수는 전체 동시 동기화 테넌트 수
+     */
+    @Bean(name = "erpItemSyncExecutor")
+    public Executor erpItemSyncExecutor(
+            @Value("${scheduling.erp-item-sync.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);  // 동시 동기화 테넌트 수
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(10000);       // 활성 테넌트 전체 대기
+        executor.setThreadNamePrefix("erp-item-sync-");  // 스레드 이름 접두사
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        
+        log.info("ERP Item Sync Executor 초기화: poolSize={}, queueCapacity=10000", parallelism);
+        
+        return executor;
+    }
+
     /**
      * 주문 수집 전용 Executor (병렬 처리 최적화)
      * 
-     * 성능 개선:
-     * - 1000개 스토어 처리: 50분 → 6분 (병렬 10개)
-     * - API Rate Limit 회피: 시간 분산으로 자연스러운 부하 분산
+     * 동시 실행 수는 OrderCollectionDispatcher가 마켓플레이스별로 제한하므로
+     * 스레드 수는 (지원 마켓플레이스 수 × 마켓플레이스별 동시 실행 수)만큼 확보
+     * - API Rate Limit: MarketplaceRateLimiter 토큰 버킷으로 제어
      */
     @Bean(name = "orderCollectionExecutor")
-    public Executor orderCollectionExecutor() {
+    public Executor orderCollectionExecutor(
+            @Value("${scheduling.order-collection.parallel.max-concurrency-per-marketplace:8}") int maxConcurrencyPerMarketplace) {
+        int poolSize = maxConcurrencyPerMarketplace * 2;  // NAVER_SMARTSTORE, COUPANG
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);           // 기본 스레드 수 (동시 10개 처리)
-        executor.setMaxPoolSize(20);            // 최대 스레드 수
+        executor.setCorePoolSize(poolSize);     // 마켓플레이스별 동시 실행 수 합계
+        executor.setMaxPoolSize(poolSize * 2);  // 수동 수집 등 추가 작업 여유분
         executor.setQueueCapacity(500);         // 큐 크기
         executor.setThreadNamePrefix("order-collect-");  // 스레드 이름 접두사
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
@@ -79,7 +108,112 @@ public class AsyncConfig {
         executor.setAwaitTerminationSeconds(120);
         executor.initialize();
         
-        log.info("Order Collection Executor 초기화: corePoolSize=10, maxPoolSize=20, queueCapacity=500");
+        log.info("Order Collection Executor 초기화: corePoolSize={}, maxPoolSize={}, queueCapacity=500",
+                poolSize, poolSize * 2);
+        
+        return executor;
+    }
+
+    /**
+     * 마켓플레이스 API 조회 전용 Executor (스토어 내부 병렬 조회)
+     * 
+     * 스마트스토어 24시간 구간 등 한 스토어의 조회 단위를 동시에 실행
+     * - 호출 속도는 MarketplaceRateLimiter가 제어하므로 스레드 수는 대기 중 호출 수 상한 역할
+     * - 큐가 가득 차면 호출 스레드(주문 수집 스레드)에서 직접 실행
+     */
+    @Bean(name = "marketplaceFetchExecutor")
+    public Executor marketplaceFetchExecutor(
+            @Value("${marketplace.fetch.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);     // 동시 조회 수
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(200);         // 큐 크기
+        executor.setThreadNamePrefix("market-fetch-");  // 스레드 이름 접두사
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        
+        log.info("Marketplace Fetch Executor 초기화: poolSize={}, queueCapacity=200", poolSize);
+        
+        return executor;
+    }
+
+    /**
+     * 쿠팡 상품 정보 조회 전용 Executor (수수료 정보 캐시 미스 조회 / refresh-ahead 갱신)
+     * 
+     * 여러 스토어 수집이 공유하며, sellerProductId별 조회는 CoupangCommissionService에서 중복 제거
+     * - 호출 속도는 MarketplaceRateLimiter가 제어하므로 스레드 수는 동시 호출 수 상한 역할
+     * - 큐가 가득 차면 호출 스레드(주문 저장 스레드)에서 직접 실행
+     */
+    @Bean(name = "coupangProductInfoExecutor")
+    public Executor coupangProductInfoExecutor(
+            @Value("${marketplace.coupang.product-info.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);     // 동시 조회 수
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(1000);        // 큐 크기 (첫 동기화 시 대량 미스)
+        executor.setThreadNamePrefix("coupang-product-");  // 스레드 이름 접두사
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        
+        log.info("Coupang Product Info Executor 초기화: poolSize={}, queueCapacity=1000", poolSize);
+        
+        return executor;
+    }
+
+    /**
+     * 주문 저장 전용 Executor (수집 파이프라인 저장 단계)
+     * 
+     * 주문 수집 스레드가 조회를 진행하는 동안 큐에 쌓인 배치를 저장
+     * - 스토어 수집 1건당 저장 스레드 1개 사용 (동시 수집 수는 호출 측에서 제한)
+     * - 저장 작업이 대기열에 머물면 조회 스레드가 무한 대기하므로 대기열 없이 즉시 스레드 할당
+     * - 최대 스레드 초과 시 거부 (해당 스토어 수집 실패 처리)
+     * - 조회 스레드가 저장 완료를 기다리므로 CallerRunsPolicy 사용 금지
+     */
+    @Bean(name = "orderPersistExecutor")
+    public Executor orderPersistExecutor(
+            @Value("${scheduling.order-collection.parallel.max-concurrency-per-marketplace:8}") int maxConcurrencyPerMarketplace) {
+        int poolSize = maxConcurrencyPerMarketplace * 2;  // NAVER_SMARTSTORE, COUPANG
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize * 4);  // 수동 수집 등 추가 작업 여유분
+        executor.setQueueCapacity(0);           // 대기열 없음 (SynchronousQueue)
+        executor.setThreadNamePrefix("order-persist-");  // 스레드 이름 접두사
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(120);
+        executor.initialize();
+        
+        log.info("Order Persist Executor 초기화: corePoolSize={}, maxPoolSize={}, queueCapacity=0",
+                poolSize, poolSize * 4);
+        
+        return executor;
+    }
+
+    /**
+     * 정산 수집 전용 Executor (스토어 병렬 수집)
+     * 
+     * 동시 실행 수는 OrderCollectionDispatcher가 마켓플레이스별로 제한하므로
+     * 스레드 수는 (지원 마켓플레이스 수 × 마켓플레이스별 동시 실행 수)만큼 확보
+     */
+    @Bean(name = "settlementCollectionExecutor")
+    public Executor settlementCollectionExecutor(
+            @Value("${scheduling.settlement-collection.max-concurrency-per-marketplace:4}") int maxConcurrencyPerMarketplace) {
+        int poolSize = maxConcurrencyPerMarketplace * 2;  // NAVER_SMARTSTORE, COUPANG
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);     // 디스패처 제출 수 = 동시 실행 수 합계 (대기 없이 즉시 실행)
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("settlement-collect-");  // 스레드 이름 접두사
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(120);
+        executor.initialize();
+        
+        log.info("Settlement Collection Executor 초기화: poolSize={}, queueCapacity=100", poolSize);
         
         return executor;
     }
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
  * - productMappings: 상품 매핑 캐시 (5분)
  * - erpItems: ERP 품목 캐시 (10분)
  * - stores: 스토어 정보 캐시 (30분)
+ * - postingTemplatePlans: 컴파일된 전표 템플릿 (5분, 템플릿 수정 시 evict)
  */
 @Slf4j
 @Configuration
@@ -51,7 +52,8 @@ public class CacheConfig {
         manager.setCacheNames(java.util.Arrays.asList(
             "productMappings",  // 상품 매핑 캐시
             "erpItems",         // ERP 품목 캐시
-            "stores"            // 스토어 캐시
+            "stores",           // 스토어 캐시
+            "postingTemplatePlans"  // 전표 템플릿 실행 계획 캐시
         ));
         
         log.info("Caffeine CacheManager 초기화 완료: maximumSize=1000, expireAfterWrite=5min");
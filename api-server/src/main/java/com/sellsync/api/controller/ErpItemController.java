@@ -2,11 +2,13 @@ package com.sellsync.api.controller;
 
 import com.sellsync.api.common.ApiResponse;
 import com.sellsync.api.common.PageResponse;
+import com.sellsync.api.domain.erp.dto.InventoryBalanceResponse;
 import com.sellsync.api.domain.erp.entity.ErpItem;
 import com.sellsync.api.domain.erp.entity.ErpItemSyncHistory;
 import com.sellsync.api.domain.erp.repository.ErpItemRepository;
 import com.sellsync.api.domain.erp.repository.ErpItemSyncHistoryRepository;
 import com.sellsync.api.domain.erp.service.ErpItemSyncService;
+import com.sellsync.api.domain.erp.service.InventorySnapshotService;
 import com.sellsync.api.security.CustomUserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,9 @@ public class ErpItemController {
     private final ErpItemRepository itemRepository;
     private final ErpItemSyncHistoryRepository syncHistoryRepository;
     private final ErpItemSyncService syncService;
+    private final InventorySnapshotService inventorySnapshotService;
+
+    private static final int MAX_INVENTORY_ITEM_CODES = 500;
 
     /**
      * 품목 목록 조회
@@ -117,6 +122,24 @@ public class ErpItemController {
         return ResponseEntity.ok(ApiResponse.ok(historyPage.getContent()));
     }
 
+    /**
+     * 품목 재고 조회 (재고 스냅샷 기준, ERP 호출 없음)
+     * - 응답의 fetchedAt이 재고 수치의 기준 시점
+     */
+    @GetMapping("/inventory")
+    @PreAuthorize("hasAnyRole('VIEWER', 'OPERATOR', 'TENANT_ADMIN')")
+    public ResponseEntity<ApiResponse<InventoryBalanceResponse>> getInventory(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam List<String> itemCodes) {
+
+        if (itemCodes.size() > MAX_INVENTORY_ITEM_CODES) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 품목은 최대 " + MAX_INVENTORY_ITEM_CODES + "개입니다.");
+        }
+
+        return ResponseEntity.ok(ApiResponse.ok(InventoryBalanceResponse.of(
+                inventorySnapshotService.getSnapshot(user.getTenantId()), itemCodes)));
+    }
+
     /**
      * 품목 수 조회
      */
@@ -7,6 +7,7 @@ import com.sellsync.api.domain.mapping.repository.ProductMappingRepository;
 import com.sellsync.api.domain.order.entity.OrderItem;
 import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.order.repository.OrderItemRepository;
+import com.sellsync.api.domain.order.repository.OrderRawPayloadRepository;
 import com.sellsync.api.domain.store.entity.Store;
 import com.sellsync.api.domain.store.repository.StoreRepository;
 import com.sellsync.api.infra.marketplace.coupang.*;
@@ -68,6 +69,7 @@ public class SchedulerTestController {
     private final StoreRepository storeRepository;
     private final ProductMappingRepository productMappingRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderRawPayloadRepository orderRawPayloadRepository;
     private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
 
     /**
@@ -753,10 +755,17 @@ public class SchedulerTestController {
         try {
             Optional<OrderItem> itemOpt = orderItemRepository
                     .findFirstByMarketplaceProductIdAndMarketplaceSku(marketplaceProductId, marketplaceSku);
-            if (itemOpt.isEmpty() || itemOpt.get().getRawPayload() == null) {
+            if (itemOpt.isEmpty()) {
                 return null;
             }
-            com.fasterxml.jackson.databind.JsonNode node = objectMapper.readTree(itemOpt.get().getRawPayload());
+            OrderItem item = itemOpt.get();
+            String rawPayload = orderRawPayloadRepository
+                    .findItemPayload(item.getOrder().getOrderId(), item.getMarketplaceItemId())
+                    .orElse(null);
+            if (rawPayload == null) {
+                return null;
+            }
+            com.fasterxml.jackson.databind.JsonNode node = objectMapper.readTree(rawPayload);
             long spid = node.path("sellerProductId").asLong(0);
             return spid > 0 ? String.valueOf(spid) : null;
         } catch (Exception e) {
@@ -64,6 +64,11 @@ public class CredentialManagementService {
         Credential saved = credentialRepository.save(credential);
         log.info("[CredentialManagement] Credential saved: credentialId={}", saved.getCredentialId());
 
+        // 이카운트 인증 정보 변경 시 기존 세션 폐기 (다음 호출에서 새 인증 정보로 로그인)
+        if ("ERP".equals(request.getCredentialType()) && "ECOUNT_CONFIG".equals(request.getKeyName())) {
+            ecountSessionService.invalidateSession(request.getTenantId());
+        }
+
         return CredentialResponse.from(saved);
     }
 
@@ -0,0 +1,49 @@
+package com.sellsync.api.domain.erp.dto;
+
+import com.sellsync.api.domain.erp.service.InventorySnapshot;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 스냅샷 조회 응답
+ * - fetchedAt: 스냅샷의 ERP 조회 시각 (재고 수치의 기준 시점)
+ */
+@Data
+@Builder
+public class InventoryBalanceResponse {
+    private String baseDate;            // 재고 기준일자 (YYYYMMDD)
+    private LocalDateTime fetchedAt;
+    private List<ItemBalance> items;
+
+    @Data
+    @Builder
+    public static class ItemBalance {
+        private String itemCode;
+        private boolean found;          // 재고현황에 있는 품목 여부
+        private double totalQty;
+        private String mainWarehouseCode;
+        private List<InventorySnapshot.WarehouseQty> warehouses;
+    }
+
+    public static InventoryBalanceResponse of(InventorySnapshot snapshot, List<String> itemCodes) {
+        List<ItemBalance> items = new ArrayList<>(itemCodes.size());
+        for (String itemCode : itemCodes) {
+            items.add(ItemBalance.builder()
+                    .itemCode(itemCode)
+                    .found(snapshot.contains(itemCode))
+                    .totalQty(snapshot.getTotalQty(itemCode))
+                    .mainWarehouseCode(snapshot.getMainWarehouseCode(itemCode))
+                    .warehouses(snapshot.getWarehouses(itemCode))
+                    .build());
+        }
+        return InventoryBalanceResponse.builder()
+                .baseDate(snapshot.getBaseDate())
+                .fetchedAt(snapshot.getFetchedAt())
+                .items(items)
+                .build();
+    }
+}
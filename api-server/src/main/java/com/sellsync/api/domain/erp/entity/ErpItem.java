@@ -69,6 +69,9 @@ public class ErpItem {
     @Column(name = "raw_data", columnDefinition = "jsonb")
     private String rawData;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,60 @@
+package com.sellsync.api.domain.erp.repository;
+
+import com.sellsync.api.domain.erp.entity.ErpItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ErpItem 커스텀 Repository
+ *
+ * 역할: ERP 품목 동기화의 페이지 단위 벌크 처리
+ */
+public interface ErpItemBulkRepository {
+
+    /**
+     * 품목 벌크 UPSERT (PostgreSQL ON CONFLICT, unnest 배열 바인딩)
+     *
+     * - (tenant_id, erp_code, item_code) 충돌 시 content_hash 또는 is_active가 다른 행만 UPDATE
+     * - 변경 없는 행은 쓰지 않음 (집계에서도 제외)
+     *
+     * @param items 같은 테넌트/ERP 품목 (item_code 중복 없음, contentHash 설정 필수)
+     * @return 신규/업데이트 건수
+     */
+    BulkUpsertResult bulkUpsert(List<ErpItem> items);
+
+    /**
+     * 동기화 회차의 수신 품목 코드 기록
+     *
+     * @return 이번 회차에서 처음 받은 코드 수 (API가 페이징을 무시하고 같은 데이터를 반환하는지 판단용)
+     */
+    int markSeen(UUID syncId, List<String> itemCodes);
+
+    /**
+     * 회차 수신 기록 건수 (비활성화 전 수신 기록 유실 여부 확인용)
+     */
+    long countSeen(UUID syncId);
+
+    /**
+     * 회차에서 받지 못한 활성 품목 비활성화 (anti-join)
+     *
+     * @return 비활성화 건수
+     */
+    int deactivateUnseen(UUID tenantId, String erpCode, UUID syncId);
+
+    /**
+     * 회차 수신 기록 삭제
+     */
+    void clearSeen(UUID syncId);
+
+    /**
+     * 보관 기간이 지난 수신 기록 삭제 (중단된 회차 잔여 행)
+     *
+     * @return 삭제 건수
+     */
+    int purgeSeenBefore(LocalDateTime cutoff);
+
+    record BulkUpsertResult(int inserted, int updated) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.sellsync.api.domain.erp.repository;
+
+import com.sellsync.api.domain.erp.entity.ErpItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * ErpItem 커스텀 Repository 구현
+ */
+@Slf4j
+@Repository
+public class ErpItemBulkRepositoryImpl implements ErpItemBulkRepository {
+
+    /**
+     * 품목 벌크 UPSERT (변경분만 UPDATE)
+     */
+    private static final String UPSERT_ITEMS_SQL = """
+        INSERT INTO erp_items (
+            erp_item_id, tenant_id, erp_code, item_code, item_name, item_spec, unit, unit_price,
+            item_type, category_code, category_name, warehouse_code, stock_qty, available_qty,
+            is_active, last_synced_at, raw_data, content_hash, created_at, updated_at
+        )
+        SELECT gen_random_uuid(), CAST(:tenantId AS uuid), :erpCode, t.item_code, t.item_name, t.item_spec, t.unit,
+               COALESCE(t.unit_price, 0), t.item_type, t.category_code, t.category_name, t.warehouse_code,
+               COALESCE(t.stock_qty, 0), COALESCE(t.available_qty, 0), t.is_active, :syncedAt, CAST(t.raw_data AS jsonb), t.content_hash, NOW(), NOW()
+        FROM (
+            SELECT unnest(CAST(:itemCodes AS text[])) AS item_code,
+                   unnest(CAST(:itemNames AS text[])) AS item_name,
+                   unnest(CAST(:itemSpecs AS text[])) AS item_spec,
+                   unnest(CAST(:units AS text[])) AS unit,
+                   unnest(CAST(:unitPrices AS bigint[])) AS unit_price,
+                   unnest(CAST(:itemTypes AS text[])) AS item_type,
+                   unnest(CAST(:categoryCodes AS text[])) AS category_code,
+                   unnest(CAST(:categoryNames AS text[])) AS category_name,
+                   unnest(CAST(:warehouseCodes AS text[])) AS warehouse_code,
+                   unnest(CAST(:stockQtys AS integer[])) AS stock_qty,
+                   unnest(CAST(:availableQtys AS integer[])) AS available_qty,
+                   unnest(CAST(:isActives AS boolean[])) AS is_active,
+                   unnest(CAST(:rawDatas AS text[])) AS raw_data,
+                   unnest(CAST(:contentHashes AS text[])) AS content_hash
+        ) t
+        ON CONFLICT (tenant_id, erp_code, item_code) DO UPDATE SET
+            item_name = EXCLUDED.item_name,
+            item_spec = EXCLUDED.item_spec,
+            unit = EXCLUDED.unit,
+            unit_price = EXCLUDED.unit_price,
+            item_type = EXCLUDED.item_type,
+            category_code = EXCLUDED.category_code,
+            category_name = EXCLUDED.category_name,
+            warehouse_code = EXCLUDED.warehouse_code,
+            stock_qty = EXCLUDED.stock_qty,
+            available_qty = EXCLUDED.available_qty,
+            is_active = EXCLUDED.is_active,
+            last_synced_at = EXCLUDED.last_synced_at,
+            raw_data = EXCLUDED.raw_data,
+            content_hash = EXCLUDED.content_hash,
+            updated_at = NOW()
+        WHERE erp_items.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+           OR erp_items.is_active IS DISTINCT FROM EXCLUDED.is_active
+        RETURNING (xmax = 0) AS inserted
+        """;
+
+    /**
+     * 수신 품목 코드 기록 (새로 기록된 코드만 반환)
+     */
+    private static final String MARK_SEEN_SQL = """
+        INSERT INTO erp_item_sync_seen (sync_id, item_code)
+        SELECT CAST(:syncId AS uuid), unnest(CAST(:itemCodes AS text[]))
+        ON CONFLICT DO NOTHING
+        """;
+
+    /**
+     * 미수신 활성 품목 비활성화 (anti-join)
+     */
+    private static final String DEACTIVATE_UNSEEN_SQL = """
+        UPDATE erp_items e
+        SET is_active = FALSE,
+            updated_at = NOW()
+        WHERE e.tenant_id = CAST(:tenantId AS uuid)
+          AND e.erp_code = :erpCode
+          AND e.is_active = TRUE
+          AND NOT EXISTS (
+              SELECT 1 FROM erp_item_sync_seen s
+              WHERE s.sync_id = CAST(:syncId AS uuid)
+                AND s.item_code = e.item_code
+          )
+        """;
+
+    private static final String COUNT_SEEN_SQL = """
+        SELECT COUNT(*) FROM erp_item_sync_seen WHERE sync_id = CAST(:syncId AS uuid)
+        """;
+
+    private static final String CLEAR_SEEN_SQL = """
+        DELETE FROM erp_item_sync_seen WHERE sync_id = CAST(:syncId AS uuid)
+        """;
+
+    private static final String PURGE_SEEN_SQL = """
+        DELETE FROM erp_item_sync_seen WHERE seen_at < :cutoff
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public BulkUpsertResult bulkUpsert(List<ErpItem> items) {
+        if (items == null || items.isEmpty()) {
+            return new BulkUpsertResult(0, 0);
+        }
+        ErpItem first = items.get(0);
+
+        @SuppressWarnings("unchecked")
+        List<Object> rows = entityManager.createNativeQuery(UPSERT_ITEMS_SQL)
+                .setParameter("tenantId", first.getTenantId().toString())
+                .setParameter("erpCode", first.getErpCode())
+                .setParameter("syncedAt", first.getLastSyncedAt())
+                .setParameter("itemCodes", map(items, ErpItem::getItemCode, String[]::new))
+                .setParameter("itemNames", map(items, ErpItem::getItemName, String[]::new))
+                .setParameter("itemSpecs", map(items, ErpItem::getItemSpec, String[]::new))
+                .setParameter("units", map(items, ErpItem::getUnit, String[]::new))
+                .setParameter("unitPrices", map(items, ErpItem::getUnitPrice, Long[]::new))
+                .setParameter("itemTypes", map(items, ErpItem::getItemType, String[]::new))
+                .setParameter("categoryCodes", map(items, ErpItem::getCategoryCode, String[]::new))
+                .setParameter("categoryNames", map(items, ErpItem::getCategoryName, String[]::new))
+                .setParameter("warehouseCodes", map(items, ErpItem::getWarehouseCode, String[]::new))
+                .setParameter("stockQtys", map(items, ErpItem::getStockQty, Integer[]::new))
+                .setParameter("availableQtys", map(items, ErpItem::getAvailableQty, Integer[]::new))
+                .setParameter("isActives", map(items, ErpItem::getIsActive, Boolean[]::new))
+                .setParameter("rawDatas", map(items, ErpItem::getRawData, String[]::new))
+                .setParameter("contentHashes", map(items, ErpItem::getContentHash, String[]::new))
+                .getResultList();
+
+        int inserted = (int) rows.stream().filter(Boolean.TRUE::equals).count();
+
+        log.debug("[ErpItemBulkUpsert] tenant={}, items={}, inserted={}, updated={}, unchanged={}",
+                first.getTenantId(), items.size(), inserted, rows.size() - inserted, items.size() - rows.size());
+
+        return new BulkUpsertResult(inserted, rows.size() - inserted);
+    }
+
+    @Override
+    @Transactional
+    public int markSeen(UUID syncId, List<String> itemCodes) {
+        if (itemCodes.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(MARK_SEEN_SQL)
+                .setParameter("syncId", syncId.toString())
+                .setParameter("itemCodes", itemCodes.toArray(String[]::new))
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countSeen(UUID syncId) {
+        return ((Number) entityManager.createNativeQuery(COUNT_SEEN_SQL)
+                .setParameter("syncId", syncId.toString())
+                .getSingleResult()).longValue();
+    }
+
+    @Override
+    @Transactional
+    public int deactivateUnseen(UUID tenantId, String erpCode, UUID syncId) {
+        return entityManager.createNativeQuery(DEACTIVATE_UNSEEN_SQL)
+                .setParameter("tenantId", tenantId.toString())
+                .setParameter("erpCode", erpCode)
+                .setParameter("syncId", syncId.toString())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void clearSeen(UUID syncId) {
+        entityManager.createNativeQuery(CLEAR_SEEN_SQL)
+                .setParameter("syncId", syncId.toString())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int purgeSeenBefore(LocalDateTime cutoff) {
+        return entityManager.createNativeQuery(PURGE_SEEN_SQL)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+
+    private static <T, R> R[] map(List<T> source, Function<T, R> getter, IntFunction<R[]> arrayFactory) {
+        return source.stream().map(getter).toArray(arrayFactory);
+    }
+}
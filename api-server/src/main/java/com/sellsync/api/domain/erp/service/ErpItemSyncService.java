@@ -8,17 +8,19 @@ import com.sellsync.api.domain.erp.entity.ErpItem;
 import com.sellsync.api.domain.erp.entity.ErpItemSyncHistory;
 import com.sellsync.api.domain.erp.repository.ErpItemRepository;
 import com.sellsync.api.domain.erp.repository.ErpItemSyncHistoryRepository;
+import com.sellsync.api.util.ContentHasher;
 import com.sellsync.infra.erp.ecount.EcountClient;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
 
 @Service
 @Slf4j
@@ -29,6 +31,17 @@ public class ErpItemSyncService {
     private final ErpItemSyncHistoryRepository syncHistoryRepository;
     private final List<ErpClient> erpClients;
     private final ObjectMapper objectMapper;
+    private final InventorySnapshotService inventorySnapshotService;
+
+    private static final int PAGE_SIZE = 500;              // 페이지당 조회 품목 수
+    private static final int MAX_CONSECUTIVE_ERRORS = 3;   // 같은 페이지 연속 실패 시 중단
+    private static final long SEEN_RETENTION_HOURS = 24;   // 중단된 회차 수신 기록 보관 시간
+
+    @Value("${scheduling.erp-item-sync.page-interval-ms:300}")
+    private long pageIntervalMs;                           // 페이지 요청 최소 간격
+
+    // 진행 중인 동기화 (tenantId|erpCode)
+    private final Set<String> runningSyncs = ConcurrentHashMap.newKeySet();
 
     @Data
     @Builder
@@ -39,147 +52,80 @@ public class ErpItemSyncService {
         private int deactivated;
     }
 
-    @Transactional(timeout = 300)  // 5분 타임아웃 (대용량 ERP 품목 동기화)
+    /**
+     * ERP 품목 동기화 (페이지 단위 스트리밍)
+     *
+     * - 페이지를 받는 즉시 content_hash 비교 UPSERT (변경 없는 품목은 쓰지 않음, 페이지별 트랜잭션)
+     * - 받은 품목 코드는 erp_item_sync_seen에 기록, 전체 수신 완료 시 미수신 품목을 SQL anti-join으로 비활성화
+     * - 중간 페이지 실패로 일부만 받은 경우 비활성화 생략 (받지 못한 품목을 삭제된 것으로 보지 않음)
+     * - 같은 테넌트/ERP 동기화는 노드 내 1건만 실행
+     */
     public SyncResult syncItems(UUID tenantId, String erpCode, String triggerType) {
+        String syncKey = tenantId + "|" + erpCode;
+        if (!runningSyncs.add(syncKey)) {
+            throw new IllegalStateException("이미 품목 동기화가 진행 중입니다: tenantId=" + tenantId + ", erpCode=" + erpCode);
+        }
+        try {
+            return doSyncItems(tenantId, erpCode, triggerType);
+        } finally {
+            runningSyncs.remove(syncKey);
+        }
+    }
+
+    private SyncResult doSyncItems(UUID tenantId, String erpCode, String triggerType) {
         log.info("[ErpItemSync] Starting sync for tenant {} ({})", tenantId, erpCode);
         
         LocalDateTime syncStartTime = LocalDateTime.now();
+        purgeStaleSeen(syncStartTime);
         ErpItemSyncHistory history = createSyncHistory(tenantId, erpCode, triggerType);
+        UUID syncId = history.getSyncId();
 
         try {
             ErpClient client = getClient(erpCode);
-            List<ErpItemDto> allItems = fetchAllItems(tenantId, client);
-
-            log.info("[ErpItemSync] Fetched {} items from ERP", allItems.size());
 
-            // 재고 현황 조회 (Ecount인 경우에만)
-            Map<String, EcountClient.InventoryBalance> inventoryBalances = new HashMap<>();
+            // 재고 현황 조회 (Ecount인 경우에만) - 스냅샷 갱신 후 페이지별 품목에 병합
+            InventorySnapshot inventory = null;
             if ("ECOUNT".equals(erpCode) && client instanceof EcountClient) {
                 try {
-                    EcountClient ecountClient = (EcountClient) client;
-                    String baseDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-                    inventoryBalances = ecountClient.getInventoryBalances(tenantId, baseDate);
-                    log.info("[ErpItemSync] Fetched {} inventory balances", inventoryBalances.size());
+                    inventory = inventorySnapshotService.refresh(tenantId);
+                    log.info("[ErpItemSync] Fetched inventory balances for {} items", inventory.getItemCount());
                 } catch (Exception e) {
                     log.warn("[ErpItemSync] Failed to fetch inventory balances, continuing without stock data: {}", 
                             e.getMessage());
                 }
             }
 
-            // 배치 처리를 위한 리스트 - 새 아이템과 기존 아이템 분리
-            List<ErpItem> newItems = new ArrayList<>();
-            List<ErpItem> existingItems = new ArrayList<>();
-            int created = 0, updated = 0;
-
-            // 기존 품목 맵 생성 (성능 최적화)
-            Map<String, ErpItem> existingItemsMap = buildExistingItemsMap(tenantId, erpCode);
-            
-            // 중복 제거 및 병합: 같은 item_code가 여러 번 나오면 마지막 것으로 덮어쓰기 (업데이트 처리)
-            Map<String, ErpItemDto> uniqueItems = new LinkedHashMap<>();
-            int duplicateCount = 0;
-            for (ErpItemDto dto : allItems) {
-                String itemCode = dto.getItemCode();
-                if (uniqueItems.containsKey(itemCode)) {
-                    duplicateCount++;
-                    log.debug("[ErpItemSync] Duplicate item_code found, updating: {} (keeping last occurrence)", itemCode);
-                }
-                uniqueItems.put(itemCode, dto); // 마지막 데이터로 업데이트
-            }
-            
-            if (duplicateCount > 0) {
-                log.info("[ErpItemSync] Found {} duplicate items in ERP response, applied update (last occurrence)", duplicateCount);
-            }
-
-            for (ErpItemDto dto : uniqueItems.values()) {
-                String itemCode = dto.getItemCode();
-                ErpItem item;
-                boolean isNew = false;
+            InventorySnapshot balances = inventory;
+            SyncProgress progress = new SyncProgress();
+            boolean complete = streamAllItems(tenantId, client,
+                    pageItems -> savePage(tenantId, erpCode, syncId, pageItems, balances, syncStartTime, progress));
 
-                if (existingItemsMap.containsKey(itemCode)) {
-                    item = existingItemsMap.get(itemCode);
-                    updated++;
-                } else {
-                    item = new ErpItem();
-                    item.setErpItemId(UUID.randomUUID()); // ID 생성 필수!
-                    item.setTenantId(tenantId);
-                    item.setErpCode(erpCode);
-                    item.setItemCode(itemCode);
-                    isNew = true;
-                    created++;
-                }
-
-                // 품목 정보 업데이트
-                updateItemFromDto(item, dto, syncStartTime);
-                
-                // 재고 정보 맵핑
-                if (inventoryBalances.containsKey(itemCode)) {
-                    EcountClient.InventoryBalance balance = inventoryBalances.get(itemCode);
-                    // 재고 수량을 Integer로 변환 (소수점 반올림)
-                    item.setStockQty(balance.getBalanceQty() != null 
-                            ? balance.getBalanceQty().intValue() 
-                            : 0);
-                    // 가용 수량도 동일하게 설정 (별도 API가 없으면 재고 수량과 동일)
-                    item.setAvailableQty(balance.getBalanceQty() != null 
-                            ? balance.getBalanceQty().intValue() 
-                            : 0);
-                    // 창고코드 저장
-                    item.setWarehouseCode(balance.getWarehouseCode());
-                    
-                    log.debug("[ErpItemSync] Mapped inventory for {}: stock={}, warehouse={}", 
-                            itemCode, balance.getBalanceQty(), balance.getWarehouseCode());
-                }
-                
-                // 새 아이템과 기존 아이템 분리
-                if (isNew) {
-                    newItems.add(item);
+            // 동기화되지 않은 품목 비활성화 (전체 수신 완료 + 수신 기록 온전할 때만)
+            int deactivated = 0;
+            if (!complete) {
+                log.warn("[ErpItemSync] Partial fetch ({} items) - skipping deactivation", progress.fetched);
+            } else {
+                long seen = erpItemRepository.countSeen(syncId);
+                if (seen < progress.fetched) {
+                    log.warn("[ErpItemSync] Seen item codes lost (seen={}, fetched={}) - skipping deactivation",
+                            seen, progress.fetched);
                 } else {
-                    existingItems.add(item);
+                    deactivated = erpItemRepository.deactivateUnseen(tenantId, erpCode, syncId);
                 }
             }
 
-            // 배치로 저장 (BATCH_SIZE 단위로 처리)
-            int batchSize = 100;
-            
-            // 새 아이템 저장
-            if (!newItems.isEmpty()) {
-                for (int i = 0; i < newItems.size(); i += batchSize) {
-                    int end = Math.min(i + batchSize, newItems.size());
-                    List<ErpItem> batch = newItems.subList(i, end);
-                    erpItemRepository.saveAll(batch);
-                    erpItemRepository.flush();  // Hibernate 세션 플러시
-                    log.debug("[ErpItemSync] Saved new items batch {}-{} of {}", i + 1, end, newItems.size());
-                }
-            }
-            
-            // 기존 아이템 저장 (업데이트)
-            if (!existingItems.isEmpty()) {
-                for (int i = 0; i < existingItems.size(); i += batchSize) {
-                    int end = Math.min(i + batchSize, existingItems.size());
-                    List<ErpItem> batch = existingItems.subList(i, end);
-                    erpItemRepository.saveAll(batch);
-                    erpItemRepository.flush();  // Hibernate 세션 플러시
-                    log.debug("[ErpItemSync] Updated existing items batch {}-{} of {}", i + 1, end, existingItems.size());
-                }
-            }
-
-            log.info("[ErpItemSync] Saved {} items (created: {}, updated: {})", 
-                    newItems.size() + existingItems.size(), created, updated);
-
-            // 동기화되지 않은 품목 비활성화
-            int deactivated = erpItemRepository.deactivateNotSyncedItems(
-                    tenantId, erpCode, syncStartTime, LocalDateTime.now());
-
             SyncResult result = SyncResult.builder()
-                    .totalFetched(allItems.size())
-                    .created(created)
-                    .updated(updated)
+                    .totalFetched(progress.fetched)
+                    .created(progress.created)
+                    .updated(progress.updated)
                     .deactivated(deactivated)
                     .build();
 
             completeSyncHistory(history, result, null);
 
-            log.info("[ErpItemSync] Completed: fetched={}, created={}, updated={}, deactivated={}",
-                    result.getTotalFetched(), result.getCreated(), result.getUpdated(), result.getDeactivated());
+            log.info("[ErpItemSync] Completed: fetched={}, created={}, updated={}, unchanged={}, deactivated={}",
+                    result.getTotalFetched(), result.getCreated(), result.getUpdated(),
+                    result.getTotalFetched() - result.getCreated() - result.getUpdated(), result.getDeactivated());
 
             return result;
 
@@ -195,183 +141,195 @@ public class ErpItemSyncService {
             
             completeSyncHistory(history, null, errorDetail);
             throw new RuntimeException("ERP item sync failed: " + e.getMessage(), e);
+
+        } finally {
+            try {
+                erpItemRepository.clearSeen(syncId);
+            } catch (Exception e) {
+                log.warn("[ErpItemSync] Failed to clear seen item codes: syncId={}, error={}", syncId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 중단된 회차의 수신 기록 정리 (종료 시 삭제하지 못한 행)
+     * - 보관 기간은 1회 동기화 소요 시간보다 충분히 길게 (진행 중인 다른 테넌트 회차 보존)
+     */
+    private void purgeStaleSeen(LocalDateTime now) {
+        try {
+            int purged = erpItemRepository.purgeSeenBefore(now.minusHours(SEEN_RETENTION_HOURS));
+            if (purged > 0) {
+                log.info("[ErpItemSync] Purged {} stale seen item codes", purged);
+            }
+        } catch (Exception e) {
+            log.warn("[ErpItemSync] Failed to purge stale seen item codes: {}", e.getMessage());
         }
     }
 
     /**
-     * ERP에서 전체 품목 조회 (페이징 처리)
-     * - 대량의 품목을 처리하기 위해 페이징 방식으로 조회
+     * ERP 품목 페이지 단위 조회 (받는 즉시 pageConsumer로 처리)
      * - 첫 페이지 실패 시 빈 body로 재시도 (전체 조회)
-     * - 중복 데이터 감지로 무한 루프 방지
+     * - 중복 데이터 감지로 무한 루프 방지 (pageConsumer가 이번 회차에 처음 받은 품목 수 반환)
+     * - 페이지 요청 간 최소 간격 유지 (rate limiting 회피, 페이지 처리 시간 포함)
+     *
+     * @return 전체 수신 완료 여부 (중간 페이지 실패로 중단되면 false)
      */
-    private List<ErpItemDto> fetchAllItems(UUID tenantId, ErpClient client) {
+    private boolean streamAllItems(UUID tenantId, ErpClient client, ToIntFunction<List<ErpItemDto>> pageConsumer) {
         log.info("[ErpItemSync] Fetching all items from ERP for tenant {}", tenantId);
         
-        List<ErpItemDto> allItems = new ArrayList<>();
-        Set<String> fetchedItemCodes = new HashSet<>();  // 중복 감지용
-        int pageSize = 500;  // 페이지당 500개씩 조회
         int currentPage = 1;
-        boolean hasMore = true;
         int consecutiveErrors = 0;
-        int maxConsecutiveErrors = 3;  // 연속 3회 실패 시 중단
         int previousSize = 0;  // 이전 페이지 크기
+        int totalUnique = 0;
+        long lastRequestAt = 0;
         
-        while (hasMore) {
-            log.info("[ErpItemSync] Fetching page {} (size: {})", currentPage, pageSize);
+        while (true) {
+            lastRequestAt = awaitPageInterval(lastRequestAt);
+            log.info("[ErpItemSync] Fetching page {} (size: {})", currentPage, PAGE_SIZE);
             
             ErpItemSearchRequest request = ErpItemSearchRequest.builder()
                     .page(currentPage)
-                    .size(pageSize)
+                    .size(PAGE_SIZE)
                     .build();
             
+            List<ErpItemDto> pageItems;
             try {
-                List<ErpItemDto> pageItems = client.getItems(tenantId, request);
-                
-                // 성공 시 에러 카운터 초기화
+                pageItems = client.getItems(tenantId, request);
                 consecutiveErrors = 0;
-                
-                if (pageItems.isEmpty()) {
-                    log.info("[ErpItemSync] No more items found at page {}", currentPage);
-                    hasMore = false;
-                } else {
-                    // 중복 데이터 감지 (Ecount API가 페이징을 무시하고 같은 데이터를 반환하는 경우)
-                    int duplicateCount = 0;
-                    int newItemCount = 0;
-                    
-                    for (ErpItemDto item : pageItems) {
-                        String itemCode = item.getItemCode();
-                        if (fetchedItemCodes.contains(itemCode)) {
-                            duplicateCount++;
-                        } else {
-                            fetchedItemCodes.add(itemCode);
-                            allItems.add(item);
-                            newItemCount++;
-                        }
-                    }
-                    
-                    log.info("[ErpItemSync] Fetched page {}: {} items ({} new, {} duplicates, total unique: {})", 
-                            currentPage, pageItems.size(), newItemCount, duplicateCount, allItems.size());
-                    
-                    // 모든 데이터가 중복이면 더 이상 새 데이터가 없다는 의미
-                    if (newItemCount == 0) {
-                        log.info("[ErpItemSync] All items in page {} are duplicates - API is ignoring pagination. " +
-                                "Stopping here with {} unique items", currentPage, allItems.size());
-                        hasMore = false;
-                    }
-                    // 가져온 개수가 pageSize보다 적으면 마지막 페이지
-                    else if (pageItems.size() < pageSize) {
-                        log.info("[ErpItemSync] Last page reached (items: {} < pageSize: {})", 
-                                pageItems.size(), pageSize);
-                        hasMore = false;
-                    }
-                    // 이전 페이지와 크기가 같고, 대부분이 중복이면 (80% 이상) 페이징이 제대로 동작하지 않는 것으로 판단
-                    else if (currentPage > 1 && pageItems.size() == previousSize && 
-                            duplicateCount > pageItems.size() * 0.8) {
-                        log.warn("[ErpItemSync] Detected API pagination issue: page {} has same size ({}) as previous " +
-                                "and {}% duplicates. Stopping pagination.", 
-                                currentPage, pageItems.size(), (duplicateCount * 100 / pageItems.size()));
-                        hasMore = false;
-                    }
-                    else {
-                        previousSize = pageItems.size();
-                        currentPage++;
-                        
-                        // 운영 환경 안정성을 위해 페이지 간 짧은 딜레이 추가 (rate limiting 회피)
-                        if (hasMore) {
-                            try {
-                                Thread.sleep(300);  // 300ms 대기
-                            } catch (InterruptedException ie) {
-                                Thread.currentThread().interrupt();
-                                log.warn("[ErpItemSync] Sleep interrupted between pages");
-                            }
-                        }
-                    }
-                }
             } catch (Exception e) {
                 consecutiveErrors++;
                 log.error("[ErpItemSync] Failed to fetch page {} (attempt {}/{}): {}", 
-                        currentPage, consecutiveErrors, maxConsecutiveErrors, e.getMessage());
+                        currentPage, consecutiveErrors, MAX_CONSECUTIVE_ERRORS, e.getMessage());
                 
                 // 412 에러는 더 이상 페이지가 없다는 의미이므로 정상 종료
                 boolean is412Error = e.getMessage() != null && 
                     (e.getMessage().contains("412") || e.getMessage().contains("Precondition"));
-                
-                if (is412Error && !allItems.isEmpty()) {
+                if (is412Error && totalUnique > 0) {
                     log.info("[ErpItemSync] Received 412 Precondition Failed - no more pages available. " +
-                            "Successfully fetched {} unique items from {} pages", allItems.size(), currentPage - 1);
-                    hasMore = false;
-                    break;
+                            "Successfully fetched {} unique items from {} pages", totalUnique, currentPage - 1);
+                    return true;
                 }
                 
                 // 첫 페이지 실패 시 빈 body로 전체 조회 시도
                 if (currentPage == 1) {
                     log.warn("[ErpItemSync] First page failed, trying to fetch all items without paging...");
+                    List<ErpItemDto> allItemsAtOnce;
                     try {
-                        // 빈 request로 전체 조회
-                        ErpItemSearchRequest emptyRequest = ErpItemSearchRequest.builder().build();
-                        List<ErpItemDto> allItemsAtOnce = client.getItems(tenantId, emptyRequest);
-                        
-                        if (!allItemsAtOnce.isEmpty()) {
-                            log.info("[ErpItemSync] Successfully fetched {} items without paging", 
-                                    allItemsAtOnce.size());
-                            return allItemsAtOnce;
-                        }
+                        allItemsAtOnce = client.getItems(tenantId, ErpItemSearchRequest.builder().build());
                     } catch (Exception retryError) {
                         log.error("[ErpItemSync] Failed to fetch all items without paging: {}", 
                                 retryError.getMessage());
+                        throw e; // 재시도도 실패하면 원래 예외를 던짐
+                    }
+                    if (allItemsAtOnce.isEmpty()) {
+                        throw e;
                     }
-                    throw e; // 재시도도 실패하면 원래 예외를 던짐
+                    log.info("[ErpItemSync] Successfully fetched {} items without paging", allItemsAtOnce.size());
+                    pageConsumer.applyAsInt(allItemsAtOnce);
+                    return true;
                 }
                 
-                // 연속 실패 횟수가 임계값을 넘으면 중단
-                if (consecutiveErrors >= maxConsecutiveErrors) {
-                    log.error("[ErpItemSync] Too many consecutive errors ({}/{}), stopping sync", 
-                            consecutiveErrors, maxConsecutiveErrors);
-                    if (allItems.isEmpty()) {
-                        throw e; // 아무것도 가져오지 못했으면 예외를 던짐
-                    } else {
-                        log.warn("[ErpItemSync] Returning {} unique items fetched so far", allItems.size());
-                        hasMore = false;
-                    }
-                } else {
-                    // 중간 페이지 실패 시 지금까지 가져온 데이터를 반환
-                    log.warn("[ErpItemSync] Stopping at page {} due to error. Total unique items fetched: {}", 
-                            currentPage, allItems.size());
-                    hasMore = false;
+                // 연속 실패 횟수가 임계값 미만이면 같은 페이지 재시도
+                if (consecutiveErrors < MAX_CONSECUTIVE_ERRORS) {
+                    continue;
                 }
+                log.warn("[ErpItemSync] Too many consecutive errors ({}/{}), stopping at page {}. Total unique items: {}", 
+                        consecutiveErrors, MAX_CONSECUTIVE_ERRORS, currentPage, totalUnique);
+                return false;
+            }
+            
+            if (pageItems.isEmpty()) {
+                log.info("[ErpItemSync] No more items found at page {}", currentPage);
+                return true;
             }
+            
+            // 중복 데이터 감지 (Ecount API가 페이징을 무시하고 같은 데이터를 반환하는 경우)
+            int newItemCount = pageConsumer.applyAsInt(pageItems);
+            int duplicateCount = pageItems.size() - newItemCount;
+            totalUnique += newItemCount;
+            
+            log.info("[ErpItemSync] Processed page {}: {} items ({} new, {} duplicates, total unique: {})", 
+                    currentPage, pageItems.size(), newItemCount, duplicateCount, totalUnique);
+            
+            // 모든 데이터가 중복이면 더 이상 새 데이터가 없다는 의미
+            if (newItemCount == 0) {
+                log.info("[ErpItemSync] All items in page {} are duplicates - API is ignoring pagination. " +
+                        "Stopping here with {} unique items", currentPage, totalUnique);
+                return true;
+            }
+            // 가져온 개수가 pageSize보다 적으면 마지막 페이지
+            if (pageItems.size() < PAGE_SIZE) {
+                log.info("[ErpItemSync] Last page reached (items: {} < pageSize: {})", pageItems.size(), PAGE_SIZE);
+                return true;
+            }
+            // 이전 페이지와 크기가 같고, 대부분이 중복이면 (80% 이상) 페이징이 제대로 동작하지 않는 것으로 판단
+            if (currentPage > 1 && pageItems.size() == previousSize && duplicateCount > pageItems.size() * 0.8) {
+                log.warn("[ErpItemSync] Detected API pagination issue: page {} has same size ({}) as previous " +
+                        "and {}% duplicates. Stopping pagination.", 
+                        currentPage, pageItems.size(), (duplicateCount * 100 / pageItems.size()));
+                return true;
+            }
+            
+            previousSize = pageItems.size();
+            currentPage++;
         }
-        
-        log.info("[ErpItemSync] Completed fetching all items. Total unique: {}", allItems.size());
-        return allItems;
     }
 
     /**
-     * 기존 품목 맵 생성 (배치 처리 최적화)
+     * 페이지 품목 저장 (수신 기록 + 변경분 UPSERT)
+     *
+     * @return 이번 회차에서 처음 받은 품목 수
      */
-    private Map<String, ErpItem> buildExistingItemsMap(UUID tenantId, String erpCode) {
-        List<ErpItem> existingItems = erpItemRepository.findByTenantIdAndErpCodeAndIsActive(
-                tenantId, erpCode, true);
-        
-        // 비활성 품목도 포함 (재활성화를 위해)
-        List<ErpItem> inactiveItems = erpItemRepository.findByTenantIdAndErpCodeAndIsActive(
-                tenantId, erpCode, false);
-        existingItems.addAll(inactiveItems);
-        
-        Map<String, ErpItem> map = new HashMap<>();
-        for (ErpItem item : existingItems) {
-            map.put(item.getItemCode(), item);
+    private int savePage(UUID tenantId, String erpCode, UUID syncId, List<ErpItemDto> pageItems,
+                         InventorySnapshot inventory, LocalDateTime syncTime, SyncProgress progress) {
+        // 페이지 내 중복 제거: 같은 item_code가 여러 번 나오면 마지막 것으로 덮어쓰기
+        Map<String, ErpItemDto> uniqueItems = new LinkedHashMap<>();
+        for (ErpItemDto dto : pageItems) {
+            uniqueItems.put(dto.getItemCode(), dto);
         }
-        
-        log.info("[ErpItemSync] Loaded {} existing items into map", map.size());
-        return map;
+
+        int newCount = erpItemRepository.markSeen(syncId, new ArrayList<>(uniqueItems.keySet()));
+
+        List<ErpItem> items = new ArrayList<>(uniqueItems.size());
+        for (ErpItemDto dto : uniqueItems.values()) {
+            items.add(toItem(tenantId, erpCode, dto, inventory, syncTime));
+        }
+        ErpItemRepository.BulkUpsertResult saved = erpItemRepository.bulkUpsert(items);
+
+        progress.fetched += newCount;
+        progress.created += saved.inserted();
+        progress.updated += saved.updated();
+        return newCount;
+    }
+
+    /**
+     * 페이지 요청 최소 간격 대기 (직전 요청 시작 시점 기준)
+     *
+     * @return 이번 요청 시작 시각
+     */
+    private long awaitPageInterval(long lastRequestAt) {
+        long waitMs = lastRequestAt + pageIntervalMs - System.currentTimeMillis();
+        if (lastRequestAt > 0 && waitMs > 0) {
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                log.warn("[ErpItemSync] Sleep interrupted between pages");
+            }
+        }
+        return System.currentTimeMillis();
     }
 
     /**
-     * DTO에서 Entity로 정보 업데이트
-     * - 재고 수량과 창고코드는 별도 API로 조회하므로 여기서는 설정하지 않음
+     * DTO + 재고 정보로 저장용 품목 생성 (content_hash 포함)
+     * - 재고 수량은 Integer로 변환, 가용 수량은 별도 API가 없으므로 재고 수량과 동일
      */
-    private void updateItemFromDto(ErpItem item, ErpItemDto dto, LocalDateTime syncTime) {
+    private ErpItem toItem(UUID tenantId, String erpCode, ErpItemDto dto,
+                           InventorySnapshot inventory, LocalDateTime syncTime) {
+        ErpItem item = new ErpItem();
+        item.setTenantId(tenantId);
+        item.setErpCode(erpCode);
+        item.setItemCode(dto.getItemCode());
         item.setItemName(dto.getItemName());
         item.setItemSpec(dto.getItemSpec());
         item.setUnit(dto.getUnit());
@@ -379,16 +337,44 @@ public class ErpItemSyncService {
         item.setItemType(dto.getItemType());
         item.setCategoryCode(dto.getCategoryCode());
         item.setCategoryName(dto.getCategoryName());
-        // 재고 수량과 창고코드는 별도의 재고현황 API로 조회하여 설정
-        // item.setStockQty(), item.setWarehouseCode()는 재고 맵핑 단계에서 처리
         item.setIsActive(dto.isActive());
         item.setLastSyncedAt(syncTime);
 
+        if (inventory != null && inventory.contains(dto.getItemCode())) {
+            int qty = (int) inventory.getTotalQty(dto.getItemCode());
+            item.setStockQty(qty);
+            item.setAvailableQty(qty);
+            item.setWarehouseCode(inventory.getMainWarehouseCode(dto.getItemCode()));
+        }
+
         try {
             item.setRawData(objectMapper.writeValueAsString(dto));
         } catch (Exception e) {
             log.warn("Failed to serialize raw data for item {}", dto.getItemCode());
         }
+
+        item.setContentHash(contentHash(item));
+        return item;
+    }
+
+    /**
+     * 품목 내용 지문 (SHA256) - raw_data 제외 저장 필드 기준
+     */
+    private static String contentHash(ErpItem item) {
+        return new ContentHasher()
+                .add(item.getItemName(), item.getItemSpec(), item.getUnit(), item.getUnitPrice(),
+                        item.getItemType(), item.getCategoryCode(), item.getCategoryName(),
+                        item.getWarehouseCode(), item.getStockQty(), item.getAvailableQty(), item.getIsActive())
+                .hash();
+    }
+
+    /**
+     * 동기화 진행 집계
+     */
+    private static class SyncProgress {
+        private int fetched;
+        private int created;
+        private int updated;
     }
 
     @SuppressWarnings("null")
@@ -0,0 +1,260 @@
+package com.sellsync.api.domain.erp.service;
+
+import com.sellsync.infra.erp.ecount.EcountClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 테넌트 재고 현황 스냅샷 (불변)
+ *
+ * ERP 재고현황(품목 x 창고)을 조회 전용 배열 색인으로 보관합니다.
+ * - 품목: 정렬된 품목 코드 배열 + 이진 탐색 (품목별 Map/객체 없음)
+ * - 창고: 코드 사전(int 번호) + 품목별 구간 [itemStart[i], itemStart[i+1]) 의 창고 번호/수량 배열
+ * - 품목별 총 재고는 미리 합산, 구간 내 창고는 재고 내림차순 (첫 창고 = 주 창고)
+ * - 갱신은 새 스냅샷 생성 후 참조 교체 (읽기 측 잠금 없음)
+ */
+public final class InventorySnapshot {
+
+    private final UUID tenantId;
+    private final String baseDate;
+    private final LocalDateTime fetchedAt;
+
+    private final String[] itemCodes;        // 정렬됨
+    private final int[] itemStart;           // 길이 itemCodes.length + 1
+    private final double[] totalQty;         // 품목별 총 재고
+    private final int[] entryWarehouse;      // warehouseCodes 번호
+    private final double[] entryQty;         // 품목 x 창고 재고
+    private final String[] warehouseCodes;
+    private final String[] warehouseNames;
+
+    private InventorySnapshot(UUID tenantId, String baseDate, LocalDateTime fetchedAt,
+                              String[] itemCodes, int[] itemStart, double[] totalQty,
+                              int[] entryWarehouse, double[] entryQty,
+                              String[] warehouseCodes, String[] warehouseNames) {
+        this.tenantId = tenantId;
+        this.baseDate = baseDate;
+        this.fetchedAt = fetchedAt;
+        this.itemCodes = itemCodes;
+        this.itemStart = itemStart;
+        this.totalQty = totalQty;
+        this.entryWarehouse = entryWarehouse;
+        this.entryQty = entryQty;
+        this.warehouseCodes = warehouseCodes;
+        this.warehouseNames = warehouseNames;
+    }
+
+    /**
+     * 재고현황 레코드로 스냅샷 생성
+     * - 같은 품목/창고 레코드가 여러 건이면 수량 합산
+     */
+    public static InventorySnapshot build(UUID tenantId, String baseDate, LocalDateTime fetchedAt,
+                                          List<EcountClient.InventoryBalance> balances) {
+        Map<String, Integer> warehouseIndex = new HashMap<>();
+        List<String> warehouseCodeList = new ArrayList<>();
+        List<String> warehouseNameList = new ArrayList<>();
+
+        int n = balances.size();
+        String[] codes = new String[n];
+        int[] warehouses = new int[n];
+        double[] qtys = new double[n];
+        for (int i = 0; i < n; i++) {
+            EcountClient.InventoryBalance balance = balances.get(i);
+            String warehouseCode = balance.getWarehouseCode() != null ? balance.getWarehouseCode() : "";
+            Integer wh = warehouseIndex.get(warehouseCode);
+            if (wh == null) {
+                wh = warehouseCodeList.size();
+                warehouseIndex.put(warehouseCode, wh);
+                warehouseCodeList.add(warehouseCode);
+                warehouseNameList.add(balance.getWarehouseName());
+            }
+            codes[i] = balance.getItemCode();
+            warehouses[i] = wh;
+            qtys[i] = balance.getBalanceQty() != null ? balance.getBalanceQty() : 0.0;
+        }
+
+        // 품목 코드 → 창고 번호 순 정렬 (같은 품목/창고 인접)
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(i -> codes[i])
+                .thenComparingInt(i -> warehouses[i]));
+
+        String[] itemCodes = new String[n];
+        int[] itemStart = new int[n + 1];
+        int[] entryWarehouse = new int[n];
+        double[] entryQty = new double[n];
+        int itemCount = 0;
+        int entryCount = 0;
+        for (int k = 0; k < n; k++) {
+            int i = order[k];
+            boolean newItem = itemCount == 0 || !itemCodes[itemCount - 1].equals(codes[i]);
+            if (newItem) {
+                itemCodes[itemCount] = codes[i];
+                itemStart[itemCount] = entryCount;
+                itemCount++;
+            } else if (entryWarehouse[entryCount - 1] == warehouses[i]) {
+                entryQty[entryCount - 1] += qtys[i];
+                continue;
+            }
+            entryWarehouse[entryCount] = warehouses[i];
+            entryQty[entryCount] = qtys[i];
+            entryCount++;
+        }
+        itemStart[itemCount] = entryCount;
+
+        // 품목별 총 재고 + 구간 내 재고 내림차순 정렬 (창고 수가 적어 삽입 정렬)
+        double[] totalQty = new double[itemCount];
+        for (int item = 0; item < itemCount; item++) {
+            int from = itemStart[item];
+            int to = itemStart[item + 1];
+            double sum = 0;
+            for (int e = from; e < to; e++) {
+                sum += entryQty[e];
+                for (int j = e; j > from && entryQty[j] > entryQty[j - 1]; j--) {
+                    swap(entryQty, entryWarehouse, j, j - 1);
+                }
+            }
+            totalQty[item] = sum;
+        }
+
+        return new InventorySnapshot(tenantId, baseDate, fetchedAt,
+                Arrays.copyOf(itemCodes, itemCount),
+                Arrays.copyOf(itemStart, itemCount + 1),
+                totalQty,
+                Arrays.copyOf(entryWarehouse, entryCount),
+                Arrays.copyOf(entryQty, entryCount),
+                warehouseCodeList.toArray(new String[0]),
+                warehouseNameList.toArray(new String[0]));
+    }
+
+    /**
+     * 재고 수치가 같은 스냅샷인지 (조회 시각 제외)
+     */
+    public boolean sameBalances(InventorySnapshot other) {
+        return other != null
+                && baseDate.equals(other.baseDate)
+                && Arrays.equals(itemCodes, other.itemCodes)
+                && Arrays.equals(itemStart, other.itemStart)
+                && Arrays.equals(entryQty, other.entryQty)
+                && sameWarehouses(other);
+    }
+
+    /**
+     * 재고 수치는 그대로 두고 조회 시각만 갱신한 스냅샷 (배열 공유)
+     */
+    public InventorySnapshot withFetchedAt(LocalDateTime fetchedAt) {
+        return new InventorySnapshot(tenantId, baseDate, fetchedAt, itemCodes, itemStart, totalQty,
+                entryWarehouse, entryQty, warehouseCodes, warehouseNames);
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public String getBaseDate() {
+        return baseDate;
+    }
+
+    /**
+     * ERP 조회 시각 (스냅샷 신선도 기준)
+     */
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public int getItemCount() {
+        return itemCodes.length;
+    }
+
+    public boolean contains(String itemCode) {
+        return indexOf(itemCode) >= 0;
+    }
+
+    /**
+     * 품목 총 재고 (재고현황에 없는 품목은 0)
+     */
+    public double getTotalQty(String itemCode) {
+        int item = indexOf(itemCode);
+        return item >= 0 ? totalQty[item] : 0.0;
+    }
+
+    /**
+     * 품목 x 창고 재고 (없으면 0)
+     */
+    public double getQty(String itemCode, String warehouseCode) {
+        int item = indexOf(itemCode);
+        if (item < 0) {
+            return 0.0;
+        }
+        for (int e = itemStart[item]; e < itemStart[item + 1]; e++) {
+            if (warehouseCodes[entryWarehouse[e]].equals(warehouseCode)) {
+                return entryQty[e];
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * 주 창고 코드 (재고가 가장 많은 창고, 재고현황에 없는 품목은 null)
+     */
+    public String getMainWarehouseCode(String itemCode) {
+        int item = indexOf(itemCode);
+        if (item < 0 || itemStart[item] == itemStart[item + 1]) {
+            return null;
+        }
+        return warehouseCodes[entryWarehouse[itemStart[item]]];
+    }
+
+    /**
+     * 품목의 창고별 재고 (재고 내림차순)
+     */
+    public List<WarehouseQty> getWarehouses(String itemCode) {
+        int item = indexOf(itemCode);
+        if (item < 0) {
+            return Collections.emptyList();
+        }
+        List<WarehouseQty> result = new ArrayList<>(itemStart[item + 1] - itemStart[item]);
+        for (int e = itemStart[item]; e < itemStart[item + 1]; e++) {
+            int wh = entryWarehouse[e];
+            result.add(new WarehouseQty(warehouseCodes[wh], warehouseNames[wh], entryQty[e]));
+        }
+        return result;
+    }
+
+    public record WarehouseQty(String warehouseCode, String warehouseName, double qty) {
+    }
+
+    private int indexOf(String itemCode) {
+        return itemCode != null ? Arrays.binarySearch(itemCodes, itemCode) : -1;
+    }
+
+    private boolean sameWarehouses(InventorySnapshot other) {
+        if (entryWarehouse.length != other.entryWarehouse.length) {
+            return false;
+        }
+        for (int e = 0; e < entryWarehouse.length; e++) {
+            if (!warehouseCodes[entryWarehouse[e]].equals(other.warehouseCodes[other.entryWarehouse[e]])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void swap(double[] qty, int[] warehouse, int a, int b) {
+        double q = qty[a];
+        qty[a] = qty[b];
+        qty[b] = q;
+        int w = warehouse[a];
+        warehouse[a] = warehouse[b];
+        warehouse[b] = w;
+    }
+}
@@ -0,0 +1,118 @@
+package com.sellsync.api.domain.erp.service;
+
+import com.sellsync.infra.erp.ecount.EcountClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 현황 스냅샷 서비스
+ *
+ * - 테넌트별 InventorySnapshot을 노드 메모리에 보관, 조회는 ERP 호출 없이 스냅샷에서 응답
+ * - 첫 조회 시 동기 적재, 이후 InventorySnapshotScheduler가 주기 갱신 (조회가 끊긴 테넌트는 제거)
+ * - 같은 테넌트 갱신은 1건만 실행, 대기하던 요청은 그 결과를 사용
+ * - 갱신 실패 시 기존 스냅샷 유지 (fetchedAt으로 신선도 판단)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventorySnapshotService {
+
+    private static final DateTimeFormatter BASE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final EcountClient ecountClient;
+
+    @Value("${scheduling.inventory-snapshot.idle-hours:6}")
+    private long idleHours;                                // 이 시간 동안 조회 없으면 스냅샷 제거
+
+    private final Map<UUID, SnapshotHolder> holders = new ConcurrentHashMap<>();
+
+    private static class SnapshotHolder {
+        private volatile InventorySnapshot snapshot;
+        private volatile long refreshedAt;                 // 마지막 갱신 완료 시각 (ms)
+        private volatile long lastAccessAt;                // 마지막 조회 시각 (ms, 갱신만 한 경우 0)
+    }
+
+    /**
+     * 재고 스냅샷 조회 (없으면 ERP에서 적재)
+     */
+    public InventorySnapshot getSnapshot(UUID tenantId) {
+        SnapshotHolder holder = holders.computeIfAbsent(tenantId, id -> new SnapshotHolder());
+        holder.lastAccessAt = System.currentTimeMillis();
+        InventorySnapshot snapshot = holder.snapshot;
+        return snapshot != null ? snapshot : refresh(tenantId);
+    }
+
+    /**
+     * ERP 재고현황으로 스냅샷 갱신
+     * - 이카운트 재고현황 API는 변경분 조회가 없어 기준일자 전체 조회
+     * - 재고 수치가 이전과 같으면 기존 색인을 유지하고 fetchedAt만 갱신
+     */
+    public InventorySnapshot refresh(UUID tenantId) {
+        SnapshotHolder holder = holders.computeIfAbsent(tenantId, id -> new SnapshotHolder());
+        long requestedAt = System.currentTimeMillis();
+
+        synchronized (holder) {
+            // 대기 중 다른 요청이 갱신 완료
+            if (holder.snapshot != null && holder.refreshedAt >= requestedAt) {
+                return holder.snapshot;
+            }
+
+            LocalDateTime fetchedAt = LocalDateTime.now();
+            String baseDate = fetchedAt.format(BASE_DATE_FORMAT);
+            List<EcountClient.InventoryBalance> balances = ecountClient.getInventoryBalances(tenantId, baseDate);
+
+            InventorySnapshot current = holder.snapshot;
+            InventorySnapshot fresh = InventorySnapshot.build(tenantId, baseDate, fetchedAt, balances);
+            boolean unchanged = fresh.sameBalances(current);
+            holder.snapshot = unchanged ? current.withFetchedAt(fetchedAt) : fresh;
+            holder.refreshedAt = System.currentTimeMillis();
+
+            log.info("[InventorySnapshot] Refreshed: tenantId={}, items={}, records={}, unchanged={}, elapsed={}ms",
+                    tenantId, fresh.getItemCount(), balances.size(), unchanged,
+                    holder.refreshedAt - requestedAt);
+            return holder.snapshot;
+        }
+    }
+
+    /**
+     * 적재된 테넌트 스냅샷 주기 갱신 (스케줄러)
+     * - idle-hours 동안 조회가 없던 테넌트(품목 동기화 등 갱신만 한 경우 포함)는 갱신하지 않고 제거
+     */
+    public void refreshLoadedSnapshots() {
+        long idleCutoff = System.currentTimeMillis() - idleHours * 3600_000L;
+        int refreshed = 0;
+        int failed = 0;
+
+        for (Map.Entry<UUID, SnapshotHolder> entry : holders.entrySet()) {
+            UUID tenantId = entry.getKey();
+            SnapshotHolder holder = entry.getValue();
+
+            if (holder.lastAccessAt < idleCutoff) {
+                holders.remove(tenantId, holder);
+                log.info("[InventorySnapshot] Evicted idle snapshot: tenantId={}", tenantId);
+                continue;
+            }
+            try {
+                refresh(tenantId);
+                refreshed++;
+            } catch (Exception e) {
+                failed++;
+                log.warn("[InventorySnapshot] Refresh failed, keeping previous snapshot: tenantId={}, error={}",
+                        tenantId, e.getMessage());
+            }
+        }
+
+        if (refreshed + failed > 0) {
+            log.info("[InventorySnapshot] Periodic refresh: refreshed={}, failed={}", refreshed, failed);
+        }
+    }
+}
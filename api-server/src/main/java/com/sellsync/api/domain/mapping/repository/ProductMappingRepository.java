@@ -167,6 +167,19 @@ public interface ProductMappingRepository extends JpaRepository<ProductMapping,
         return mappings.isEmpty() ? Optional.empty() : Optional.of(mappings.get(0));
     }
 
+    /**
+     * 상품 ID 목록으로 매핑 일괄 조회 (일괄 전표 생성 시 사전 로딩용)
+     */
+    @Query("SELECT m FROM ProductMapping m WHERE m.tenantId = :tenantId " +
+           "AND m.marketplaceProductId IN :productIds " +
+           "AND m.mappingStatus = :status " +
+           "AND m.isActive = TRUE")
+    List<ProductMapping> findByTenantIdAndMarketplaceProductIdInAndMappingStatus(
+        @Param("tenantId") UUID tenantId,
+        @Param("productIds") List<String> productIds,
+        @Param("status") MappingStatus status
+    );
+
     /**
      * 매핑 상태별 조회 (페이징)
      */
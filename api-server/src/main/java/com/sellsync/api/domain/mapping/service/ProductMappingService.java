@@ -600,6 +600,25 @@ public class ProductMappingService {
                 .toList();
     }
 
+    /**
+     * 상품 ID 목록으로 활성화되고 매핑 완료된 매핑 일괄 조회
+     * 
+     * findActiveMapping과 동일 조건(isActive = true, mappingStatus = MAPPED)을 한 번의 쿼리로 적용합니다.
+     * 스토어/마켓/SKU 구분은 호출 측에서 결과로 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductMappingResponse> findActiveMappingsByProductIds(UUID tenantId, List<String> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return productMappingRepository.findByTenantIdAndMarketplaceProductIdInAndMappingStatus(
+                tenantId, productIds, MappingStatus.MAPPED
+        )
+        .stream()
+        .map(ProductMappingResponse::from)
+        .toList();
+    }
+
     /**
      * 활성화된 매핑만 조회
      */
@@ -5,6 +5,7 @@ import com.sellsync.api.domain.order.enums.Marketplace;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 마켓플레이스 주문 수집 클라이언트 인터페이스
@@ -29,4 +30,82 @@ public interface MarketplaceOrderClient {
             LocalDateTime from,
             LocalDateTime to
     );
+
+    /**
+     * 주문 목록 수집 (페이지 단위 스트리밍)
+     * 
+     * 조회된 페이지를 즉시 pageConsumer로 전달하여 전체 결과를 메모리에 모으지 않음
+     * pageConsumer는 여러 스레드에서 동시에 호출될 수 있음
+     * 
+     * @param credentials 인증 정보 (JSON 문자열)
+     * @param from 시작 일시
+     * @param to 종료 일시
+     * @param pageConsumer 페이지별 통합 주문 DTO 처리 (중복 제거된 주문만 전달)
+     */
+    default void fetchOrders(
+            String credentials,
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<List<MarketplaceOrderDto>> pageConsumer
+    ) {
+        pageConsumer.accept(fetchOrders(credentials, from, to));
+    }
+
+    /**
+     * 변경분(증분) 수집 지원 여부
+     * 
+     * @return true면 fetchChangedOrders()로 마지막 동기화 이후 변경된 주문만 조회 가능
+     */
+    default boolean supportsIncrementalFetch() {
+        return false;
+    }
+
+    /**
+     * 변경된 주문 수집 (증분 수집)
+     * 
+     * supportsIncrementalFetch()가 true인 구현체만 호출됨 (OrderCollectionService에서 먼저 확인)
+     * 
+     * @param credentials 인증 정보 (JSON 문자열)
+     * @param changedFrom 변경 시작 일시 (동기화 커서)
+     * @param changedTo 변경 종료 일시
+     * @return 기간 내 상태가 변경된 주문의 통합 DTO 리스트
+     */
+    default List<MarketplaceOrderDto> fetchChangedOrders(
+            String credentials,
+            LocalDateTime changedFrom,
+            LocalDateTime changedTo
+    ) {
+        throw new UnsupportedOperationException(
+                "Incremental fetch is not supported for " + getMarketplace());
+    }
+
+    /**
+     * 변경된 주문 수집 (증분 수집, 페이지 단위 스트리밍)
+     * 
+     * 조회된 페이지를 즉시 pageConsumer로 전달하여 전체 결과를 메모리에 모으지 않음
+     * supportsIncrementalFetch()가 true인 구현체만 호출됨
+     * 
+     * @param credentials 인증 정보 (JSON 문자열)
+     * @param changedFrom 변경 시작 일시 (동기화 커서)
+     * @param changedTo 변경 종료 일시
+     * @param pageConsumer 페이지별 통합 주문 DTO 처리
+     */
+    default void fetchChangedOrders(
+            String credentials,
+            LocalDateTime changedFrom,
+            LocalDateTime changedTo,
+            Consumer<List<MarketplaceOrderDto>> pageConsumer
+    ) {
+        pageConsumer.accept(fetchChangedOrders(credentials, changedFrom, changedTo));
+    }
+
+    /**
+     * 인증 정보 식별자 (Rate Limit 버킷 키)
+     * 
+     * @param credentials 인증 정보 (JSON 문자열)
+     * @return 스마트스토어: clientId, 쿠팡: vendorId (미지원 시 null)
+     */
+    default String credentialKey(String credentials) {
+        return null;
+    }
 }
@@ -52,7 +52,7 @@ public class OrderController {
      * - storeId (선택): 스토어 ID
      * - settlementStatus (선택): 정산 수집 상태 (NOT_COLLECTED, COLLECTED, POSTED)
      * - search (선택): 검색 키워드 (주문번호, 고객명, 상품명)
-     * - from (선택): 시작 날짜 (yyyy-MM-dd, 결제일 기준)
+     * - from (선택): 시작 날짜 (yyyy-MM-dd, 결제일 기준, 미지정 시 종료일 기준 3개월 전)
      * - to (선택): 종료 날짜 (yyyy-MM-dd, 결제일 기준)
      * - page (선택, 기본 0): 페이지 번호 (0부터 시작)
      * - size (선택, 기본 50): 페이지 크기
@@ -1,5 +1,6 @@
 package com.sellsync.api.domain.order.dto;
 
+import com.sellsync.api.util.ContentHasher;
 import lombok.Builder;
 import lombok.Data;
 
@@ -59,4 +60,33 @@ public class MarketplaceOrderDto {
     
     // 상품
     private List<MarketplaceOrderItemDto> items;
+
+    /**
+     * 수집 내용 지문 (SHA256)
+     * - raw_payload를 제외한 정규화 필드 기준 (원본 JSON의 키 순서/부가 필드 변화는 무시)
+     * - 아이템은 수집 순서대로 포함 (line_no 변경도 변경으로 간주)
+     * - 이전 수집과 지문이 같으면 주문 매핑/저장 생략
+     */
+    public String contentHash() {
+        ContentHasher hasher = new ContentHasher()
+                .add(marketplaceOrderId, bundleOrderId, orderStatus, orderedAt, paidAt,
+                        buyerName, buyerPhone, buyerId,
+                        receiverName, receiverPhone1, receiverPhone2, receiverZipCode, receiverAddress,
+                        safeNumber, safeNumberType,
+                        totalProductAmount, totalDiscountAmount, totalShippingAmount, totalPaidAmount,
+                        commissionAmount, expectedSettlementAmount,
+                        shippingFeeType, shippingFee, prepaidShippingFee, additionalShippingFee,
+                        deliveryRequest, paymentMethod, personalCustomsCode, buyerMemo);
+        if (items != null) {
+            for (MarketplaceOrderItemDto item : items) {
+                hasher.mark('[')
+                        .add(item.getMarketplaceItemId(), item.getMarketplaceProductId(), item.getMarketplaceSku(),
+                                item.getProductName(), item.getExposedProductName(), item.getOptionName(), item.getBrandId(),
+                                item.getQuantity(), item.getUnitPrice(), item.getOriginalPrice(), item.getDiscountAmount(),
+                                item.getLineAmount(), item.getCommissionAmount(), item.getItemStatus(), item.getSellerProductId())
+                        .mark(']');
+            }
+        }
+        return hasher.hash();
+    }
 }
@@ -5,8 +5,6 @@ import com.sellsync.api.domain.order.enums.OrderStatus;
 import com.sellsync.api.domain.order.enums.SettlementCollectionStatus;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -151,11 +149,14 @@ public class Order {
     @Column(name = "buyer_memo", length = 1000)
     private String buyerMemo;
 
-    // 원본 (JSONB)
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "raw_payload", columnDefinition = "jsonb")
+    // 원본 (수집 시 전달용, 저장/조회는 OrderRawPayloadRepository - 압축 보관소)
+    @Transient
     private String rawPayload;
 
+    // 수집 내용 지문 (MarketplaceOrderDto.contentHash, 변경 없는 재수집 시 저장 생략)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     // 시스템
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -45,6 +45,9 @@ public class OrderCollectionHistory {
     @Column(name = "trigger_type", length = 20)
     private String triggerType;  // SCHEDULED, MANUAL
 
+    @Column(name = "collection_mode", length = 20)
+    private String collectionMode;  // FULL, INCREMENTAL
+
     @Column(name = "status", length = 20)
     private String status;  // RUNNING, SUCCESS, PARTIAL, FAILED
 
@@ -3,8 +3,6 @@ package com.sellsync.api.domain.order.entity;
 import com.sellsync.api.domain.order.enums.ItemStatus;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
@@ -84,8 +82,8 @@ public class OrderItem {
     @Column(name = "item_status", nullable = false, length = 20)
     private ItemStatus itemStatus;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "raw_payload", columnDefinition = "jsonb")
+    // 원본 (수집 시 전달용, 저장/조회는 OrderRawPayloadRepository - 압축 보관소)
+    @Transient
     private String rawPayload;
 
     @PrePersist
@@ -0,0 +1,31 @@
+package com.sellsync.api.domain.order.repository;
+
+import com.sellsync.api.domain.order.entity.Order;
+
+import java.util.List;
+
+/**
+ * Order 커스텀 Repository
+ *
+ * 역할: 주문 수집 배치의 벌크 UPSERT 처리
+ */
+public interface OrderBulkRepository {
+
+    /**
+     * 주문 + 주문 상품 벌크 UPSERT (PostgreSQL ON CONFLICT, unnest 배열 바인딩)
+     *
+     * - orders: (store_id, marketplace_order_id) 충돌 시 UPDATE
+     * - order_items: (order_id, marketplace_item_id) 충돌 시 UPDATE, 수집 결과에 없는 아이템 삭제
+     * - 정산 완료(COLLECTED, POSTED) 주문은 수수료/정산 예정 금액을 덮어쓰지 않음
+     * - raw_payload는 신규 주문/상품만 order_raw_payloads에 압축 보관 (orders / order_items에는 저장하지 않음)
+     *
+     * 배치 크기와 무관하게 주문 1회 + 아이템 2회 + 원본 보관 1회 쿼리로 처리 (한 트랜잭션)
+     *
+     * @param orders 저장할 주문 (동일 스토어, 영속성 컨텍스트에 없는 신규 객체)
+     * @return 신규/업데이트 건수
+     */
+    BulkUpsertResult bulkUpsertWithItems(List<Order> orders);
+
+    record BulkUpsertResult(int inserted, int updated) {
+    }
+}
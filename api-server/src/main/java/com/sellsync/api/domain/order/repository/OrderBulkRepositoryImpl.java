@@ -0,0 +1,477 @@
+package com.sellsync.api.domain.order.repository;
+
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.order.entity.OrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Order 커스텀 Repository 구현
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderBulkRepositoryImpl implements OrderBulkRepository {
+
+    private final OrderRawPayloadRepository rawPayloadRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 주문 벌크 UPSERT
+     * 정산 완료 주문은 수수료/정산 예정 금액 유지 (raw_payload는 order_raw_payloads에 별도 저장)
+     */
+    private static final String UPSERT_ORDERS_SQL = """
+        INSERT INTO orders (
+            tenant_id, store_id, marketplace, marketplace_order_id, bundle_order_id,
+            order_status, ordered_at, paid_at,
+            buyer_name, buyer_phone, buyer_id,
+            receiver_name, receiver_phone1, receiver_phone2, receiver_zip_code, receiver_address,
+            safe_number, safe_number_type,
+            total_product_amount, total_discount_amount, total_shipping_amount, total_paid_amount,
+            commission_amount, shipping_commission_amount, expected_settlement_amount,
+            shipping_fee_type, shipping_fee, prepaid_shipping_fee, additional_shipping_fee,
+            delivery_request, payment_method, personal_customs_code, buyer_memo,
+            content_hash, settlement_status, created_at, updated_at
+        )
+        SELECT CAST(:tenantId AS uuid), CAST(:storeId AS uuid), :marketplace, t.marketplace_order_id, t.bundle_order_id,
+               t.order_status, t.ordered_at, t.paid_at,
+               t.buyer_name, t.buyer_phone, t.buyer_id,
+               t.receiver_name, t.receiver_phone1, t.receiver_phone2, t.receiver_zip_code, t.receiver_address,
+               t.safe_number, t.safe_number_type,
+               t.total_product_amount, t.total_discount_amount, t.total_shipping_amount, t.total_paid_amount,
+               t.commission_amount, t.shipping_commission_amount, t.expected_settlement_amount,
+               t.shipping_fee_type, t.shipping_fee, t.prepaid_shipping_fee, t.additional_shipping_fee,
+               t.delivery_request, t.payment_method, t.personal_customs_code, t.buyer_memo,
+               t.content_hash, 'NOT_COLLECTED', NOW(), NOW()
+        FROM (
+            SELECT unnest(CAST(:marketplaceOrderIds AS text[])) AS marketplace_order_id,
+                   unnest(CAST(:bundleOrderIds AS text[])) AS bundle_order_id,
+                   unnest(CAST(:orderStatuses AS text[])) AS order_status,
+                   unnest(CAST(:orderedAts AS timestamp[])) AS ordered_at,
+                   unnest(CAST(:paidAts AS timestamp[])) AS paid_at,
+                   unnest(CAST(:buyerNames AS text[])) AS buyer_name,
+                   unnest(CAST(:buyerPhones AS text[])) AS buyer_phone,
+                   unnest(CAST(:buyerIds AS text[])) AS buyer_id,
+                   unnest(CAST(:receiverNames AS text[])) AS receiver_name,
+                   unnest(CAST(:receiverPhone1s AS text[])) AS receiver_phone1,
+                   unnest(CAST(:receiverPhone2s AS text[])) AS receiver_phone2,
+                   unnest(CAST(:receiverZipCodes AS text[])) AS receiver_zip_code,
+                   unnest(CAST(:receiverAddresses AS text[])) AS receiver_address,
+                   unnest(CAST(:safeNumbers AS text[])) AS safe_number,
+                   unnest(CAST(:safeNumberTypes AS text[])) AS safe_number_type,
+                   unnest(CAST(:totalProductAmounts AS bigint[])) AS total_product_amount,
+                   unnest(CAST(:totalDiscountAmounts AS bigint[])) AS total_discount_amount,
+                   unnest(CAST(:totalShippingAmounts AS bigint[])) AS total_shipping_amount,
+                   unnest(CAST(:totalPaidAmounts AS bigint[])) AS total_paid_amount,
+                   unnest(CAST(:commissionAmounts AS bigint[])) AS commission_amount,
+                   unnest(CAST(:shippingCommissionAmounts AS bigint[])) AS shipping_commission_amount,
+                   unnest(CAST(:expectedSettlementAmounts AS bigint[])) AS expected_settlement_amount,
+                   unnest(CAST(:shippingFeeTypes AS text[])) AS shipping_fee_type,
+                   unnest(CAST(:shippingFees AS bigint[])) AS shipping_fee,
+                   unnest(CAST(:prepaidShippingFees AS bigint[])) AS prepaid_shipping_fee,
+                   unnest(CAST(:additionalShippingFees AS bigint[])) AS additional_shipping_fee,
+                   unnest(CAST(:deliveryRequests AS text[])) AS delivery_request,
+                   unnest(CAST(:paymentMethods AS text[])) AS payment_method,
+                   unnest(CAST(:personalCustomsCodes AS text[])) AS personal_customs_code,
+                   unnest(CAST(:buyerMemos AS text[])) AS buyer_memo,
+                   unnest(CAST(:contentHashes AS text[])) AS content_hash
+        ) AS t
+        ON CONFLICT (store_id, marketplace_order_id) DO UPDATE SET
+            bundle_order_id = EXCLUDED.bundle_order_id,
+            order_status = EXCLUDED.order_status,
+            ordered_at = EXCLUDED.ordered_at,
+            paid_at = EXCLUDED.paid_at,
+            buyer_name = EXCLUDED.buyer_name,
+            buyer_phone = EXCLUDED.buyer_phone,
+            buyer_id = EXCLUDED.buyer_id,
+            receiver_name = EXCLUDED.receiver_name,
+            receiver_phone1 = EXCLUDED.receiver_phone1,
+            receiver_phone2 = EXCLUDED.receiver_phone2,
+            receiver_zip_code = EXCLUDED.receiver_zip_code,
+            receiver_address = EXCLUDED.receiver_address,
+            safe_number = EXCLUDED.safe_number,
+            safe_number_type = EXCLUDED.safe_number_type,
+            total_product_amount = EXCLUDED.total_product_amount,
+            total_discount_amount = EXCLUDED.total_discount_amount,
+            total_shipping_amount = EXCLUDED.total_shipping_amount,
+            total_paid_amount = EXCLUDED.total_paid_amount,
+            commission_amount = CASE WHEN orders.settlement_status IN ('COLLECTED', 'POSTED')
+                THEN orders.commission_amount ELSE EXCLUDED.commission_amount END,
+            shipping_commission_amount = CASE WHEN orders.settlement_status IN ('COLLECTED', 'POSTED')
+                THEN orders.shipping_commission_amount
+                ELSE COALESCE(EXCLUDED.shipping_commission_amount, orders.shipping_commission_amount) END,
+            expected_settlement_amount = CASE WHEN orders.settlement_status IN ('COLLECTED', 'POSTED')
+                THEN orders.expected_settlement_amount ELSE EXCLUDED.expected_settlement_amount END,
+            shipping_fee_type = EXCLUDED.shipping_fee_type,
+            shipping_fee = EXCLUDED.shipping_fee,
+            prepaid_shipping_fee = EXCLUDED.prepaid_shipping_fee,
+            additional_shipping_fee = EXCLUDED.additional_shipping_fee,
+            delivery_request = EXCLUDED.delivery_request,
+            payment_method = EXCLUDED.payment_method,
+            personal_customs_code = EXCLUDED.personal_customs_code,
+            buyer_memo = EXCLUDED.buyer_memo,
+            content_hash = EXCLUDED.content_hash,
+            updated_at = NOW()
+        RETURNING order_id, marketplace_order_id, (xmax = 0) AS inserted
+        """;
+
+    /**
+     * 수집 결과에 없는 주문 상품 삭제
+     * - marketplace_item_id가 있는 아이템: 같은 marketplace_item_id가 수집 결과에 없으면 삭제
+     * - marketplace_item_id 없는 (레거시/미제공) 아이템: 같은 line_no의 ID 없는 아이템이 수집 결과에 없으면 삭제
+     */
+    private static final String DELETE_STALE_ITEMS_SQL = """
+        DELETE FROM order_items oi
+        WHERE oi.order_id = ANY(CAST(:orderIds AS uuid[]))
+          AND NOT EXISTS (
+              SELECT 1
+              FROM unnest(
+                      CAST(:itemOrderIds AS uuid[]),
+                      CAST(:marketplaceItemIds AS text[]),
+                      CAST(:lineNos AS integer[])
+                   ) AS t(order_id, marketplace_item_id, line_no)
+              WHERE t.order_id = oi.order_id
+                AND (t.marketplace_item_id = oi.marketplace_item_id
+                     OR (t.marketplace_item_id IS NULL AND oi.marketplace_item_id IS NULL
+                         AND t.line_no = oi.line_no)))
+        """;
+
+    /**
+     * 주문 상품 벌크 UPSERT
+     * 정산 완료 주문의 아이템은 수수료 유지 (raw_payload는 order_raw_payloads에 별도 저장)
+     */
+    private static final String UPSERT_ITEMS_SQL = """
+        INSERT INTO order_items (
+            order_item_id, order_id, line_no, marketplace_item_id,
+            marketplace_product_id, marketplace_sku, product_name, exposed_product_name, option_name, brand_id,
+            quantity, unit_price, original_price, discount_amount, line_amount, commission_amount,
+            item_status
+        )
+        SELECT gen_random_uuid(), t.order_id, t.line_no, t.marketplace_item_id,
+               t.marketplace_product_id, t.marketplace_sku, t.product_name, t.exposed_product_name, t.option_name, t.brand_id,
+               t.quantity, t.unit_price, t.original_price, t.discount_amount, t.line_amount, t.commission_amount,
+               t.item_status
+        FROM (
+            SELECT unnest(CAST(:orderIds AS uuid[])) AS order_id,
+                   unnest(CAST(:lineNos AS integer[])) AS line_no,
+                   unnest(CAST(:marketplaceItemIds AS text[])) AS marketplace_item_id,
+                   unnest(CAST(:marketplaceProductIds AS text[])) AS marketplace_product_id,
+                   unnest(CAST(:marketplaceSkus AS text[])) AS marketplace_sku,
+                   unnest(CAST(:productNames AS text[])) AS product_name,
+                   unnest(CAST(:exposedProductNames AS text[])) AS exposed_product_name,
+                   unnest(CAST(:optionNames AS text[])) AS option_name,
+                   unnest(CAST(:brandIds AS text[])) AS brand_id,
+                   unnest(CAST(:quantities AS integer[])) AS quantity,
+                   unnest(CAST(:unitPrices AS bigint[])) AS unit_price,
+                   unnest(CAST(:originalPrices AS bigint[])) AS original_price,
+                   unnest(CAST(:discountAmounts AS bigint[])) AS discount_amount,
+                   unnest(CAST(:lineAmounts AS bigint[])) AS line_amount,
+                   unnest(CAST(:commissionAmounts AS bigint[])) AS commission_amount,
+                   unnest(CAST(:itemStatuses AS text[])) AS item_status
+        ) AS t
+        ON CONFLICT (order_id, marketplace_item_id) DO UPDATE SET
+            line_no = EXCLUDED.line_no,
+            marketplace_product_id = EXCLUDED.marketplace_product_id,
+            marketplace_sku = EXCLUDED.marketplace_sku,
+            product_name = EXCLUDED.product_name,
+            exposed_product_name = EXCLUDED.exposed_product_name,
+            option_name = EXCLUDED.option_name,
+            brand_id = EXCLUDED.brand_id,
+            quantity = EXCLUDED.quantity,
+            unit_price = EXCLUDED.unit_price,
+            original_price = EXCLUDED.original_price,
+            discount_amount = EXCLUDED.discount_amount,
+            line_amount = EXCLUDED.line_amount,
+            commission_amount = CASE WHEN EXISTS (
+                    SELECT 1 FROM orders o
+                    WHERE o.order_id = order_items.order_id
+                      AND o.settlement_status IN ('COLLECTED', 'POSTED'))
+                THEN order_items.commission_amount ELSE EXCLUDED.commission_amount END,
+            item_status = EXCLUDED.item_status
+        RETURNING order_id, marketplace_item_id, (xmax = 0) AS inserted
+        """;
+
+    /**
+     * marketplace_item_id 없는 주문 상품 UPSERT (order_id, line_no 기준)
+     * NULL은 (order_id, marketplace_item_id) 충돌 대상에 걸리지 않고, uq_order_items_line은 DEFERRABLE이라
+     * ON CONFLICT 대상으로 쓸 수 없으므로 UPDATE 후 없는 라인만 INSERT
+     */
+    private static final String UPSERT_LINE_ITEMS_SQL = """
+        WITH t AS (
+            SELECT unnest(CAST(:orderIds AS uuid[])) AS order_id,
+                   unnest(CAST(:lineNos AS integer[])) AS line_no,
+                   unnest(CAST(:marketplaceProductIds AS text[])) AS marketplace_product_id,
+                   unnest(CAST(:marketplaceSkus AS text[])) AS marketplace_sku,
+                   unnest(CAST(:productNames AS text[])) AS product_name,
+                   unnest(CAST(:exposedProductNames AS text[])) AS exposed_product_name,
+                   unnest(CAST(:optionNames AS text[])) AS option_name,
+                   unnest(CAST(:brandIds AS text[])) AS brand_id,
+                   unnest(CAST(:quantities AS integer[])) AS quantity,
+                   unnest(CAST(:unitPrices AS bigint[])) AS unit_price,
+                   unnest(CAST(:originalPrices AS bigint[])) AS original_price,
+                   unnest(CAST(:discountAmounts AS bigint[])) AS discount_amount,
+                   unnest(CAST(:lineAmounts AS bigint[])) AS line_amount,
+                   unnest(CAST(:commissionAmounts AS bigint[])) AS commission_amount,
+                   unnest(CAST(:itemStatuses AS text[])) AS item_status
+        ),
+        updated AS (
+            UPDATE order_items oi SET
+                marketplace_product_id = t.marketplace_product_id,
+                marketplace_sku = t.marketplace_sku,
+                product_name = t.product_name,
+                exposed_product_name = t.exposed_product_name,
+                option_name = t.option_name,
+                brand_id = t.brand_id,
+                quantity = t.quantity,
+                unit_price = t.unit_price,
+                original_price = t.original_price,
+                discount_amount = t.discount_amount,
+                line_amount = t.line_amount,
+                commission_amount = CASE WHEN EXISTS (
+                        SELECT 1 FROM orders o
+                        WHERE o.order_id = oi.order_id
+                          AND o.settlement_status IN ('COLLECTED', 'POSTED'))
+                    THEN oi.commission_amount ELSE t.commission_amount END,
+                item_status = t.item_status
+            FROM t
+            WHERE oi.order_id = t.order_id
+              AND oi.line_no = t.line_no
+              AND oi.marketplace_item_id IS NULL
+            RETURNING oi.order_id, oi.line_no
+        )
+        INSERT INTO order_items (
+            order_item_id, order_id, line_no, marketplace_item_id,
+            marketplace_product_id, marketplace_sku, product_name, exposed_product_name, option_name, brand_id,
+            quantity, unit_price, original_price, discount_amount, line_amount, commission_amount,
+            item_status
+        )
+        SELECT gen_random_uuid(), t.order_id, t.line_no, NULL,
+               t.marketplace_product_id, t.marketplace_sku, t.product_name, t.exposed_product_name, t.option_name, t.brand_id,
+               t.quantity, t.unit_price, t.original_price, t.discount_amount, t.line_amount, t.commission_amount,
+               t.item_status
+        FROM t
+        WHERE NOT EXISTS (
+            SELECT 1 FROM updated u
+            WHERE u.order_id = t.order_id AND u.line_no = t.line_no)
+        """;
+
+    @Override
+    @Transactional
+    public BulkUpsertResult bulkUpsertWithItems(List<Order> orders) {
+        if (orders == null || orders.isEmpty()) {
+            return new BulkUpsertResult(0, 0);
+        }
+
+        // 동일 문장에서 같은 행을 두 번 UPSERT할 수 없으므로 주문번호 기준 중복 제거 (마지막 값 사용)
+        Map<String, Order> uniqueOrders = new LinkedHashMap<>();
+        for (Order order : orders) {
+            uniqueOrders.put(order.getMarketplaceOrderId(), order);
+        }
+        List<Order> targets = new ArrayList<>(uniqueOrders.values());
+        Order first = targets.get(0);
+
+        // 1. 주문 UPSERT
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(UPSERT_ORDERS_SQL)
+                .setParameter("tenantId", first.getTenantId().toString())
+                .setParameter("storeId", first.getStoreId().toString())
+                .setParameter("marketplace", first.getMarketplace().name())
+                .setParameter("marketplaceOrderIds", map(targets, Order::getMarketplaceOrderId, String[]::new))
+                .setParameter("bundleOrderIds", map(targets, Order::getBundleOrderId, String[]::new))
+                .setParameter("orderStatuses", map(targets, o -> o.getOrderStatus().name(), String[]::new))
+                .setParameter("orderedAts", map(targets, Order::getOrderedAt, LocalDateTime[]::new))
+                .setParameter("paidAts", map(targets, Order::getPaidAt, LocalDateTime[]::new))
+                .setParameter("buyerNames", map(targets, Order::getBuyerName, String[]::new))
+                .setParameter("buyerPhones", map(targets, Order::getBuyerPhone, String[]::new))
+                .setParameter("buyerIds", map(targets, Order::getBuyerId, String[]::new))
+                .setParameter("receiverNames", map(targets, Order::getReceiverName, String[]::new))
+                .setParameter("receiverPhone1s", map(targets, Order::getReceiverPhone1, String[]::new))
+                .setParameter("receiverPhone2s", map(targets, Order::getReceiverPhone2, String[]::new))
+                .setParameter("receiverZipCodes", map(targets, Order::getReceiverZipCode, String[]::new))
+                .setParameter("receiverAddresses", map(targets, Order::getReceiverAddress, String[]::new))
+                .setParameter("safeNumbers", map(targets, Order::getSafeNumber, String[]::new))
+                .setParameter("safeNumberTypes", map(targets, Order::getSafeNumberType, String[]::new))
+                .setParameter("totalProductAmounts", map(targets, Order::getTotalProductAmount, Long[]::new))
+                .setParameter("totalDiscountAmounts", map(targets, Order::getTotalDiscountAmount, Long[]::new))
+                .setParameter("totalShippingAmounts", map(targets, Order::getTotalShippingAmount, Long[]::new))
+                .setParameter("totalPaidAmounts", map(targets, Order::getTotalPaidAmount, Long[]::new))
+                .setParameter("commissionAmounts", map(targets, Order::getCommissionAmount, Long[]::new))
+                .setParameter("shippingCommissionAmounts", map(targets, Order::getShippingCommissionAmount, Long[]::new))
+                .setParameter("expectedSettlementAmounts", map(targets, Order::getExpectedSettlementAmount, Long[]::new))
+                .setParameter("shippingFeeTypes", map(targets, Order::getShippingFeeType, String[]::new))
+                .setParameter("shippingFees", map(targets, Order::getShippingFee, Long[]::new))
+                .setParameter("prepaidShippingFees", map(targets, Order::getPrepaidShippingFee, Long[]::new))
+                .setParameter("additionalShippingFees", map(targets, Order::getAdditionalShippingFee, Long[]::new))
+                .setParameter("deliveryRequests", map(targets, Order::getDeliveryRequest, String[]::new))
+                .setParameter("paymentMethods", map(targets, Order::getPaymentMethod, String[]::new))
+                .setParameter("personalCustomsCodes", map(targets, Order::getPersonalCustomsCode, String[]::new))
+                .setParameter("buyerMemos", map(targets, Order::getBuyerMemo, String[]::new))
+                .setParameter("contentHashes", map(targets, Order::getContentHash, String[]::new))
+                .getResultList();
+
+        int inserted = 0;
+        Map<String, UUID> orderIds = new HashMap<>();
+        List<OrderRawPayloadRepository.PayloadEntry> payloads = new ArrayList<>();
+        Map<String, Order> byMarketplaceOrderId = new HashMap<>();
+        for (Order order : targets) {
+            byMarketplaceOrderId.put(order.getMarketplaceOrderId(), order);
+        }
+        for (Object[] row : rows) {
+            UUID orderId = UUID.fromString(row[0].toString());
+            orderIds.put((String) row[1], orderId);
+            if (Boolean.TRUE.equals(row[2])) {
+                inserted++;
+                // 원본 payload는 최초 수집 시에만 보관
+                payloads.add(new OrderRawPayloadRepository.PayloadEntry(orderId, OrderRawPayloadRepository.ORDER_LEVEL,
+                        byMarketplaceOrderId.get((String) row[1]).getRawPayload()));
+            }
+        }
+        // 엔티티에도 PK 반영 (상품 매핑 등 후속 처리용)
+        for (Order order : targets) {
+            order.setOrderId(orderIds.get(order.getMarketplaceOrderId()));
+        }
+
+        // 2. 주문 상품 정리 + UPSERT (수집 결과에 아이템이 있는 주문만)
+        List<Order> ordersWithItems = targets.stream()
+                .filter(o -> o.getOrderId() != null && o.getItems() != null && !o.getItems().isEmpty())
+                .toList();
+        if (!ordersWithItems.isEmpty()) {
+            payloads.addAll(upsertItems(ordersWithItems));
+        }
+
+        // 3. 신규 주문/상품 원본 payload 압축 보관
+        rawPayloadRepository.saveAll(payloads);
+
+        log.debug("[OrderBulkUpsert] store={}, orders={}, inserted={}, updated={}",
+                first.getStoreId(), targets.size(), inserted, rows.size() - inserted);
+
+        return new BulkUpsertResult(inserted, rows.size() - inserted);
+    }
+
+    /**
+     * @return 신규 INSERT된 아이템의 원본 payload (보관 대상)
+     */
+    private List<OrderRawPayloadRepository.PayloadEntry> upsertItems(List<Order> orders) {
+        // 주문 내 중복 제거 (마지막 값 사용)
+        // - marketplace_item_id가 있으면 marketplace_item_id 기준
+        // - 없으면 line_no 기준 (ID 없는 아이템끼리 한 행으로 합쳐지지 않도록)
+        List<OrderItem> items = new ArrayList<>();
+        List<UUID> itemOrderIds = new ArrayList<>();
+        List<OrderItem> lineItems = new ArrayList<>();
+        List<UUID> lineItemOrderIds = new ArrayList<>();
+        for (Order order : orders) {
+            Map<String, OrderItem> uniqueItems = new LinkedHashMap<>();
+            Map<Integer, OrderItem> uniqueLineItems = new LinkedHashMap<>();
+            for (OrderItem item : order.getItems()) {
+                if (item.getMarketplaceItemId() != null) {
+                    uniqueItems.put(item.getMarketplaceItemId(), item);
+                } else {
+                    uniqueLineItems.put(item.getLineNo(), item);
+                }
+            }
+            for (OrderItem item : uniqueItems.values()) {
+                items.add(item);
+                itemOrderIds.add(order.getOrderId());
+            }
+            for (OrderItem item : uniqueLineItems.values()) {
+                lineItems.add(item);
+                lineItemOrderIds.add(order.getOrderId());
+            }
+        }
+
+        List<OrderItem> allItems = new ArrayList<>(items);
+        allItems.addAll(lineItems);
+        List<UUID> allItemOrderIds = new ArrayList<>(itemOrderIds);
+        allItemOrderIds.addAll(lineItemOrderIds);
+
+        String[] orderIdArray = orders.stream().map(o -> o.getOrderId().toString()).toArray(String[]::new);
+
+        // 1. 수집 결과에 없는 아이템 삭제 (line_no 충돌 방지를 위해 UPSERT 전에 실행)
+        int deleted = entityManager.createNativeQuery(DELETE_STALE_ITEMS_SQL)
+                .setParameter("orderIds", orderIdArray)
+                .setParameter("itemOrderIds", allItemOrderIds.stream().map(UUID::toString).toArray(String[]::new))
+                .setParameter("marketplaceItemIds", map(allItems, OrderItem::getMarketplaceItemId, String[]::new))
+                .setParameter("lineNos", map(allItems, OrderItem::getLineNo, Integer[]::new))
+                .executeUpdate();
+
+        // 2. 아이템 UPSERT (marketplace_item_id 기준)
+        List<OrderRawPayloadRepository.PayloadEntry> payloads = new ArrayList<>();
+        int upserted = 0;
+        if (!items.isEmpty()) {
+            String[] itemOrderIdArray = itemOrderIds.stream().map(UUID::toString).toArray(String[]::new);
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = bindItemColumns(entityManager.createNativeQuery(UPSERT_ITEMS_SQL), itemOrderIdArray, items)
+                    .setParameter("marketplaceItemIds", map(items, OrderItem::getMarketplaceItemId, String[]::new))
+                    .getResultList();
+            upserted += rows.size();
+
+            Map<String, String> itemPayloads = new HashMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                itemPayloads.put(itemOrderIds.get(i) + "/" + items.get(i).getMarketplaceItemId(), items.get(i).getRawPayload());
+            }
+            for (Object[] row : rows) {
+                if (Boolean.TRUE.equals(row[2])) {
+                    UUID orderId = UUID.fromString(row[0].toString());
+                    String marketplaceItemId = (String) row[1];
+                    payloads.add(new OrderRawPayloadRepository.PayloadEntry(orderId, marketplaceItemId,
+                            itemPayloads.get(orderId + "/" + marketplaceItemId)));
+                }
+            }
+        }
+
+        // 3. marketplace_item_id 없는 아이템 UPSERT (line_no 기준)
+        // 원본 payload는 marketplace_item_id 키로만 조회하므로 보관하지 않음 (주문 단위 키와 충돌 방지)
+        if (!lineItems.isEmpty()) {
+            String[] lineItemOrderIdArray = lineItemOrderIds.stream().map(UUID::toString).toArray(String[]::new);
+            upserted += bindItemColumns(entityManager.createNativeQuery(UPSERT_LINE_ITEMS_SQL), lineItemOrderIdArray, lineItems)
+                    .executeUpdate();
+        }
+
+        log.debug("[OrderBulkUpsert] items upserted={}, inserted={}, lineKeyed={}, stale deleted={}",
+                upserted, payloads.size(), lineItems.size(), deleted);
+        return payloads;
+    }
+
+    /**
+     * 아이템 UPSERT 공통 컬럼 배열 바인딩
+     */
+    private static Query bindItemColumns(Query query, String[] itemOrderIds, List<OrderItem> items) {
+        return query
+                .setParameter("orderIds", itemOrderIds)
+                .setParameter("lineNos", map(items, OrderItem::getLineNo, Integer[]::new))
+                .setParameter("marketplaceProductIds", map(items, OrderItem::getMarketplaceProductId, String[]::new))
+                .setParameter("marketplaceSkus", map(items, OrderItem::getMarketplaceSku, String[]::new))
+                .setParameter("productNames", map(items, OrderItem::getProductName, String[]::new))
+                .setParameter("exposedProductNames", map(items, OrderItem::getExposedProductName, String[]::new))
+                .setParameter("optionNames", map(items, OrderItem::getOptionName, String[]::new))
+                .setParameter("brandIds", map(items, OrderItem::getBrandId, String[]::new))
+                .setParameter("quantities", map(items, OrderItem::getQuantity, Integer[]::new))
+                .setParameter("unitPrices", map(items, OrderItem::getUnitPrice, Long[]::new))
+                .setParameter("originalPrices", map(items, OrderItem::getOriginalPrice, Long[]::new))
+                .setParameter("discountAmounts", map(items, OrderItem::getDiscountAmount, Long[]::new))
+                .setParameter("lineAmounts", map(items, OrderItem::getLineAmount, Long[]::new))
+                .setParameter("commissionAmounts", map(items, OrderItem::getCommissionAmount, Long[]::new))
+                .setParameter("itemStatuses", map(items, i -> i.getItemStatus().name(), String[]::new));
+    }
+
+    private static <T, R> R[] map(List<T> source, Function<T, R> getter, IntFunction<R[]> arrayFactory) {
+        return source.stream().map(getter).toArray(arrayFactory);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,4 +29,8 @@ public interface OrderCollectionHistoryRepository extends JpaRepository<OrderCol
 
     // 최근 수집 이력
     OrderCollectionHistory findFirstByStoreIdOrderByStartedAtDesc(UUID storeId);
+
+    // 모드별 최근 수집 이력 (증분 수집 커서: 마지막 FULL 보정 시각 조회)
+    OrderCollectionHistory findFirstByStoreIdAndCollectionModeAndStatusInOrderByStartedAtDesc(
+            UUID storeId, String collectionMode, Collection<String> statuses);
 }
@@ -0,0 +1,136 @@
+package com.sellsync.api.domain.order.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 마켓 원본 payload 보관소 (order_raw_payloads)
+ *
+ * - orders / order_items의 raw_payload(jsonb)를 GZIP 압축하여 별도 파티션 테이블에 저장
+ * - 키: (order_id, marketplace_item_id), 주문 단위 payload는 marketplace_item_id = ''
+ * - 최초 수집 시 1회만 저장 (ON CONFLICT DO NOTHING)
+ * - V50 이전 수집 주문의 원본은 V57에서 이관, 레거시 컬럼은 V58에서 삭제
+ */
+@Slf4j
+@Repository
+public class OrderRawPayloadRepository {
+
+    /** 주문 단위 payload 키 */
+    public static final String ORDER_LEVEL = "";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO order_raw_payloads (order_id, marketplace_item_id, payload_gzip, created_at)
+        SELECT t.order_id, t.marketplace_item_id, decode(t.payload, 'base64'), NOW()
+        FROM (
+            SELECT unnest(CAST(:orderIds AS uuid[])) AS order_id,
+                   unnest(CAST(:marketplaceItemIds AS text[])) AS marketplace_item_id,
+                   unnest(CAST(:payloads AS text[])) AS payload
+        ) AS t
+        ON CONFLICT (order_id, marketplace_item_id) DO NOTHING
+        """;
+
+    /**
+     * 원본 payload 벌크 저장 (압축 후 1회 쿼리)
+     *
+     * @param payloads 저장할 payload (payload가 null인 항목은 제외)
+     * @return 저장된 건수
+     */
+    @Transactional
+    public int saveAll(List<PayloadEntry> payloads) {
+        List<PayloadEntry> targets = payloads.stream()
+                .filter(p -> p.orderId() != null && p.payload() != null)
+                .toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // FK(orders) 보장을 위해 영속성 컨텍스트의 신규 주문 INSERT 먼저 반영
+        entityManager.flush();
+
+        int saved = entityManager.createNativeQuery(INSERT_SQL)
+                .setParameter("orderIds", targets.stream().map(p -> p.orderId().toString()).toArray(String[]::new))
+                .setParameter("marketplaceItemIds", targets.stream()
+                        .map(p -> p.marketplaceItemId() != null ? p.marketplaceItemId() : ORDER_LEVEL)
+                        .toArray(String[]::new))
+                .setParameter("payloads", targets.stream()
+                        .map(p -> Base64.getEncoder().encodeToString(compress(p.payload())))
+                        .toArray(String[]::new))
+                .executeUpdate();
+
+        log.debug("[OrderRawPayload] archived {} of {} payloads", saved, targets.size());
+        return saved;
+    }
+
+    /**
+     * 주문 단위 원본 payload 조회 (필요 시점에만 로딩)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findOrderPayload(UUID orderId) {
+        return findArchived(orderId, ORDER_LEVEL);
+    }
+
+    /**
+     * 주문 상품 단위 원본 payload 조회 (필요 시점에만 로딩)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findItemPayload(UUID orderId, String marketplaceItemId) {
+        if (marketplaceItemId == null) {
+            return Optional.empty();
+        }
+        return findArchived(orderId, marketplaceItemId);
+    }
+
+    private Optional<String> findArchived(UUID orderId, String marketplaceItemId) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT payload_gzip FROM order_raw_payloads " +
+                        "WHERE order_id = :orderId AND marketplace_item_id = :marketplaceItemId")
+                .setParameter("orderId", orderId)
+                .setParameter("marketplaceItemId", marketplaceItemId)
+                .getResultList();
+        return rows.stream().findFirst().map(row -> decompress((byte[]) row));
+    }
+
+    private static byte[] compress(String payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress raw payload", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress raw payload", e);
+        }
+    }
+
+    /**
+     * 저장할 원본 payload
+     *
+     * @param marketplaceItemId 주문 상품 ID (주문 단위는 null 또는 {@link #ORDER_LEVEL})
+     */
+    public record PayloadEntry(UUID orderId, String marketplaceItemId, String payload) {
+    }
+}
@@ -16,13 +16,17 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 주문 Repository
  */
-public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order>, OrderBulkRepository {
 
     // 멱등성: 마켓 주문번호로 조회
     Optional<Order> findByStoreIdAndMarketplaceOrderId(UUID storeId, String marketplaceOrderId);
@@ -53,8 +57,11 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
      * - N+1 쿼리 문제 해결 (3N+1 → 1 쿼리)
      * - 불필요한 raw_payload 제외로 네트워크 트래픽 감소
      * - 100건 조회 시: 301회 DB 호출 → 1회
+     * - paid_at 범위 조건 필수 (idx_orders_tenant_*_paid_at 범위 스캔, 테넌트 전체 정렬 방지)
      * 
      * @param tenantId 테넌트 ID
+     * @param from 결제일 시작 (포함)
+     * @param to 결제일 종료 (미포함)
      * @param pageable 페이징 정보
      * @return 주문 목록 (필수 필드만)
      */
@@ -67,10 +74,13 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
         )
         FROM Order o 
         WHERE o.tenantId = :tenantId
+          AND o.paidAt >= :from AND o.paidAt < :to
         ORDER BY o.paidAt DESC
         """)
     Page<OrderListProjection> findOrderListByTenantId(
         @Param("tenantId") UUID tenantId, 
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
         Pageable pageable
     );
     
@@ -79,6 +89,8 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
      * 
      * @param tenantId 테넌트 ID
      * @param orderStatus 주문 상태
+     * @param from 결제일 시작 (포함)
+     * @param to 결제일 종료 (미포함)
      * @param pageable 페이징 정보
      * @return 주문 목록 (필수 필드만)
      */
@@ -91,11 +103,14 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
         )
         FROM Order o 
         WHERE o.tenantId = :tenantId AND o.orderStatus = :orderStatus
+          AND o.paidAt >= :from AND o.paidAt < :to
         ORDER BY o.paidAt DESC
         """)
     Page<OrderListProjection> findOrderListByTenantIdAndStatus(
         @Param("tenantId") UUID tenantId, 
         @Param("orderStatus") OrderStatus orderStatus,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
         Pageable pageable
     );
     
@@ -104,6 +119,8 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
      * 
      * @param tenantId 테넌트 ID
      * @param marketplace 마켓플레이스
+     * @param from 결제일 시작 (포함)
+     * @param to 결제일 종료 (미포함)
      * @param pageable 페이징 정보
      * @return 주문 목록 (필수 필드만)
      */
@@ -116,11 +133,14 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
         )
         FROM Order o 
         WHERE o.tenantId = :tenantId AND o.marketplace = :marketplace
+          AND o.paidAt >= :from AND o.paidAt < :to
         ORDER BY o.paidAt DESC
         """)
     Page<OrderListProjection> findOrderListByTenantIdAndMarketplace(
         @Param("tenantId") UUID tenantId, 
         @Param("marketplace") Marketplace marketplace,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
         Pageable pageable
     );
     
@@ -129,6 +149,8 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
      * 
      * @param tenantId 테넌트 ID
      * @param settlementStatus 정산 상태
+     * @param from 결제일 시작 (포함)
+     * @param to 결제일 종료 (미포함)
      * @param pageable 페이징 정보
      * @return 주문 목록 (필수 필드만)
      */
@@ -141,11 +163,14 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
         )
         FROM Order o 
         WHERE o.tenantId = :tenantId AND o.settlementStatus = :settlementStatus
+          AND o.paidAt >= :from AND o.paidAt < :to
         ORDER BY o.paidAt DESC
         """)
     Page<OrderListProjection> findOrderListByTenantIdAndSettlementStatus(
         @Param("tenantId") UUID tenantId, 
         @Param("settlementStatus") SettlementCollectionStatus settlementStatus,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
         Pageable pageable
     );
     
@@ -156,9 +181,12 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     @Query("""
         SELECT o FROM Order o 
         WHERE o.tenantId = :tenantId
+          AND o.paidAt >= :from AND o.paidAt < :to
         """)
     Page<Order> findByTenantIdWithoutPayload(
         @Param("tenantId") UUID tenantId, 
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
         Pageable pageable
     );
     
@@ -193,30 +221,57 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     // 테넌트 + 마켓 주문번호로 조회 (송장 등록용)
     Optional<Order> findByTenantIdAndMarketplaceOrderId(UUID tenantId, String marketplaceOrderId);
 
-    // 테넌트별 조회 (결재일 최근순)
-    Page<Order> findByTenantIdOrderByPaidAtDesc(UUID tenantId, Pageable pageable);
+    // 테넌트별 조회 (결재일 범위, 결재일 최근순)
+    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
+           "AND o.paidAt >= :from AND o.paidAt < :to ORDER BY o.paidAt DESC")
+    Page<Order> findByTenantIdOrderByPaidAtDesc(
+            @Param("tenantId") UUID tenantId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
 
-    // 테넌트 + 상태 (결재일 최근순)
+    // 테넌트 + 상태 (결재일 범위, 결재일 최근순)
+    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId AND o.orderStatus = :status " +
+           "AND o.paidAt >= :from AND o.paidAt < :to ORDER BY o.paidAt DESC")
     Page<Order> findByTenantIdAndOrderStatusOrderByPaidAtDesc(
-            UUID tenantId, OrderStatus status, Pageable pageable);
+            @Param("tenantId") UUID tenantId,
+            @Param("status") OrderStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
 
-    // 테넌트 + 마켓 (결재일 최근순)
+    // 테넌트 + 마켓 (결재일 범위, 결재일 최근순)
+    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId AND o.marketplace = :marketplace " +
+           "AND o.paidAt >= :from AND o.paidAt < :to ORDER BY o.paidAt DESC")
     Page<Order> findByTenantIdAndMarketplaceOrderByPaidAtDesc(
-            UUID tenantId, Marketplace marketplace, Pageable pageable);
+            @Param("tenantId") UUID tenantId,
+            @Param("marketplace") Marketplace marketplace,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
     
-    // 테넌트별 조회 (items fetch join)
+    // 테넌트별 조회 (결재일 범위, items fetch join)
     @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items " +
-                   "WHERE o.tenantId = :tenantId",
-           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.tenantId = :tenantId")
-    Page<Order> findByTenantIdWithItems(@Param("tenantId") UUID tenantId, Pageable pageable);
+                   "WHERE o.tenantId = :tenantId AND o.paidAt >= :from AND o.paidAt < :to",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.tenantId = :tenantId " +
+                        "AND o.paidAt >= :from AND o.paidAt < :to")
+    Page<Order> findByTenantIdWithItems(
+            @Param("tenantId") UUID tenantId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
     
-    // 테넌트 + 상태 (items fetch join)
+    // 테넌트 + 상태 (결재일 범위, items fetch join)
     @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items " +
-                   "WHERE o.tenantId = :tenantId AND o.orderStatus = :status",
-           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.tenantId = :tenantId AND o.orderStatus = :status")
+                   "WHERE o.tenantId = :tenantId AND o.orderStatus = :status " +
+                   "AND o.paidAt >= :from AND o.paidAt < :to",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.tenantId = :tenantId AND o.orderStatus = :status " +
+                        "AND o.paidAt >= :from AND o.paidAt < :to")
     Page<Order> findByTenantIdAndOrderStatusWithItems(
             @Param("tenantId") UUID tenantId, 
             @Param("status") OrderStatus status, 
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
             Pageable pageable);
 
 
@@ -246,65 +301,120 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     // 정산 관련 쿼리 메서드
     // ============================================================
 
-    // 1. 정산 상태별 주문 조회 (페이징)
+    // 1. 정산 상태별 주문 조회 (결재일 범위, 페이징) - idx_orders_tenant_settlement_paid_at
+    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId AND o.settlementStatus = :settlementStatus " +
+           "AND o.paidAt >= :from AND o.paidAt < :to")
     Page<Order> findByTenantIdAndSettlementStatus(
-            UUID tenantId, 
-            SettlementCollectionStatus settlementStatus, 
+            @Param("tenantId") UUID tenantId, 
+            @Param("settlementStatus") SettlementCollectionStatus settlementStatus, 
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
             Pageable pageable
     );
 
     // 2. 스토어별 + 결제일 기준 주문 조회 (정산 매칭용)
-    @Query("SELECT o FROM Order o WHERE o.storeId = :storeId AND DATE(o.paidAt) = :paidDate")
-    List<Order> findByStoreIdAndPaidAtDate(
-            @Param("storeId") UUID storeId, 
-            @Param("paidDate") LocalDate paidDate
+    // paid_at 범위 조건으로 변환하여 idx_orders_store_paid_at 사용 (DATE(paid_at)은 인덱스 미사용)
+    default List<Order> findByStoreIdAndPaidAtDate(UUID storeId, LocalDate paidDate) {
+        return findByStoreIdAndPaidAtRange(storeId, paidDate.atStartOfDay(), paidDate.plusDays(1).atStartOfDay());
+    }
+
+    @Query("SELECT o FROM Order o WHERE o.storeId = :storeId " +
+           "AND o.paidAt >= :from AND o.paidAt < :to")
+    List<Order> findByStoreIdAndPaidAtRange(
+            @Param("storeId") UUID storeId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 
-    // 3. 정산 미수집 주문 조회 (특정 기간)
+    // 3. 정산 미수집 주문 조회 (특정 기간, 종료일 포함)
+    default List<Order> findNotCollectedOrdersByPaidAtRange(UUID tenantId, LocalDate startDate, LocalDate endDate) {
+        return findNotCollectedOrdersByPaidAtBetween(tenantId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
     @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
            "AND o.settlementStatus = 'NOT_COLLECTED' " +
-           "AND DATE(o.paidAt) BETWEEN :startDate AND :endDate")
-    List<Order> findNotCollectedOrdersByPaidAtRange(
+           "AND o.paidAt >= :from AND o.paidAt < :to")
+    List<Order> findNotCollectedOrdersByPaidAtBetween(
             @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 
-    // 4. 정산 수집 완료(COLLECTED) 상태 주문 조회 (items JOIN FETCH 포함)
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.items " +
+    // 4. 정산 수집 완료(COLLECTED) 상태 주문 조회 (items 포함)
+    // JOIN FETCH + 페이징은 Hibernate가 전체 결과를 메모리에서 자르므로
+    // ID 페이지를 DB에서 먼저 조회한 뒤 items를 일괄 로딩 (getOrders와 동일한 2단계 조회)
+    default List<Order> findBySettlementStatusOrderByPaidAtAsc(SettlementCollectionStatus settlementStatus,
+                                                               Pageable pageable) {
+        return findByOrderIdInWithItemsOrdered(findIdsBySettlementStatusOrderByPaidAtAsc(settlementStatus, pageable));
+    }
+
+    @Query("SELECT o.orderId FROM Order o " +
            "WHERE o.settlementStatus = :settlementStatus " +
-           "ORDER BY o.paidAt ASC")
-    List<Order> findBySettlementStatusOrderByPaidAtAsc(
+           "ORDER BY o.paidAt ASC, o.orderId ASC")
+    List<UUID> findIdsBySettlementStatusOrderByPaidAtAsc(
             @Param("settlementStatus") SettlementCollectionStatus settlementStatus,
             Pageable pageable
     );
 
-    // 4-1. 테넌트별 정산 수집 완료(COLLECTED) 상태 주문 조회 (items JOIN FETCH 포함)
+    // 4-1. 테넌트별 정산 수집 완료(COLLECTED) 상태 주문 조회 (items 포함)
     // 성능 최적화: tenantId로 DB 레벨 필터링하여 불필요한 데이터 로드 방지
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.items " +
+    default List<Order> findByTenantIdAndSettlementStatusOrderByPaidAtAsc(UUID tenantId,
+                                                                          SettlementCollectionStatus settlementStatus,
+                                                                          Pageable pageable) {
+        return findByOrderIdInWithItemsOrdered(
+                findIdsByTenantIdAndSettlementStatusOrderByPaidAtAsc(tenantId, settlementStatus, pageable));
+    }
+
+    @Query("SELECT o.orderId FROM Order o " +
            "WHERE o.tenantId = :tenantId " +
            "AND o.settlementStatus = :settlementStatus " +
-           "ORDER BY o.paidAt ASC")
-    List<Order> findByTenantIdAndSettlementStatusOrderByPaidAtAsc(
+           "ORDER BY o.paidAt ASC, o.orderId ASC")
+    List<UUID> findIdsByTenantIdAndSettlementStatusOrderByPaidAtAsc(
             @Param("tenantId") UUID tenantId,
             @Param("settlementStatus") SettlementCollectionStatus settlementStatus,
             Pageable pageable
     );
 
-    // 4-2. 전표 생성 대상 주문 조회 (items JOIN FETCH 포함)
+    // 4-2. 전표 생성 대상 주문 조회 (items 포함)
     // 조건: 주문상태 IN (SHIPPING, DELIVERED) + 미전표(≠POSTED)
     //       + (정산완료 COLLECTED OR 쿠팡 마켓플레이스)
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.items " +
+    // ID 페이지는 부분 인덱스 idx_orders_posting_target (tenant_id, paid_at) 사용
+    default List<Order> findPostingTargetOrders(UUID tenantId,
+                                                List<OrderStatus> orderStatuses,
+                                                SettlementCollectionStatus excludeStatus,
+                                                SettlementCollectionStatus collectedStatus,
+                                                Marketplace coupangMarketplace,
+                                                Pageable pageable) {
+        return findByOrderIdInWithItemsOrdered(findPostingTargetOrderIds(
+                tenantId, orderStatuses, excludeStatus, collectedStatus, coupangMarketplace, pageable));
+    }
+
+    @Query("SELECT o.orderId FROM Order o " +
+           "WHERE o.tenantId = :tenantId " +
+           "AND o.orderStatus IN :orderStatuses " +
+           "AND o.settlementStatus <> :excludeStatus " +
+           "AND (o.settlementStatus = :collectedStatus " +
+           "     OR o.marketplace = :coupangMarketplace) " +
+           "ORDER BY o.paidAt ASC, o.orderId ASC")
+    List<UUID> findPostingTargetOrderIds(
+            @Param("tenantId") UUID tenantId,
+            @Param("orderStatuses") List<OrderStatus> orderStatuses,
+            @Param("excludeStatus") SettlementCollectionStatus excludeStatus,
+            @Param("collectedStatus") SettlementCollectionStatus collectedStatus,
+            @Param("coupangMarketplace") Marketplace coupangMarketplace,
+            Pageable pageable
+    );
+
+    // 4-3. 전표 생성 대상 번들 주문 ID 조회 (4-2와 동일 조건, 일괄 전표 생성용)
+    // 번들 내 주문 수만큼 중복될 수 있으므로 호출 측에서 distinct 처리
+    @Query("SELECT o.bundleOrderId FROM Order o " +
            "WHERE o.tenantId = :tenantId " +
            "AND o.orderStatus IN :orderStatuses " +
            "AND o.settlementStatus <> :excludeStatus " +
            "AND (o.settlementStatus = :collectedStatus " +
            "     OR o.marketplace = :coupangMarketplace) " +
-           "ORDER BY o.paidAt ASC")
-    List<Order> findPostingTargetOrders(
+           "ORDER BY o.paidAt ASC, o.orderId ASC")
+    List<String> findPostingTargetBundleOrderIds(
             @Param("tenantId") UUID tenantId,
             @Param("orderStatuses") List<OrderStatus> orderStatuses,
             @Param("excludeStatus") SettlementCollectionStatus excludeStatus,
@@ -313,6 +423,19 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
             Pageable pageable
     );
 
+    // ID 목록 순서를 유지한 items 일괄 로딩
+    default List<Order> findByOrderIdInWithItemsOrdered(List<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Order> orders = findByOrderIdInWithItems(orderIds).stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+        return orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     // 5. 마켓플레이스 주문 ID로 주문 벌크 조회 (정산 매칭용)
     @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
            "AND o.marketplaceOrderId IN :marketplaceOrderIds")
@@ -320,6 +443,17 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
             @Param("tenantId") UUID tenantId,
             @Param("marketplaceOrderIds") List<String> marketplaceOrderIds
     );
+
+    // 7. 스토어별 수집 내용 지문 벌크 조회 (변경 없는 주문 저장 생략용)
+    // 반환: [marketplaceOrderId, contentHash]
+    @Query("SELECT o.marketplaceOrderId, o.contentHash FROM Order o " +
+           "WHERE o.storeId = :storeId " +
+           "AND o.marketplaceOrderId IN :marketplaceOrderIds " +
+           "AND o.contentHash IS NOT NULL")
+    List<Object[]> findContentHashesByStoreIdAndMarketplaceOrderIdIn(
+            @Param("storeId") UUID storeId,
+            @Param("marketplaceOrderIds") List<String> marketplaceOrderIds
+    );
     
     // 5-1. 번들 주문 ID로 주문 벌크 조회 (정산 매칭용 - 네이버 스마트스토어)
     @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
@@ -329,6 +463,16 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
             @Param("bundleOrderIds") List<String> bundleOrderIds
     );
     
+    // 5-1-1. 번들 주문 ID로 주문 벌크 조회 (items 포함, 일괄 전표 생성용)
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items " +
+           "WHERE o.tenantId = :tenantId " +
+           "AND o.bundleOrderId IN :bundleOrderIds " +
+           "ORDER BY o.orderedAt ASC")
+    List<Order> findByTenantIdAndBundleOrderIdInWithItems(
+            @Param("tenantId") UUID tenantId,
+            @Param("bundleOrderIds") List<String> bundleOrderIds
+    );
+    
     // 5-2. 스토어별 번들 주문 ID로 벌크 조회 (정산 배송비 수수료 매칭용)
     @Query("SELECT o FROM Order o WHERE o.storeId = :storeId " +
            "AND o.bundleOrderId IN :bundleOrderIds " +
@@ -416,7 +560,7 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
      * @param commissionAmounts 상품 수수료 금액 배열
      * @param shippingCommissionAmounts 배송비 수수료 금액 배열
      * @param expectedSettlementAmounts 예상 정산 금액 배열
-     * @param settlementDates 정산 예정일 배열
+     * @param settlementDate 정산 예정일 (수집 1회 공통)
      * @return 업데이트된 주문 개수
      */
     @Modifying
@@ -427,14 +571,13 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
             expected_settlement_amount = temp.expected_settlement_amount,
             settlement_status = 'COLLECTED',
             settlement_collected_at = NOW(),
-            settlement_date = temp.settlement_date,
+            settlement_date = :settlementDate,
             updated_at = NOW()
         FROM (
             SELECT unnest(CAST(:marketplaceOrderIds AS text[])) AS marketplace_order_id,
                    unnest(CAST(:commissionAmounts AS bigint[])) AS commission_amount,
                    unnest(CAST(:shippingCommissionAmounts AS bigint[])) AS shipping_commission_amount,
-                   unnest(CAST(:expectedSettlementAmounts AS bigint[])) AS expected_settlement_amount,
-                   unnest(CAST(:settlementDates AS date[])) AS settlement_date
+                   unnest(CAST(:expectedSettlementAmounts AS bigint[])) AS expected_settlement_amount
         ) AS temp
         WHERE o.marketplace_order_id = temp.marketplace_order_id
           AND o.store_id = :storeId
@@ -442,10 +585,10 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     int bulkUpdateSettlementInfoByStoreId(
         @Param("storeId") UUID storeId,
         @Param("marketplaceOrderIds") String[] marketplaceOrderIds,
-        @Param("commissionAmounts") Long[] commissionAmounts,
-        @Param("shippingCommissionAmounts") Long[] shippingCommissionAmounts,
-        @Param("expectedSettlementAmounts") Long[] expectedSettlementAmounts,
-        @Param("settlementDates") LocalDate[] settlementDates
+        @Param("commissionAmounts") long[] commissionAmounts,
+        @Param("shippingCommissionAmounts") long[] shippingCommissionAmounts,
+        @Param("expectedSettlementAmounts") long[] expectedSettlementAmounts,
+        @Param("settlementDate") LocalDate settlementDate
     );
     
     /**
@@ -0,0 +1,218 @@
+package com.sellsync.api.domain.order.service;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.store.entity.Store;
+import com.sellsync.api.infra.marketplace.MarketplaceRateLimiter;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 스토어 병렬 수집 디스패처 (Rate Limit 기반 스케줄링)
+ *
+ * 동작 방식:
+ * - 마켓플레이스별 동시 실행 수를 Semaphore로 제한
+ * - 다음에 실행할 스토어는 남은 Rate Limit 예산(마켓 + 인증 정보 버킷)이 가장 많은 스토어로 선택
+ * - 예산이 모두 소진되면 다음 토큰이 생길 때까지만 대기 (고정 sleep 없음)
+ * - 실제 API 호출 속도는 각 클라이언트가 MarketplaceRateLimiter로 제어
+ */
+@Component
+@Slf4j
+public class OrderCollectionDispatcher {
+
+    private static final long MAX_IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final OrderCollectionService orderCollectionService;
+    private final MarketplaceRateLimiter rateLimiter;
+    private final Executor orderCollectionExecutor;
+    private final int maxConcurrencyPerMarketplace;
+
+    public OrderCollectionDispatcher(
+            OrderCollectionService orderCollectionService,
+            MarketplaceRateLimiter rateLimiter,
+            @Qualifier("orderCollectionExecutor") Executor orderCollectionExecutor,
+            @Value("${scheduling.order-collection.parallel.max-concurrency-per-marketplace:8}") int maxConcurrencyPerMarketplace) {
+        this.orderCollectionService = orderCollectionService;
+        this.rateLimiter = rateLimiter;
+        this.orderCollectionExecutor = orderCollectionExecutor;
+        this.maxConcurrencyPerMarketplace = maxConcurrencyPerMarketplace;
+    }
+
+    @Data
+    @Builder
+    public static class DispatchResult {
+        private int total;
+        private int success;
+        private int failed;
+        private long elapsedMs;
+    }
+
+    /**
+     * 수집 대상 스토어 (인증 정보 식별자 포함)
+     */
+    private record StoreTask(Store store, String credentialKey) {
+    }
+
+    /**
+     * 스토어 목록 병렬 수집
+     *
+     * @param stores 수집 대상 스토어
+     * @param collector 스토어별 수집 작업 (예외 발생 시 실패로 집계)
+     * @param timeout 전체 수집 타임아웃
+     * @return 수집 결과 요약
+     */
+    public DispatchResult dispatch(List<Store> stores, Consumer<Store> collector, Duration timeout) {
+        return dispatch(stores, collector, timeout, orderCollectionExecutor, maxConcurrencyPerMarketplace);
+    }
+
+    /**
+     * 스토어 목록 병렬 수집 (실행 풀/동시 실행 수 지정 - 정산 수집 등 주문 외 작업)
+     *
+     * Rate Limit 버킷은 MarketplaceRateLimiter를 공유하므로 같은 인증 정보의 주문/정산 호출이 함께 제한됩니다.
+     *
+     * @param executor 스토어 작업 실행 풀
+     * @param maxConcurrencyPerMarketplace 마켓플레이스별 동시 실행 스토어 수
+     */
+    public DispatchResult dispatch(List<Store> stores, Consumer<Store> collector, Duration timeout,
+                                   Executor executor, int maxConcurrencyPerMarketplace) {
+        long startTime = System.currentTimeMillis();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        Map<Marketplace, Deque<StoreTask>> pending = new EnumMap<>(Marketplace.class);
+        Map<Marketplace, Semaphore> permits = new EnumMap<>(Marketplace.class);
+        for (Store store : stores) {
+            String credentialKey = orderCollectionService.resolveCredentialKey(store);
+            pending.computeIfAbsent(store.getMarketplace(), m -> new ArrayDeque<>())
+                    .add(new StoreTask(store, credentialKey));
+            permits.computeIfAbsent(store.getMarketplace(), m -> new Semaphore(maxConcurrencyPerMarketplace));
+        }
+
+        AtomicInteger success = new AtomicInteger(0);
+        AtomicInteger failed = new AtomicInteger(0);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        log.info("[OrderCollectionDispatcher] Dispatch start: stores={}, marketplaces={}, maxConcurrencyPerMarketplace={}",
+                stores.size(), pending.keySet(), maxConcurrencyPerMarketplace);
+
+        while (!pending.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                int skipped = pending.values().stream().mapToInt(Deque::size).sum();
+                failed.addAndGet(skipped);
+                log.error("[OrderCollectionDispatcher] Dispatch timeout - {} stores not started", skipped);
+                break;
+            }
+
+            StoreTask next = pollBestTask(pending, permits);
+            if (next == null) {
+                // 실행 가능한 스토어 없음: 토큰 충전 또는 실행 중인 작업 완료까지 대기
+                LockSupport.parkNanos(waitNanos(pending));
+                continue;
+            }
+
+            Semaphore semaphore = permits.get(next.store().getMarketplace());
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    collector.accept(next.store());
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    log.error("[OrderCollectionDispatcher] Failed to collect for store {}: {}",
+                            next.store().getStoreId(), e.getMessage());
+                } finally {
+                    semaphore.release();
+                }
+            }, executor));
+        }
+
+        try {
+            long remainingNanos = Math.max(0L, deadline - System.nanoTime());
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.error("[OrderCollectionDispatcher] Dispatch timeout after {}", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[OrderCollectionDispatcher] Dispatch interrupted");
+        } catch (Exception e) {
+            log.error("[OrderCollectionDispatcher] Dispatch error: {}", e.getMessage());
+        }
+
+        return DispatchResult.builder()
+                .total(stores.size())
+                .success(success.get())
+                .failed(failed.get())
+                .elapsedMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * 남은 예산이 가장 많은 스토어 선택
+     * 선택된 스토어의 마켓플레이스 실행 슬롯(permit)을 획득한 상태로 반환
+     */
+    private StoreTask pollBestTask(Map<Marketplace, Deque<StoreTask>> pending, Map<Marketplace, Semaphore> permits) {
+        StoreTask best = null;
+        double bestBudget = 0.0;
+
+        for (Map.Entry<Marketplace, Deque<StoreTask>> entry : pending.entrySet()) {
+            if (permits.get(entry.getKey()).availablePermits() == 0) {
+                continue;
+            }
+            for (StoreTask task : entry.getValue()) {
+                double budget = rateLimiter.remainingBudget(entry.getKey(), task.credentialKey());
+                if (budget > bestBudget) {
+                    best = task;
+                    bestBudget = budget;
+                    if (budget >= 1.0) {
+                        break;  // 예산이 가득 찬 스토어는 더 찾을 필요 없음
+                    }
+                }
+            }
+        }
+
+        if (best == null || !permits.get(best.store().getMarketplace()).tryAcquire()) {
+            return null;
+        }
+
+        Marketplace marketplace = best.store().getMarketplace();
+        Deque<StoreTask> queue = pending.get(marketplace);
+        queue.remove(best);
+        if (queue.isEmpty()) {
+            pending.remove(marketplace);
+        }
+        return best;
+    }
+
+    /**
+     * 다음 토큰 충전까지 대기 시간 (최대 200ms - 작업 완료로 슬롯이 비는 경우 대비)
+     */
+    private long waitNanos(Map<Marketplace, Deque<StoreTask>> pending) {
+        long wait = MAX_IDLE_WAIT_NANOS;
+        for (Map.Entry<Marketplace, Deque<StoreTask>> entry : pending.entrySet()) {
+            Iterator<StoreTask> it = entry.getValue().iterator();
+            if (it.hasNext()) {
+                wait = Math.min(wait, rateLimiter.nanosUntilAvailable(entry.getKey(), it.next().credentialKey()));
+            }
+        }
+        return Math.max(wait, TimeUnit.MILLISECONDS.toNanos(10));
+    }
+}
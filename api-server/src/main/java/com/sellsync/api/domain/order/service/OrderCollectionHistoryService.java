@@ -22,18 +22,21 @@ public class OrderCollectionHistoryService {
 
     /**
      * 스케줄된 수집 이력 저장
+     * 
+     * @param collectionMode 수집 모드 (FULL, INCREMENTAL)
      */
     @Transactional
     public OrderCollectionHistory saveCollectionHistory(
             Store store,
             LocalDateTime from,
             LocalDateTime to,
-            OrderCollectionService.CollectionResult result) {
+            OrderCollectionService.CollectionResult result,
+            String collectionMode) {
         
         String status;
         if (result.getFailed() == 0) {
             status = "SUCCESS";
-        } else if (result.getCreated() + result.getUpdated() > 0) {
+        } else if (result.getCreated() + result.getUpdated() + result.getSkipped() > 0) {
             status = "PARTIAL";
         } else {
             status = "FAILED";
@@ -47,6 +50,7 @@ public class OrderCollectionHistoryService {
                 .rangeFrom(from)
                 .rangeTo(to)
                 .triggerType("SCHEDULED")
+                .collectionMode(collectionMode)
                 .status(status)
                 .totalFetched(result.getTotalFetched())
                 .createdCount(result.getCreated())
@@ -54,8 +58,8 @@ public class OrderCollectionHistoryService {
                 .failedCount(result.getFailed())
                 .build();
 
-        log.debug("[OrderCollectionHistory] Saving history: store={}, status={}, fetched={}, created={}, updated={}, failed={}",
-                store.getStoreId(), status, result.getTotalFetched(), result.getCreated(), result.getUpdated(), result.getFailed());
+        log.debug("[OrderCollectionHistory] Saving history: store={}, mode={}, status={}, fetched={}, created={}, updated={}, failed={}",
+                store.getStoreId(), collectionMode, status, result.getTotalFetched(), result.getCreated(), result.getUpdated(), result.getFailed());
 
         return historyRepository.save(history);
     }
@@ -76,7 +80,7 @@ public class OrderCollectionHistoryService {
             status = "FAILED";
         } else if (result != null && result.getFailed() == 0) {
             status = "SUCCESS";
-        } else if (result != null && result.getCreated() + result.getUpdated() > 0) {
+        } else if (result != null && result.getCreated() + result.getUpdated() + result.getSkipped() > 0) {
             status = "PARTIAL";
         } else {
             status = "FAILED";
@@ -144,7 +148,7 @@ public class OrderCollectionHistoryService {
         String status;
         if (result.getFailed() == 0) {
             status = "SUCCESS";
-        } else if (result.getCreated() + result.getUpdated() > 0) {
+        } else if (result.getCreated() + result.getUpdated() + result.getSkipped() > 0) {
             status = "PARTIAL";
         } else {
             status = "FAILED";
@@ -16,17 +16,17 @@ import com.sellsync.api.domain.order.entity.OrderItem;
 import com.sellsync.api.domain.order.enums.ItemStatus;
 import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.order.enums.OrderStatus;
-import com.sellsync.api.domain.order.enums.SettlementCollectionStatus;
+import com.sellsync.api.domain.order.repository.OrderBulkRepository;
+import com.sellsync.api.domain.order.repository.OrderRawPayloadRepository;
 import com.sellsync.api.domain.order.repository.OrderRepository;
 import com.sellsync.api.domain.store.entity.Store;
 import com.sellsync.api.domain.store.repository.StoreRepository;
 import lombok.Builder;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -45,16 +46,41 @@ import java.util.stream.Collectors;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class OrderCollectionService {
 
     private final OrderRepository orderRepository;
+    private final OrderRawPayloadRepository rawPayloadRepository;
     private final StoreRepository storeRepository;
     private final List<MarketplaceOrderClient> marketplaceClients;
     private final CredentialService credentialService;
     private final ProductMappingService productMappingService;
     private final ObjectMapper objectMapper;
     private final CoupangCommissionService coupangCommissionService;
+    private final Executor orderPersistExecutor;
+    private final int pipelineQueueCapacity;
+
+    public OrderCollectionService(
+            OrderRepository orderRepository,
+            OrderRawPayloadRepository rawPayloadRepository,
+            StoreRepository storeRepository,
+            List<MarketplaceOrderClient> marketplaceClients,
+            CredentialService credentialService,
+            ProductMappingService productMappingService,
+            ObjectMapper objectMapper,
+            CoupangCommissionService coupangCommissionService,
+            @Qualifier("orderPersistExecutor") Executor orderPersistExecutor,
+            @Value("${scheduling.order-collection.pipeline.queue-capacity:4}") int pipelineQueueCapacity) {
+        this.orderRepository = orderRepository;
+        this.rawPayloadRepository = rawPayloadRepository;
+        this.storeRepository = storeRepository;
+        this.marketplaceClients = marketplaceClients;
+        this.credentialService = credentialService;
+        this.productMappingService = productMappingService;
+        this.objectMapper = objectMapper;
+        this.coupangCommissionService = coupangCommissionService;
+        this.orderPersistExecutor = orderPersistExecutor;
+        this.pipelineQueueCapacity = pipelineQueueCapacity;
+    }
 
     @Data
     @Builder
@@ -62,6 +88,7 @@ public class OrderCollectionService {
         private int totalFetched;
         private int created;
         private int updated;
+        private int skipped;  // 변경 없음 (수집 내용 지문 동일, 저장 생략)
         private int failed;
     }
 
@@ -80,103 +107,145 @@ public class OrderCollectionService {
         // 인증 정보 조회 (Store.credentials 또는 Credentials 테이블에서)
         String credentialsJson = getCredentialsJson(tenantId, storeId, store);
 
-        List<MarketplaceOrderDto> fetchedOrders = client.fetchOrders(
-                credentialsJson,
-                from,
-                to
-        );
+        // 스트리밍 파이프라인: 조회된 페이지를 제한된 큐를 거쳐 저장 스레드에서 배치 저장
+        // (전체 결과를 메모리에 모으지 않고, HTTP 조회와 DB 저장을 동시에 진행)
+        OrderIngestionPipeline pipeline = new OrderIngestionPipeline(pipelineQueueCapacity, BATCH_SIZE,
+                batch -> processBatch(tenantId, storeId, store.getMarketplace(), batch, credentialsJson));
+        CollectionResult result = pipeline.run(
+                sink -> client.fetchOrders(credentialsJson, from, to, sink),
+                orderPersistExecutor);
 
         log.info("[OrderCollection] Fetched {} orders from {} for store {}",
-                fetchedOrders.size(), store.getMarketplace(), storeId);
+                result.getTotalFetched(), store.getMarketplace(), storeId);
 
-        int created = 0, updated = 0, failed = 0;
+        return result;
+    }
 
-        // 배치 단위로 분할 처리
-        for (int i = 0; i < fetchedOrders.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, fetchedOrders.size());
-            List<MarketplaceOrderDto> batch = fetchedOrders.subList(i, end);
-            
-            log.debug("[OrderCollection] Processing batch {}-{} of {}", 
-                    i + 1, end, fetchedOrders.size());
-            
-            try {
-                CollectionResult batchResult = processBatch(tenantId, storeId, store.getMarketplace(), batch, credentialsJson);
-                created += batchResult.getCreated();
-                updated += batchResult.getUpdated();
-                failed += batchResult.getFailed();
-            } catch (Exception e) {
-                log.error("[OrderCollection] Batch processing failed for orders {}-{}: {}", 
-                        i + 1, end, e.getMessage(), e);
-                failed += batch.size(); // 배치 전체 실패 처리
-            }
+    /**
+     * 변경된 주문 수집 (증분 수집)
+     * 변경 주문 조회를 지원하지 않는 마켓플레이스(supportsIncrementalFetch = false)는 같은 구간 전체 수집으로 대체
+     *
+     * @param changedFrom 변경 일시 시작 (커서 - 겹침 구간)
+     * @param changedTo 변경 일시 종료
+     */
+    public CollectionResult collectChangedOrders(UUID tenantId, UUID storeId, LocalDateTime changedFrom, LocalDateTime changedTo) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new IllegalArgumentException("Store not found: " + storeId));
+
+        MarketplaceOrderClient client = getClient(store.getMarketplace());
+        if (!client.supportsIncrementalFetch()) {
+            log.warn("[OrderCollection] {} does not support changed-order fetch, falling back to window collection for store {}",
+                    store.getMarketplace(), storeId);
+            return collectOrders(tenantId, storeId, changedFrom, changedTo);
         }
+        String credentialsJson = getCredentialsJson(tenantId, storeId, store);
 
-        return CollectionResult.builder()
-                .totalFetched(fetchedOrders.size())
-                .created(created)
-                .updated(updated)
-                .failed(failed)
-                .build();
+        // 전체 수집과 같은 스트리밍 파이프라인 사용 (변경 주문 상세를 메모리에 모으지 않음)
+        OrderIngestionPipeline pipeline = new OrderIngestionPipeline(pipelineQueueCapacity, BATCH_SIZE,
+                batch -> processBatch(tenantId, storeId, store.getMarketplace(), batch, credentialsJson));
+        CollectionResult result = pipeline.run(
+                sink -> client.fetchChangedOrders(credentialsJson, changedFrom, changedTo, sink),
+                orderPersistExecutor);
+
+        log.info("[OrderCollection] Fetched {} changed orders from {} for store {} ({} ~ {})",
+                result.getTotalFetched(), store.getMarketplace(), storeId, changedFrom, changedTo);
+
+        return result;
+    }
+
+    /**
+     * 마켓플레이스의 증분(변경 주문) 수집 지원 여부
+     */
+    public boolean supportsIncrementalFetch(Marketplace marketplace) {
+        return getClient(marketplace).supportsIncrementalFetch();
+    }
+
+    /**
+     * 스토어의 인증 정보 식별자 조회 (Rate Limit 버킷 키)
+     * 인증 정보를 조회할 수 없으면 storeId를 키로 사용
+     */
+    public String resolveCredentialKey(Store store) {
+        try {
+            String credentialsJson = getCredentialsJson(store.getTenantId(), store.getStoreId(), store);
+            String key = getClient(store.getMarketplace()).credentialKey(credentialsJson);
+            if (key != null) {
+                return key;
+            }
+        } catch (Exception e) {
+            log.debug("[OrderCollection] Failed to resolve credential key for store {}: {}",
+                    store.getStoreId(), e.getMessage());
+        }
+        return store.getStoreId().toString();
     }
 
     /**
-     * 배치 단위 주문 처리 (트랜잭션 분리)
-     * 타임아웃: 60초 (배치당, BATCH_SIZE=1이므로 짧게 설정)
+     * 배치 단위 주문 처리
+     * 
+     * 메서드 전체를 트랜잭션으로 묶지 않음 - 벌크 UPSERT(주문 + 아이템 + 원본 보관)는
+     * OrderBulkRepository.bulkUpsertWithItems 한 트랜잭션으로 원자적으로 반영되고,
+     * 실패 시 주문별 폴백 UPSERT가 각자 새 트랜잭션에서 실행되어야 하므로
+     * (같은 트랜잭션이면 첫 실패 후 모든 문장이 거부됨)
      */
-    @Transactional(timeout = 120)
-    protected CollectionResult processBatch(UUID tenantId, UUID storeId, Marketplace marketplace,
+    private CollectionResult processBatch(UUID tenantId, UUID storeId, Marketplace marketplace,
                                            List<MarketplaceOrderDto> batch, String credentialsJson) {
         int created = 0, updated = 0, failed = 0;
 
-        // 1. 기존 주문 일괄 조회 (벌크 조회로 DB 호출 최소화)
-        List<String> marketplaceOrderIds = batch.stream()
-                .map(MarketplaceOrderDto::getMarketplaceOrderId)
+        // 0. 변경 감지: 이전 수집과 지문이 같은 주문은 매핑/저장 생략
+        Map<String, String> contentHashes = new HashMap<>();
+        for (MarketplaceOrderDto dto : batch) {
+            contentHashes.put(dto.getMarketplaceOrderId(), dto.contentHash());
+        }
+        Map<String, String> storedHashes = new HashMap<>();
+        for (Object[] row : orderRepository.findContentHashesByStoreIdAndMarketplaceOrderIdIn(
+                storeId, new ArrayList<>(contentHashes.keySet()))) {
+            storedHashes.put((String) row[0], (String) row[1]);
+        }
+        List<MarketplaceOrderDto> changed = batch.stream()
+                .filter(dto -> !contentHashes.get(dto.getMarketplaceOrderId())
+                        .equals(storedHashes.get(dto.getMarketplaceOrderId())))
                 .toList();
-        
-        Map<String, Order> existingOrders = orderRepository
-                .findByStoreIdAndMarketplaceOrderIdIn(storeId, marketplaceOrderIds)
-                .stream()
-                .collect(Collectors.toMap(Order::getMarketplaceOrderId, o -> o));
-        
-        log.debug("[OrderCollection] Found {} existing orders in batch of {}",
-                existingOrders.size(), batch.size());
+        int skipped = batch.size() - changed.size();
 
-        // 1.5. [쿠팡] 수수료 정보 사전 조회 (수수료 금액 계산용)
+        if (changed.isEmpty()) {
+            log.debug("[OrderCollection] All {} orders unchanged, skipping batch", batch.size());
+            return CollectionResult.builder()
+                    .totalFetched(batch.size())
+                    .skipped(skipped)
+                    .build();
+        }
+
+        // 1. [쿠팡] 수수료 정보 사전 조회 (수수료 금액 계산용)
         Map<String, CoupangProductInfo> commissionInfoMap = new HashMap<>();
         if (marketplace == Marketplace.COUPANG && credentialsJson != null) {
-            commissionInfoMap = fetchCoupangCommissionInfoFromDtos(batch, credentialsJson);
+            commissionInfoMap = fetchCoupangCommissionInfoFromDtos(changed, credentialsJson);
         }
 
-        // 2. 주문 엔티티 빌드 (신규/업데이트 구분)
-        List<Order> ordersToSave = new ArrayList<>();
+        // 2. 주문 엔티티 빌드 (기존 주문 조회 없이 수집 값으로 구성)
+        // 신규/업데이트 구분, 정산 완료 주문의 수수료 보존, 원본 payload 신규 전용 보관은 UPSERT 쿼리에서 처리
         List<Order> processedOrders = new ArrayList<>();
 
-        for (MarketplaceOrderDto dto : batch) {
+        for (MarketplaceOrderDto dto : changed) {
             try {
-                Order order = existingOrders.get(dto.getMarketplaceOrderId());
-                boolean isNew = (order == null);
-                
-                if (order == null) {
-                    order = Order.builder()
-                            .tenantId(tenantId)
-                            .storeId(storeId)
-                            .marketplace(marketplace)
-                            .marketplaceOrderId(dto.getMarketplaceOrderId())
-                            .build();
-                    created++;
-                } else {
-                    updated++;
-                }
-                
-                // 필드 매핑 (신규 여부 전달)
-                mapOrderFields(order, dto, isNew);
+                Order order = Order.builder()
+                        .tenantId(tenantId)
+                        .storeId(storeId)
+                        .marketplace(marketplace)
+                        .marketplaceOrderId(dto.getMarketplaceOrderId())
+                        .build();
+
+                // 필드 매핑 (전체 필드 + 원본 payload, 원본은 신규 주문/상품만 보관소에 저장)
+                mapOrderFields(order, dto);
 
                 // [쿠팡] 수수료 금액 계산 (수수료율 + 부가세 10%)
                 if (marketplace == Marketplace.COUPANG && !commissionInfoMap.isEmpty()) {
                     calculateCoupangCommission(order, dto, commissionInfoMap);
                 }
 
-                ordersToSave.add(order);
+                // [쿠팡] 주문의 상품 중 하나라도 수수료 정보 조회에 실패하면 지문을 남기지 않아 다음 수집에서 재계산
+                if (marketplace != Marketplace.COUPANG || isCommissionInfoResolved(dto, commissionInfoMap)) {
+                    order.setContentHash(contentHashes.get(dto.getMarketplaceOrderId()));
+                }
+
                 processedOrders.add(order);
                 
             } catch (Exception e) {
@@ -185,56 +254,36 @@ public class OrderCollectionService {
             }
         }
         
-        // 3. 개별 저장 (lock 경합 방지를 위해 하나씩 처리)
-        if (!ordersToSave.isEmpty()) {
-            int savedCount = 0;
-            for (Order order : ordersToSave) {
-                try {
-                    orderRepository.save(order);
-                    savedCount++;
-                    
-                    // 10개마다 flush하여 메모리 절약
-                    if (savedCount % 10 == 0) {
-                        orderRepository.flush();
-                    }
-                } catch (org.springframework.dao.QueryTimeoutException e) {
-                    log.error("[OrderCollection] Timeout saving order {}: {}. Will retry in new transaction.", 
-                            order.getMarketplaceOrderId(), e.getMessage());
-                    // 폴백: 새 트랜잭션에서 재시도
-                    try {
-                        saveOrderInNewTransaction(order);
-                    } catch (Exception ex) {
-                        log.error("[OrderCollection] Retry failed for order {}: {}", 
-                                order.getMarketplaceOrderId(), ex.getMessage());
-                        failed++;
-                        created = order.getOrderId() == null ? created - 1 : created;
-                        updated = order.getOrderId() != null ? updated - 1 : updated;
-                    }
-                } catch (Exception e) {
-                    log.error("[OrderCollection] Failed to save order {}: {}. Will retry in new transaction.", 
-                            order.getMarketplaceOrderId(), e.getMessage());
-                    // 폴백: 새 트랜잭션에서 재시도
+        // 3. 벌크 UPSERT (주문 1회 + 아이템 2회 + 원본 보관 1회 쿼리, 한 트랜잭션)
+        if (!processedOrders.isEmpty()) {
+            try {
+                OrderBulkRepository.BulkUpsertResult result = orderRepository.bulkUpsertWithItems(processedOrders);
+                created += result.inserted();
+                updated += result.updated();
+            } catch (Exception e) {
+                log.warn("[OrderCollection] Bulk upsert failed for {} orders: {}. Falling back to per-order upsert.",
+                        processedOrders.size(), e.getMessage());
+                // 폴백: 주문별 UPSERT (실패 주문만 제외)
+                for (Order order : processedOrders) {
                     try {
-                        saveOrderInNewTransaction(order);
+                        OrderBulkRepository.BulkUpsertResult result = orderRepository.bulkUpsertWithItems(List.of(order));
+                        created += result.inserted();
+                        updated += result.updated();
                     } catch (Exception ex) {
-                        log.error("[OrderCollection] Retry failed for order {}: {}", 
+                        log.error("[OrderCollection] Failed to save order {}: {}", 
                                 order.getMarketplaceOrderId(), ex.getMessage());
                         failed++;
-                        created = order.getOrderId() == null ? created - 1 : created;
-                        updated = order.getOrderId() != null ? updated - 1 : updated;
                     }
                 }
             }
             
-            if (savedCount > 0) {
-                log.info("[OrderCollection] Saved {} orders (created={}, updated={}, failed={})", 
-                        savedCount, created, updated, failed);
-            }
+            log.info("[OrderCollection] Saved {} orders (created={}, updated={}, skipped={}, failed={})", 
+                    created + updated, created, updated, skipped, failed);
         }
         
         // 4. 상품 매핑 레코드 자동 생성 (벌크 처리로 최적화)
         try {
-            createProductMappingsForOrders(processedOrders, credentialsJson);
+            createProductMappingsForOrders(processedOrders, commissionInfoMap);
         } catch (Exception e) {
             log.warn("[OrderCollection] Failed to create product mappings in bulk, falling back to individual", e);
             // 폴백: 개별 처리
@@ -252,6 +301,7 @@ public class OrderCollectionService {
                 .totalFetched(batch.size())
                 .created(created)
                 .updated(updated)
+                .skipped(skipped)
                 .failed(failed)
                 .build();
     }
@@ -333,115 +383,14 @@ public class OrderCollectionService {
         ===== */
     }
 
-    /**
-     * 개별 주문 저장 (새 트랜잭션 + 재시도)
-     * 벌크 저장 실패 시 폴백용 - 각 주문을 격리된 트랜잭션에서 저장
-     * 타임아웃: 60초
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, timeout = 60)
-    protected void saveOrderInNewTransaction(Order order) {
-        int maxRetries = 2;
-        int retryCount = 0;
-        long retryDelay = 500; // 500ms
-        
-        while (retryCount <= maxRetries) {
-            try {
-                orderRepository.save(order);
-                log.debug("[OrderCollection] Saved order in new transaction: {}", 
-                        order.getMarketplaceOrderId());
-                return; // 성공하면 바로 리턴
-                
-            } catch (org.springframework.dao.QueryTimeoutException e) {
-                retryCount++;
-                if (retryCount > maxRetries) {
-                    log.error("[OrderCollection] Query timeout after {} retries for order {}: {}. " +
-                            "데이터베이스 응답이 지속적으로 느립니다. 인덱스 및 쿼리 성능을 확인하세요.", 
-                            maxRetries, order.getMarketplaceOrderId(), e.getMessage());
-                    throw e;
-                }
-                log.warn("[OrderCollection] Query timeout for order {}, retry {}/{}. Waiting {}ms...", 
-                        order.getMarketplaceOrderId(), retryCount, maxRetries, retryDelay);
-                try {
-                    Thread.sleep(retryDelay);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
-                
-            } catch (org.springframework.dao.PessimisticLockingFailureException e) {
-                // CannotAcquireLockException은 PessimisticLockingFailureException의 서브클래스이므로 여기서 함께 처리됨
-                retryCount++;
-                if (retryCount > maxRetries) {
-                    log.error("[OrderCollection] Lock acquisition failed after {} retries for order {}: {}. " +
-                            "다른 트랜잭션과의 충돌이 지속됩니다.", 
-                            maxRetries, order.getMarketplaceOrderId(), e.getMessage());
-                    throw e;
-                }
-                log.warn("[OrderCollection] Lock conflict for order {}, retry {}/{}. Waiting {}ms...", 
-                        order.getMarketplaceOrderId(), retryCount, maxRetries, retryDelay);
-                try {
-                    Thread.sleep(retryDelay);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
-                
-            } catch (Exception e) {
-                log.error("[OrderCollection] Failed to save order {} in new transaction: {}", 
-                        order.getMarketplaceOrderId(), e.getMessage());
-                throw e;
-            }
-        }
-    }
-    
-    /**
-     * 주문 저장 (Upsert) - 레거시 메서드 (하위 호환성 유지)
-     * 
-     * @deprecated processBatch()에서 벌크 처리를 사용합니다. 개별 호출이 필요한 경우에만 사용하세요.
-     */
-    @Deprecated
-    private boolean saveOrder(UUID tenantId, UUID storeId, Marketplace marketplace, MarketplaceOrderDto dto) {
-        // Upsert: 기존 주문 있으면 업데이트, 없으면 생성
-        // items 컬렉션을 사용하므로 fetch join으로 즉시 로딩
-        Order order = orderRepository.findByStoreIdAndMarketplaceOrderIdWithItems(storeId, dto.getMarketplaceOrderId())
-                .orElse(null);
-
-        boolean isNew = (order == null);
-
-        if (order == null) {
-            order = Order.builder()
-                    .tenantId(tenantId)
-                    .storeId(storeId)
-                    .marketplace(marketplace)
-                    .marketplaceOrderId(dto.getMarketplaceOrderId())
-                    .build();
-        }
-
-        // 필드 매핑
-        mapOrderFields(order, dto, isNew);
-
-        orderRepository.save(order);
-        
-        // 상품 매핑 레코드 자동 생성 (수집 후 관리자가 매핑할 수 있도록)
-        createProductMappingsForOrder(order);
-
-        return isNew;
-    }
-    
     /**
      * Order 필드 매핑 (공통 메서드)
      * @DynamicUpdate와 함께 사용하여 변경된 필드만 UPDATE
      * 
      * @param order 주문 엔티티
      * @param dto 마켓플레이스 주문 DTO
-     * @param isNew 신규 주문 여부 (true=신규, false=업데이트)
      */
-    private void mapOrderFields(Order order, MarketplaceOrderDto dto, boolean isNew) {
-        // 정산 완료 여부 확인
-        boolean isSettlementCompleted = order.getSettlementStatus() != null && 
-            (order.getSettlementStatus() == SettlementCollectionStatus.COLLECTED || 
-             order.getSettlementStatus() == SettlementCollectionStatus.POSTED);
-        
+    private void mapOrderFields(Order order, MarketplaceOrderDto dto) {
         // 핵심 필드만 항상 업데이트 (상태, 금액 등)
         order.setOrderStatus(OrderStatus.valueOf(dto.getOrderStatus()));
         order.setBundleOrderId(dto.getBundleOrderId());
@@ -468,14 +417,9 @@ public class OrderCollectionService {
         order.setTotalShippingAmount(nullToZero(dto.getTotalShippingAmount()));
         order.setTotalPaidAmount(nullToZero(dto.getTotalPaidAmount()));
         
-        // 수수료 정보: 정산이 완료된 경우 업데이트하지 않음
-        if (!isSettlementCompleted) {
-            order.setCommissionAmount(nullToZero(dto.getCommissionAmount()));
-            order.setExpectedSettlementAmount(nullToZero(dto.getExpectedSettlementAmount()));
-        } else {
-            log.debug("[OrderCollection] 정산 완료된 주문 - 수수료 업데이트 제외: orderId={}, status={}", 
-                order.getOrderId(), order.getSettlementStatus());
-        }
+        // 수수료 정보 (정산 완료 주문의 기존 수수료는 UPSERT 쿼리에서 보존)
+        order.setCommissionAmount(nullToZero(dto.getCommissionAmount()));
+        order.setExpectedSettlementAmount(nullToZero(dto.getExpectedSettlementAmount()));
         
         // 배송 정보
         order.setShippingFeeType(dto.getShippingFeeType());
@@ -489,14 +433,11 @@ public class OrderCollectionService {
         order.setPersonalCustomsCode(dto.getPersonalCustomsCode());
         order.setBuyerMemo(dto.getBuyerMemo());
         
-        // raw_payload는 크기가 매우 커서 UPDATE 시 타임아웃 유발
-        // 신규 주문인 경우에만 설정 (기존 주문 업데이트 시에는 제외)
-        if (isNew && dto.getRawPayload() != null) {
-            order.setRawPayload(dto.getRawPayload());
-        }
+        // 원본 payload (저장 컬럼 아님 - 신규 주문만 order_raw_payloads에 압축 보관)
+        order.setRawPayload(dto.getRawPayload());
 
-        // 주문 상품 처리 (정산 완료 여부 전달)
-        updateOrderItems(order, dto.getItems(), isSettlementCompleted);
+        // 주문 상품 처리
+        updateOrderItems(order, dto.getItems());
     }
 
     /**
@@ -510,9 +451,8 @@ public class OrderCollectionService {
      * 
      * @param order 주문 엔티티
      * @param itemDtos 마켓플레이스 주문 상품 DTO 목록
-     * @param isSettlementCompleted 정산 완료 여부
      */
-    private void updateOrderItems(Order order, List<MarketplaceOrderItemDto> itemDtos, boolean isSettlementCompleted) {
+    private void updateOrderItems(Order order, List<MarketplaceOrderItemDto> itemDtos) {
         if (itemDtos == null || itemDtos.isEmpty()) return;
 
         // 기존 아이템 맵 (marketplace_item_id 기반)
@@ -534,7 +474,6 @@ public class OrderCollectionService {
         for (MarketplaceOrderItemDto dto : itemDtos) {
             // marketplace_item_id로 기존 아이템 찾기
             OrderItem item = existingItems.get(dto.getMarketplaceItemId());
-            boolean isNewItem = (item == null);
 
             if (item == null) {
                 // 신규 아이템 생성
@@ -563,21 +502,13 @@ public class OrderCollectionService {
             item.setDiscountAmount(nullToZero(dto.getDiscountAmount()));
             item.setLineAmount(nullToZero(dto.getLineAmount()));
             
-            // 수수료 정보: 정산이 완료된 경우 업데이트하지 않음
-            if (!isSettlementCompleted) {
-                item.setCommissionAmount(nullToZero(dto.getCommissionAmount()));
-            } else {
-                log.debug("[OrderCollection] 정산 완료된 주문상품 - 수수료 업데이트 제외: itemId={}", 
-                    item.getMarketplaceItemId());
-            }
+            // 수수료 정보 (정산 완료 주문의 기존 수수료는 UPSERT 쿼리에서 보존)
+            item.setCommissionAmount(nullToZero(dto.getCommissionAmount()));
             
             item.setItemStatus(ItemStatus.NORMAL);
             
-            // raw_payload는 크기가 매우 커서 UPDATE 시 타임아웃 유발
-            // 신규 아이템인 경우에만 설정 (기존 아이템 업데이트 시에는 제외)
-            if (isNewItem && dto.getRawPayload() != null) {
-                item.setRawPayload(dto.getRawPayload());
-            }
+            // 원본 payload (저장 컬럼 아님 - 신규 아이템만 order_raw_payloads에 압축 보관)
+            item.setRawPayload(dto.getRawPayload());
 
             lineNo++;
         }
@@ -596,25 +527,19 @@ public class OrderCollectionService {
     /**
      * 여러 주문의 상품 매핑 레코드 벌크 생성 (성능 최적화)
      *
-     * 쿠팡 주문의 경우 상품 API를 통해 수수료율(saleAgentCommission)을 조회하여
+     * 쿠팡 주문의 경우 상품 API로 조회한 수수료율(saleAgentCommission)을
      * product_mappings에 함께 저장합니다.
      *
      * @param orders 주문 목록
-     * @param credentialsJson 마켓플레이스 인증 정보 JSON
+     * @param commissionInfoMap [쿠팡] 배치 처리 시 사전 조회한 수수료 정보 (sellerProductId → CoupangProductInfo)
      */
-    private void createProductMappingsForOrders(List<Order> orders, String credentialsJson) {
+    private void createProductMappingsForOrders(List<Order> orders, Map<String, CoupangProductInfo> commissionInfoMap) {
         if (orders == null || orders.isEmpty()) {
             return;
         }
 
         Marketplace marketplace = orders.get(0).getMarketplace();
 
-        // [쿠팡] 수수료 정보 사전 조회 (sellerProductId → CoupangProductInfo)
-        Map<String, CoupangProductInfo> commissionInfoMap = new HashMap<>();
-        if (marketplace == Marketplace.COUPANG && credentialsJson != null) {
-            commissionInfoMap = fetchCoupangCommissionInfo(orders, credentialsJson);
-        }
-
         // 1. 모든 주문의 상품 아이템에서 매핑 요청 수집 (중복 제거)
         // 같은 배치 내 여러 주문이 동일한 상품을 포함할 수 있으므로
         // (tenantId, storeId, marketplace, productId, sku) 조합으로 중복 제거
@@ -652,10 +577,11 @@ public class OrderCollectionService {
 
                 // [쿠팡] 수수료 정보 enrichment
                 if (marketplace == Marketplace.COUPANG) {
-                    String sellerProductId = extractSellerProductId(item.getRawPayload());
+                    String rawPayload = loadItemRawPayload(order, item);
+                    String sellerProductId = extractSellerProductId(rawPayload);
                     log.info("[쿠팡 수수료 enrichment] productId={}, sku={}, sellerProductId={}, rawPayload존재={}",
                             item.getMarketplaceProductId(), item.getMarketplaceSku(),
-                            sellerProductId, item.getRawPayload() != null);
+                            sellerProductId, rawPayload != null);
                     if (sellerProductId != null) {
                         builder.marketplaceSellerProductId(sellerProductId);
                         CoupangProductInfo info = commissionInfoMap.get(sellerProductId);
@@ -687,44 +613,16 @@ public class OrderCollectionService {
     }
 
     /**
-     * 쿠팡 주문에서 sellerProductId를 추출하고 상품 API로 수수료 정보를 조회
-     *
-     * @param orders 쿠팡 주문 목록
-     * @param credentialsJson 쿠팡 API 인증 JSON
-     * @return sellerProductId → CoupangProductInfo 맵
+     * 주문 상품 원본 payload 조회 (수집 중이면 메모리 값, 아니면 보관소에서 지연 로딩)
      */
-    private Map<String, CoupangProductInfo> fetchCoupangCommissionInfo(List<Order> orders, String credentialsJson) {
-        // 1. 유니크 sellerProductId 수집
-        Set<String> sellerProductIds = new HashSet<>();
-        for (Order order : orders) {
-            if (order.getItems() == null) continue;
-            for (OrderItem item : order.getItems()) {
-                String spid = extractSellerProductId(item.getRawPayload());
-                if (spid != null) {
-                    sellerProductIds.add(spid);
-                }
-            }
-        }
-
-        if (sellerProductIds.isEmpty()) {
-            return new HashMap<>();
+    private String loadItemRawPayload(Order order, OrderItem item) {
+        if (item.getRawPayload() != null) {
+            return item.getRawPayload();
         }
-
-        log.info("[쿠팡 수수료 조회] 유니크 sellerProductId {}개 조회 시작", sellerProductIds.size());
-
-        // 2. 각 sellerProductId에 대해 수수료 정보 조회 (캐시 적용)
-        Map<String, CoupangProductInfo> result = new HashMap<>();
-        for (String spid : sellerProductIds) {
-            try {
-                coupangCommissionService.getProductInfo(credentialsJson, spid)
-                        .ifPresent(info -> result.put(spid, info));
-            } catch (Exception e) {
-                log.warn("[쿠팡 수수료 조회] 실패 - sellerProductId={}, error={}", spid, e.getMessage());
-            }
+        if (order.getOrderId() == null) {
+            return null;
         }
-
-        log.info("[쿠팡 수수료 조회] 완료: {}개 중 {}개 조회 성공", sellerProductIds.size(), result.size());
-        return result;
+        return rawPayloadRepository.findItemPayload(order.getOrderId(), item.getMarketplaceItemId()).orElse(null);
     }
 
     /**
@@ -798,14 +696,6 @@ public class OrderCollectionService {
      */
     private void calculateCoupangCommission(Order order, MarketplaceOrderDto dto,
                                             Map<String, CoupangProductInfo> commissionInfoMap) {
-        // 정산 완료된 주문은 수수료 재계산하지 않음
-        boolean isSettlementCompleted = order.getSettlementStatus() != null &&
-                (order.getSettlementStatus() == SettlementCollectionStatus.COLLECTED ||
-                 order.getSettlementStatus() == SettlementCollectionStatus.POSTED);
-        if (isSettlementCompleted) {
-            return;
-        }
-
         // DTO에서 marketplaceItemId → sellerProductId 맵 구성
         Map<String, String> itemSellerProductMap = new HashMap<>();
         if (dto.getItems() != null) {
@@ -871,6 +761,21 @@ public class OrderCollectionService {
         return info.getSaleAgentCommission();
     }
 
+    /**
+     * [쿠팡] 주문의 모든 sellerProductId 수수료 정보 조회 여부
+     */
+    private boolean isCommissionInfoResolved(MarketplaceOrderDto dto, Map<String, CoupangProductInfo> commissionInfoMap) {
+        if (dto.getItems() == null) {
+            return true;
+        }
+        for (MarketplaceOrderItemDto item : dto.getItems()) {
+            if (item.getSellerProductId() != null && !commissionInfoMap.containsKey(item.getSellerProductId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 쿠팡 수수료 정보를 DTO에서 sellerProductId 추출하여 사전 조회
      *
@@ -896,14 +801,13 @@ public class OrderCollectionService {
 
         log.info("[쿠팡 수수료 조회] 수수료 계산용 sellerProductId {}개 조회", sellerProductIds.size());
 
-        Map<String, CoupangProductInfo> result = new HashMap<>();
-        for (String spid : sellerProductIds) {
-            try {
-                coupangCommissionService.getProductInfo(credentialsJson, spid)
-                        .ifPresent(info -> result.put(spid, info));
-            } catch (Exception e) {
-                log.warn("[쿠팡 수수료 조회] 실패 - sellerProductId={}, error={}", spid, e.getMessage());
-            }
+        // 캐시(인메모리 → DB) 우선, 미스 항목만 동시 API 조회
+        Map<String, CoupangProductInfo> result;
+        try {
+            result = coupangCommissionService.getProductInfos(credentialsJson, sellerProductIds);
+        } catch (Exception e) {
+            log.warn("[쿠팡 수수료 조회] 실패 - {}개, error={}", sellerProductIds.size(), e.getMessage());
+            result = new HashMap<>();
         }
 
         log.info("[쿠팡 수수료 조회] 수수료 계산용 완료: {}개 중 {}개 성공", sellerProductIds.size(), result.size());
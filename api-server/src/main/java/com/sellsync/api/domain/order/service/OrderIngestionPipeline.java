@@ -0,0 +1,153 @@
+package com.sellsync.api.domain.order.service;
+
+import com.sellsync.api.domain.order.dto.MarketplaceOrderDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 주문 수집 스트리밍 파이프라인 (조회 → 저장)
+ *
+ * - 마켓플레이스 클라이언트가 전달한 페이지를 batchSize 단위로 나눠 크기가 제한된 큐에 적재
+ * - 저장 스레드가 큐에서 배치를 꺼내 처리 (HTTP 조회와 DB 저장이 동시에 진행)
+ * - 큐가 가득 차면 조회 스레드가 대기 (backpressure)
+ *   → 메모리 사용량은 조회 건수와 무관하게 (큐 크기 + 처리 중 배치)로 제한
+ *
+ * 수집 1회당 1개 인스턴스 사용 (재사용 불가)
+ */
+@Slf4j
+class OrderIngestionPipeline {
+
+    private static final long OFFER_WAIT_MILLIS = 100;
+
+    // 조회 종료 표시 (동일 인스턴스 비교)
+    private static final List<MarketplaceOrderDto> END_OF_STREAM = new ArrayList<>();
+
+    private final BlockingQueue<List<MarketplaceOrderDto>> queue;
+    private final int batchSize;
+    private final Function<List<MarketplaceOrderDto>, OrderCollectionService.CollectionResult> batchProcessor;
+
+    private volatile boolean consumerStopped = false;
+
+    OrderIngestionPipeline(int queueCapacity, int batchSize,
+                           Function<List<MarketplaceOrderDto>, OrderCollectionService.CollectionResult> batchProcessor) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.batchProcessor = batchProcessor;
+    }
+
+    /**
+     * 파이프라인 실행
+     *
+     * @param producer 조회 작업 (호출 스레드에서 실행, 전달받은 sink로 페이지 전달)
+     * @param persistExecutor 저장 작업 실행 Executor
+     * @return 저장 결과 합계
+     */
+    OrderCollectionService.CollectionResult run(Consumer<Consumer<List<MarketplaceOrderDto>>> producer,
+                                                Executor persistExecutor) {
+        CompletableFuture<OrderCollectionService.CollectionResult> consumer =
+                CompletableFuture.supplyAsync(this::consume, persistExecutor);
+
+        RuntimeException producerError = null;
+        try {
+            producer.accept(this::publish);
+        } catch (RuntimeException e) {
+            producerError = e;
+        }
+
+        // 조회 실패 시에도 이미 적재된 배치는 저장을 마친 뒤 예외 전달
+        enqueue(END_OF_STREAM);
+
+        OrderCollectionService.CollectionResult result;
+        try {
+            result = consumer.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        if (producerError != null) {
+            log.warn("[OrderIngestion] Fetch failed after {} orders persisted: {}",
+                    result.getTotalFetched(), producerError.getMessage());
+            throw producerError;
+        }
+        return result;
+    }
+
+    /**
+     * 조회된 페이지를 배치 단위로 큐에 적재 (큐가 가득 차면 대기)
+     * 여러 조회 스레드에서 동시에 호출 가능
+     */
+    private void publish(List<MarketplaceOrderDto> page) {
+        for (int i = 0; i < page.size(); i += batchSize) {
+            enqueue(new ArrayList<>(page.subList(i, Math.min(i + batchSize, page.size()))));
+        }
+    }
+
+    private void enqueue(List<MarketplaceOrderDto> batch) {
+        try {
+            while (!queue.offer(batch, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (consumerStopped) {
+                    if (batch == END_OF_STREAM) {
+                        return;
+                    }
+                    throw new IllegalStateException("Order ingestion consumer stopped");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing orders", e);
+        }
+    }
+
+    /**
+     * 큐에서 배치를 꺼내 저장 (END_OF_STREAM까지)
+     * 배치 처리 실패는 해당 배치 전체 실패로 집계하고 계속 진행
+     */
+    private OrderCollectionService.CollectionResult consume() {
+        int fetched = 0, created = 0, updated = 0, skipped = 0, failed = 0;
+
+        try {
+            while (true) {
+                List<MarketplaceOrderDto> batch = queue.take();
+                if (batch == END_OF_STREAM) {
+                    break;
+                }
+
+                fetched += batch.size();
+                try {
+                    OrderCollectionService.CollectionResult batchResult = batchProcessor.apply(batch);
+                    created += batchResult.getCreated();
+                    updated += batchResult.getUpdated();
+                    skipped += batchResult.getSkipped();
+                    failed += batchResult.getFailed();
+                } catch (Exception e) {
+                    log.error("[OrderIngestion] Batch processing failed ({} orders): {}", batch.size(), e.getMessage(), e);
+                    failed += batch.size(); // 배치 전체 실패 처리
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while persisting orders", e);
+        } finally {
+            consumerStopped = true;
+            queue.clear();
+        }
+
+        return OrderCollectionService.CollectionResult.builder()
+                .totalFetched(fetched)
+                .created(created)
+                .updated(updated)
+                .skipped(skipped)
+                .failed(failed)
+                .build();
+    }
+}
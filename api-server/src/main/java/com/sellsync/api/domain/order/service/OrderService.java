@@ -7,6 +7,7 @@ import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.order.enums.OrderStatus;
 import com.sellsync.api.domain.order.enums.SettlementCollectionStatus;
 import com.sellsync.api.domain.order.exception.OrderNotFoundException;
+import com.sellsync.api.domain.order.repository.OrderRawPayloadRepository;
 import com.sellsync.api.domain.order.repository.OrderRepository;
 import com.sellsync.api.domain.settlement.entity.SettlementOrder;
 import com.sellsync.api.domain.settlement.entity.SettlementOrderItem;
@@ -41,7 +42,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderService {
 
+    /** 목록 조회 시작일 미지정 시 기본 조회 기간 (결제일 기준, 종료일부터 역산) */
+    private static final int DEFAULT_LIST_PERIOD_MONTHS = 3;
+
     private final OrderRepository orderRepository;
+    private final OrderRawPayloadRepository rawPayloadRepository;
     private final com.sellsync.api.domain.mapping.repository.ProductMappingRepository productMappingRepository;
     private final SettlementOrderRepository settlementOrderRepository;
     private final com.sellsync.api.domain.posting.repository.PostingRepository postingRepository;
@@ -72,6 +77,7 @@ public class OrderService {
             .orElseGet(() -> {
                 // 3. 신규 주문 생성
                 Order saved = orderRepository.save(order);
+                archiveRawPayloads(saved);
                 log.info("[신규 생성] orderId={}, marketplace={}, marketplaceOrderId={}, status={}", 
                     saved.getOrderId(), saved.getMarketplace(), saved.getMarketplaceOrderId(), saved.getOrderStatus());
                 return OrderResponse.from(saved);
@@ -94,6 +100,20 @@ public class OrderService {
         }
     }
 
+    /**
+     * 신규 주문/상품 원본 payload 압축 보관 (order_raw_payloads)
+     */
+    private void archiveRawPayloads(Order order) {
+        List<OrderRawPayloadRepository.PayloadEntry> payloads = new ArrayList<>();
+        payloads.add(new OrderRawPayloadRepository.PayloadEntry(
+                order.getOrderId(), OrderRawPayloadRepository.ORDER_LEVEL, order.getRawPayload()));
+        for (var item : order.getItems()) {
+            payloads.add(new OrderRawPayloadRepository.PayloadEntry(
+                    order.getOrderId(), item.getMarketplaceItemId(), item.getRawPayload()));
+        }
+        rawPayloadRepository.saveAll(payloads);
+    }
+
     /**
      * 기존 주문 업데이트 (최신 데이터 반영)
      */
@@ -197,11 +217,16 @@ public class OrderService {
     }
 
     /**
-     * 마켓플레이스별 주문 목록 조회 (결재일 최근순)
+     * 마켓플레이스별 주문 목록 조회 (결재일 범위, 결재일 최근순)
+     *
+     * @param from 시작 날짜 (결제일 기준, 포함)
+     * @param to 종료 날짜 (결제일 기준, 포함)
      */
     @Transactional(readOnly = true)
-    public Page<OrderListResponse> findByMarketplace(UUID tenantId, Marketplace marketplace, Pageable pageable) {
-        return orderRepository.findByTenantIdAndMarketplaceOrderByPaidAtDesc(tenantId, marketplace, pageable)
+    public Page<OrderListResponse> findByMarketplace(UUID tenantId, Marketplace marketplace,
+                                                     LocalDate from, LocalDate to, Pageable pageable) {
+        return orderRepository.findByTenantIdAndMarketplaceOrderByPaidAtDesc(
+                        tenantId, marketplace, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), pageable)
                 .map(OrderListResponse::from);
     }
 
@@ -225,7 +250,7 @@ public class OrderService {
      * @param storeId 스토어 ID (선택)
      * @param settlementStatus 정산 수집 상태 (선택)
      * @param search 검색 키워드 - 주문번호, 고객명, 상품명 (선택)
-     * @param from 시작 날짜 (yyyy-MM-dd, 결제일 기준) (선택)
+     * @param from 시작 날짜 (yyyy-MM-dd, 결제일 기준) (선택, 미지정 시 종료일 기준 3개월 전)
      * @param to 종료 날짜 (yyyy-MM-dd, 결제일 기준) (선택)
      * @param pageable 페이지 정보
      * @return 주문 목록 페이지
@@ -270,6 +295,11 @@ public class OrderService {
             }
         }
 
+        // 결제일 하한 필수 (paid_at 인덱스 범위 스캔, 테넌트 전체 이력 정렬 방지)
+        if (fromDate == null) {
+            fromDate = (toDate != null ? toDate : LocalDate.now()).minusMonths(DEFAULT_LIST_PERIOD_MONTHS);
+        }
+
         // Specification을 사용한 동적 쿼리 생성
         Specification<Order> spec = createOrderSpecification(
             tenantId, status, marketplace, storeId, settlementStatus, search, fromDate, toDate
@@ -0,0 +1,125 @@
+package com.sellsync.api.domain.order.service;
+
+import com.sellsync.api.domain.order.entity.OrderCollectionHistory;
+import com.sellsync.api.domain.order.repository.OrderCollectionHistoryRepository;
+import com.sellsync.api.domain.store.entity.Store;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 주문 수집 커서 서비스
+ *
+ * 스토어별 수집 모드와 수집 구간을 결정합니다.
+ * - INCREMENTAL: stores.last_synced_at(커서) - 겹침 구간 이후 변경된 주문만 조회
+ * - FULL: 오늘 포함 최근 7일 전체 재조회 (누락 보정)
+ *
+ * FULL 수집 조건:
+ * - 커서 없음 (최초 수집)
+ * - 마켓플레이스가 변경 주문 조회를 지원하지 않음
+ * - 커서가 전체 수집 범위(7일)보다 오래됨
+ * - 마지막 FULL 수집 후 보정 주기(full-reconcile-interval-hours) 경과
+ */
+@Service
+@Slf4j
+public class OrderSyncCursorService {
+
+    public static final String MODE_FULL = "FULL";
+    public static final String MODE_INCREMENTAL = "INCREMENTAL";
+
+    private static final int COLLECTION_DAYS = 7;  // FULL 수집 범위 (일) - 오늘 포함 최근 7일
+    private static final List<String> COMPLETED_STATUSES = List.of("SUCCESS", "PARTIAL");
+
+    private final OrderCollectionService orderCollectionService;
+    private final OrderCollectionHistoryRepository historyRepository;
+    private final long fullReconcileIntervalHours;
+    private final long incrementalOverlapMinutes;
+
+    public OrderSyncCursorService(
+            OrderCollectionService orderCollectionService,
+            OrderCollectionHistoryRepository historyRepository,
+            @Value("${scheduling.order-collection.full-reconcile-interval-hours:24}") long fullReconcileIntervalHours,
+            @Value("${scheduling.order-collection.incremental-overlap-minutes:10}") long incrementalOverlapMinutes) {
+        this.orderCollectionService = orderCollectionService;
+        this.historyRepository = historyRepository;
+        this.fullReconcileIntervalHours = fullReconcileIntervalHours;
+        this.incrementalOverlapMinutes = incrementalOverlapMinutes;
+    }
+
+    @Data
+    @Builder
+    public static class SyncWindow {
+        private String mode;             // FULL, INCREMENTAL
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private LocalDateTime cursor;    // 수집 성공 시 stores.last_synced_at에 저장할 값
+
+        public boolean isIncremental() {
+            return MODE_INCREMENTAL.equals(mode);
+        }
+    }
+
+    /**
+     * 스토어의 다음 수집 구간 결정
+     *
+     * @param store 수집 대상 스토어
+     * @param now 수집 시작 시각 (다음 커서 값)
+     */
+    public SyncWindow resolveWindow(Store store, LocalDateTime now) {
+        String reason = fullCollectionReason(store, now);
+        if (reason != null) {
+            LocalDate today = now.toLocalDate();
+            log.info("[OrderSyncCursor] Store {} - FULL collection ({})", store.getStoreId(), reason);
+            return SyncWindow.builder()
+                    .mode(MODE_FULL)
+                    .from(today.minusDays(COLLECTION_DAYS - 1).atStartOfDay())  // 오늘 포함 7일이므로 -6일
+                    .to(today.atTime(LocalTime.MAX))
+                    .cursor(now)
+                    .build();
+        }
+
+        LocalDateTime from = store.getLastSyncedAt().minusMinutes(incrementalOverlapMinutes);
+        log.debug("[OrderSyncCursor] Store {} - INCREMENTAL collection: {} ~ {}", store.getStoreId(), from, now);
+        return SyncWindow.builder()
+                .mode(MODE_INCREMENTAL)
+                .from(from)
+                .to(now)
+                .cursor(now)
+                .build();
+    }
+
+    /**
+     * FULL 수집이 필요한 사유 (null이면 증분 수집 가능)
+     */
+    private String fullCollectionReason(Store store, LocalDateTime now) {
+        LocalDateTime cursor = store.getLastSyncedAt();
+        if (cursor == null) {
+            return "no cursor";
+        }
+        if (!orderCollectionService.supportsIncrementalFetch(store.getMarketplace())) {
+            return "incremental fetch not supported";
+        }
+        // 기존 커서(오늘 23:59:59)처럼 미래 시각이면 신뢰할 수 없으므로 전체 수집으로 재설정
+        if (cursor.isAfter(now)) {
+            return "cursor ahead of now";
+        }
+        if (cursor.isBefore(now.minusDays(COLLECTION_DAYS))) {
+            return "cursor expired";
+        }
+
+        OrderCollectionHistory lastFull = historyRepository
+                .findFirstByStoreIdAndCollectionModeAndStatusInOrderByStartedAtDesc(
+                        store.getStoreId(), MODE_FULL, COMPLETED_STATUSES);
+        if (lastFull == null || lastFull.getStartedAt().isBefore(now.minusHours(fullReconcileIntervalHours))) {
+            return "reconcile interval elapsed";
+        }
+        return null;
+    }
+}
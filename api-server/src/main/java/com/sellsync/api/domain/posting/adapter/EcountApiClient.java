@@ -2,16 +2,19 @@ package com.sellsync.api.domain.posting.adapter;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sellsync.api.domain.posting.entity.Posting;
 import com.sellsync.api.domain.posting.exception.ErpApiException;
 import com.sellsync.infra.erp.ecount.auth.EcountSessionService;
 import com.sellsync.infra.erp.ecount.dto.EcountCredentials;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -29,10 +32,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EcountApiClient implements ErpApiClient {
 
+    private static final int RESPONSE_LOG_MAX_LENGTH = 2000;    // 응답 로그 최대 길이 (다건 응답은 라인 수만큼 커짐)
+
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
     private final EcountSessionService sessionService;
 
+    @Value("${ecount.api.sale-max-lines:300}")
+    private int saleMaxLines;                   // SaveSale 1회 요청 최대 라인(BulkDatas) 수
+
     @Override
     public String getErpCode() {
         return "ECOUNT";
@@ -74,61 +81,269 @@ public class EcountApiClient implements ErpApiClient {
         }
     }
 
+    /**
+     * 전표 일괄 전송 (SaveSale 다건 요청)
+     * 
+     * - 전표들의 SaleList를 이어 붙여 요청당 최대 saleMaxLines 라인까지 한 번에 전송
+     * - 요청 내에서 전표별 UPLOAD_SER_NO를 1부터 다시 부여 (전표 구분 키, 요청 단위로만 유효)
+     * - 응답 ResultDetails(라인 또는 전표묶음 단위)를 전표별로 나눠 성공/실패 판정
+     * - SlipNos는 성공한 전표묶음 순서대로 배정
+     */
+    @Override
+    public List<ErpDocumentResult> postDocuments(List<Posting> postings, String credentials) {
+        log.info("[이카운트 전표 일괄 전송] count={}, maxLines={}", postings.size(), saleMaxLines);
+
+        List<ErpDocumentResult> results = new ArrayList<>(postings.size());
+        List<SaleDocument> chunk = new ArrayList<>();
+        int chunkLines = 0;
+
+        for (Posting posting : postings) {
+            SaleDocument document;
+            try {
+                document = toSaleDocument(posting);
+            } catch (ErpApiException e) {
+                log.warn("[이카운트 전표 데이터 오류] postingId={}, error={}", posting.getPostingId(), e.getMessage());
+                results.add(ErpDocumentResult.failure(posting.getPostingId(), e, posting.getRequestPayload()));
+                continue;
+            }
+
+            if (!chunk.isEmpty() && chunkLines + document.lines().size() > saleMaxLines) {
+                results.addAll(sendSaleDocuments(chunk, credentials));
+                chunk = new ArrayList<>();
+                chunkLines = 0;
+            }
+            chunk.add(document);
+            chunkLines += document.lines().size();
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(sendSaleDocuments(chunk, credentials));
+        }
+
+        log.info("[이카운트 전표 일괄 전송 완료] count={}, success={}", 
+            results.size(), results.stream().filter(ErpDocumentResult::success).count());
+        return results;
+    }
+
+    /**
+     * 전표 1건의 SaleList 라인 (UPLOAD_SER_NO 재부여를 위해 복사본 사용)
+     */
+    private record SaleDocument(Posting posting, List<ObjectNode> lines) {
+    }
+
+    private SaleDocument toSaleDocument(Posting posting) {
+        String requestPayload = posting.getRequestPayload();
+        if (requestPayload == null || requestPayload.trim().isEmpty()) {
+            throw new ErpApiException("ECOUNT", "INVALID_PAYLOAD", 
+                "전표 데이터(requestPayload)가 없습니다", null, false);
+        }
+
+        JsonNode saleList;
+        try {
+            saleList = objectMapper.readTree(requestPayload).path("SaleList");
+        } catch (Exception e) {
+            throw new ErpApiException("ECOUNT", "INVALID_PAYLOAD", 
+                "전표 데이터(requestPayload) 파싱 실패: " + e.getMessage(), null, false);
+        }
+        if (!saleList.isArray() || saleList.isEmpty()) {
+            throw new ErpApiException("ECOUNT", "INVALID_PAYLOAD", 
+                "전표 데이터에 SaleList가 없습니다", null, false);
+        }
+
+        List<ObjectNode> lines = new ArrayList<>(saleList.size());
+        for (JsonNode line : saleList) {
+            lines.add((ObjectNode) line.deepCopy());
+        }
+        return new SaleDocument(posting, lines);
+    }
+
+    /**
+     * 전표 묶음 1회 전송 후 전표별 결과 분배
+     */
+    private List<ErpDocumentResult> sendSaleDocuments(List<SaleDocument> documents, String credentials) {
+        UUID tenantId = documents.get(0).posting().getTenantId();
+
+        // 1. 요청 내 전표 구분 키 재부여 + SaleList 병합
+        ArrayNode saleList = objectMapper.createArrayNode();
+        List<String> documentPayloads = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            ArrayNode documentLines = objectMapper.createArrayNode();
+            for (ObjectNode line : documents.get(i).lines()) {
+                JsonNode bulkData = line.path("BulkDatas");
+                if (bulkData.isObject()) {
+                    ((ObjectNode) bulkData).put("UPLOAD_SER_NO", i + 1);
+                }
+                saleList.add(line);
+                documentLines.add(line);
+            }
+            documentPayloads.add(toSaleListJson(documentLines));
+        }
+
+        log.info("[이카운트 SaveSale 다건 요청] tenantId={}, documents={}, lines={}", 
+            tenantId, documents.size(), saleList.size());
+
+        // 2. API 호출
+        JsonNode root;
+        try {
+            root = callSaveSale(tenantId, credentials, toSaleListJson(saleList));
+        } catch (ErpApiException e) {
+            return failAll(documents, documentPayloads, e.getErrorCode(), e.getMessage(), null);
+        }
+
+        // 3. 요청 실패 (Status != 200) - 라인별 결과가 있어도 전표 단위 성공 여부를 확정할 수 없으므로 전체 실패
+        JsonNode data = root.path("Data");
+        JsonNode details = data.path("ResultDetails");
+        if (!"200".equals(root.path("Status").asText("200"))) {
+            String errorMsg = extractErrorMessage(root);
+            if (data.path("SuccessCnt").asInt(0) > 0) {
+                // 일부는 ERP에 등록되었을 수 있으므로 재처리 전 ERP 확인 필요
+                errorMsg = String.format("일괄 전송 실패 응답에 성공 건 포함 (Status=%s, SuccessCnt=%d): %s",
+                    root.path("Status").asText(), data.path("SuccessCnt").asInt(0), errorMsg);
+                log.error("[이카운트 전표 일괄 결과 대응 불가] tenantId={}, {}", tenantId, errorMsg);
+                return failAll(documents, documentPayloads, "AMBIGUOUS_RESULT", errorMsg, root.toString());
+            }
+            log.error("[이카운트 전표 일괄 등록 실패] tenantId={}, error={}", tenantId, errorMsg);
+            return failAll(documents, documentPayloads, extractErrorCode(root), errorMsg, root.toString());
+        }
+
+        // 4. 전표별 결과 대응
+        int lineCount = saleList.size();
+        boolean perLine = details.isArray() && details.size() == lineCount;
+        boolean perDocument = !perLine && details.isArray() && details.size() == documents.size();
+        int failCnt = data.path("FailCnt").asInt(0);
+
+        if (!perLine && !perDocument && failCnt > 0) {
+            // 결과를 전표에 대응시킬 수 없음 - 일부는 ERP에 등록되었을 수 있으므로 재처리 전 ERP 확인 필요
+            String errorMsg = String.format("일괄 전송 결과 대응 불가 (SuccessCnt=%d, FailCnt=%d): %s",
+                data.path("SuccessCnt").asInt(0), failCnt, extractErrorMessage(root));
+            log.error("[이카운트 전표 일괄 결과 대응 불가] tenantId={}, {}", tenantId, errorMsg);
+            return failAll(documents, documentPayloads, "AMBIGUOUS_RESULT", errorMsg, root.toString());
+        }
+
+        List<ArrayNode> documentDetailsList = new ArrayList<>(documents.size());
+        List<String> failedDetails = new ArrayList<>(documents.size());
+        int successCount = 0;
+        int lineIndex = 0;
+
+        for (int i = 0; i < documents.size(); i++) {
+            ArrayNode documentDetails = objectMapper.createArrayNode();
+            if (perLine) {
+                for (int k = 0; k < documents.get(i).lines().size(); k++) {
+                    documentDetails.add(details.get(lineIndex++));
+                }
+            } else if (perDocument) {
+                documentDetails.add(details.get(i));
+            }
+
+            String failedDetail = null;
+            for (JsonNode detail : documentDetails) {
+                if (!detail.path("IsSuccess").asBoolean(true)) {
+                    failedDetail = detail.path("TotalError").asText("상세 오류 정보 없음");
+                    break;
+                }
+            }
+            if (failedDetail == null) {
+                successCount++;
+            }
+            documentDetailsList.add(documentDetails);
+            failedDetails.add(failedDetail);
+        }
+
+        // 5. 전표번호는 성공 전표 순서대로 대응 - 수가 다르면 어느 전표의 번호인지 확정할 수 없음
+        JsonNode slipNos = data.path("SlipNos");
+        String slipMismatch = null;
+        if (!slipNos.isArray() || slipNos.size() != successCount) {
+            slipMismatch = String.format("전표번호 수 불일치 (성공 전표=%d, SlipNos=%d) - ERP 확인 후 재시도 필요",
+                successCount, slipNos.isArray() ? slipNos.size() : 0);
+            log.error("[이카운트 전표 일괄 결과 대응 불가] tenantId={}, {}", tenantId, slipMismatch);
+        }
+
+        // 6. 전표별 결과 분배
+        List<ErpDocumentResult> results = new ArrayList<>(documents.size());
+        int slipIndex = 0;
+
+        for (int i = 0; i < documents.size(); i++) {
+            SaleDocument document = documents.get(i);
+            String failedDetail = failedDetails.get(i);
+
+            ObjectNode documentResponse = objectMapper.createObjectNode();
+            documentResponse.set("Status", root.path("Status"));
+            documentResponse.set("ResultDetails", documentDetailsList.get(i));
+
+            if (failedDetail != null) {
+                results.add(ErpDocumentResult.failure(document.posting().getPostingId(), extractErrorCode(root), 
+                    failedDetail, documentPayloads.get(i), documentResponse.toString()));
+            } else if (slipMismatch != null) {
+                results.add(ErpDocumentResult.failure(document.posting().getPostingId(), "AMBIGUOUS_RESULT", 
+                    slipMismatch, documentPayloads.get(i), root.toString()));
+            } else {
+                String docNo = slipNos.get(slipIndex++).asText();
+                documentResponse.put("SlipNo", docNo);
+                results.add(ErpDocumentResult.success(document.posting().getPostingId(), docNo, 
+                    documentPayloads.get(i), documentResponse.toString()));
+            }
+        }
+
+        return results;
+    }
+
+    private List<ErpDocumentResult> failAll(List<SaleDocument> documents, List<String> documentPayloads,
+                                            String errorCode, String errorMessage, String responsePayload) {
+        List<ErpDocumentResult> results = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            results.add(ErpDocumentResult.failure(documents.get(i).posting().getPostingId(), 
+                errorCode, errorMessage, documentPayloads.get(i), responsePayload));
+        }
+        return results;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) + "...(truncated)" : value;
+    }
+
+    private String toSaleListJson(ArrayNode saleList) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.set("SaleList", saleList);
+        return payload.toString();
+    }
+
     /**
      * 실제 이카운트 API 호출
      */
     private String callEcountApi(UUID tenantId, String credentialsJson, String payloadJson) {
+        JsonNode root = callSaveSale(tenantId, credentialsJson, payloadJson);
+
+        if (isSuccess(root)) {
+            String docNo = extractDocumentNo(root);
+            log.info("[이카운트 전표 등록 성공] docNo={}", docNo);
+            return docNo;
+        }
+
+        String errorMsg = extractErrorMessage(root);
+        log.error("[이카운트 전표 등록 실패] error={}", errorMsg);
+        throw new ErpApiException("ECOUNT", extractErrorCode(root), errorMsg);
+    }
+
+    /**
+     * SaveSale 호출 (세션 만료 시 재발급 후 재시도 - EcountSessionService)
+     * 
+     * @return 응답 JSON (성공/실패 판정은 호출 측)
+     */
+    private JsonNode callSaveSale(UUID tenantId, String credentialsJson, String payloadJson) {
         try {
-            // 1. credentials 파싱
             EcountCredentials creds = objectMapper.readValue(credentialsJson, EcountCredentials.class);
-            
-            // 2. 세션 ID 획득
-            String sessionId = sessionService.getSessionId(tenantId, creds);
-            
-            // 3. 이카운트 API URL (SESSION_ID를 쿼리 파라미터로 전달)
-            String url = String.format("https://oapi%s.ecount.com/OAPI/V2/Sale/SaveSale?SESSION_ID=%s", 
-                    creds.getZone(), sessionId);
-            
-            log.info("[이카운트 API 호출] url={}, sessionId={}", 
-                    url.replace(sessionId, "***SESSION***"), sessionId.substring(0, 10) + "...");
-            
-            // 4. 요청 헤더 생성
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // 5. 요청 바디 생성 (JSON 문자열을 그대로 사용)
+
             // payloadJson은 이미 {"SaleList": [...]} 형식의 JSON 문자열
-            HttpEntity<String> request = new HttpEntity<>(payloadJson, headers);
-            
             log.debug("[이카운트 API 요청 바디] {}", payloadJson);
-            
-            // 6. API 호출
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            
-            log.info("[이카운트 API 응답] status={}, body={}", 
-                response.getStatusCode(), response.getBody());
-            
-            // 7. 응답 파싱
-            JsonNode root = objectMapper.readTree(response.getBody());
-            
-            if (isSuccess(root)) {
-                String docNo = extractDocumentNo(root);
-                log.info("[이카운트 전표 등록 성공] docNo={}", docNo);
-                return docNo;
-            } else {
-                String errorMsg = extractErrorMessage(root);
-                log.error("[이카운트 전표 등록 실패] error={}", errorMsg);
-                
-                // 세션 만료 시 재시도
-                if (isSessionExpired(root)) {
-                    sessionService.invalidateSession(tenantId);
-                    log.info("[세션 만료 - 재시도]");
-                    return callEcountApi(tenantId, credentialsJson, payloadJson);
-                }
-                
-                throw new ErpApiException("ECOUNT", extractErrorCode(root), errorMsg);
+
+            JsonNode root = sessionService.call(tenantId, creds, "Sale/SaveSale", payloadJson);
+
+            if (log.isDebugEnabled()) {
+                log.debug("[이카운트 API 응답] body={}", truncate(root.toString(), RESPONSE_LOG_MAX_LENGTH));
             }
-            
+
+            return root;
+
         } catch (ErpApiException e) {
             throw e;
         } catch (Exception e) {
@@ -242,14 +457,6 @@ public class EcountApiClient implements ErpApiClient {
         return "UNKNOWN";
     }
     
-    /**
-     * 세션 만료 여부 확인
-     */
-    private boolean isSessionExpired(JsonNode root) {
-        String errorCode = extractErrorCode(root);
-        return "401".equals(errorCode) || "SESSION_EXPIRED".equals(errorCode);
-    }
-
     @Override
     public String getDocument(String erpDocumentNo, String credentials) {
         log.info("[Mock] 이카운트 전표 조회: erpDocNo={}", erpDocumentNo);
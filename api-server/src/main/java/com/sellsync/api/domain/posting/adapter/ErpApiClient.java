@@ -1,6 +1,10 @@
 package com.sellsync.api.domain.posting.adapter;
 
 import com.sellsync.api.domain.posting.entity.Posting;
+import com.sellsync.api.domain.posting.exception.ErpApiException;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ERP API 클라이언트 인터페이스
@@ -30,6 +34,30 @@ public interface ErpApiClient {
      */
     String postDocument(Posting posting, String credentials);
 
+    /**
+     * 전표 일괄 전송
+     *
+     * 기본 구현은 전표별 postDocument 호출이며, 다건 요청을 지원하는 ERP는 재정의합니다.
+     * 개별 전표의 실패는 예외 대신 결과로 반환합니다.
+     *
+     * @param postings 같은 테넌트의 전표 목록
+     * @param credentials ERP 인증 정보 (JSON)
+     * @return 전표별 전송 결과 (postingId로 식별, 순서 보장 안 함)
+     */
+    default List<ErpDocumentResult> postDocuments(List<Posting> postings, String credentials) {
+        List<ErpDocumentResult> results = new ArrayList<>(postings.size());
+        for (Posting posting : postings) {
+            try {
+                String erpDocumentNo = postDocument(posting, credentials);
+                results.add(ErpDocumentResult.success(
+                    posting.getPostingId(), erpDocumentNo, posting.getRequestPayload(), null));
+            } catch (ErpApiException e) {
+                results.add(ErpDocumentResult.failure(posting.getPostingId(), e, posting.getRequestPayload()));
+            }
+        }
+        return results;
+    }
+
     /**
      * 전표 조회
      * 
@@ -0,0 +1,39 @@
+package com.sellsync.api.domain.posting.adapter;
+
+import com.sellsync.api.domain.posting.exception.ErpApiException;
+
+import java.util.UUID;
+
+/**
+ * 전표 일괄 전송 시 전표별 결과
+ *
+ * @param postingId 전표 ID
+ * @param erpDocumentNo ERP 전표 번호 (성공 시)
+ * @param errorCode 오류 코드 (실패 시)
+ * @param errorMessage 오류 메시지 (실패 시)
+ * @param requestPayload 이 전표분으로 실제 전송한 데이터 (시도 이력용)
+ * @param responsePayload 이 전표분 응답 (시도 이력용)
+ */
+public record ErpDocumentResult(
+        UUID postingId,
+        boolean success,
+        String erpDocumentNo,
+        String errorCode,
+        String errorMessage,
+        String requestPayload,
+        String responsePayload) {
+
+    public static ErpDocumentResult success(UUID postingId, String erpDocumentNo,
+                                            String requestPayload, String responsePayload) {
+        return new ErpDocumentResult(postingId, true, erpDocumentNo, null, null, requestPayload, responsePayload);
+    }
+
+    public static ErpDocumentResult failure(UUID postingId, String errorCode, String errorMessage,
+                                            String requestPayload, String responsePayload) {
+        return new ErpDocumentResult(postingId, false, null, errorCode, errorMessage, requestPayload, responsePayload);
+    }
+
+    public static ErpDocumentResult failure(UUID postingId, ErpApiException e, String requestPayload) {
+        return failure(postingId, e.getErrorCode(), e.getMessage(), requestPayload, null);
+    }
+}
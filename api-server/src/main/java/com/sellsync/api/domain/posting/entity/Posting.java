@@ -116,6 +116,22 @@ public class Posting extends BaseEntity {
     @Column(name = "next_retry_at")
     private LocalDateTime nextRetryAt;
 
+    // ========== 전송 선점 (작업 큐) ==========
+    /**
+     * 선점 묶음 ID (POSTING_REQUESTED 동안만 유지, 다른 상태로 전이 시 해제)
+     */
+    @Column(name = "claim_batch_id")
+    private UUID claimBatchId;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    /**
+     * 선점 시각 (lease 기준)
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
     // ========== Relations ==========
     @OneToMany(mappedBy = "posting", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -133,12 +149,20 @@ public class Posting extends BaseEntity {
             );
         }
         this.postingStatus = newStatus;
+        // 이전 선점의 lease가 남아 있으면 재시도 전송 중 만료 처리되므로 전이마다 해제
+        clearClaim();
 
         if (newStatus == PostingStatus.POSTED) {
             this.postedAt = LocalDateTime.now();
         }
     }
 
+    private void clearClaim() {
+        this.claimBatchId = null;
+        this.claimedBy = null;
+        this.claimedAt = null;
+    }
+
     /**
      * 전송 성공 처리
      */
@@ -170,5 +194,6 @@ public class Posting extends BaseEntity {
     public void addAttempt(PostingAttempt attempt) {
         attempts.add(attempt);
         attempt.setPosting(this);
+        this.attemptCount++;
     }
 }
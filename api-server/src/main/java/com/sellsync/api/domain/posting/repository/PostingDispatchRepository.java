@@ -0,0 +1,82 @@
+package com.sellsync.api.domain.posting.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Posting 커스텀 Repository (전표 전송 작업 큐)
+ *
+ * 역할: postings 테이블을 작업 큐로 사용하는 전송 워커의 선점/해제/lease 만료 처리
+ * - 선점: READY → POSTING_REQUESTED (READY_TO_POST 경유 전이를 한 번에 반영, claim_batch_id / claimed_by / claimed_at 기록)
+ * - 여러 노드의 워커가 동시에 선점해도 FOR UPDATE SKIP LOCKED로 같은 전표를 나눠 갖지 않음
+ */
+public interface PostingDispatchRepository {
+
+    /**
+     * 전송 대기 전표가 있는 테넌트/ERP 조회 (자동 전송 설정된 활성 테넌트만)
+     *
+     * 가장 오래 대기한 전표 기준 정렬 - 워커가 이 순서로 테넌트별 1묶음씩 돌아가며 선점 (테넌트 간 공정성)
+     *
+     * @param limit 최대 조회 수
+     */
+    List<DispatchTarget> findDispatchTargets(int limit);
+
+    /**
+     * 테넌트/ERP의 READY 전표 1묶음 선점 (한 트랜잭션)
+     *
+     * - 테넌트/ERP별 advisory lock으로 선점 구간 직렬화 (노드 간 동시 전송 수 집계 정확도 보장)
+     * - 진행 중 묶음(lease 유효한 POSTING_REQUESTED) 수가 maxConcurrency 이상이면 선점하지 않음
+     *
+     * @param tenantId 테넌트 ID
+     * @param erpCode ERP 코드
+     * @param claimedBy 선점 노드 식별자
+     * @param maxConcurrency 테넌트/ERP별 최대 동시 전송 묶음 수
+     * @param batchSize 묶음당 최대 전표 수
+     * @param leaseCutoff 이 시각 이전 선점은 진행 중으로 보지 않음
+     * @return 선점한 묶음 (선점 전표가 없으면 postingIds 비어 있음)
+     */
+    ClaimedBatch claimBatch(UUID tenantId, String erpCode, String claimedBy,
+                            int maxConcurrency, int batchSize, LocalDateTime leaseCutoff);
+
+    /**
+     * 지정 전표 전송 선점 (READY/READY_TO_POST → POSTING_REQUESTED, 조건부 UPDATE 1회)
+     *
+     * - 상태 조건을 UPDATE 시점에 확인하므로 동시 호출 시 각 전표는 한 호출만 선점 (경쟁에서 진 전표는 결과에서 제외)
+     * - READY는 READY_TO_POST를 거친 것으로 처리 (READY → READY_TO_POST → POSTING_REQUESTED 모두 허용 전이)
+     * - 호출 1회를 선점 묶음 1개로 claim_batch_id / claimed_by / claimed_at 기록
+     *   (작업 큐 선점과 같이 동시 전송 수에 집계되고 lease 만료 대상)
+     *
+     * @return 선점한 전표 ID
+     */
+    List<UUID> claimForTransmission(List<UUID> postingIds);
+
+    /**
+     * 선점 해제 (워커 제출 실패 등 ERP 전송 전) - POSTING_REQUESTED → READY
+     *
+     * @return 해제 건수
+     */
+    int releaseBatch(UUID claimBatchId);
+
+    /**
+     * lease 만료 전표 FAILED 처리
+     *
+     * 전송 중 노드가 종료되어 결과를 반영하지 못한 전표 - ERP에 전표가 생성되었을 수 있으므로
+     * 자동 재전송하지 않고 확인 후 수동 재시도
+     * - 시도 이력(posting_attempts) 1건 기록 (error_code = LEASE_EXPIRED, trace_id = 선점 묶음 ID)
+     * - 선점 컬럼은 해제 (재시도 시 이전 lease로 다시 만료되지 않도록)
+     *
+     * @return 만료 처리 건수
+     */
+    int expireClaims(LocalDateTime leaseCutoff);
+
+    record DispatchTarget(UUID tenantId, String erpCode) {
+    }
+
+    record ClaimedBatch(UUID claimBatchId, List<UUID> postingIds) {
+
+        public boolean isEmpty() {
+            return postingIds.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.sellsync.api.domain.posting.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Posting 커스텀 Repository 구현 (전표 전송 작업 큐)
+ */
+@Slf4j
+@Repository
+public class PostingDispatchRepositoryImpl implements PostingDispatchRepository {
+
+    /**
+     * 전송 대기 테넌트/ERP (가장 오래 대기한 READY 전표 순)
+     */
+    private static final String FIND_TARGETS_SQL = """
+        SELECT CAST(p.tenant_id AS text), p.erp_code
+        FROM postings p
+        JOIN erp_configs c ON c.tenant_id = p.tenant_id AND c.erp_code = p.erp_code
+        JOIN tenants t ON t.tenant_id = p.tenant_id
+        WHERE p.posting_status = 'READY'
+          AND c.enabled = TRUE
+          AND c.auto_send_enabled = TRUE
+          AND t.status = 'ACTIVE'
+        GROUP BY p.tenant_id, p.erp_code
+        ORDER BY MIN(p.created_at)
+        LIMIT :limit
+        """;
+
+    /**
+     * 테넌트/ERP별 선점 구간 잠금 (트랜잭션 종료 시 자동 해제, 다른 노드가 선점 중이면 false)
+     */
+    private static final String TRY_LOCK_SQL = """
+        SELECT pg_try_advisory_xact_lock(hashtext(:lockKey))
+        """;
+
+    /**
+     * 진행 중 묶음 수 (lease 유효한 선점만)
+     */
+    private static final String COUNT_IN_FLIGHT_SQL = """
+        SELECT COUNT(DISTINCT claim_batch_id)
+        FROM postings
+        WHERE tenant_id = CAST(:tenantId AS uuid)
+          AND erp_code = :erpCode
+          AND posting_status = 'POSTING_REQUESTED'
+          AND claim_batch_id IS NOT NULL
+          AND claimed_at >= :leaseCutoff
+        """;
+
+    /**
+     * READY 전표 선점 대상 잠금 (다른 트랜잭션이 잠근 행은 건너뜀)
+     */
+    private static final String LOCK_READY_SQL = """
+        SELECT CAST(posting_id AS text)
+        FROM postings
+        WHERE tenant_id = CAST(:tenantId AS uuid)
+          AND erp_code = :erpCode
+          AND posting_status = 'READY'
+        ORDER BY created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    /**
+     * 잠근 READY 전표 선점 (READY → READY_TO_POST → POSTING_REQUESTED를 한 번에 반영)
+     * - 두 전이 모두 PostingStatus.canTransitionTo 허용 전이이며, 중간 상태는 같은 트랜잭션 안에서만 존재하므로 기록하지 않음
+     * - 상태 조건으로 READY 외 전표는 전이하지 않음 (잠금 이후 상태가 바뀐 경우 방어)
+     */
+    private static final String CLAIM_SQL = """
+        UPDATE postings
+        SET posting_status = 'POSTING_REQUESTED',
+            claim_batch_id = CAST(:claimBatchId AS uuid),
+            claimed_by = :claimedBy,
+            claimed_at = NOW(),
+            updated_at = NOW()
+        WHERE posting_id = ANY(CAST(:postingIds AS uuid[]))
+          AND posting_status = 'READY'
+        RETURNING CAST(posting_id AS text)
+        """;
+
+    /**
+     * 지정 전표 선점 (전송 가능 상태인 행만, 동시 실행 시 먼저 갱신한 트랜잭션만 반영)
+     * - 호출 1회를 선점 묶음 1개로 기록 (동시 전송 수 집계 및 lease 만료 대상)
+     */
+    private static final String CLAIM_BY_IDS_SQL = """
+        UPDATE postings
+        SET posting_status = 'POSTING_REQUESTED',
+            claim_batch_id = CAST(:claimBatchId AS uuid),
+            claimed_by = :claimedBy,
+            claimed_at = NOW(),
+            updated_at = NOW()
+        WHERE posting_id = ANY(CAST(:postingIds AS uuid[]))
+          AND posting_status IN ('READY', 'READY_TO_POST')
+        RETURNING CAST(posting_id AS text)
+        """;
+
+    /**
+     * 선점 취소 (ERP 전송 전이므로 상태 전이가 아닌 선점 이전 상태 복원)
+     */
+    private static final String RELEASE_SQL = """
+        UPDATE postings
+        SET posting_status = 'READY',
+            claim_batch_id = NULL,
+            claimed_by = NULL,
+            claimed_at = NULL,
+            updated_at = NOW()
+        WHERE claim_batch_id = CAST(:claimBatchId AS uuid)
+          AND posting_status = 'POSTING_REQUESTED'
+        """;
+
+    /**
+     * lease 만료 전표 FAILED 처리 + 시도 이력 기록 (POSTING_REQUESTED → FAILED, 1회 시도로 집계)
+     * RETURNING attempt_count = 증가 후 값 (시도 이력 attempt_number), trace_id = 선점 묶음 ID
+     */
+    private static final String EXPIRE_SQL = """
+        WITH expired AS (
+            UPDATE postings p
+            SET posting_status = 'FAILED',
+                error_message = :errorMessage,
+                attempt_count = p.attempt_count + 1,
+                claim_batch_id = NULL,
+                claimed_by = NULL,
+                claimed_at = NULL,
+                updated_at = NOW()
+            FROM (
+                SELECT posting_id, claim_batch_id
+                FROM postings
+                WHERE posting_status = 'POSTING_REQUESTED'
+                  AND claim_batch_id IS NOT NULL
+                  AND claimed_at < :leaseCutoff
+                FOR UPDATE
+            ) c
+            WHERE p.posting_id = c.posting_id
+              AND p.posting_status = 'POSTING_REQUESTED'
+            RETURNING p.posting_id, p.attempt_count, c.claim_batch_id
+        )
+        INSERT INTO posting_attempts (
+            attempt_id, posting_id, attempt_number, status,
+            error_code, error_message, trace_id, attempted_at
+        )
+        SELECT gen_random_uuid(), e.posting_id, e.attempt_count, 'FAILED',
+               'LEASE_EXPIRED', :errorMessage, CAST(e.claim_batch_id AS text), NOW()
+        FROM expired e
+        """;
+
+    private static final String LEASE_EXPIRED_MESSAGE = "전송 결과 미확인 (선점 lease 만료) - ERP 전표 확인 후 재시도 필요";
+
+    /**
+     * 지정 전표 선점 노드 식별자 (claimed_by VARCHAR(100))
+     */
+    private static final String DIRECT_CLAIMED_BY = resolveHostName() + "-direct";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<DispatchTarget> findDispatchTargets(int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(FIND_TARGETS_SQL)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new DispatchTarget(UUID.fromString((String) row[0]), (String) row[1]))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public ClaimedBatch claimBatch(UUID tenantId, String erpCode, String claimedBy,
+                                   int maxConcurrency, int batchSize, LocalDateTime leaseCutoff) {
+        UUID claimBatchId = UUID.randomUUID();
+
+        Boolean locked = (Boolean) entityManager.createNativeQuery(TRY_LOCK_SQL)
+                .setParameter("lockKey", "posting-dispatch:" + tenantId + ":" + erpCode)
+                .getSingleResult();
+        if (!Boolean.TRUE.equals(locked)) {
+            return new ClaimedBatch(claimBatchId, List.of());
+        }
+
+        long inFlight = ((Number) entityManager.createNativeQuery(COUNT_IN_FLIGHT_SQL)
+                .setParameter("tenantId", tenantId.toString())
+                .setParameter("erpCode", erpCode)
+                .setParameter("leaseCutoff", leaseCutoff)
+                .getSingleResult()).longValue();
+        if (inFlight >= maxConcurrency) {
+            log.debug("[전송 선점 보류 - 동시 전송 한도] tenantId={}, erpCode={}, inFlight={}",
+                    tenantId, erpCode, inFlight);
+            return new ClaimedBatch(claimBatchId, List.of());
+        }
+
+        List<String> ids = entityManager.createNativeQuery(LOCK_READY_SQL)
+                .setParameter("tenantId", tenantId.toString())
+                .setParameter("erpCode", erpCode)
+                .setParameter("limit", batchSize)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return new ClaimedBatch(claimBatchId, List.of());
+        }
+
+        List<String> claimed = entityManager.createNativeQuery(CLAIM_SQL)
+                .setParameter("claimBatchId", claimBatchId.toString())
+                .setParameter("claimedBy", claimedBy)
+                .setParameter("postingIds", ids.toArray(String[]::new))
+                .getResultList();
+
+        log.info("[전송 선점] tenantId={}, erpCode={}, claimBatchId={}, count={}, inFlight={}",
+                tenantId, erpCode, claimBatchId, claimed.size(), inFlight + 1);
+        return new ClaimedBatch(claimBatchId, claimed.stream().map(UUID::fromString).toList());
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimForTransmission(List<UUID> postingIds) {
+        if (postingIds.isEmpty()) {
+            return List.of();
+        }
+        UUID claimBatchId = UUID.randomUUID();
+        List<String> ids = entityManager.createNativeQuery(CLAIM_BY_IDS_SQL)
+                .setParameter("claimBatchId", claimBatchId.toString())
+                .setParameter("claimedBy", DIRECT_CLAIMED_BY)
+                .setParameter("postingIds", postingIds.stream().map(UUID::toString).toArray(String[]::new))
+                .getResultList();
+        return ids.stream().map(UUID::fromString).toList();
+    }
+
+    @Override
+    @Transactional
+    public int releaseBatch(UUID claimBatchId) {
+        return entityManager.createNativeQuery(RELEASE_SQL)
+                .setParameter("claimBatchId", claimBatchId.toString())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int expireClaims(LocalDateTime leaseCutoff) {
+        return entityManager.createNativeQuery(EXPIRE_SQL)
+                .setParameter("errorMessage", LEASE_EXPIRED_MESSAGE)
+                .setParameter("leaseCutoff", leaseCutoff)
+                .executeUpdate();
+    }
+
+    private static String resolveHostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -20,7 +20,8 @@ import java.util.UUID;
  * Posting Repository
  */
 @Repository
-public interface PostingRepository extends JpaRepository<Posting, UUID> {
+public interface PostingRepository extends JpaRepository<Posting, UUID>, PostingDispatchRepository,
+        PostingTransitionRepository {
 
     /**
      * 멱등성 키로 전표 조회 (ADR-0001)
@@ -34,6 +35,18 @@ public interface PostingRepository extends JpaRepository<Posting, UUID> {
         PostingType postingType
     );
 
+    /**
+     * 멱등성 키 일괄 조회 (일괄 전표 생성 시 기존 전표 사전 확인용)
+     * uk_postings_idempotency 인덱스 사용
+     */
+    List<Posting> findByTenantIdAndErpCodeAndMarketplaceAndMarketplaceOrderIdInAndPostingType(
+        UUID tenantId,
+        String erpCode,
+        Marketplace marketplace,
+        List<String> marketplaceOrderIds,
+        PostingType postingType
+    );
+
     /**
      * 테넌트 + 주문 ID로 전표 목록 조회
      */
@@ -0,0 +1,66 @@
+package com.sellsync.api.domain.posting.repository;
+
+import com.sellsync.api.domain.posting.enums.PostingStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Posting 커스텀 Repository (상태 전이 일괄 반영)
+ *
+ * 역할: 여러 전표의 상태 전이와 시도 이력을 엔티티 로딩 없이 SQL 일괄 처리
+ * - 전이 가드(PostingStatus.canTransitionTo) 검증은 호출 측(PostingService) 책임
+ * - 현재 상태가 expectedStatus인 전표만 전이 (이미 다른 경로에서 전이된 전표는 건너뜀)
+ */
+public interface PostingTransitionRepository {
+
+    /**
+     * 상태 전이 일괄 적용 (UPDATE 1회 + 시도 이력 INSERT 1회, 한 트랜잭션)
+     *
+     * - POSTED: erp_document_no / response_payload / posted_at 기록, error_message 초기화
+     * - FAILED: error_message 기록
+     * - attempt가 있는 전이는 attempt_count 증가 후 그 값을 attempt_number로 이력 저장
+     *
+     * @param transitions 전표별 전이 (같은 postingId 중복 불가)
+     * @return 실제 전이된 전표 ID (expectedStatus 불일치/전표 없음 제외)
+     */
+    List<UUID> applyTransitions(List<StatusTransition> transitions);
+
+    /**
+     * 전표 1건의 상태 전이
+     *
+     * @param attempt 함께 기록할 시도 이력 (없으면 null)
+     */
+    record StatusTransition(UUID postingId,
+                            PostingStatus expectedStatus,
+                            PostingStatus targetStatus,
+                            String erpDocumentNo,
+                            String responsePayload,
+                            String errorMessage,
+                            AttemptRecord attempt) {
+
+        public static StatusTransition posted(UUID postingId, String erpDocumentNo, String responsePayload,
+                                              AttemptRecord attempt) {
+            return new StatusTransition(postingId, PostingStatus.POSTING_REQUESTED, PostingStatus.POSTED,
+                    erpDocumentNo, responsePayload, null, attempt);
+        }
+
+        public static StatusTransition failed(UUID postingId, String errorMessage, AttemptRecord attempt) {
+            return new StatusTransition(postingId, PostingStatus.POSTING_REQUESTED, PostingStatus.FAILED,
+                    null, null, errorMessage, attempt);
+        }
+    }
+
+    /**
+     * 시도 이력 (attempt_number는 반영 시점 attempt_count 기준으로 부여)
+     */
+    record AttemptRecord(String status,
+                         String requestPayload,
+                         String responsePayload,
+                         String errorCode,
+                         String errorMessage,
+                         String traceId,
+                         UUID jobId,
+                         Long executionTimeMs) {
+    }
+}
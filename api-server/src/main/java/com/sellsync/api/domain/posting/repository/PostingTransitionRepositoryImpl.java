@@ -0,0 +1,140 @@
+package com.sellsync.api.domain.posting.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Posting 커스텀 Repository 구현 (상태 전이 일괄 반영)
+ */
+@Slf4j
+@Repository
+public class PostingTransitionRepositoryImpl implements PostingTransitionRepository {
+
+    /**
+     * (posting_id, expected_status) 조건 일괄 전이
+     * RETURNING attempt_count = 증가 후 값 (시도 이력 attempt_number)
+     * - 모든 전이는 POSTING_REQUESTED에서 나가거나 재시도(FAILED → POSTING_REQUESTED)이므로 선점 컬럼 해제
+     */
+    private static final String TRANSITION_SQL = """
+        UPDATE postings p
+        SET posting_status = t.target_status,
+            erp_document_no = CASE WHEN t.target_status = 'POSTED' THEN t.erp_document_no ELSE p.erp_document_no END,
+            response_payload = CASE WHEN t.target_status = 'POSTED' THEN CAST(t.response_payload AS jsonb)
+                                    ELSE p.response_payload END,
+            error_message = CASE WHEN t.target_status = 'POSTED' THEN NULL
+                                 WHEN t.target_status = 'FAILED' THEN t.error_message
+                                 ELSE p.error_message END,
+            posted_at = CASE WHEN t.target_status = 'POSTED' THEN NOW() ELSE p.posted_at END,
+            attempt_count = p.attempt_count + t.attempt_increment,
+            claim_batch_id = NULL,
+            claimed_by = NULL,
+            claimed_at = NULL,
+            updated_at = NOW()
+        FROM unnest(
+                CAST(:postingIds AS uuid[]),
+                CAST(:expectedStatuses AS text[]),
+                CAST(:targetStatuses AS text[]),
+                CAST(:erpDocumentNos AS text[]),
+                CAST(:responsePayloads AS text[]),
+                CAST(:errorMessages AS text[]),
+                CAST(:attemptIncrements AS int[])
+             ) AS t(posting_id, expected_status, target_status, erp_document_no,
+                    response_payload, error_message, attempt_increment)
+        WHERE p.posting_id = t.posting_id
+          AND p.posting_status = t.expected_status
+        RETURNING CAST(p.posting_id AS text), p.attempt_count
+        """;
+
+    private static final String INSERT_ATTEMPTS_SQL = """
+        INSERT INTO posting_attempts (
+            attempt_id, posting_id, attempt_number, status,
+            request_payload, response_payload, error_code, error_message,
+            trace_id, job_id, execution_time_ms, attempted_at
+        )
+        SELECT gen_random_uuid(), a.posting_id, a.attempt_number, a.status,
+               CAST(a.request_payload AS jsonb), CAST(a.response_payload AS jsonb), a.error_code, a.error_message,
+               a.trace_id, a.job_id, a.execution_time_ms, NOW()
+        FROM unnest(
+                CAST(:postingIds AS uuid[]),
+                CAST(:attemptNumbers AS int[]),
+                CAST(:statuses AS text[]),
+                CAST(:requestPayloads AS text[]),
+                CAST(:responsePayloads AS text[]),
+                CAST(:errorCodes AS text[]),
+                CAST(:errorMessages AS text[]),
+                CAST(:traceIds AS text[]),
+                CAST(:jobIds AS uuid[]),
+                CAST(:executionTimeMs AS bigint[])
+             ) AS a(posting_id, attempt_number, status, request_payload, response_payload,
+                    error_code, error_message, trace_id, job_id, execution_time_ms)
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<UUID> applyTransitions(List<StatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = entityManager.createNativeQuery(TRANSITION_SQL)
+                .setParameter("postingIds", map(transitions, t -> t.postingId().toString(), String[]::new))
+                .setParameter("expectedStatuses", map(transitions, t -> t.expectedStatus().name(), String[]::new))
+                .setParameter("targetStatuses", map(transitions, t -> t.targetStatus().name(), String[]::new))
+                .setParameter("erpDocumentNos", map(transitions, StatusTransition::erpDocumentNo, String[]::new))
+                .setParameter("responsePayloads", map(transitions, StatusTransition::responsePayload, String[]::new))
+                .setParameter("errorMessages", map(transitions, StatusTransition::errorMessage, String[]::new))
+                .setParameter("attemptIncrements", map(transitions, t -> t.attempt() != null ? 1 : 0, Integer[]::new))
+                .getResultList();
+
+        Map<UUID, Integer> attemptNumbers = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            attemptNumbers.put(UUID.fromString((String) row[0]), ((Number) row[1]).intValue());
+        }
+
+        // 전이된 전표의 시도 이력만 저장
+        List<StatusTransition> attempted = new ArrayList<>();
+        for (StatusTransition transition : transitions) {
+            if (transition.attempt() != null && attemptNumbers.containsKey(transition.postingId())) {
+                attempted.add(transition);
+            }
+        }
+        if (!attempted.isEmpty()) {
+            entityManager.createNativeQuery(INSERT_ATTEMPTS_SQL)
+                    .setParameter("postingIds", map(attempted, t -> t.postingId().toString(), String[]::new))
+                    .setParameter("attemptNumbers", map(attempted, t -> attemptNumbers.get(t.postingId()), Integer[]::new))
+                    .setParameter("statuses", map(attempted, t -> t.attempt().status(), String[]::new))
+                    .setParameter("requestPayloads", map(attempted, t -> t.attempt().requestPayload(), String[]::new))
+                    .setParameter("responsePayloads", map(attempted, t -> t.attempt().responsePayload(), String[]::new))
+                    .setParameter("errorCodes", map(attempted, t -> t.attempt().errorCode(), String[]::new))
+                    .setParameter("errorMessages", map(attempted, t -> t.attempt().errorMessage(), String[]::new))
+                    .setParameter("traceIds", map(attempted, t -> t.attempt().traceId(), String[]::new))
+                    .setParameter("jobIds", map(attempted,
+                            t -> t.attempt().jobId() != null ? t.attempt().jobId().toString() : null, String[]::new))
+                    .setParameter("executionTimeMs", map(attempted, t -> t.attempt().executionTimeMs(), Long[]::new))
+                    .executeUpdate();
+        }
+
+        log.debug("[상태 전이 일괄 반영] requested={}, applied={}, attempts={}",
+                transitions.size(), attemptNumbers.size(), attempted.size());
+        return new ArrayList<>(attemptNumbers.keySet());
+    }
+
+    private static <T, R> R[] map(List<T> source, Function<T, R> getter, IntFunction<R[]> arrayFactory) {
+        return source.stream().map(getter).toArray(arrayFactory);
+    }
+}
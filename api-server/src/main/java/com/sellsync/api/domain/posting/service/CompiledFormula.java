@@ -0,0 +1,355 @@
+package com.sellsync.api.domain.posting.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 파싱된 계산식 (불변, 스레드 안전)
+ *
+ * 계산식 문자열을 1회 파싱하여 구문 트리로 보관하고, 평가 시에는 필드 값을 슬롯에 바인딩해 바로 계산합니다.
+ * (필드 값 → 문자열 치환 → 재파싱 과정 없음)
+ *
+ * 문법:
+ * - 숫자 연산: +, -, *, / (우선순위: 괄호 > 곱셈/나눗셈 > 덧셈/뺄셈), 단항 부호
+ * - 문자열 연결: 문자열 리터럴('...', "...")이 있거나 숫자가 아닌 필드 값이 있으면 + 로 연결
+ * - 필드 참조: order.*, item.*, mapping.*, erpItem.*
+ */
+@Slf4j
+final class CompiledFormula {
+
+    private static final Set<String> FIELD_PREFIXES = Set.of("order", "item", "mapping", "erpItem");
+
+    private final String formula;
+    private final Node root;
+    private final List<String> fieldRefs;
+    private final boolean hasStringLiteral;
+
+    private CompiledFormula(String formula, Node root, List<String> fieldRefs, boolean hasStringLiteral) {
+        this.formula = formula;
+        this.root = root;
+        this.fieldRefs = fieldRefs;
+        this.hasStringLiteral = hasStringLiteral;
+    }
+
+    /**
+     * 계산식 파싱
+     *
+     * @throws IllegalArgumentException 문법 오류
+     */
+    static CompiledFormula compile(String formula) {
+        return new Parser(formula).parse();
+    }
+
+    /**
+     * 참조하는 필드 목록 (중복 제거, 등장 순서)
+     */
+    List<String> fieldRefs() {
+        return fieldRefs;
+    }
+
+    /**
+     * 계산식 평가
+     *
+     * @param fieldResolver 필드 참조 → 값 (참조당 1회 호출)
+     * @return 숫자 계산 결과 (정수는 Long, 소수는 Double) 또는 문자열 연결 결과
+     */
+    Object evaluate(Function<String, Object> fieldResolver) {
+        Object[] values = new Object[fieldRefs.size()];
+        boolean stringMode = hasStringLiteral;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = fieldResolver.apply(fieldRefs.get(i));
+            if (!(values[i] instanceof Number)) {
+                stringMode = true;
+            }
+        }
+
+        if (stringMode) {
+            return concat(values);
+        }
+
+        BigDecimal result = root.evaluate(values);
+        // 정수인 경우 Long으로, 소수인 경우 Double로 반환
+        if (result.scale() <= 0) {
+            return result.longValue();
+        }
+        return result.doubleValue();
+    }
+
+    /**
+     * 문자열 연결 평가
+     * 예: order.marketplaceOrderId + ' ' + order.buyerName → "ORD123 홍길동"
+     * (null 필드는 빈 문자열, 단일 값이 아닌 항목은 제외)
+     */
+    private String concat(Object[] values) {
+        List<Node> parts = new ArrayList<>();
+        collectConcatParts(root, parts);
+
+        StringBuilder result = new StringBuilder();
+        for (Node part : parts) {
+            if (part instanceof StringLiteral literal) {
+                result.append(literal.value());
+            } else if (part instanceof NumberLiteral literal) {
+                result.append(literal.text());
+            } else if (part instanceof FieldRef field) {
+                Object value = values[field.slot()];
+                if (value != null) {
+                    result.append(value);
+                }
+            } else {
+                log.warn("[문자열 표현식 평가 실패] 알 수 없는 부분: formula={}", formula);
+            }
+        }
+        return result.toString();
+    }
+
+    private static void collectConcatParts(Node node, List<Node> parts) {
+        if (node instanceof Binary binary && binary.op() == '+') {
+            collectConcatParts(binary.left(), parts);
+            collectConcatParts(binary.right(), parts);
+        } else {
+            parts.add(node);
+        }
+    }
+
+    // ========== 구문 트리 ==========
+
+    private interface Node {
+        BigDecimal evaluate(Object[] values);
+    }
+
+    private record NumberLiteral(BigDecimal value, String text) implements Node {
+        @Override
+        public BigDecimal evaluate(Object[] values) {
+            return value;
+        }
+    }
+
+    private record StringLiteral(String value) implements Node {
+        @Override
+        public BigDecimal evaluate(Object[] values) {
+            throw new IllegalStateException("String literal in numeric expression");
+        }
+    }
+
+    private record FieldRef(int slot) implements Node {
+        @Override
+        public BigDecimal evaluate(Object[] values) {
+            Object value = values[slot];
+            return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+        }
+    }
+
+    private record Negate(Node operand) implements Node {
+        @Override
+        public BigDecimal evaluate(Object[] values) {
+            return operand.evaluate(values).negate();
+        }
+    }
+
+    private record Binary(char op, Node left, Node right) implements Node {
+        @Override
+        public BigDecimal evaluate(Object[] values) {
+            BigDecimal leftVal = left.evaluate(values);
+            BigDecimal rightVal = right.evaluate(values);
+            switch (op) {
+                case '+':
+                    return leftVal.add(rightVal);
+                case '-':
+                    return leftVal.subtract(rightVal);
+                case '*':
+                    return leftVal.multiply(rightVal);
+                default:
+                    if (rightVal.compareTo(BigDecimal.ZERO) == 0) {
+                        log.warn("[0으로 나누기] {} / {}", leftVal, rightVal);
+                        return BigDecimal.ZERO;
+                    }
+                    return leftVal.divide(rightVal, 10, RoundingMode.HALF_UP);
+            }
+        }
+    }
+
+    // ========== 파서 ==========
+
+    /**
+     * 재귀 하강 파서
+     *
+     * expr    := term (('+' | '-') term)*
+     * term    := unary (('*' | '/') unary)*
+     * unary   := ('+' | '-') unary | primary
+     * primary := number | string | field | '(' expr ')'
+     */
+    private static final class Parser {
+
+        private final String src;
+        private final Map<String, Integer> slots = new LinkedHashMap<>();
+        private boolean hasStringLiteral = false;
+        private int pos = 0;
+
+        Parser(String src) {
+            this.src = src;
+        }
+
+        CompiledFormula parse() {
+            Node root = parseExpression();
+            skipSpaces();
+            if (pos < src.length()) {
+                throw error("Unexpected '" + src.charAt(pos) + "'");
+            }
+            return new CompiledFormula(src, root, List.copyOf(slots.keySet()), hasStringLiteral);
+        }
+
+        private Node parseExpression() {
+            Node node = parseTerm();
+            while (true) {
+                if (consume('+')) {
+                    node = new Binary('+', node, parseTerm());
+                } else if (consume('-')) {
+                    node = new Binary('-', node, parseTerm());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseTerm() {
+            Node node = parseUnary();
+            while (true) {
+                if (consume('*')) {
+                    node = new Binary('*', node, parseUnary());
+                } else if (consume('/')) {
+                    node = new Binary('/', node, parseUnary());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (consume('+')) {
+                return parseUnary();
+            }
+            if (consume('-')) {
+                Node operand = parseUnary();
+                // 음수 리터럴은 상수로 접기 (문자열 연결 시 "-5" 그대로 사용)
+                if (operand instanceof NumberLiteral literal) {
+                    return new NumberLiteral(literal.value().negate(), "-" + literal.text());
+                }
+                return new Negate(operand);
+            }
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() {
+            skipSpaces();
+            if (pos >= src.length()) {
+                throw error("Unexpected end of formula");
+            }
+
+            char c = src.charAt(pos);
+            if (c == '(') {
+                pos++;
+                Node node = parseExpression();
+                if (!consume(')')) {
+                    throw error("Missing ')'");
+                }
+                return node;
+            }
+            if (c == '\'' || c == '"') {
+                return parseString(c);
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return parseNumber();
+            }
+            if (isAsciiLetter(c)) {
+                return parseField();
+            }
+            throw error("Unexpected '" + c + "'");
+        }
+
+        private Node parseNumber() {
+            int start = pos;
+            while (pos < src.length() && (Character.isDigit(src.charAt(pos)) || src.charAt(pos) == '.')) {
+                pos++;
+            }
+            String text = src.substring(start, pos);
+            try {
+                return new NumberLiteral(new BigDecimal(text), text);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + text + "'");
+            }
+        }
+
+        private Node parseString(char delimiter) {
+            StringBuilder value = new StringBuilder();
+            pos++;
+            while (pos < src.length()) {
+                char c = src.charAt(pos++);
+                if (c == '\\' && pos < src.length() && (src.charAt(pos) == '\'' || src.charAt(pos) == '"')) {
+                    value.append(src.charAt(pos++));
+                } else if (c == delimiter) {
+                    hasStringLiteral = true;
+                    return new StringLiteral(value.toString());
+                } else {
+                    value.append(c);
+                }
+            }
+            throw error("Unterminated string literal");
+        }
+
+        private Node parseField() {
+            int start = pos;
+            String prefix = readIdentifier();
+            if (!FIELD_PREFIXES.contains(prefix) || pos >= src.length() || src.charAt(pos) != '.') {
+                throw error("Unknown field reference '" + prefix + "'");
+            }
+            pos++;
+            if (pos >= src.length() || !isAsciiLetter(src.charAt(pos))) {
+                throw error("Missing field name after '" + prefix + ".'");
+            }
+            readIdentifier();
+
+            String fieldRef = src.substring(start, pos);
+            int slot = slots.computeIfAbsent(fieldRef, ref -> slots.size());
+            return new FieldRef(slot);
+        }
+
+        private String readIdentifier() {
+            int start = pos;
+            while (pos < src.length() && (isAsciiLetter(src.charAt(pos)) || Character.isDigit(src.charAt(pos)))) {
+                pos++;
+            }
+            return src.substring(start, pos);
+        }
+
+        private boolean consume(char expected) {
+            skipSpaces();
+            if (pos < src.length() && src.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpaces() {
+            while (pos < src.length() && Character.isWhitespace(src.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static boolean isAsciiLetter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at " + pos + ": " + src);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sellsync.api.domain.posting.service;
+
+import com.sellsync.api.domain.erp.entity.ErpConfig;
+import com.sellsync.api.domain.erp.entity.ErpItem;
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.order.entity.OrderItem;
+import com.sellsync.api.domain.store.entity.Store;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전표 매핑용 필드 접근자 레지스트리
+ *
+ * 엔티티별 필드 getter(MethodHandle)를 클래스 로딩 시 1회 생성해 두고 필드명으로 조회합니다.
+ * (추출할 때마다 getDeclaredField / setAccessible 반복 호출 없음)
+ *
+ * - 상속 필드 포함, 하위 클래스 필드가 우선 (기존 findField 탐색 순서와 동일)
+ * - 등록되지 않은 클래스는 최초 조회 시 생성
+ */
+final class FieldAccessors {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Map<Class<?>, Map<String, MethodHandle>> REGISTRY = new ConcurrentHashMap<>();
+
+    static {
+        for (Class<?> type : List.of(Order.class, OrderItem.class, ErpItem.class, Store.class, ErpConfig.class)) {
+            REGISTRY.put(type, buildGetters(type));
+        }
+    }
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * 필드 존재 여부
+     */
+    static boolean has(Class<?> type, String fieldName) {
+        return getters(type).containsKey(fieldName);
+    }
+
+    /**
+     * 필드 값 조회
+     *
+     * @throws IllegalArgumentException 필드가 없는 경우
+     */
+    static Object get(Class<?> type, String fieldName, Object target) {
+        MethodHandle getter = getters(type).get(fieldName);
+        if (getter == null) {
+            throw new IllegalArgumentException("No field '" + fieldName + "' on " + type.getSimpleName());
+        }
+        try {
+            return getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static Map<String, MethodHandle> getters(Class<?> type) {
+        return REGISTRY.computeIfAbsent(type, FieldAccessors::buildGetters);
+    }
+
+    private static Map<String, MethodHandle> buildGetters(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, MethodHandle> getters = new HashMap<>();
+
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                        || getters.containsKey(field.getName())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    getters.put(field.getName(), lookup.unreflectGetter(field).asType(GETTER_TYPE));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new IllegalStateException("Cannot access " + type.getSimpleName() + "." + field.getName(), e);
+                }
+            }
+        }
+        return Map.copyOf(getters);
+    }
+}
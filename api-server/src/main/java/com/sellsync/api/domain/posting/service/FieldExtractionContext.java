@@ -0,0 +1,81 @@
+package com.sellsync.api.domain.posting.service;
+
+import com.sellsync.api.domain.erp.entity.ErpConfig;
+import com.sellsync.api.domain.erp.entity.ErpItem;
+import com.sellsync.api.domain.mapping.dto.ProductMappingResponse;
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.store.entity.Store;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 주문 1건의 필드 추출 컨텍스트
+ *
+ * 템플릿의 모든 필드를 추출하는 동안 상품 매핑 / ERP 품목 / 스토어 / ERP 설정을 최초 1회만 조회하여 공유합니다.
+ * 주문(전표 생성 1회)마다 새로 만들어 사용하며 스레드 간 공유하지 않습니다.
+ */
+public final class FieldExtractionContext {
+
+    @Getter
+    private final Order order;
+
+    // null = 아직 조회하지 않음
+    private Optional<ProductMappingResponse> productMapping;
+    private Optional<ErpItem> erpItem;
+    private Optional<Store> store;
+    private Optional<ErpConfig> erpConfig;
+
+    private FieldExtractionContext(Order order) {
+        this.order = order;
+    }
+
+    public static FieldExtractionContext of(Order order) {
+        return new FieldExtractionContext(order);
+    }
+
+    /**
+     * 호출 측에서 이미 조회한 상품 매핑 지정 (일괄 전표 생성 시 사전 로딩 결과)
+     */
+    FieldExtractionContext withProductMapping(ProductMappingResponse mapping) {
+        this.productMapping = Optional.ofNullable(mapping);
+        return this;
+    }
+
+    /**
+     * 호출 측에서 이미 조회한 스토어 지정
+     */
+    FieldExtractionContext withStore(Store store) {
+        this.store = Optional.ofNullable(store);
+        return this;
+    }
+
+    Optional<ProductMappingResponse> productMapping(Supplier<Optional<ProductMappingResponse>> loader) {
+        if (productMapping == null) {
+            productMapping = loader.get();
+        }
+        return productMapping;
+    }
+
+    Optional<ErpItem> erpItem(Supplier<Optional<ErpItem>> loader) {
+        if (erpItem == null) {
+            erpItem = loader.get();
+        }
+        return erpItem;
+    }
+
+    Optional<Store> store(Supplier<Optional<Store>> loader) {
+        if (store == null) {
+            store = loader.get();
+        }
+        return store;
+    }
+
+    Optional<ErpConfig> erpConfig(Supplier<Optional<ErpConfig>> loader) {
+        if (erpConfig == null) {
+            erpConfig = loader.get();
+        }
+        return erpConfig;
+    }
+}
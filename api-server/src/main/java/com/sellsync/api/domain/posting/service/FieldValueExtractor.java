@@ -18,7 +18,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,6 +30,9 @@ import java.util.stream.Collectors;
  * 필드 값 추출기
  * 
  * 매핑 규칙에 따라 Order/OrderItem/ProductMapping에서 데이터 추출
+ *
+ * - 엔티티 필드는 {@link FieldAccessors}의 사전 생성 getter로 조회
+ * - 상품 매핑 / ERP 품목 / 스토어 / ERP 설정은 {@link FieldExtractionContext}로 주문당 1회만 조회
  */
 @Slf4j
 @Component
@@ -54,23 +56,30 @@ public class FieldValueExtractor {
      * 매핑 규칙에 따라 값 추출
      */
     public Object extractValue(PostingFieldMapping mapping, Order order) {
-        if (mapping == null) {
+        return extractValue(PostingTemplatePlan.FieldSource.from(mapping), FieldExtractionContext.of(order));
+    }
+    
+    /**
+     * 컴파일된 추출 규칙에 따라 값 추출 (템플릿 필드 전체에서 컨텍스트 공유)
+     */
+    public Object extractValue(PostingTemplatePlan.FieldSource source, FieldExtractionContext context) {
+        if (source == null) {
             return null;
         }
         
         try {
-            Object rawValue = extractRawValue(mapping, order);
+            Object rawValue = extractRawValue(source, context);
             
             // 변환 규칙 적용 (TODO: 향후 구현)
-            if (mapping.hasTransformRule()) {
-                rawValue = applyTransformRule(rawValue, mapping.getTransformRule());
+            if (source.hasTransformRule()) {
+                rawValue = applyTransformRule(rawValue, source.transformRule());
             }
             
             return rawValue;
             
         } catch (Exception e) {
             log.error("[필드 값 추출 실패] sourceType={}, sourcePath={}, error={}", 
-                mapping.getSourceType(), mapping.getSourcePath(), e.getMessage(), e);
+                source.sourceType(), source.sourcePath(), e.getMessage(), e);
             return null;
         }
     }
@@ -83,10 +92,18 @@ public class FieldValueExtractor {
      * @return 필드 값
      */
     public Object extractValueByFieldRef(String fieldRef, Order order) {
+        return extractValueByFieldRef(fieldRef, FieldExtractionContext.of(order));
+    }
+    
+    /**
+     * 필드 참조로 직접 값 추출 (계산식용, 컨텍스트 공유)
+     */
+    public Object extractValueByFieldRef(String fieldRef, FieldExtractionContext context) {
         if (fieldRef == null || fieldRef.trim().isEmpty()) {
             return null;
         }
         
+        Order order = context.getOrder();
         try {
             if (fieldRef.startsWith("order.")) {
                 return extractFromOrder(fieldRef, order);
@@ -100,13 +117,13 @@ public class FieldValueExtractor {
                 }
                 return extractFromSingleItem(fieldName, order.getItems().get(0));
             } else if (fieldRef.startsWith("mapping.")) {
-                return extractFromProductMapping(fieldRef, order);
+                return extractFromProductMapping(fieldRef, context);
             } else if (fieldRef.startsWith("erpItem.")) {
-                return extractFromErpItem(fieldRef, order);
+                return extractFromErpItem(fieldRef, context);
             } else if (fieldRef.startsWith("store.")) {
-                return extractFromStore(fieldRef, order);
+                return extractFromStore(fieldRef, context);
             } else if (fieldRef.startsWith("erpConfig.")) {
-                return extractFromErpConfig(fieldRef, order);
+                return extractFromErpConfig(fieldRef, context);
             }
             
             log.warn("[알 수 없는 필드 참조] fieldRef={}", fieldRef);
@@ -121,37 +138,39 @@ public class FieldValueExtractor {
     /**
      * 소스 타입별 원본 값 추출
      */
-    private Object extractRawValue(PostingFieldMapping mapping, Order order) {
-        switch (mapping.getSourceType()) {
+    private Object extractRawValue(PostingTemplatePlan.FieldSource source, FieldExtractionContext context) {
+        Order order = context.getOrder();
+        String sourcePath = source.sourcePath();
+        switch (source.sourceType()) {
             case ORDER:
-                return extractFromOrder(mapping.getSourcePath(), order);
+                return extractFromOrder(sourcePath, order);
             
             case ORDER_ITEM:
-                return extractFromOrderItems(mapping, order);
+                return extractFromOrderItems(source, order);
             
             case PRODUCT_MAPPING:
-                return extractFromProductMapping(mapping.getSourcePath(), order);
+                return extractFromProductMapping(sourcePath, context);
             
             case ERP_ITEM:
-                return extractFromErpItem(mapping.getSourcePath(), order);
+                return extractFromErpItem(sourcePath, context);
             
             case FORMULA:
-                return formulaEvaluator.evaluate(mapping.getSourcePath(), order);
+                return formulaEvaluator.evaluate(sourcePath, context);
             
             case FIXED:
-                return mapping.getSourcePath(); // 고정값은 sourcePath가 값 자체
+                return sourcePath; // 고정값은 sourcePath가 값 자체
             
             case SYSTEM:
-                return extractSystemValue(mapping.getSourcePath());
+                return extractSystemValue(sourcePath);
             
             case STORE:
-                return extractFromStore(mapping.getSourcePath(), order);
+                return extractFromStore(sourcePath, context);
             
             case ERP_CONFIG:
-                return extractFromErpConfig(mapping.getSourcePath(), order);
+                return extractFromErpConfig(sourcePath, context);
             
             default:
-                log.warn("[알 수 없는 소스 타입] sourceType={}", mapping.getSourceType());
+                log.warn("[알 수 없는 소스 타입] sourceType={}", source.sourceType());
                 return null;
         }
     }
@@ -164,11 +183,9 @@ public class FieldValueExtractor {
         String fieldName = sourcePath.replace("order.", "");
         
         try {
-            // Reflection으로 필드 값 조회
-            Field field = findField(Order.class, fieldName);
-            if (field != null) {
-                field.setAccessible(true);
-                return field.get(order);
+            // 사전 생성된 getter로 필드 값 조회
+            if (FieldAccessors.has(Order.class, fieldName)) {
+                return FieldAccessors.get(Order.class, fieldName, order);
             }
             
             // 특수 케이스 처리
@@ -193,14 +210,14 @@ public class FieldValueExtractor {
     /**
      * OrderItem 목록에서 값 추출 및 집계
      */
-    private Object extractFromOrderItems(PostingFieldMapping mapping, Order order) {
+    private Object extractFromOrderItems(PostingTemplatePlan.FieldSource source, Order order) {
         List<OrderItem> items = order.getItems();
         if (items == null || items.isEmpty()) {
             return null;
         }
         
-        String fieldName = mapping.getSourcePath().replace("item.", "");
-        ItemAggregationType aggregation = mapping.getItemAggregation();
+        String fieldName = source.sourcePath().replace("item.", "");
+        ItemAggregationType aggregation = source.itemAggregation();
         
         if (aggregation == null) {
             aggregation = ItemAggregationType.FIRST;
@@ -231,10 +248,8 @@ public class FieldValueExtractor {
      */
     private Object extractFromSingleItem(String fieldName, OrderItem item) {
         try {
-            Field field = findField(OrderItem.class, fieldName);
-            if (field != null) {
-                field.setAccessible(true);
-                return field.get(item);
+            if (FieldAccessors.has(OrderItem.class, fieldName)) {
+                return FieldAccessors.get(OrderItem.class, fieldName, item);
             }
             
             log.warn("[OrderItem 필드 없음] fieldName={}", fieldName);
@@ -251,16 +266,13 @@ public class FieldValueExtractor {
      */
     private Object sumItemValues(String fieldName, List<OrderItem> items) {
         try {
-            Field field = findField(OrderItem.class, fieldName);
-            if (field == null) {
+            if (!FieldAccessors.has(OrderItem.class, fieldName)) {
                 return null;
             }
             
-            field.setAccessible(true);
-            
             BigDecimal sum = BigDecimal.ZERO;
             for (OrderItem item : items) {
-                Object value = field.get(item);
+                Object value = FieldAccessors.get(OrderItem.class, fieldName, item);
                 if (value instanceof Number) {
                     sum = sum.add(new BigDecimal(value.toString()));
                 }
@@ -279,21 +291,14 @@ public class FieldValueExtractor {
      */
     private String concatItemValues(String fieldName, List<OrderItem> items) {
         try {
-            Field field = findField(OrderItem.class, fieldName);
-            if (field == null) {
+            if (!FieldAccessors.has(OrderItem.class, fieldName)) {
                 return null;
             }
             
-            field.setAccessible(true);
-            
             return items.stream()
                 .map(item -> {
-                    try {
-                        Object value = field.get(item);
-                        return value != null ? value.toString() : "";
-                    } catch (Exception e) {
-                        return "";
-                    }
+                    Object value = FieldAccessors.get(OrderItem.class, fieldName, item);
+                    return value != null ? value.toString() : "";
                 })
                 .filter(s -> !s.isEmpty())
                 .collect(Collectors.joining(", "));
@@ -304,29 +309,106 @@ public class FieldValueExtractor {
         }
     }
     
+    /**
+     * 첫 번째 아이템의 활성 상품 매핑 (주문당 1회 조회)
+     * TODO: MULTI_LINE 처리 시 개선 필요
+     */
+    public Optional<ProductMappingResponse> resolveProductMapping(FieldExtractionContext context) {
+        return context.productMapping(() -> {
+            Order order = context.getOrder();
+            if (order.getItems() == null || order.getItems().isEmpty()) {
+                return Optional.empty();
+            }
+            
+            OrderItem firstItem = order.getItems().get(0);
+            Optional<ProductMappingResponse> mappingOpt = productMappingService.findActiveMapping(
+                order.getTenantId(),
+                order.getStoreId(),
+                order.getMarketplace(),
+                firstItem.getMarketplaceProductId(),
+                firstItem.getMarketplaceSku()
+            );
+            
+            if (mappingOpt.isEmpty()) {
+                log.warn("[상품 매핑 없음] productId={}, sku={}", 
+                    firstItem.getMarketplaceProductId(), firstItem.getMarketplaceSku());
+            }
+            return mappingOpt;
+        });
+    }
+    
+    /**
+     * 주문 스토어 (주문당 1회 조회)
+     */
+    public Optional<Store> resolveStore(FieldExtractionContext context) {
+        return context.store(() -> {
+            Order order = context.getOrder();
+            if (order.getStoreId() == null) {
+                log.warn("[Store 조회 불가] order.storeId is null, orderId={}", order.getOrderId());
+                return Optional.empty();
+            }
+            
+            Optional<Store> storeOpt = storeRepository.findById(order.getStoreId());
+            if (storeOpt.isEmpty()) {
+                log.warn("[Store 미발견] storeId={}, orderId={}", order.getStoreId(), order.getOrderId());
+            }
+            return storeOpt;
+        });
+    }
+    
+    /**
+     * 상품 매핑의 ERP 품목 마스터 (주문당 1회 조회)
+     */
+    private Optional<ErpItem> resolveErpItem(FieldExtractionContext context) {
+        return context.erpItem(() -> {
+            Optional<ProductMappingResponse> mappingOpt = resolveProductMapping(context);
+            if (mappingOpt.isEmpty()) {
+                return Optional.empty();
+            }
+            
+            ProductMappingResponse mapping = mappingOpt.get();
+            String erpItemCode = mapping.getErpItemCode();
+            if (erpItemCode == null || erpItemCode.isEmpty()) {
+                log.warn("[ERP 품목코드 없음] productId={}", mapping.getMarketplaceProductId());
+                return Optional.empty();
+            }
+            
+            Optional<ErpItem> erpItemOpt = erpItemRepository.findByTenantIdAndErpCodeAndItemCode(
+                context.getOrder().getTenantId(),
+                mapping.getErpCode(),
+                erpItemCode
+            );
+            
+            if (erpItemOpt.isEmpty()) {
+                log.warn("[ERP 품목 마스터 없음] erpCode={}, itemCode={}", mapping.getErpCode(), erpItemCode);
+            }
+            return erpItemOpt;
+        });
+    }
+    
+    /**
+     * Tenant의 첫 번째 활성 ErpConfig (주문당 1회 조회)
+     */
+    private Optional<ErpConfig> resolveErpConfig(FieldExtractionContext context) {
+        return context.erpConfig(() -> {
+            Order order = context.getOrder();
+            List<ErpConfig> configs = erpConfigRepository.findByTenantIdAndEnabled(order.getTenantId(), true);
+            
+            if (configs == null || configs.isEmpty()) {
+                log.warn("[ErpConfig 미발견] tenantId={}, orderId={}", order.getTenantId(), order.getOrderId());
+                return Optional.empty();
+            }
+            return Optional.of(configs.get(0));
+        });
+    }
+    
     /**
      * ProductMapping에서 값 추출
      * 예: "mapping.erpProductCode"
      */
-    private Object extractFromProductMapping(String sourcePath, Order order) {
-        // 첫 번째 아이템의 매핑 정보 조회 (TODO: MULTI_LINE 처리 시 개선 필요)
-        if (order.getItems() == null || order.getItems().isEmpty()) {
-            return null;
-        }
-        
-        OrderItem firstItem = order.getItems().get(0);
-        
-        Optional<ProductMappingResponse> mappingOpt = productMappingService.findActiveMapping(
-            order.getTenantId(),
-            order.getStoreId(),
-            order.getMarketplace(),
-            firstItem.getMarketplaceProductId(),
-            firstItem.getMarketplaceSku()
-        );
-        
+    private Object extractFromProductMapping(String sourcePath, FieldExtractionContext context) {
+        Optional<ProductMappingResponse> mappingOpt = resolveProductMapping(context);
         if (mappingOpt.isEmpty()) {
-            log.warn("[상품 매핑 없음] productId={}, sku={}", 
-                firstItem.getMarketplaceProductId(), firstItem.getMarketplaceSku());
             return null;
         }
         
@@ -352,57 +434,17 @@ public class FieldValueExtractor {
      * ErpItem에서 값 추출
      * 예: "erpItem.itemCode", "erpItem.itemName", "erpItem.unitPrice"
      */
-    private Object extractFromErpItem(String sourcePath, Order order) {
-        // 첫 번째 아이템의 매핑 정보로 ERP 품목 조회
-        if (order.getItems() == null || order.getItems().isEmpty()) {
-            return null;
-        }
-        
-        OrderItem firstItem = order.getItems().get(0);
-        
-        // 매핑 정보에서 ERP 품목코드 가져오기
-        Optional<ProductMappingResponse> mappingOpt = productMappingService.findActiveMapping(
-            order.getTenantId(),
-            order.getStoreId(),
-            order.getMarketplace(),
-            firstItem.getMarketplaceProductId(),
-            firstItem.getMarketplaceSku()
-        );
-        
-        if (mappingOpt.isEmpty()) {
-            log.warn("[상품 매핑 없음 - ERP 품목 조회 불가] productId={}, sku={}", 
-                firstItem.getMarketplaceProductId(), firstItem.getMarketplaceSku());
-            return null;
-        }
-        
-        String erpItemCode = mappingOpt.get().getErpItemCode();
-        if (erpItemCode == null || erpItemCode.isEmpty()) {
-            log.warn("[ERP 품목코드 없음] productId={}", firstItem.getMarketplaceProductId());
-            return null;
-        }
-        
-        // ERP 품목 마스터 조회
-        Optional<ErpItem> erpItemOpt = erpItemRepository.findByTenantIdAndErpCodeAndItemCode(
-            order.getTenantId(),
-            mappingOpt.get().getErpCode(),
-            erpItemCode
-        );
-        
+    private Object extractFromErpItem(String sourcePath, FieldExtractionContext context) {
+        Optional<ErpItem> erpItemOpt = resolveErpItem(context);
         if (erpItemOpt.isEmpty()) {
-            log.warn("[ERP 품목 마스터 없음] erpCode={}, itemCode={}", 
-                mappingOpt.get().getErpCode(), erpItemCode);
             return null;
         }
         
-        ErpItem erpItem = erpItemOpt.get();
         String fieldName = sourcePath.replace("erpItem.", "");
         
         try {
-            // Reflection으로 필드 값 조회
-            Field field = findField(ErpItem.class, fieldName);
-            if (field != null) {
-                field.setAccessible(true);
-                return field.get(erpItem);
+            if (FieldAccessors.has(ErpItem.class, fieldName)) {
+                return FieldAccessors.get(ErpItem.class, fieldName, erpItemOpt.get());
             }
             
             log.warn("[ErpItem 필드 없음] fieldName={}", fieldName);
@@ -434,15 +476,9 @@ public class FieldValueExtractor {
      * Store 엔티티에서 값 추출
      * 예: "store.erpCustomerCode", "store.storeName"
      */
-    private Object extractFromStore(String sourcePath, Order order) {
-        if (order.getStoreId() == null) {
-            log.warn("[Store 조회 불가] order.storeId is null, orderId={}", order.getOrderId());
-            return null;
-        }
-        
-        Optional<Store> storeOpt = storeRepository.findById(order.getStoreId());
+    private Object extractFromStore(String sourcePath, FieldExtractionContext context) {
+        Optional<Store> storeOpt = resolveStore(context);
         if (storeOpt.isEmpty()) {
-            log.warn("[Store 미발견] storeId={}, orderId={}", order.getStoreId(), order.getOrderId());
             return null;
         }
         
@@ -450,11 +486,8 @@ public class FieldValueExtractor {
         String fieldName = sourcePath.replace("store.", "");
         
         try {
-            // Reflection으로 필드 값 조회
-            Field field = findField(Store.class, fieldName);
-            if (field != null) {
-                field.setAccessible(true);
-                Object value = field.get(store);
+            if (FieldAccessors.has(Store.class, fieldName)) {
+                Object value = FieldAccessors.get(Store.class, fieldName, store);
                 log.debug("[Store 필드 추출] fieldName={}, value={}, storeId={}", 
                     fieldName, value, store.getStoreId());
                 return value;
@@ -474,25 +507,18 @@ public class FieldValueExtractor {
      * ErpConfig 엔티티에서 값 추출
      * 예: "erpConfig.defaultWarehouseCode", "erpConfig.defaultCustomerCode"
      */
-    private Object extractFromErpConfig(String sourcePath, Order order) {
-        // Tenant의 활성화된 ErpConfig 조회
-        List<ErpConfig> configs = erpConfigRepository.findByTenantIdAndEnabled(order.getTenantId(), true);
-        
-        if (configs == null || configs.isEmpty()) {
-            log.warn("[ErpConfig 미발견] tenantId={}, orderId={}", order.getTenantId(), order.getOrderId());
+    private Object extractFromErpConfig(String sourcePath, FieldExtractionContext context) {
+        Optional<ErpConfig> configOpt = resolveErpConfig(context);
+        if (configOpt.isEmpty()) {
             return null;
         }
         
-        // 첫 번째 활성화된 설정 사용
-        ErpConfig config = configs.get(0);
+        ErpConfig config = configOpt.get();
         String fieldName = sourcePath.replace("erpConfig.", "");
         
         try {
-            // Reflection으로 필드 값 조회
-            Field field = findField(ErpConfig.class, fieldName);
-            if (field != null) {
-                field.setAccessible(true);
-                Object value = field.get(config);
+            if (FieldAccessors.has(ErpConfig.class, fieldName)) {
+                Object value = FieldAccessors.get(ErpConfig.class, fieldName, config);
                 log.debug("[ErpConfig 필드 추출] fieldName={}, value={}, tenantId={}", 
                     fieldName, value, config.getTenantId());
                 return value;
@@ -520,22 +546,6 @@ public class FieldValueExtractor {
         return value;
     }
     
-    /**
-     * 클래스에서 필드 찾기 (상속 포함)
-     */
-    private Field findField(Class<?> clazz, String fieldName) {
-        try {
-            return clazz.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            // 부모 클래스에서 찾기
-            Class<?> superClass = clazz.getSuperclass();
-            if (superClass != null) {
-                return findField(superClass, fieldName);
-            }
-            return null;
-        }
-    }
-    
     /**
      * 날짜/시간 포맷팅
      */
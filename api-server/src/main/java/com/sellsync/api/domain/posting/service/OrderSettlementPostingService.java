@@ -24,11 +24,16 @@ import com.sellsync.api.domain.settlement.repository.SettlementOrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 정산 수집된 주문에 대한 전표 생성 서비스 (개선 버전)
@@ -55,6 +60,8 @@ public class OrderSettlementPostingService {
     private final ProductMappingService productMappingService;
     private final SettlementOrderRepository settlementOrderRepository;
     private final TemplateBasedPostingBuilder templateBasedPostingBuilder;
+    private final PostingTemplateCompiler templateCompiler;
+    private final PlatformTransactionManager transactionManager;
 
     private static final DateTimeFormatter IO_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -81,17 +88,279 @@ public class OrderSettlementPostingService {
             throw new OrderNotFoundException(UUID.randomUUID()); // bundleOrderId는 String이라 임시로 UUID 생성
         }
 
-        // 전표 생성 대상: SHIPPING 또는 DELIVERED 상태 주문만 포함
-        // NEW, CONFIRMED 등 아직 출고 전 상태의 주문은 전표 생성에서 제외
-        List<Order> orders = allOrders.stream()
+        // 2. 전표 생성 참조 데이터 조회 (ERP 설정, 스토어, 상품 매핑, 정산, ERP 품목)
+        PostingReferenceData refs = loadReferenceData(allOrders.get(0).getTenantId(), erpCode, allOrders);
+
+        // 3. 검증 + 통합 전표 Payload 생성
+        PreparedPosting prepared = prepareBundlePosting(bundleOrderId, allOrders, erpCode, refs);
+
+        // 4. 전표 생성 (PostingType은 PRODUCT_SALES로 대표)
+        PostingResponse posting = postingService.createOrGet(prepared.request());
+        log.info("[통합 전표 생성] postingId={}", posting.getPostingId());
+
+        // 5. 정산 전표 생성 완료 마킹
+        markSettlementPosted(bundleOrderId, prepared.orders());
+        orderRepository.saveAll(prepared.orders());
+
+        log.info("[정산 전표 생성 완료] bundleOrderId={}, postingId={}", bundleOrderId, posting.getPostingId());
+
+        return posting;
+    }
+
+    /**
+     * 정산 수집된 주문에 대한 전표 일괄 생성 (번들 N건)
+     * 
+     * 번들 수와 무관하게 주문/아이템, 기존 전표(멱등키), 정산, 상품 매핑, ERP 품목을 고정 횟수의 쿼리로 미리 조회하고,
+     * 신규 전표는 한 번에 저장합니다 (Hibernate JDBC 배치).
+     * 
+     * - 기존 전표가 있는 번들: 재생성 없이 정산 완료 마킹만 수행 (existing)
+     * - 상품 매핑 미완료 번들: 스킵 (skipped)
+     * - 그 외 검증 실패 번들: 다른 번들은 계속 처리 (failed)
+     *   번들별 검증/Payload 생성은 별도 읽기 전용 트랜잭션에서 실행하여, 실패한 번들의 예외가
+     *   일괄 저장 트랜잭션을 rollback-only로 만들지 않도록 함 (주문 엔티티는 변경하지 않음)
+     * - 동시 생성으로 멱등키 Unique 제약 위반 시 전체 롤백 → 호출 측에서 createPostingsForSettledOrder로 건별 재시도
+     * 
+     * @param tenantId 테넌트 ID
+     * @param bundleOrderIds 번들 주문 ID 목록
+     * @param erpCode ERP 코드 (ECOUNT 등)
+     * @return 번들 단위 처리 결과
+     * @throws IllegalStateException 활성 전표 템플릿이 없는 경우
+     */
+    @Transactional
+    public BulkPostingResult createPostingsForSettledOrders(UUID tenantId, List<String> bundleOrderIds, String erpCode) {
+        List<String> distinctBundleOrderIds = bundleOrderIds.stream().distinct().toList();
+        if (distinctBundleOrderIds.isEmpty()) {
+            return new BulkPostingResult(0, 0, 0, 0);
+        }
+        log.info("[정산 전표 일괄 생성 시작] tenantId={}, erpCode={}, 번들={}건", tenantId, erpCode, distinctBundleOrderIds.size());
+
+        // 템플릿이 없으면 모든 번들이 실패하므로 조회 전에 중단
+        if (templateCompiler.findActivePlan(tenantId, erpCode, PostingType.PRODUCT_SALES) == null) {
+            throw new IllegalStateException(
+                String.format("활성 템플릿이 없습니다: tenant=%s, erp=%s, type=PRODUCT_SALES", tenantId, erpCode));
+        }
+
+        // 1. 주문 + 아이템 일괄 조회 (번들별 orderedAt 순서 유지)
+        Map<String, List<Order>> ordersByBundle = orderRepository
+                .findByTenantIdAndBundleOrderIdInWithItems(tenantId, distinctBundleOrderIds).stream()
+                .collect(Collectors.groupingBy(Order::getBundleOrderId, LinkedHashMap::new, Collectors.toList()));
+
+        // 2. 기존 전표 멱등키 일괄 조회 (마켓플레이스별 1회)
+        Set<String> postedBundleOrderIds = findPostedBundleOrderIds(tenantId, erpCode, ordersByBundle);
+
+        // 3. 신규 전표 대상 번들의 참조 데이터 일괄 조회
+        List<Order> targetOrders = ordersByBundle.entrySet().stream()
+                .filter(entry -> !postedBundleOrderIds.contains(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+        PostingReferenceData refs = loadReferenceData(tenantId, erpCode, targetOrders);
+
+        // 4. 번들별 검증 + Payload 생성 (번들마다 읽기 전용 트랜잭션 분리)
+        TransactionTemplate prepareTx = new TransactionTemplate(transactionManager);
+        prepareTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        prepareTx.setReadOnly(true);
+
+        List<PreparedPosting> preparedPostings = new ArrayList<>();
+        List<Order> markedOrders = new ArrayList<>();
+        int existingCount = 0;
+        int skippedCount = 0;
+        int failedCount = 0;
+
+        for (String bundleOrderId : distinctBundleOrderIds) {
+            List<Order> allOrders = ordersByBundle.get(bundleOrderId);
+            if (allOrders == null) {
+                failedCount++;
+                log.warn("[정산 전표 일괄 생성 - 주문 없음] bundleOrderId={}", bundleOrderId);
+                continue;
+            }
+
+            if (postedBundleOrderIds.contains(bundleOrderId)) {
+                // 단건 생성(createOrGet 기존 전표 반환)과 동일하게 정산 완료 마킹
+                List<Order> orders = filterPostableOrders(allOrders);
+                markSettlementPosted(bundleOrderId, orders);
+                markedOrders.addAll(orders);
+                existingCount++;
+                continue;
+            }
+
+            try {
+                preparedPostings.add(prepareTx.execute(
+                    status -> prepareBundlePosting(bundleOrderId, allOrders, erpCode, refs)));
+            } catch (UnmappedProductException e) {
+                skippedCount++;
+                log.debug("[정산 전표 생성 스킵 - 상품매핑 미완료] bundleOrderId={}", bundleOrderId);
+            } catch (RuntimeException e) {
+                failedCount++;
+                log.error("[정산 전표 생성 실패] bundleOrderId={}, error={}", bundleOrderId, e.getMessage(), e);
+            }
+        }
+
+        // 5. 신규 전표 일괄 저장
+        List<PostingResponse> created = postingService.createAll(preparedPostings.stream()
+                .map(PreparedPosting::request)
+                .toList());
+
+        // 6. 정산 전표 생성 완료 마킹
+        for (PreparedPosting prepared : preparedPostings) {
+            markSettlementPosted(prepared.bundleOrderId(), prepared.orders());
+            markedOrders.addAll(prepared.orders());
+        }
+        orderRepository.saveAll(markedOrders);
+
+        log.info("[정산 전표 일괄 생성 완료] tenantId={}, 생성={}건, 기존={}건, 스킵={}건, 실패={}건",
+            tenantId, created.size(), existingCount, skippedCount, failedCount);
+
+        return new BulkPostingResult(created.size(), existingCount, skippedCount, failedCount);
+    }
+
+    /**
+     * 일괄 전표 생성 결과 (번들 단위 건수)
+     */
+    public record BulkPostingResult(int created, int existing, int skipped, int failed) {
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 번들 전표 생성에 필요한 참조 데이터 (번들 N건 일괄 조회 결과)
+     *
+     * @param erpConfig ERP 설정 (없으면 null)
+     * @param mappings 활성 + MAPPED 상품 매핑
+     * @param settlements marketplaceOrderId → 정산 주문 (items 포함)
+     * @param erpItems ERP 품목코드 → ERP 품목 (창고코드 조회용)
+     */
+    private record PostingReferenceData(
+            ErpConfig erpConfig,
+            Map<UUID, Store> stores,
+            Map<MappingKey, ProductMappingResponse> mappings,
+            Map<String, List<SettlementOrder>> settlements,
+            Map<String, ErpItem> erpItems) {
+
+        ProductMappingResponse findMapping(Order order, OrderItem item) {
+            return mappings.get(new MappingKey(order.getStoreId(), order.getMarketplace(),
+                item.getMarketplaceProductId(), item.getMarketplaceSku()));
+        }
+    }
+
+    /**
+     * 상품 매핑 키 (ProductMapping 멱등키에서 tenant 제외)
+     */
+    private record MappingKey(UUID storeId, Marketplace marketplace, String productId, String sku) {
+    }
+
+    /**
+     * 검증과 Payload 생성이 끝난 번들 전표
+     *
+     * @param orders 전표 대상 주문 (SHIPPING/DELIVERED)
+     */
+    private record PreparedPosting(String bundleOrderId, List<Order> orders, CreatePostingRequest request) {
+    }
+
+    /**
+     * 상품 매핑 미완료로 전표를 생성할 수 없음 (일괄 생성 시 실패가 아닌 스킵으로 집계)
+     */
+    private static class UnmappedProductException extends IllegalStateException {
+        UnmappedProductException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 참조 데이터 일괄 조회 (ERP 설정 1회, 스토어 1회, 상품 매핑 1회, 정산 1회, ERP 품목 1회)
+     */
+    private PostingReferenceData loadReferenceData(UUID tenantId, String erpCode, List<Order> orders) {
+        ErpConfig erpConfig = erpConfigRepository.findByTenantIdAndErpCode(tenantId, erpCode).orElse(null);
+        if (orders.isEmpty()) {
+            return new PostingReferenceData(erpConfig, Map.of(), Map.of(), Map.of(), Map.of());
+        }
+
+        List<UUID> storeIds = orders.stream().map(Order::getStoreId).filter(Objects::nonNull).distinct().toList();
+        Map<UUID, Store> stores = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+
+        List<String> productIds = orders.stream()
+                .flatMap(o -> o.getItems().stream())
+                .map(OrderItem::getMarketplaceProductId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<MappingKey, ProductMappingResponse> mappings = productMappingService
+                .findActiveMappingsByProductIds(tenantId, productIds).stream()
+                .collect(Collectors.toMap(
+                    m -> new MappingKey(m.getStoreId(), m.getMarketplace(), m.getMarketplaceProductId(), m.getMarketplaceSku()),
+                    Function.identity(),
+                    (first, second) -> first));
+
+        List<String> marketplaceOrderIds = orders.stream()
+                .map(Order::getMarketplaceOrderId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, List<SettlementOrder>> settlements = marketplaceOrderIds.isEmpty()
+                ? Map.of()
+                : settlementOrderRepository.findByTenantIdAndMarketplaceOrderIdInWithItems(tenantId, marketplaceOrderIds)
+                        .stream()
+                        .collect(Collectors.groupingBy(SettlementOrder::getMarketplaceOrderId));
+
+        // 매핑에 창고코드가 없을 때 사용할 ERP 품목
+        List<String> erpItemCodes = mappings.values().stream()
+                .filter(m -> m.getWarehouseCode() == null || m.getWarehouseCode().isEmpty())
+                .map(ProductMappingResponse::getErpItemCode)
+                .filter(code -> code != null && !code.isEmpty())
+                .distinct()
+                .toList();
+        Map<String, ErpItem> erpItems = erpItemCodes.isEmpty()
+                ? Map.of()
+                : erpItemRepository.findByTenantIdAndErpCodeAndItemCodeIn(tenantId, erpCode, erpItemCodes).stream()
+                        .collect(Collectors.toMap(ErpItem::getItemCode, Function.identity(), (first, second) -> first));
+
+        log.debug("[전표 참조 데이터 조회] tenantId={}, 주문={}건, 스토어={}, 매핑={}, 정산={}, ERP품목={}",
+            tenantId, orders.size(), stores.size(), mappings.size(), settlements.size(), erpItems.size());
+
+        return new PostingReferenceData(erpConfig, stores, mappings, settlements, erpItems);
+    }
+
+    /**
+     * 기존 전표가 있는 번들 조회 (멱등키: tenant + erp + marketplace + bundleOrderId + PRODUCT_SALES)
+     */
+    private Set<String> findPostedBundleOrderIds(UUID tenantId, String erpCode, Map<String, List<Order>> ordersByBundle) {
+        Map<Marketplace, List<String>> bundleOrderIdsByMarketplace = ordersByBundle.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                    entry -> entry.getValue().get(0).getMarketplace(),
+                    Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        Set<String> posted = new HashSet<>();
+        bundleOrderIdsByMarketplace.forEach((marketplace, ids) -> posted.addAll(
+            postingService.findExistingByMarketplaceOrderIds(tenantId, erpCode, marketplace, ids, PostingType.PRODUCT_SALES)
+                    .keySet()));
+        return posted;
+    }
+
+    /**
+     * 전표 생성 대상 주문: SHIPPING 또는 DELIVERED 상태 주문만 포함
+     * NEW, CONFIRMED 등 아직 출고 전 상태의 주문은 전표 생성에서 제외
+     */
+    private List<Order> filterPostableOrders(List<Order> allOrders) {
+        return allOrders.stream()
                 .filter(o -> o.getOrderStatus() == OrderStatus.SHIPPING || o.getOrderStatus() == OrderStatus.DELIVERED)
                 .toList();
+    }
+
+    /**
+     * 번들 검증 + 통합 전표 생성 요청 준비
+     *
+     * @throws UnmappedProductException 상품 매핑이 완료되지 않은 경우
+     * @throws IllegalStateException 전표 대상 주문이 없거나 정산 미수집/설정 누락인 경우
+     */
+    private PreparedPosting prepareBundlePosting(String bundleOrderId, List<Order> allOrders, String erpCode,
+                                                 PostingReferenceData refs) {
+        List<Order> orders = filterPostableOrders(allOrders);
 
         if (orders.isEmpty()) {
             log.warn("[전표 생성 스킵 - 출고 전 주문만 존재] bundleOrderId={}, 전체 주문={}건, 상태별: {}",
                 bundleOrderId, allOrders.size(),
-                allOrders.stream().collect(java.util.stream.Collectors.groupingBy(
-                    o -> o.getOrderStatus().name(), java.util.stream.Collectors.counting())));
+                allOrders.stream().collect(Collectors.groupingBy(
+                    o -> o.getOrderStatus().name(), Collectors.counting())));
             throw new IllegalStateException(
                 String.format("전표 생성 대상 주문이 없습니다 (SHIPPING/DELIVERED 상태만 전표 생성 가능). bundleOrderId=%s", bundleOrderId));
         }
@@ -99,7 +368,7 @@ public class OrderSettlementPostingService {
         log.info("[번들 주문 조회 완료] bundleOrderId={}, 전체={}건, 전표대상(SHIPPING/DELIVERED)={}건",
             bundleOrderId, allOrders.size(), orders.size());
 
-        // 2. settlement_status 확인 (쿠팡은 정산 미수집도 허용)
+        // settlement_status 확인 (쿠팡은 정산 미수집도 허용)
         Order firstOrderForCheck = orders.get(0);
         boolean isCoupang = firstOrderForCheck.getMarketplace() == Marketplace.COUPANG;
 
@@ -122,10 +391,10 @@ public class OrderSettlementPostingService {
                 bundleOrderId, firstOrderForCheck.getSettlementStatus());
         }
 
-        // 3. 상품 매핑 완료 확인 (모든 주문의 모든 상품이 매핑되어야 함)
+        // 상품 매핑 완료 확인 (모든 주문의 모든 상품이 매핑되어야 함)
         List<String> unmappedItems = new ArrayList<>();
         for (Order order : orders) {
-            unmappedItems.addAll(checkProductMappings(order));
+            unmappedItems.addAll(checkProductMappings(order, refs));
         }
         
         if (!unmappedItems.isEmpty()) {
@@ -134,28 +403,29 @@ public class OrderSettlementPostingService {
                 bundleOrderId, unmappedItems
             );
             log.error("[전표 생성 차단 - 상품매핑 미완료] bundleOrderId={}, unmappedItems={}", bundleOrderId, unmappedItems);
-            throw new IllegalStateException(errorMsg);
+            throw new UnmappedProductException(errorMsg);
         }
 
-        // 4. 대표 주문 정보 (첫 번째 주문 기준)
+        // 대표 주문 정보 (첫 번째 주문 기준)
         Order firstOrder = orders.get(0);
 
-        // 5. ERP 설정 조회 (수수료 품목 코드 확인용)
-        ErpConfig erpConfig = erpConfigRepository.findByTenantIdAndErpCode(firstOrder.getTenantId(), erpCode)
-                .orElseThrow(() -> new IllegalStateException(
-                    String.format("ERP 설정이 없습니다. tenantId=%s, erpCode=%s", firstOrder.getTenantId(), erpCode)
-                ));
+        // ERP 설정 (수수료 품목 코드 확인용)
+        ErpConfig erpConfig = refs.erpConfig();
+        if (erpConfig == null) {
+            throw new IllegalStateException(
+                String.format("ERP 설정이 없습니다. tenantId=%s, erpCode=%s", firstOrder.getTenantId(), erpCode));
+        }
 
-        // 6. Store 조회 (거래처 코드 확인용)
-        Store store = storeRepository.findById(firstOrder.getStoreId())
-                .orElseThrow(() -> new IllegalStateException(
-                    String.format("스토어를 찾을 수 없습니다. storeId=%s", firstOrder.getStoreId())
-                ));
+        // Store (거래처 코드 확인용)
+        Store store = refs.stores().get(firstOrder.getStoreId());
+        if (store == null) {
+            throw new IllegalStateException(
+                String.format("스토어를 찾을 수 없습니다. storeId=%s", firstOrder.getStoreId()));
+        }
 
-        // 7. 통합 전표 Payload 생성 (여러 주문의 상품판매 + 배송비 + 수수료)
-        String payload = buildIntegratedPostingPayload(orders, erpConfig, store);
+        // 통합 전표 Payload 생성 (여러 주문의 상품판매 + 배송비 + 수수료)
+        String payload = buildIntegratedPostingPayload(orders, allOrders, erpConfig, store, refs);
 
-        // 8. 전표 생성 (PostingType은 PRODUCT_SALES로 대표)
         CreatePostingRequest request = CreatePostingRequest.builder()
                 .tenantId(firstOrder.getTenantId())
                 .erpCode(erpCode)
@@ -166,13 +436,17 @@ public class OrderSettlementPostingService {
                 .requestPayload(payload)
                 .build();
 
-        PostingResponse posting = postingService.createOrGet(request);
-        log.info("[통합 전표 생성] postingId={}", posting.getPostingId());
+        return new PreparedPosting(bundleOrderId, orders, request);
+    }
 
-        // 9. 정산 전표 생성 완료 마킹
-        // 실제 정산 데이터가 수집된(COLLECTED) 주문만 POSTED로 변경
-        // 정산 미수집(NOT_COLLECTED) 상태에서 예상 수수료로 전표를 먼저 생성한 경우,
-        // 상태를 유지하여 차후 실제 정산 데이터 수집 시 금액 비교가 가능하도록 함
+    /**
+     * 정산 전표 생성 완료 마킹
+     * 
+     * 실제 정산 데이터가 수집된(COLLECTED) 주문만 POSTED로 변경
+     * 정산 미수집(NOT_COLLECTED) 상태에서 예상 수수료로 전표를 먼저 생성한 경우,
+     * 상태를 유지하여 차후 실제 정산 데이터 수집 시 금액 비교가 가능하도록 함
+     */
+    private void markSettlementPosted(String bundleOrderId, List<Order> orders) {
         int postedCount = 0;
         int skippedCount = 0;
         for (Order order : orders) {
@@ -185,17 +459,10 @@ public class OrderSettlementPostingService {
                     order.getMarketplaceOrderId(), order.getSettlementStatus(), order.getExpectedSettlementAmount());
             }
         }
-        orderRepository.saveAll(orders);
         log.info("[정산 전표 생성 완료 마킹] bundleOrderId={}, POSTED={}건, 상태유지={}건",
             bundleOrderId, postedCount, skippedCount);
-
-        log.info("[정산 전표 생성 완료] bundleOrderId={}, postingId={}", bundleOrderId, posting.getPostingId());
-
-        return posting;
     }
 
-    // ========== Private Helper Methods ==========
-
     /**
      * 통합 전표 Payload 생성 (여러 주문을 하나의 전표로 통합)
      * 
@@ -204,8 +471,14 @@ public class OrderSettlementPostingService {
      * - [주문별] 상품수수료 전표 (N개)
      * - [번들 1건] 배송비 전표 (1개) - 대표 주문 기준
      * - [번들 1건] 배송비수수료 전표 (1개) - 대표 주문 기준
+     * 
+     * 수수료 금액은 주문 복사본(deepCopy)에 설정하여 전표를 만들고, 원본 주문 엔티티는 변경하지 않음
+     * 
+     * @param orders 전표 대상 주문 (SHIPPING/DELIVERED)
+     * @param bundleOrders 번들 전체 주문 (배송비 수수료 폴백 조회용)
      */
-    private String buildIntegratedPostingPayload(List<Order> orders, ErpConfig erpConfig, Store store) {
+    private String buildIntegratedPostingPayload(List<Order> orders, List<Order> bundleOrders,
+                                                 ErpConfig erpConfig, Store store, PostingReferenceData refs) {
         log.info("[통합 Payload 생성 시작] bundleOrderId={}, 주문 개수={}", 
             orders.get(0).getBundleOrderId(), orders.size());
 
@@ -214,7 +487,7 @@ public class OrderSettlementPostingService {
         String ioDate = firstOrder.getPaidAt().format(IO_DATE_FORMATTER);
         
         Integer uploadSerNo = generateDailySequence(firstOrder);
-        String commonWhCd = getProductWarehouseCode(firstOrder, erpConfig);
+        String commonWhCd = getProductWarehouseCode(firstOrder, erpConfig, store, refs);
 
         int index = 0;
 
@@ -222,7 +495,7 @@ public class OrderSettlementPostingService {
         for (Order order : orders) {
             if (order.getTotalProductAmount() != null && order.getTotalProductAmount() > 0) {
                 Map<String, Object> productSalesData = templateBasedPostingBuilder.buildBulkData(
-                    order, store, erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_sales"
+                    order, store, findFirstItemMapping(order, refs), erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_sales"
                 );
                 productSalesData.put("UPLOAD_SER_NO", uploadSerNo);
                 productSalesData.put("IO_DATE", ioDate);
@@ -236,7 +509,7 @@ public class OrderSettlementPostingService {
 
         // ========== 2. 각 주문별 상품수수료 전표 ==========
         for (Order order : orders) {
-            Long productCommission = getProductCommissionFromSettlement(order);
+            Long productCommission = getProductCommissionFromSettlement(order, refs);
 
             // 폴백: 정산 데이터 없으면 Order 엔티티의 예상 수수료 사용 (쿠팡)
             if (productCommission == null && order.getCommissionAmount() != null && order.getCommissionAmount() > 0) {
@@ -249,10 +522,11 @@ public class OrderSettlementPostingService {
                     && store.getCommissionItemCode() != null 
                     && !store.getCommissionItemCode().isEmpty()) {
                 
-                order.setCommissionAmount(productCommission);
+                Order commissionOrder = order.deepCopy();
+                commissionOrder.setCommissionAmount(productCommission);
                 
                 Map<String, Object> commissionData = templateBasedPostingBuilder.buildBulkData(
-                    order, store, erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_commission"
+                    commissionOrder, store, findFirstItemMapping(order, refs), erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_commission"
                 );
                 commissionData.put("UPLOAD_SER_NO", uploadSerNo);
                 commissionData.put("IO_DATE", ioDate);
@@ -275,7 +549,7 @@ public class OrderSettlementPostingService {
                 && !store.getShippingItemCode().isEmpty()) {
             
             Map<String, Object> shippingData = templateBasedPostingBuilder.buildBulkData(
-                firstOrder, store, erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_shipping"
+                firstOrder, store, findFirstItemMapping(firstOrder, refs), erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_shipping"
             );
             shippingData.put("UPLOAD_SER_NO", uploadSerNo);
             shippingData.put("IO_DATE", ioDate);
@@ -288,7 +562,7 @@ public class OrderSettlementPostingService {
 
         // ========== 4. 배송비수수료 전표 (번들 당 1건 - 대표 주문 기준) ==========
         // Order.shippingCommissionAmount 사용, 0이면 번들 내 다른 주문에서 조회
-        Long shippingCommission = getShippingCommissionFromOrderOrBundle(firstOrder);
+        Long shippingCommission = getShippingCommissionFromOrderOrBundle(firstOrder, bundleOrders);
         
         log.info("[배송비수수료 전표 생성 조건 체크] bundleOrderId={}, shippingAmount={}, shippingCommission={}, " +
                 "shippingCommissionItemCode={}", 
@@ -302,10 +576,11 @@ public class OrderSettlementPostingService {
                 && store.getShippingCommissionItemCode() != null 
                 && !store.getShippingCommissionItemCode().isEmpty()) {
             
-            firstOrder.setShippingCommissionAmount(shippingCommission);
+            Order shippingCommissionOrder = firstOrder.deepCopy();
+            shippingCommissionOrder.setShippingCommissionAmount(shippingCommission);
             
             Map<String, Object> shippingCommissionData = templateBasedPostingBuilder.buildBulkData(
-                firstOrder, store, erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_shipping_commission"
+                shippingCommissionOrder, store, findFirstItemMapping(firstOrder, refs), erpConfig.getErpCode(), PostingType.PRODUCT_SALES, "product_shipping_commission"
             );
             shippingCommissionData.put("UPLOAD_SER_NO", uploadSerNo);
             shippingCommissionData.put("IO_DATE", ioDate);
@@ -441,9 +716,10 @@ public class OrderSettlementPostingService {
      * 현재 주문에 배송비 수수료가 없으면, 같은 번들의 다른 주문에서 조회.
      * 
      * @param order 현재 주문
+     * @param bundleOrders 같은 번들의 전체 주문 (전표 대상 외 상태 포함)
      * @return 배송비 수수료 (없으면 null)
      */
-    private Long getShippingCommissionFromOrderOrBundle(Order order) {
+    private Long getShippingCommissionFromOrderOrBundle(Order order, List<Order> bundleOrders) {
         // 1. 현재 주문에서 배송비 수수료 조회
         Long shippingCommission = order.getShippingCommissionAmount();
         
@@ -463,12 +739,6 @@ public class OrderSettlementPostingService {
         log.info("[배송비 수수료 - 번들 내 다른 주문에서 조회 시도] orderId={}, bundleOrderId={}", 
             order.getOrderId(), bundleOrderId);
         
-        // 같은 번들의 모든 주문 조회
-        List<Order> bundleOrders = orderRepository.findByTenantIdAndBundleOrderIdIn(
-            order.getTenantId(), 
-            Collections.singletonList(bundleOrderId)
-        );
-        
         // 배송비 수수료가 있는 주문 찾기
         for (Order bundleOrder : bundleOrders) {
             Long bundleShippingCommission = bundleOrder.getShippingCommissionAmount();
@@ -493,13 +763,14 @@ public class OrderSettlementPostingService {
      * orderId가 아닌 marketplaceOrderId로 조회해야 함
      * 
      * @param order 주문 엔티티
+     * @param refs 일괄 조회한 정산 데이터 (marketplaceOrderId 기준)
      * @return 상품 수수료 (없으면 null)
      */
-    private Long getProductCommissionFromSettlement(Order order) {
+    private Long getProductCommissionFromSettlement(Order order, PostingReferenceData refs) {
         try {
             // ✅ marketplaceOrderId로 정산 데이터 조회 (orderId 대신)
-            List<SettlementOrder> settlements = settlementOrderRepository
-                .findByMarketplaceOrderIdWithItems(order.getMarketplaceOrderId());
+            List<SettlementOrder> settlements = refs.settlements()
+                .getOrDefault(order.getMarketplaceOrderId(), List.of());
             
             if (settlements.isEmpty()) {
                 log.debug("[정산 데이터 없음] marketplaceOrderId={}", order.getMarketplaceOrderId());
@@ -570,47 +841,30 @@ public class OrderSettlementPostingService {
      * 
      * @param order 주문 엔티티
      * @param erpConfig ERP 설정
+     * @param store 주문 스토어
+     * @param refs 일괄 조회한 상품 매핑 / ERP 품목
      * @return 창고코드
      */
-    private String getProductWarehouseCode(Order order, ErpConfig erpConfig) {
+    private String getProductWarehouseCode(Order order, ErpConfig erpConfig, Store store, PostingReferenceData refs) {
         // 첫 번째 아이템의 창고코드 조회
-        if (order.getItems() != null && !order.getItems().isEmpty()) {
-            OrderItem firstItem = order.getItems().get(0);
-            
-            // ProductMapping에서 창고코드 조회
-            Optional<ProductMappingResponse> mappingOpt = productMappingService.findActiveMapping(
-                order.getTenantId(),
-                order.getStoreId(),
-                order.getMarketplace(),
-                firstItem.getMarketplaceProductId(),
-                firstItem.getMarketplaceSku()
-            );
+        ProductMappingResponse mapping = findFirstItemMapping(order, refs);
+        if (mapping != null) {
+            // 1순위: 매핑의 창고코드
+            if (mapping.getWarehouseCode() != null && !mapping.getWarehouseCode().isEmpty()) {
+                log.info("[창고코드 조회] source=ProductMapping, code={}", mapping.getWarehouseCode());
+                return mapping.getWarehouseCode();
+            }
             
-            if (mappingOpt.isPresent()) {
-                ProductMappingResponse mapping = mappingOpt.get();
-                
-                // 1순위: 매핑의 창고코드
-                if (mapping.getWarehouseCode() != null && !mapping.getWarehouseCode().isEmpty()) {
-                    log.info("[창고코드 조회] source=ProductMapping, code={}", mapping.getWarehouseCode());
-                    return mapping.getWarehouseCode();
-                }
-                
-                // 2순위: ERP 품목의 창고코드
-                String erpItemCode = mapping.getErpItemCode();
-                Optional<ErpItem> erpItemOpt = erpItemRepository.findByTenantIdAndErpCodeAndItemCode(
-                    order.getTenantId(), erpConfig.getErpCode(), erpItemCode
-                );
-                
-                if (erpItemOpt.isPresent() && erpItemOpt.get().getWarehouseCode() != null) {
-                    log.info("[창고코드 조회] source=ErpItem, code={}", erpItemOpt.get().getWarehouseCode());
-                    return erpItemOpt.get().getWarehouseCode();
-                }
+            // 2순위: ERP 품목의 창고코드
+            ErpItem erpItem = refs.erpItems().get(mapping.getErpItemCode());
+            if (erpItem != null && erpItem.getWarehouseCode() != null) {
+                log.info("[창고코드 조회] source=ErpItem, code={}", erpItem.getWarehouseCode());
+                return erpItem.getWarehouseCode();
             }
         }
         
         // 3순위: Store의 defaultWarehouseCode
-        Store store = storeRepository.findById(order.getStoreId()).orElse(null);
-        if (store != null && store.getDefaultWarehouseCode() != null && !store.getDefaultWarehouseCode().isEmpty()) {
+        if (store.getDefaultWarehouseCode() != null && !store.getDefaultWarehouseCode().isEmpty()) {
             log.info("[창고코드 조회] source=Store.defaultWarehouseCode, code={}", store.getDefaultWarehouseCode());
             return store.getDefaultWarehouseCode();
         }
@@ -626,15 +880,26 @@ public class OrderSettlementPostingService {
         return "100";
     }
 
+    /**
+     * 대표 상품(첫 번째 아이템)의 활성 매핑
+     */
+    private ProductMappingResponse findFirstItemMapping(Order order, PostingReferenceData refs) {
+        if (order.getItems() == null || order.getItems().isEmpty()) {
+            return null;
+        }
+        return refs.findMapping(order, order.getItems().get(0));
+    }
+
     /**
      * OrderItem의 ProductMapping 확인
      * 
      * mapping_status = MAPPED이고 isActive = true인 매핑만 유효하다고 판단
      * 
      * @param order 주문 엔티티
+     * @param refs 일괄 조회한 활성 매핑
      * @return 매핑되지 않은 상품 목록 (productId:sku 형식)
      */
-    private List<String> checkProductMappings(Order order) {
+    private List<String> checkProductMappings(Order order, PostingReferenceData refs) {
         List<String> unmappedItems = new ArrayList<>();
 
         if (order.getItems() == null || order.getItems().isEmpty()) {
@@ -642,27 +907,13 @@ public class OrderSettlementPostingService {
             return unmappedItems;
         }
 
-        log.info("[매핑 체크 시작] orderId={}, tenantId={}, storeId={}, marketplace={}, itemCount={}", 
+        log.debug("[매핑 체크 시작] orderId={}, tenantId={}, storeId={}, marketplace={}, itemCount={}", 
             order.getOrderId(), order.getTenantId(), order.getStoreId(), order.getMarketplace(), order.getItems().size());
 
         for (OrderItem item : order.getItems()) {
-            log.info("[매핑 조회 시도] orderId={}, productId={}, sku={}, tenantId={}, storeId={}, marketplace={}", 
-                order.getOrderId(), 
-                item.getMarketplaceProductId(), 
-                item.getMarketplaceSku(),
-                order.getTenantId(),
-                order.getStoreId(),
-                order.getMarketplace());
-
-            Optional<ProductMappingResponse> mapping = productMappingService.findActiveMapping(
-                order.getTenantId(),
-                order.getStoreId(),
-                order.getMarketplace(),
-                item.getMarketplaceProductId(),
-                item.getMarketplaceSku()
-            );
+            ProductMappingResponse mapping = refs.findMapping(order, item);
 
-            if (mapping.isEmpty()) {
+            if (mapping == null) {
                 String itemKey = String.format("%s:%s", 
                     item.getMarketplaceProductId(), item.getMarketplaceSku());
                 unmappedItems.add(itemKey);
@@ -676,11 +927,11 @@ public class OrderSettlementPostingService {
                     order.getStoreId(),
                     order.getMarketplace());
             } else {
-                log.info("[매핑 조회 성공] orderId={}, productId={}, sku={}, erpItemCode={}", 
+                log.debug("[매핑 조회 성공] orderId={}, productId={}, sku={}, erpItemCode={}", 
                     order.getOrderId(), 
                     item.getMarketplaceProductId(), 
                     item.getMarketplaceSku(),
-                    mapping.get().getErpItemCode());
+                    mapping.getErpItemCode());
             }
         }
 
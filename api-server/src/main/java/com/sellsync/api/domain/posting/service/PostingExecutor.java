@@ -49,6 +49,48 @@ public class PostingExecutor {
         }
     }
 
+    /**
+     * 다건 일괄 전송 비동기 실행 (ERP 요청 1회에 여러 전표)
+     * 
+     * @param postingIds 전표 ID 목록
+     * @param erpCredentials ERP 인증 정보 (JSON)
+     * @return 전표별 실행 결과
+     */
+    @Async("postingTaskExecutor")
+    public CompletableFuture<java.util.List<PostingResponse>> executeBulkAsync(java.util.List<UUID> postingIds, String erpCredentials) {
+        log.info("[일괄 전송 비동기 시작] count={}", postingIds.size());
+
+        try {
+            java.util.List<PostingResponse> results = postingExecutorService.executePostingsInBulk(postingIds, erpCredentials);
+
+            log.info("[일괄 전송 비동기 완료] requested={}, processed={}", postingIds.size(), results.size());
+
+            return CompletableFuture.completedFuture(results);
+
+        } catch (Exception e) {
+            log.error("[일괄 전송 비동기 실패] count={}, error={}", postingIds.size(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 작업 큐 선점 묶음 비동기 전송 (PostingDispatchScheduler)
+     * 
+     * @param postingIds 선점한 전표 ID 목록 (POSTING_REQUESTED)
+     * @return 전표별 실행 결과
+     */
+    @Async("postingTaskExecutor")
+    public CompletableFuture<java.util.List<PostingResponse>> executeClaimedBatchAsync(java.util.List<UUID> postingIds) {
+        try {
+            java.util.List<PostingResponse> results = postingExecutorService.executeClaimedBatch(postingIds, null);
+            return CompletableFuture.completedFuture(results);
+
+        } catch (Exception e) {
+            log.error("[선점 묶음 전송 실패] count={}, error={}", postingIds.size(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 재시도 대상 전표 비동기 실행
      * 
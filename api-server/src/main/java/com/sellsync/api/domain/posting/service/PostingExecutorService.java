@@ -2,6 +2,7 @@ package com.sellsync.api.domain.posting.service;
 
 import com.sellsync.api.domain.credential.service.CredentialService;
 import com.sellsync.api.domain.posting.adapter.ErpApiClient;
+import com.sellsync.api.domain.posting.adapter.ErpDocumentResult;
 import com.sellsync.api.domain.posting.dto.PostingResponse;
 import com.sellsync.api.domain.posting.entity.Posting;
 import com.sellsync.api.domain.posting.enums.PostingStatus;
@@ -31,6 +32,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PostingExecutorService {
 
+    /**
+     * 일괄 전송 선점 단위 (작업 큐 묶음 크기와 같게 유지 - 묶음 전송이 lease 안에 끝나도록)
+     */
+    private static final int CLAIM_CHUNK_SIZE = 100;
+
     private final PostingService postingService;
     private final PostingRepository postingRepository;
     private final Map<String, ErpApiClient> erpApiClients;
@@ -53,19 +59,7 @@ public class PostingExecutorService {
             postingId, posting.getPostingType(), posting.getPostingStatus(), posting.getErpCode());
 
         // 1-1. credentials 자동 조회 (전달되지 않은 경우)
-        if (erpCredentials == null || erpCredentials.trim().isEmpty() || erpCredentials.contains("mock")) {
-            final UUID tenantId = posting.getTenantId();
-            final String erpCode = posting.getErpCode();
-            
-            log.info("[Credentials 자동 조회] tenantId={}, erpCode={}", tenantId, erpCode);
-            
-            erpCredentials = credentialService.getErpCredentials(tenantId, erpCode)
-                .orElseThrow(() -> new IllegalStateException(
-                    "ERP 인증 정보가 없습니다. tenantId=" + tenantId + ", erpCode=" + erpCode
-                ));
-            
-            log.info("[Credentials 조회 완료] credentialsLength={}", erpCredentials.length());
-        }
+        erpCredentials = resolveCredentials(posting.getTenantId(), posting.getErpCode(), erpCredentials);
 
         try {
             // 2. 상태 전이: READY → READY_TO_POST
@@ -202,6 +196,54 @@ public class PostingExecutorService {
         return results;
     }
 
+    /**
+     * 다건 일괄 전송 (ERP 요청 1회에 여러 전표)
+     * 
+     * 1. 전송 대상 선점: READY/READY_TO_POST → POSTING_REQUESTED (커밋 후 ERP 호출, 중복 전송 방지)
+     *    - CLAIM_CHUNK_SIZE 단위로 선점 후 바로 전송 (선점 lease 안에 전송이 끝나도록)
+     * 2. 테넌트/ERP별로 묶어 ErpApiClient.postDocuments 호출 (이카운트: SaveSale 다건 요청)
+     * 3. 전표별 결과 반영: POSTED/FAILED + PostingAttempt 이력 (같은 묶음은 traceId 공유)
+     * 
+     * 트랜잭션은 단계별로 PostingService에서 커밋합니다 (ERP 호출 중 DB 트랜잭션 미점유).
+     * 
+     * @param postingIds 전표 ID 목록
+     * @param erpCredentials ERP 인증 정보 (JSON) - null이면 테넌트별 자동 조회
+     * @return 전송 결과 목록 (선점하지 못한 전표 제외)
+     */
+    public java.util.List<PostingResponse> executePostingsInBulk(java.util.List<UUID> postingIds, String erpCredentials) {
+        java.util.List<PostingResponse> responses = new java.util.ArrayList<>();
+        for (int from = 0; from < postingIds.size(); from += CLAIM_CHUNK_SIZE) {
+            java.util.List<UUID> chunk = postingIds.subList(from, Math.min(from + CLAIM_CHUNK_SIZE, postingIds.size()));
+            java.util.List<Posting> claimed = postingService.claimForTransmission(chunk);
+            if (!claimed.isEmpty()) {
+                responses.addAll(transmit(claimed, erpCredentials));
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 작업 큐에서 선점한 묶음 전송 (PostingDispatchRepository.claimBatch로 이미 POSTING_REQUESTED)
+     * 
+     * 선점 이후 다른 경로에서 처리된 전표(POSTING_REQUESTED 아님)는 제외합니다.
+     * 
+     * @param postingIds 선점한 전표 ID 목록
+     * @param erpCredentials ERP 인증 정보 (JSON) - null이면 테넌트별 자동 조회
+     * @return 전송 결과 목록
+     */
+    public java.util.List<PostingResponse> executeClaimedBatch(java.util.List<UUID> postingIds, String erpCredentials) {
+        java.util.List<Posting> claimed = postingRepository.findAllById(postingIds).stream()
+                .filter(p -> p.getPostingStatus() == PostingStatus.POSTING_REQUESTED)
+                .toList();
+        if (claimed.size() < postingIds.size()) {
+            log.warn("[선점 묶음 일부 제외] requested={}, transmittable={}", postingIds.size(), claimed.size());
+        }
+        if (claimed.isEmpty()) {
+            return java.util.List.of();
+        }
+        return transmit(claimed, erpCredentials);
+    }
+
     /**
      * 재시도 대상 전표 조회
      * 
@@ -237,6 +279,46 @@ public class PostingExecutorService {
 
     // ========== Private Helper Methods ==========
 
+    /**
+     * POSTING_REQUESTED 전표를 테넌트/ERP별로 묶어 전송하고 결과 반영
+     */
+    private java.util.List<PostingResponse> transmit(java.util.List<Posting> claimed, String erpCredentials) {
+        Map<String, java.util.List<Posting>> groups = claimed.stream()
+                .collect(java.util.stream.Collectors.groupingBy(
+                    p -> p.getTenantId() + "|" + p.getErpCode(),
+                    java.util.LinkedHashMap::new,
+                    java.util.stream.Collectors.toList()));
+
+        java.util.List<PostingResponse> responses = new java.util.ArrayList<>(claimed.size());
+        for (java.util.List<Posting> group : groups.values()) {
+            Posting first = group.get(0);
+            String traceId = UUID.randomUUID().toString();
+            long startedAt = System.currentTimeMillis();
+
+            java.util.List<ErpDocumentResult> results;
+            try {
+                String credentials = resolveCredentials(first.getTenantId(), first.getErpCode(), erpCredentials);
+                results = getErpApiClient(first.getErpCode()).postDocuments(group, credentials);
+            } catch (Exception e) {
+                log.error("[일괄 전송 실패] tenantId={}, erpCode={}, count={}, error={}", 
+                    first.getTenantId(), first.getErpCode(), group.size(), e.getMessage(), e);
+                String errorCode = e instanceof ErpApiException erpEx ? erpEx.getErrorCode() : "BATCH_ERROR";
+                results = group.stream()
+                        .map(p -> ErpDocumentResult.failure(p.getPostingId(), errorCode, e.getMessage(), 
+                            p.getRequestPayload(), null))
+                        .toList();
+            }
+            long executionTimeMs = System.currentTimeMillis() - startedAt;
+
+            responses.addAll(postingService.applyTransmissionResults(results, traceId, executionTimeMs));
+            log.info("[일괄 전송 완료] tenantId={}, erpCode={}, count={}, success={}, traceId={}, {}ms", 
+                first.getTenantId(), first.getErpCode(), group.size(),
+                results.stream().filter(ErpDocumentResult::success).count(), traceId, executionTimeMs);
+        }
+
+        return responses;
+    }
+
     /**
      * ERP API 클라이언트 조회
      */
@@ -250,6 +332,25 @@ public class PostingExecutorService {
         throw new IllegalArgumentException("Unsupported ERP code: " + erpCode);
     }
 
+    /**
+     * ERP 인증 정보 조회 (전달되지 않았거나 mock이면 저장된 인증 정보 사용)
+     */
+    private String resolveCredentials(UUID tenantId, String erpCode, String erpCredentials) {
+        if (erpCredentials != null && !erpCredentials.trim().isEmpty() && !erpCredentials.contains("mock")) {
+            return erpCredentials;
+        }
+
+        log.info("[Credentials 자동 조회] tenantId={}, erpCode={}", tenantId, erpCode);
+
+        String credentials = credentialService.getErpCredentials(tenantId, erpCode)
+            .orElseThrow(() -> new IllegalStateException(
+                "ERP 인증 정보가 없습니다. tenantId=" + tenantId + ", erpCode=" + erpCode
+            ));
+
+        log.info("[Credentials 조회 완료] credentialsLength={}", credentials.length());
+        return credentials;
+    }
+
     /**
      * 응답 페이로드 생성 (JSON)
      */
@@ -4,6 +4,7 @@ import com.sellsync.api.domain.order.entity.Order;
 import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.order.exception.OrderNotFoundException;
 import com.sellsync.api.domain.order.repository.OrderRepository;
+import com.sellsync.api.domain.posting.adapter.ErpDocumentResult;
 import com.sellsync.api.domain.posting.dto.CancelPostingRequestDto;
 import com.sellsync.api.domain.posting.dto.CreatePostingRequest;
 import com.sellsync.api.domain.posting.dto.CreatePostingRequestDto;
@@ -15,6 +16,10 @@ import com.sellsync.api.domain.posting.enums.PostingType;
 import com.sellsync.api.domain.posting.exception.InvalidStateTransitionException;
 import com.sellsync.api.domain.posting.exception.PostingNotFoundException;
 import com.sellsync.api.domain.posting.repository.PostingRepository;
+import com.sellsync.api.domain.posting.repository.PostingTransitionRepository.AttemptRecord;
+import com.sellsync.api.domain.posting.repository.PostingTransitionRepository.StatusTransition;
+import lombok.Builder;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -26,10 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -72,19 +80,7 @@ public class PostingService {
             })
             .orElseGet(() -> {
                 // 2. 신규 전표 생성
-                Posting newPosting = Posting.builder()
-                        .tenantId(request.getTenantId())
-                        .erpCode(request.getErpCode())
-                        .orderId(request.getOrderId())
-                        .marketplace(request.getMarketplace())
-                        .marketplaceOrderId(request.getMarketplaceOrderId())
-                        .postingType(request.getPostingType())
-                        .postingStatus(PostingStatus.READY)
-                        .originalPostingId(request.getOriginalPostingId())
-                        .requestPayload(request.getRequestPayload())
-                        .build();
-
-                Posting saved = postingRepository.save(newPosting);
+                Posting saved = postingRepository.save(toNewPosting(request));
                 log.info("[신규 생성] postingId={}, erpCode={}, marketplace={}, orderId={}, type={}", 
                     saved.getPostingId(), saved.getErpCode(), saved.getMarketplace(), 
                     saved.getMarketplaceOrderId(), saved.getPostingType());
@@ -109,6 +105,59 @@ public class PostingService {
         }
     }
 
+    /**
+     * 멱등키 일괄 조회 (마켓플레이스 단위)
+     *
+     * @return marketplaceOrderId → 기존 전표
+     */
+    @Transactional(readOnly = true)
+    public Map<String, PostingResponse> findExistingByMarketplaceOrderIds(UUID tenantId, String erpCode,
+                                                                         Marketplace marketplace,
+                                                                         List<String> marketplaceOrderIds,
+                                                                         PostingType postingType) {
+        if (marketplaceOrderIds.isEmpty()) {
+            return Map.of();
+        }
+        return postingRepository.findByTenantIdAndErpCodeAndMarketplaceAndMarketplaceOrderIdInAndPostingType(
+                        tenantId, erpCode, marketplace, marketplaceOrderIds, postingType)
+                .stream()
+                .collect(Collectors.toMap(Posting::getMarketplaceOrderId, PostingResponse::from));
+    }
+
+    /**
+     * 신규 전표 일괄 생성
+     * - 멱등키 중복이 없음을 호출 측에서 확인한 요청만 전달 (findExistingByMarketplaceOrderIds)
+     * - Hibernate JDBC 배치(batch_size)로 INSERT
+     * - 동시 생성으로 Unique 제약 위반 시 트랜잭션 전체가 롤백되므로 호출 측에서 건별 createOrGet으로 재시도
+     */
+    @Transactional
+    public List<PostingResponse> createAll(List<CreatePostingRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        List<Posting> saved = postingRepository.saveAll(requests.stream()
+                .map(this::toNewPosting)
+                .toList());
+        log.info("[신규 일괄 생성] count={}", saved.size());
+        return saved.stream()
+                .map(PostingResponse::from)
+                .toList();
+    }
+
+    private Posting toNewPosting(CreatePostingRequest request) {
+        return Posting.builder()
+                .tenantId(request.getTenantId())
+                .erpCode(request.getErpCode())
+                .orderId(request.getOrderId())
+                .marketplace(request.getMarketplace())
+                .marketplaceOrderId(request.getMarketplaceOrderId())
+                .postingType(request.getPostingType())
+                .postingStatus(PostingStatus.READY)
+                .originalPostingId(request.getOriginalPostingId())
+                .requestPayload(request.getRequestPayload())
+                .build();
+    }
+
     /**
      * 전표 상태 전이 (ADR-0001 State Machine Guard)
      * - 허용되지 않은 전이는 예외 발생
@@ -194,6 +243,115 @@ public class PostingService {
         return PostingResponse.from(updated);
     }
 
+    /**
+     * 전송 대상 전표 선점 (READY/READY_TO_POST → POSTING_REQUESTED)
+     * - 조건부 UPDATE 1회로 상태 확인과 전이를 함께 수행 (PostingRepository.claimForTransmission)
+     * - 동시 실행 시 각 전표는 한 호출만 선점하므로 같은 전표를 중복 전송하지 않음
+     * - 이미 전송 중이거나 완료된 전표, 다른 호출이 먼저 선점한 전표는 제외 (멱등)
+     * - 트랜잭션 커밋 후 ERP 호출
+     *
+     * @return 선점한 전표 목록 (requestPayload 포함)
+     */
+    @Transactional
+    public List<Posting> claimForTransmission(List<UUID> postingIds) {
+        List<UUID> claimedIds = postingRepository.claimForTransmission(postingIds);
+        List<Posting> claimed = claimedIds.isEmpty() ? List.of() : postingRepository.findAllById(claimedIds);
+
+        log.info("[전송 선점] requested={}, claimed={}", postingIds.size(), claimed.size());
+        return claimed;
+    }
+
+    /**
+     * 일괄 전송 결과 반영 (전표별 POSTING_REQUESTED → POSTED/FAILED + 시도 이력)
+     * - applyTransitions로 UPDATE 1회 + 시도 이력 INSERT 1회
+     * - 이미 다른 경로(lease 만료 등)로 전이된 전표는 반영하지 않음
+     *
+     * @param results ERP 전표별 전송 결과
+     * @param traceId 일괄 전송 추적 ID (같은 요청으로 전송된 전표 묶음 식별)
+     * @param executionTimeMs ERP 호출 전체 소요 시간
+     * @return 반영된 전표 응답
+     */
+    @Transactional
+    public List<PostingResponse> applyTransmissionResults(List<ErpDocumentResult> results,
+                                                          String traceId, Long executionTimeMs) {
+        List<StatusTransition> transitions = new ArrayList<>(results.size());
+        for (ErpDocumentResult result : results) {
+            AttemptRecord attempt = new AttemptRecord(
+                    result.success() ? "SUCCESS" : "FAILED",
+                    result.requestPayload(), result.responsePayload(),
+                    result.errorCode(), result.errorMessage(),
+                    traceId, null, executionTimeMs);
+
+            if (result.success()) {
+                String responsePayload = result.responsePayload() != null
+                        ? result.responsePayload()
+                        : String.format("{\"erpDocNo\":\"%s\",\"postedAt\":\"%s\"}",
+                                result.erpDocumentNo(), java.time.LocalDateTime.now());
+                transitions.add(StatusTransition.posted(
+                        result.postingId(), result.erpDocumentNo(), responsePayload, attempt));
+                log.info("[전송 성공] postingId={}, erpDocNo={}", result.postingId(), result.erpDocumentNo());
+            } else {
+                transitions.add(StatusTransition.failed(result.postingId(), result.errorMessage(), attempt));
+                log.error("[전송 실패] postingId={}, error={}", result.postingId(), result.errorMessage());
+            }
+        }
+
+        BulkTransitionResult applied = applyTransitions(transitions);
+        return postingRepository.findAllById(applied.getApplied()).stream()
+                .map(PostingResponse::from)
+                .toList();
+    }
+
+    /**
+     * 전표 상태 전이 일괄 적용 (ADR-0001 State Machine Guard)
+     *
+     * - 전이 가드는 메모리에서 검증, 허용되지 않은 전이는 DB에 보내지 않음 (rejected)
+     * - (posting_id, expected_status) 조건 UPDATE 1회 + 시도 이력 INSERT 1회
+     * - 현재 상태가 expected와 다른 전표는 건너뜀 (skipped) - 같은 결과를 다시 반영해도 중복 전이/이력 없음
+     * - 같은 전표가 여러 번 있으면 첫 번째만 적용
+     */
+    @Transactional
+    public BulkTransitionResult applyTransitions(List<StatusTransition> transitions) {
+        Map<UUID, StatusTransition> unique = new LinkedHashMap<>();
+        List<UUID> rejected = new ArrayList<>();
+        for (StatusTransition transition : transitions) {
+            if (!transition.expectedStatus().canTransitionTo(transition.targetStatus())) {
+                log.error("[상태 전이 금지] postingId={}, from={}, to={}",
+                    transition.postingId(), transition.expectedStatus(), transition.targetStatus());
+                rejected.add(transition.postingId());
+                continue;
+            }
+            unique.putIfAbsent(transition.postingId(), transition);
+        }
+
+        List<UUID> applied = postingRepository.applyTransitions(new ArrayList<>(unique.values()));
+
+        Set<UUID> appliedSet = new HashSet<>(applied);
+        List<UUID> skipped = unique.keySet().stream()
+                .filter(id -> !appliedSet.contains(id))
+                .toList();
+        if (!skipped.isEmpty()) {
+            log.warn("[상태 전이 건너뜀 - 현재 상태 불일치] count={}, postingIds={}", skipped.size(), skipped);
+        }
+
+        log.info("[상태 전이 일괄] requested={}, applied={}, skipped={}, rejected={}",
+            transitions.size(), applied.size(), skipped.size(), rejected.size());
+
+        return BulkTransitionResult.builder()
+                .applied(applied)
+                .skipped(skipped)
+                .rejected(rejected)
+                .build();
+    }
+
+    @Data
+    @Builder
+    public static class BulkTransitionResult {
+        private List<UUID> applied;     // 전이 완료
+        private List<UUID> skipped;     // 현재 상태가 expected와 다름 (이미 전이됨/전표 없음)
+        private List<UUID> rejected;    // 상태머신상 허용되지 않는 전이
+    }
+
     /**
      * 전표 시도 이력 추가
      */
@@ -560,7 +718,7 @@ public class PostingService {
     private String buildFallbackPayload(Order order, PostingType type) {
         try {
             com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            Map<String, Object> payload = new java.util.LinkedHashMap<>();
+            Map<String, Object> payload = new LinkedHashMap<>();
             
             // 기본 정보
             payload.put("orderId", order.getOrderId().toString());
@@ -0,0 +1,100 @@
+package com.sellsync.api.domain.posting.service;
+
+import com.sellsync.api.domain.posting.enums.PostingType;
+import com.sellsync.api.domain.posting.repository.PostingTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 전표 템플릿 컴파일러
+ *
+ * 템플릿을 {@link PostingTemplatePlan}으로 변환하여 캐시합니다.
+ * - 캐시: postingTemplatePlans (CacheConfig 기본 설정, 5분 TTL)
+ * - 무효화: PostingTemplateService의 템플릿/필드/매핑 변경 트랜잭션 커밋 후 전체 evict
+ * - TTL은 다른 노드에서 수정된 템플릿의 반영 시간 상한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostingTemplateCompiler {
+
+    public static final String CACHE_NAME = "postingTemplatePlans";
+
+    private final PostingTemplateRepository templateRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 활성 템플릿 실행 계획 조회
+     *
+     * @return 실행 계획 (활성 템플릿이 없으면 null, 캐시하지 않음)
+     */
+    @Cacheable(value = CACHE_NAME,
+               key = "'active_' + #tenantId + '_' + #erpCode + '_' + #postingType",
+               unless = "#result == null")
+    @Transactional(readOnly = true)
+    public PostingTemplatePlan findActivePlan(UUID tenantId, String erpCode, PostingType postingType) {
+        return templateRepository.findActiveTemplate(tenantId, erpCode, postingType)
+                .map(template -> compile(template.getTemplateId()))
+                .orElse(null);
+    }
+
+    /**
+     * 템플릿 실행 계획 조회 (미리보기 등 templateId 지정)
+     *
+     * @return 실행 계획 (템플릿이 없으면 null, 캐시하지 않음)
+     */
+    @Cacheable(value = CACHE_NAME, key = "'id_' + #templateId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public PostingTemplatePlan findPlan(UUID templateId) {
+        return compile(templateId);
+    }
+
+    /**
+     * 캐시 전체 무효화 (호출한 트랜잭션 커밋 후)
+     *
+     * 커밋 전에 비우면 커밋 전까지 다른 스레드가 변경 전 템플릿을 다시 캐시하므로 커밋 이후에 evict
+     * (트랜잭션 밖에서 호출하면 즉시 evict, 롤백 시 evict하지 않음)
+     */
+    public void evictAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll();
+            }
+        });
+    }
+
+    private void evictAll() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.clear();
+            log.debug("[템플릿 캐시 무효화] cache={}", CACHE_NAME);
+        }
+    }
+
+    /**
+     * 템플릿 + 필드 조회 후 컴파일 (캐시는 호출한 public 메서드에서 키별로 적용)
+     */
+    private PostingTemplatePlan compile(UUID templateId) {
+        return templateRepository.findByIdWithFields(templateId)
+                .map(template -> {
+                    PostingTemplatePlan plan = PostingTemplatePlan.compile(template);
+                    log.info("[템플릿 컴파일] templateId={}, fields={}", templateId, plan.getFields().size());
+                    return plan;
+                })
+                .orElse(null);
+    }
+}
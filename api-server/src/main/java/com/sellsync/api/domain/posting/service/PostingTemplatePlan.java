@@ -0,0 +1,109 @@
+package com.sellsync.api.domain.posting.service;
+
+import com.sellsync.api.domain.posting.entity.PostingFieldMapping;
+import com.sellsync.api.domain.posting.entity.PostingTemplate;
+import com.sellsync.api.domain.posting.entity.PostingTemplateField;
+import com.sellsync.api.domain.posting.enums.ECountField;
+import com.sellsync.api.domain.posting.enums.FieldSourceType;
+import com.sellsync.api.domain.posting.enums.ItemAggregationType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 전표 템플릿 실행 계획 (불변)
+ *
+ * PostingTemplate 엔티티 그래프(템플릿 → 필드 → 매핑)를 필드 순서대로 펼쳐 둔 스냅샷입니다.
+ * 영속성 컨텍스트와 분리되어 있으므로 캐시에 보관하고 여러 스레드에서 공유할 수 있습니다.
+ */
+public final class PostingTemplatePlan {
+
+    private final UUID templateId;
+    private final List<FieldPlan> fields;
+    private final int outputCapacity;
+
+    private PostingTemplatePlan(UUID templateId, List<FieldPlan> fields) {
+        this.templateId = templateId;
+        this.fields = fields;
+        // 필드 + 자동 보충 필드(UPLOAD_SER_NO, CUST, WH_CD)가 재해시 없이 들어가는 크기
+        this.outputCapacity = (int) ((fields.size() + 3) / 0.75f) + 1;
+    }
+
+    /**
+     * 템플릿 컴파일 (필드/매핑이 로딩된 상태에서 호출)
+     */
+    public static PostingTemplatePlan compile(PostingTemplate template) {
+        List<FieldPlan> fields = template.getFields().stream()
+                .sorted(Comparator.comparing(PostingTemplateField::getDisplayOrder))
+                .map(FieldPlan::from)
+                .toList();
+        return new PostingTemplatePlan(template.getTemplateId(), fields);
+    }
+
+    public UUID getTemplateId() {
+        return templateId;
+    }
+
+    public List<FieldPlan> getFields() {
+        return fields;
+    }
+
+    /**
+     * 전표 데이터 Map 초기 용량
+     */
+    public int getOutputCapacity() {
+        return outputCapacity;
+    }
+
+    /**
+     * 필드별 실행 정보
+     *
+     * @param source 값 추출 규칙 (매핑이 없으면 null)
+     * @param fieldType 값 후처리 방식 (DATE: 날짜 포맷, NUMBER: 반올림)
+     */
+    public record FieldPlan(
+            String fieldCode,
+            String fieldNameKr,
+            FieldSource source,
+            String defaultValue,
+            boolean required,
+            ECountField.FieldType fieldType) {
+
+        static FieldPlan from(PostingTemplateField field) {
+            ECountField ecountField = field.getEcountFieldCode();
+            return new FieldPlan(
+                    ecountField.getFieldCode(),
+                    ecountField.getFieldNameKr(),
+                    FieldSource.from(field.getMapping()),
+                    field.getDefaultValue(),
+                    Boolean.TRUE.equals(field.getIsRequired()),
+                    ecountField.getFieldType());
+        }
+    }
+
+    /**
+     * 값 추출 규칙 (PostingFieldMapping 스냅샷)
+     */
+    public record FieldSource(
+            FieldSourceType sourceType,
+            String sourcePath,
+            ItemAggregationType itemAggregation,
+            String transformRule) {
+
+        public static FieldSource from(PostingFieldMapping mapping) {
+            if (mapping == null) {
+                return null;
+            }
+            return new FieldSource(
+                    mapping.getSourceType(),
+                    mapping.getSourcePath(),
+                    mapping.getItemAggregation(),
+                    mapping.getTransformRule());
+        }
+
+        public boolean hasTransformRule() {
+            return transformRule != null && !transformRule.isBlank();
+        }
+    }
+}
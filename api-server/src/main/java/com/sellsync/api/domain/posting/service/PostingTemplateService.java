@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
  * 전표 템플릿 관리 서비스
  * 
  * 템플릿 CRUD 및 필드/매핑 관리
+ * 변경 메서드는 커밋 후 컴파일된 템플릿 캐시(postingTemplatePlans)를 무효화
  */
 @Slf4j
 @Service
@@ -31,12 +32,15 @@ public class PostingTemplateService {
     private final PostingTemplateRepository templateRepository;
     private final PostingTemplateFieldRepository fieldRepository;
     private final PostingFieldMappingRepository mappingRepository;
+    private final PostingTemplateCompiler templateCompiler;
     
     /**
      * 템플릿 생성
      */
     @Transactional
     public PostingTemplateDto createTemplate(UUID tenantId, CreatePostingTemplateRequest request) {
+        templateCompiler.evictAllAfterCommit();
+        
         log.info("[템플릿 생성 시작] tenantId={}, templateName={}, erpCode={}, postingType={}", 
             tenantId, request.getTemplateName(), request.getErpCode(), request.getPostingType());
         
@@ -117,6 +121,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public PostingTemplateDto updateTemplate(UUID tenantId, UUID templateId, UpdatePostingTemplateRequest request) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplate template = templateRepository.findById(templateId)
             .orElseThrow(() -> new PostingNotFoundException("템플릿을 찾을 수 없습니다: " + templateId));
         
@@ -154,6 +160,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public PostingTemplateDto activateTemplate(UUID tenantId, UUID templateId) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplate template = templateRepository.findById(templateId)
             .orElseThrow(() -> new PostingNotFoundException("템플릿을 찾을 수 없습니다: " + templateId));
         
@@ -196,6 +204,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public PostingTemplateDto deactivateTemplate(UUID tenantId, UUID templateId) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplate template = templateRepository.findById(templateId)
             .orElseThrow(() -> new PostingNotFoundException("템플릿을 찾을 수 없습니다: " + templateId));
         
@@ -223,6 +233,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public void deleteTemplate(UUID tenantId, UUID templateId) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplate template = templateRepository.findById(templateId)
             .orElseThrow(() -> new PostingNotFoundException("템플릿을 찾을 수 없습니다: " + templateId));
         
@@ -251,6 +263,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public PostingTemplateFieldDto addField(UUID tenantId, UUID templateId, AddTemplateFieldRequest request) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplate template = templateRepository.findById(templateId)
             .orElseThrow(() -> new PostingNotFoundException("템플릿을 찾을 수 없습니다: " + templateId));
         
@@ -301,6 +315,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public void deleteField(UUID tenantId, UUID fieldId) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplateField field = fieldRepository.findById(fieldId)
             .orElseThrow(() -> new PostingNotFoundException("필드를 찾을 수 없습니다: " + fieldId));
         
@@ -324,6 +340,8 @@ public class PostingTemplateService {
      */
     @Transactional
     public PostingFieldMappingDto updateFieldMapping(UUID tenantId, UUID fieldId, UpdateFieldMappingRequest request) {
+        templateCompiler.evictAllAfterCommit();
+        
         PostingTemplateField field = fieldRepository.findByIdWithMapping(fieldId)
             .orElseThrow(() -> new PostingNotFoundException("필드를 찾을 수 없습니다: " + fieldId));
         
@@ -2,6 +2,7 @@ package com.sellsync.api.domain.posting.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sellsync.api.domain.mapping.dto.ProductMappingResponse;
 import com.sellsync.api.domain.order.entity.Order;
 import com.sellsync.api.domain.posting.entity.PostingTemplate;
 import com.sellsync.api.domain.posting.entity.PostingTemplateField;
@@ -29,10 +30,9 @@ import java.util.*;
 public class TemplateBasedPostingBuilder {
     
     private final PostingTemplateRepository templateRepository;
+    private final PostingTemplateCompiler templateCompiler;
     private final FieldValueExtractor fieldValueExtractor;
     private final ObjectMapper objectMapper;
-    private final com.sellsync.api.domain.store.repository.StoreRepository storeRepository;
-    private final com.sellsync.api.domain.mapping.service.ProductMappingService productMappingService;
     
     /**
      * 주문으로부터 전표 JSON 생성
@@ -47,54 +47,21 @@ public class TemplateBasedPostingBuilder {
         log.info("[템플릿 기반 전표 생성 시작] orderId={}, erpCode={}, postingType={}", 
             order.getOrderId(), erpCode, postingType);
         
-        // 1. 활성 템플릿 조회
-        PostingTemplate template = templateRepository
-            .findActiveTemplate(order.getTenantId(), erpCode, postingType)
-            .orElseThrow(() -> new IllegalStateException(
+        // 1. 활성 템플릿 실행 계획 조회 (캐시)
+        PostingTemplatePlan plan = templateCompiler.findActivePlan(order.getTenantId(), erpCode, postingType);
+        if (plan == null) {
+            throw new IllegalStateException(
                 String.format("활성 템플릿이 없습니다: tenant=%s, erp=%s, type=%s", 
                     order.getTenantId(), erpCode, postingType)
-            ));
-        
-        // 2. 필드별로 값 추출
-        Map<String, Object> postingData = new LinkedHashMap<>();
-        
-        for (PostingTemplateField field : template.getFields()) {
-            String fieldCode = field.getFieldCode();
-            Object value = null;
-            
-            // 매핑 규칙이 있으면 추출
-            if (field.getMapping() != null) {
-                value = fieldValueExtractor.extractValue(field.getMapping(), order);
-            }
-            
-            // 값이 없으면 기본값 사용
-            if (value == null && field.getDefaultValue() != null) {
-                value = field.getDefaultValue();
-                log.debug("[기본값 사용] field={}, defaultValue={}", fieldCode, value);
-            }
-            
-            // 필수 필드인데 값이 없으면 경고
-            if (value == null && field.getIsRequired()) {
-                log.warn("[필수 필드 값 없음] field={}, orderId={}", fieldCode, order.getOrderId());
-            }
-            
-            // 날짜 타입이면 포맷팅
-            if (field.getEcountFieldCode().getFieldType() == ECountField.FieldType.DATE && value != null) {
-                value = fieldValueExtractor.formatDate(value, "yyyyMMdd");
-            }
-            
-            // 숫자 타입이면 소수점 4자리로 반올림 (이카운트 NUMERIC(28,4) 요구사항)
-            if (field.getEcountFieldCode().getFieldType() == ECountField.FieldType.NUMBER && value != null) {
-                value = roundNumericValue(value, fieldCode);
-            }
-            
-            postingData.put(fieldCode, value);
-            
-            log.debug("[필드 값 추출] field={}, value={}", fieldCode, value);
+            );
         }
         
+        // 2. 필드별로 값 추출 (매핑/스토어 등은 주문당 1회 조회)
+        FieldExtractionContext context = FieldExtractionContext.of(order);
+        Map<String, Object> postingData = extractFields(plan, context, true);
+        
         // 2.5. 필수 필드 자동 보충 (CUST, WH_CD, UPLOAD_SER_NO)
-        supplementMissingFields(postingData, order);
+        supplementMissingFields(postingData, context);
         
         // 3. 이카운트 API 형식으로 감싸기: {"SaleList": [{"BulkDatas": {...}}]}
         Map<String, Object> saleItem = new LinkedHashMap<>();
@@ -121,12 +88,62 @@ public class TemplateBasedPostingBuilder {
         }
     }
     
+    /**
+     * 실행 계획에 따라 필드 값 추출
+     * 
+     * 기본값 적용 → 타입별 후처리(DATE 포맷, NUMBER 반올림) 순으로 처리
+     * 
+     * @param warnMissingRequired 필수 필드 값 누락 시 경고 로그 여부
+     */
+    private Map<String, Object> extractFields(PostingTemplatePlan plan, FieldExtractionContext context,
+                                              boolean warnMissingRequired) {
+        Map<String, Object> postingData = new LinkedHashMap<>(plan.getOutputCapacity());
+        
+        for (PostingTemplatePlan.FieldPlan field : plan.getFields()) {
+            String fieldCode = field.fieldCode();
+            
+            // 매핑 규칙이 있으면 추출
+            Object value = field.source() != null
+                ? fieldValueExtractor.extractValue(field.source(), context)
+                : null;
+            
+            // 값이 없으면 기본값 사용
+            if (value == null && field.defaultValue() != null) {
+                value = field.defaultValue();
+                log.debug("[기본값 사용] field={}, defaultValue={}", fieldCode, value);
+            }
+            
+            // 필수 필드인데 값이 없으면 경고
+            if (value == null && warnMissingRequired && field.required()) {
+                log.warn("[필수 필드 값 없음] field={}, orderId={}", fieldCode, context.getOrder().getOrderId());
+            }
+            
+            if (value != null) {
+                if (field.fieldType() == ECountField.FieldType.DATE) {
+                    // 날짜 타입이면 포맷팅
+                    value = fieldValueExtractor.formatDate(value, "yyyyMMdd");
+                } else if (field.fieldType() == ECountField.FieldType.NUMBER) {
+                    // 숫자 타입이면 정수로 반올림
+                    value = roundNumericValue(value, fieldCode);
+                }
+            }
+            
+            postingData.put(fieldCode, value);
+            
+            log.debug("[필드 값 추출] field={}, value={}", fieldCode, value);
+        }
+        
+        return postingData;
+    }
+    
     /**
      * 필수 필드 자동 보충 (거래처 코드, 창고 코드, 순번)
      * 
      * 템플릿에 없거나 비어있는 경우 자동으로 추가
      */
-    private void supplementMissingFields(Map<String, Object> postingData, Order order) {
+    private void supplementMissingFields(Map<String, Object> postingData, FieldExtractionContext context) {
+        Order order = context.getOrder();
+        
         // 0. 전표 순번 (UPLOAD_SER_NO) 보충 - 이카운트 필수 필드
         Object serNoValue = postingData.get("UPLOAD_SER_NO");
         if (serNoValue == null || serNoValue.toString().trim().isEmpty()) {
@@ -138,7 +155,7 @@ public class TemplateBasedPostingBuilder {
         Object custValue = postingData.get("CUST");
         if (custValue == null || custValue.toString().trim().isEmpty()) {
             if (order.getStoreId() != null) {
-                storeRepository.findById(order.getStoreId()).ifPresent(store -> {
+                fieldValueExtractor.resolveStore(context).ifPresent(store -> {
                     // defaultCustomerCode 우선 사용 (신규 필드)
                     String customerCode = store.getDefaultCustomerCode();
                     
@@ -163,14 +180,7 @@ public class TemplateBasedPostingBuilder {
         Object whValue = postingData.get("WH_CD");
         if (whValue == null || whValue.toString().trim().isEmpty()) {
             if (order.getItems() != null && !order.getItems().isEmpty()) {
-                var firstItem = order.getItems().get(0);
-                productMappingService.findActiveMapping(
-                    order.getTenantId(),
-                    order.getStoreId(),
-                    order.getMarketplace(),
-                    firstItem.getMarketplaceProductId(),
-                    firstItem.getMarketplaceSku()
-                ).ifPresent(mapping -> {
+                fieldValueExtractor.resolveProductMapping(context).ifPresent(mapping -> {
                     if (mapping.getWarehouseCode() != null && !mapping.getWarehouseCode().isEmpty()) {
                         postingData.put("WH_CD", mapping.getWarehouseCode());
                         log.info("[자동 보충 - 창고 코드] orderId={}, productId={}, warehouseCode={}", 
@@ -293,21 +303,36 @@ public class TemplateBasedPostingBuilder {
             String erpCode, 
             PostingType postingType,
             String bulkDataType) {
+        return buildBulkData(order, store, null, erpCode, postingType, bulkDataType);
+    }
+
+    /**
+     * 전표 BulkData 생성 (사전 조회한 상품 매핑 사용)
+     * 
+     * @param productMapping 대표 상품(첫 번째 아이템)의 활성 매핑 (null이면 필드 추출 시 조회)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> buildBulkData(
+            Order order, 
+            Store store,
+            ProductMappingResponse productMapping,
+            String erpCode, 
+            PostingType postingType,
+            String bulkDataType) {
         
         log.info("[BulkData 생성 시작] orderId={}, erpCode={}, postingType={}, bulkDataType={}", 
             order.getOrderId(), erpCode, postingType, bulkDataType);
         
-        // 1. 활성 템플릿 조회 (PRODUCT_SALES 템플릿 사용)
-        PostingTemplate template = templateRepository
-            .findActiveTemplate(order.getTenantId(), erpCode, PostingType.PRODUCT_SALES)
-            .orElseThrow(() -> new IllegalStateException(
+        // 1. 활성 템플릿 실행 계획 조회 (PRODUCT_SALES 템플릿 사용, 캐시)
+        PostingTemplatePlan plan = templateCompiler.findActivePlan(order.getTenantId(), erpCode, PostingType.PRODUCT_SALES);
+        if (plan == null) {
+            throw new IllegalStateException(
                 String.format("활성 템플릿이 없습니다: tenant=%s, erp=%s, type=PRODUCT_SALES", 
                     order.getTenantId(), erpCode)
-            ));
+            );
+        }
         
         // 2. 필드별로 값 추출 (기본 템플릿 기반)
-        Map<String, Object> postingData = new LinkedHashMap<>();
-
         // 원본 order를 변경하지 않기 위해 딥카피 사용
         Order item = order.deepCopy();
 
@@ -320,40 +345,14 @@ public class TemplateBasedPostingBuilder {
         if(bulkDataType.equals("product_shipping_commission")){
             item.setTotalProductAmount(-Math.abs(order.getShippingCommissionAmount()));
         }
-        
-        for (PostingTemplateField field : template.getFields()) {
-            String fieldCode = field.getFieldCode();
-            Object value = null;
-            if(bulkDataType.equals("product_commission") || bulkDataType.equals("product_shipping_commission")){
-                if(fieldCode.equals("VAT_AMT")){
-                    System.out.println("VAT_AMT");
-                }
-            }
-            // 매핑 규칙이 있으면 추출
-            if (field.getMapping() != null) {
-                value = fieldValueExtractor.extractValue(field.getMapping(), item);
-            }
-            
-            // 값이 없으면 기본값 사용
-            if (value == null && field.getDefaultValue() != null) {
-                value = field.getDefaultValue();
-            }
-            
-            // 날짜 타입이면 포맷팅
-            if (field.getEcountFieldCode().getFieldType() == ECountField.FieldType.DATE && value != null) {
-                value = fieldValueExtractor.formatDate(value, "yyyyMMdd");
-            }
-            
-            // 숫자 타입이면 반올림
-            if (field.getEcountFieldCode().getFieldType() == ECountField.FieldType.NUMBER && value != null) {
-                value = roundNumericValue(value, fieldCode);
-            }
-            
-            postingData.put(fieldCode, value);
+        FieldExtractionContext context = FieldExtractionContext.of(item).withStore(store);
+        if (productMapping != null) {
+            context.withProductMapping(productMapping);
         }
+        Map<String, Object> postingData = extractFields(plan, context, false);
         
         // 3. 필수 필드 자동 보충
-        supplementMissingFields(postingData, item);
+        supplementMissingFields(postingData, context);
 
         if(bulkDataType.equals("product_commission")){
             postingData.put("PROD_CD", store.getCommissionItemCode());
@@ -529,30 +528,31 @@ public class TemplateBasedPostingBuilder {
     public Map<String, Object> previewPosting(UUID templateId, Order order) {
         log.info("[전표 미리보기] templateId={}, orderId={}", templateId, order.getOrderId());
         
-        PostingTemplate template = templateRepository.findByIdWithFields(templateId)
-            .orElseThrow(() -> new IllegalArgumentException("템플릿을 찾을 수 없습니다"));
+        PostingTemplatePlan plan = templateCompiler.findPlan(templateId);
+        if (plan == null) {
+            throw new IllegalArgumentException("템플릿을 찾을 수 없습니다");
+        }
         
-        Map<String, Object> preview = new LinkedHashMap<>();
+        Map<String, Object> preview = new LinkedHashMap<>(plan.getOutputCapacity());
+        FieldExtractionContext context = FieldExtractionContext.of(order);
         
-        for (PostingTemplateField field : template.getFields()) {
-            String fieldCode = field.getFieldCode();
-            String fieldNameKr = field.getFieldNameKr();
+        for (PostingTemplatePlan.FieldPlan field : plan.getFields()) {
             Object value = null;
             
-            if (field.getMapping() != null) {
-                value = fieldValueExtractor.extractValue(field.getMapping(), order);
+            if (field.source() != null) {
+                value = fieldValueExtractor.extractValue(field.source(), context);
             }
             
-            if (value == null && field.getDefaultValue() != null) {
-                value = field.getDefaultValue() + " (기본값)";
+            if (value == null && field.defaultValue() != null) {
+                value = field.defaultValue() + " (기본값)";
             }
             
             // 날짜 포맷팅
-            if (field.getEcountFieldCode().getFieldType() == ECountField.FieldType.DATE && value != null) {
+            if (field.fieldType() == ECountField.FieldType.DATE && value != null) {
                 value = fieldValueExtractor.formatDate(value, "yyyyMMdd");
             }
             
-            preview.put(fieldNameKr + " (" + fieldCode + ")", value);
+            preview.put(field.fieldNameKr() + " (" + field.fieldCode() + ")", value);
         }
         
         return preview;
@@ -1,12 +1,14 @@
 package com.sellsync.api.domain.settlement.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.settlement.dto.MarketplaceSettlementData;
 import com.sellsync.api.domain.settlement.dto.coupang.CoupangSettlementApiResponse;
 import com.sellsync.api.domain.settlement.dto.coupang.CoupangSettlementDeliveryFee;
 import com.sellsync.api.domain.settlement.dto.coupang.CoupangSettlementItem;
 import com.sellsync.api.domain.settlement.dto.coupang.CoupangSettlementOrder;
 import com.sellsync.api.domain.settlement.dto.smartstore.DailySettlementElement;
+import com.sellsync.api.infra.marketplace.MarketplaceRateLimiter;
 import com.sellsync.api.infra.marketplace.coupang.CoupangCredentials;
 import com.sellsync.api.infra.marketplace.coupang.CoupangHmacGenerator;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 쿠팡 정산 클라이언트 (실제 API 연동)
@@ -47,6 +50,7 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final CoupangHmacGenerator hmacGenerator;
+    private final MarketplaceRateLimiter rateLimiter;
 
     @Override
     public String getMarketplaceCode() {
@@ -72,17 +76,16 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
         // 인증 정보 파싱
         CoupangCredentials creds = CoupangCredentials.parse(credentials);
         
-        // 전체 정산 데이터 조회 (페이징 처리)
-        List<CoupangSettlementOrder> allOrders = fetchAllSettlements(creds, actualStartDate, actualEndDate);
-        
-        // 주문 데이터를 통합 DTO로 변환
+        // 전체 정산 데이터 조회 (페이징 처리) → 통합 DTO로 변환
         List<MarketplaceSettlementData> settlements = new ArrayList<>();
-        for (CoupangSettlementOrder order : allOrders) {
-            MarketplaceSettlementData converted = convertToMarketplaceSettlementData(order);
-            if (converted != null) {
-                settlements.add(converted);
+        fetchAllSettlements(creds, actualStartDate, actualEndDate, orders -> {
+            for (CoupangSettlementOrder order : orders) {
+                MarketplaceSettlementData converted = convertToMarketplaceSettlementData(order);
+                if (converted != null) {
+                    settlements.add(converted);
+                }
             }
-        }
+        });
         
         log.info("[Coupang Settlement] 정산 데이터 수집 완료: {} 건", settlements.size());
 
@@ -93,38 +96,55 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
     public List<DailySettlementElement> fetchSettlementElements(LocalDate startDate, 
                                                                 LocalDate endDate, 
                                                                 String credentials) {
-        // 날짜 로직: 파라미터가 없으면 "오늘-1일 - 1개월 ~ 오늘-1일" 사용
-        LocalDate actualStartDate = startDate;
-        LocalDate actualEndDate = endDate;
-        
-        // if (actualStartDate == null || actualEndDate == null) {
-        //     LocalDate yesterday = LocalDate.now().minusDays(1);
-        //     actualEndDate = yesterday;
-        //     actualStartDate = yesterday.minusMonths(1);
-        // }
+        List<DailySettlementElement> allElements = new ArrayList<>();
+        streamSettlementElements(startDate, endDate, credentials, allElements::addAll);
+        return allElements;
+    }
 
+    @Override
+    public void streamSettlementElements(LocalDate startDate,
+                                         LocalDate endDate,
+                                         String credentials,
+                                         Consumer<List<DailySettlementElement>> pageConsumer) {
+        // 날짜 로직: 파라미터가 없으면 "오늘-1일 - 1개월 ~ 오늘-1일" 사용
+        // - 종료일은 어제까지, 조회 기간은 최대 1개월 (증분 수집 시 요청 구간만 조회)
         LocalDate yesterday = LocalDate.now().minusDays(1);
-        actualEndDate = yesterday;
-        actualStartDate = yesterday.minusMonths(1).plusDays(1);
+        LocalDate actualEndDate = endDate == null || endDate.isAfter(yesterday) ? yesterday : endDate;
+        LocalDate earliestStartDate = actualEndDate.minusMonths(1).plusDays(1);
+        LocalDate actualStartDate = startDate == null || startDate.isBefore(earliestStartDate)
+                ? earliestStartDate : startDate;
         
         log.info("[Coupang Settlement] 정산 요소 수집 시작: {} ~ {}", actualStartDate, actualEndDate);
         
         // 인증 정보 파싱
         CoupangCredentials creds = CoupangCredentials.parse(credentials);
         
-        // 전체 정산 데이터 조회 (페이징 처리)
-        List<CoupangSettlementOrder> allOrders = fetchAllSettlements(creds, actualStartDate, actualEndDate);
+        // 페이지 단위 조회 → 정산 요소로 변환하여 즉시 전달 (전체 기간 주문을 메모리에 모으지 않음)
+        int[] totalElements = {0};
+        fetchAllSettlements(creds, actualStartDate, actualEndDate, orders -> {
+            List<DailySettlementElement> pageElements = convertToSettlementElements(orders);
+            if (!pageElements.isEmpty()) {
+                totalElements[0] += pageElements.size();
+                pageConsumer.accept(pageElements);
+            }
+        });
         
-        // 주문 데이터를 정산 요소로 변환
-        // ✅ items 배열의 각 아이템마다 index를 추가하여 고유하게 식별
-        List<DailySettlementElement> allElements = new ArrayList<>();
-        for (CoupangSettlementOrder order : allOrders) {
+        log.info("[Coupang Settlement] 정산 요소 수집 완료: {} 건", totalElements[0]);
+    }
+
+    /**
+     * 주문 데이터를 정산 요소로 변환
+     * ✅ items 배열의 각 아이템마다 index를 추가하여 고유하게 식별
+     */
+    private List<DailySettlementElement> convertToSettlementElements(List<CoupangSettlementOrder> orders) {
+        List<DailySettlementElement> elements = new ArrayList<>();
+        for (CoupangSettlementOrder order : orders) {
             // 1. 상품 아이템 변환
             if (order.getItems() != null && !order.getItems().isEmpty()) {
                 int index = 0;
                 for (CoupangSettlementItem item : order.getItems()) {
                     DailySettlementElement element = convertToSettlementElement(order, item, index);
-                    allElements.add(element);
+                    elements.add(element);
                     index++;
                 }
                 
@@ -139,7 +159,7 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
                         // 첫 번째 상품 아이템 가져오기
                         CoupangSettlementItem firstItem = order.getItems().get(0);
                         DailySettlementElement deliveryElement = convertDeliveryFeeToSettlementElement(order, firstItem);
-                        allElements.add(deliveryElement);
+                        elements.add(deliveryElement);
                         
                         log.debug("[Coupang Settlement] 배송비 수수료 추가 - orderId={}, vendorItemId={}, fee={}, feeVat={}, total={}", 
                                 order.getOrderId(), firstItem.getVendorItemId(), deliveryFee.getFee(), deliveryFee.getFeeVat(), totalFee);
@@ -147,10 +167,7 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
                 }
             }
         }
-        
-        log.info("[Coupang Settlement] 정산 요소 수집 완료: {} 건", allElements.size());
-        
-        return allElements;
+        return elements;
     }
 
     @Override
@@ -213,53 +230,59 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
     /**
      * 전체 정산 데이터 조회 (페이징 자동 처리)
      * 
+     * 페이지를 받을 때마다 pageConsumer로 전달 (누적하지 않음)
+     * - 페이지 조회 실패 / 다음 페이지 토큰 누락 시 예외 전파 → 작업 FAILED (수집 구간 워터마크 미전진, 재시도 대상)
+     * - 이미 전달한 페이지 처리분은 유지 (재시도 시 멱등 키로 중복 제외)
+     * - pageConsumer 예외는 그대로 호출 측으로 전파
+     * 
      * @param credentials 쿠팡 인증 정보
      * @param startDate 매출인식일 시작
      * @param endDate 매출인식일 종료
-     * @return 전체 주문 목록
+     * @param pageConsumer 페이지별 주문 목록 처리
      */
-    private List<CoupangSettlementOrder> fetchAllSettlements(CoupangCredentials credentials, 
-                                                              LocalDate startDate, 
-                                                              LocalDate endDate) {
-        List<CoupangSettlementOrder> allOrders = new ArrayList<>();
+    private void fetchAllSettlements(CoupangCredentials credentials, 
+                                     LocalDate startDate, 
+                                     LocalDate endDate,
+                                     Consumer<List<CoupangSettlementOrder>> pageConsumer) {
         String nextToken = null;
         boolean hasNext = true;
         int pageCount = 0;
+        int totalOrders = 0;
         
         while (hasNext) {
+            CoupangSettlementApiResponse response;
             try {
                 pageCount++;
                 log.debug("[Coupang Settlement] 페이지 {} 조회 중...", pageCount);
                 
-                CoupangSettlementApiResponse response = fetchSettlementsWithPaging(
-                    credentials, startDate, endDate, nextToken
-                );
-                
-                if (response != null && response.getData() != null) {
-                    allOrders.addAll(response.getData());
-                    log.debug("[Coupang Settlement] 페이지 {} 조회 완료: {} 건 (누적: {} 건)", 
-                        pageCount, response.getData().size(), allOrders.size());
-                    
-                    // 다음 페이지 확인
-                    hasNext = Boolean.TRUE.equals(response.getHasNext());
-                    nextToken = response.getNextToken();
-                    
-                    if (hasNext && (nextToken == null || nextToken.isEmpty())) {
-                        log.warn("[Coupang Settlement] hasNext=true이지만 nextToken이 비어있습니다. 조회 중단");
-                        break;
-                    }
-                } else {
-                    hasNext = false;
-                }
-                
+                response = fetchSettlementsWithPaging(credentials, startDate, endDate, nextToken);
             } catch (Exception e) {
                 log.error("[Coupang Settlement] 페이지 {} 조회 실패: {}", pageCount, e.getMessage(), e);
+                throw new RuntimeException(
+                        String.format("쿠팡 정산 데이터 조회 실패 (페이지: %d): %s", pageCount, e.getMessage()), e);
+            }
+            
+            if (response == null || response.getData() == null) {
                 break;
             }
+            
+            totalOrders += response.getData().size();
+            log.debug("[Coupang Settlement] 페이지 {} 조회 완료: {} 건 (누적: {} 건)", 
+                pageCount, response.getData().size(), totalOrders);
+            pageConsumer.accept(response.getData());
+            
+            // 다음 페이지 확인
+            hasNext = Boolean.TRUE.equals(response.getHasNext());
+            nextToken = response.getNextToken();
+            
+            if (hasNext && (nextToken == null || nextToken.isEmpty())) {
+                log.error("[Coupang Settlement] hasNext=true이지만 nextToken이 비어있습니다. 조회 중단");
+                throw new RuntimeException(
+                        String.format("쿠팡 정산 데이터 조회 중단 (페이지: %d): 다음 페이지 토큰 없음", pageCount));
+            }
         }
         
-        log.info("[Coupang Settlement] 전체 {} 페이지, {} 건 조회 완료", pageCount, allOrders.size());
-        return allOrders;
+        log.info("[Coupang Settlement] 전체 {} 페이지, {} 건 조회 완료", pageCount, totalOrders);
     }
     
     /**
@@ -275,6 +298,8 @@ public class CoupangSettlementClient implements MarketplaceSettlementClient {
                                                                      LocalDate startDate, 
                                                                      LocalDate endDate,
                                                                      String token) {
+        rateLimiter.acquire(Marketplace.COUPANG, credentials.getVendorId());
+        
         String path = SETTLEMENT_PATH;
         
         // 쿼리 파라미터 구성
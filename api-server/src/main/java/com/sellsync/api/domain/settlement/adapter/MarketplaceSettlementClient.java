@@ -5,6 +5,7 @@ import com.sellsync.api.domain.settlement.dto.smartstore.DailySettlementElement;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 마켓플레이스 정산 데이터 수집 클라이언트 인터페이스
@@ -52,6 +53,30 @@ public interface MarketplaceSettlementClient {
         throw new UnsupportedOperationException("fetchSettlementElements not implemented");
     }
 
+    /**
+     * 정산 Element 조회 단위(일자/페이지)별 전달 (스트리밍)
+     * 
+     * 전체 기간 요소를 메모리에 모으지 않고 API 응답 단위로 pageConsumer 호출
+     * - 기본 구현: fetchSettlementElements 결과를 한 번에 전달
+     * - 조회 단위 실패 시 건너뛰지 않고 예외 전파 (수집 작업 FAILED → 수집 구간 워터마크 미전진)
+     * 
+     * @param startDate 정산 시작일
+     * @param endDate 정산 종료일
+     * @param credentials 인증 정보 (JSON)
+     * @param pageConsumer 조회 단위별 정산 요소 처리
+     */
+    default void streamSettlementElements(
+        LocalDate startDate,
+        LocalDate endDate,
+        String credentials,
+        Consumer<List<DailySettlementElement>> pageConsumer
+    ) {
+        List<DailySettlementElement> elements = fetchSettlementElements(startDate, endDate, credentials);
+        if (!elements.isEmpty()) {
+            pageConsumer.accept(elements);
+        }
+    }
+
     /**
      * 정산 상세 정보 조회
      * 
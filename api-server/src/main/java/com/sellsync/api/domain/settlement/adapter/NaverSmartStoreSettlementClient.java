@@ -1,9 +1,11 @@
 package com.sellsync.api.domain.settlement.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.settlement.dto.MarketplaceSettlementData;
 import com.sellsync.api.domain.settlement.dto.smartstore.DailySettlementApiResponse;
 import com.sellsync.api.domain.settlement.dto.smartstore.DailySettlementElement;
+import com.sellsync.api.infra.marketplace.MarketplaceRateLimiter;
 import com.sellsync.api.infra.marketplace.smartstore.SmartStoreCredentials;
 import com.sellsync.api.infra.marketplace.smartstore.SmartStoreTokenService;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 네이버 스마트스토어 정산 클라이언트 (실제 API 연동)
@@ -39,6 +42,7 @@ public class NaverSmartStoreSettlementClient implements MarketplaceSettlementCli
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final SmartStoreTokenService tokenService;
+    private final MarketplaceRateLimiter rateLimiter;
 
     @Override
     public String getMarketplaceCode() {
@@ -63,7 +67,8 @@ public class NaverSmartStoreSettlementClient implements MarketplaceSettlementCli
         
         while (!currentDate.isAfter(endDate)) {
             try {
-                // API 호출하여 일별 정산 데이터 조회
+                // API 호출하여 일별 정산 데이터 조회 (인증 정보별 Rate Limit)
+                rateLimiter.acquire(Marketplace.NAVER_SMARTSTORE, creds.getClientId());
                 DailySettlementApiResponse apiResponse = fetchDailySettlements(accessToken, currentDate);
                 
                 // API 응답을 통합 DTO로 변환
@@ -87,6 +92,16 @@ public class NaverSmartStoreSettlementClient implements MarketplaceSettlementCli
     public List<DailySettlementElement> fetchSettlementElements(LocalDate startDate, 
                                                                 LocalDate endDate, 
                                                                 String credentials) {
+        List<DailySettlementElement> allElements = new ArrayList<>();
+        streamSettlementElements(startDate, endDate, credentials, allElements::addAll);
+        return allElements;
+    }
+
+    @Override
+    public void streamSettlementElements(LocalDate startDate,
+                                         LocalDate endDate,
+                                         String credentials,
+                                         Consumer<List<DailySettlementElement>> pageConsumer) {
         log.info("[SmartStore Settlement] 정산 요소 수집 시작: {} ~ {}", startDate, endDate);
 
         // 인증 정보 파싱
@@ -95,31 +110,39 @@ public class NaverSmartStoreSettlementClient implements MarketplaceSettlementCli
         // Access Token 발급
         String accessToken = tokenService.getAccessToken(creds);
         
-        // 날짜별로 API 호출하여 정산 요소 수집
-        List<DailySettlementElement> allElements = new ArrayList<>();
+        // 날짜별로 API 호출하여 일자 단위로 즉시 전달
+        int totalElements = 0;
         LocalDate currentDate = startDate;
         
+        // 조회 실패 일자는 건너뛰지 않고 예외 전파 → 작업 FAILED (수집 구간 워터마크 미전진, 재시도 대상)
         while (!currentDate.isAfter(endDate)) {
+            List<DailySettlementElement> dayElements = null;
             try {
-                // API 호출하여 일별 정산 데이터 조회
+                // API 호출하여 일별 정산 데이터 조회 (인증 정보별 Rate Limit)
+                rateLimiter.acquire(Marketplace.NAVER_SMARTSTORE, creds.getClientId());
                 DailySettlementApiResponse apiResponse = fetchDailySettlements(accessToken, currentDate);
                 
                 // API 응답에서 정산 요소 추출
                 if (apiResponse != null && apiResponse.getElements() != null) {
-                    allElements.addAll(apiResponse.getElements());
+                    dayElements = apiResponse.getElements();
                     log.debug("[SmartStore Settlement] 날짜 {} 정산 요소: {} 건", 
-                        currentDate, apiResponse.getElements().size());
+                        currentDate, dayElements.size());
                 }
             } catch (Exception e) {
                 log.error("[SmartStore Settlement] 날짜 {} 정산 요소 조회 실패: {}", currentDate, e.getMessage(), e);
+                throw new RuntimeException(
+                        String.format("스마트스토어 정산 요소 조회 실패 (날짜: %s): %s", currentDate, e.getMessage()), e);
+            }
+            
+            if (dayElements != null && !dayElements.isEmpty()) {
+                totalElements += dayElements.size();
+                pageConsumer.accept(dayElements);
             }
             
             currentDate = currentDate.plusDays(1);
         }
         
-        log.info("[SmartStore Settlement] 정산 요소 수집 완료: {} 건", allElements.size());
-
-        return allElements;
+        log.info("[SmartStore Settlement] 정산 요소 수집 완료: {} 건", totalElements);
     }
     
     /**
@@ -17,6 +17,9 @@ public class SettlementCollectionResult {
     /** 총 수집된 정산 건수 */
     private int totalElements;
     
+    /** 직전 처리분과 내용이 같아 재처리 생략한 정산 건수 */
+    private int skippedElements;
+    
     /** 매칭된 주문 건수 */
     private int matchedOrders;
     
@@ -35,6 +38,7 @@ public class SettlementCollectionResult {
     public static SettlementCollectionResult empty() {
         return SettlementCollectionResult.builder()
                 .totalElements(0)
+                .skippedElements(0)
                 .matchedOrders(0)
                 .updatedOrders(0)
                 .createdBatches(0)
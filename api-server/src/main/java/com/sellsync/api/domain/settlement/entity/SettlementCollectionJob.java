@@ -0,0 +1,98 @@
+package com.sellsync.api.domain.settlement.entity;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 정산 수집 작업 엔티티 (스토어 x 실행일)
+ *
+ * 야간 정산 수집의 재개 가능 단위 - 실행일별로 스토어마다 1건
+ */
+@Entity
+@Table(name = "settlement_collection_jobs")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementCollectionJob {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final String MODE_FULL = "FULL";
+    public static final String MODE_INCREMENTAL = "INCREMENTAL";
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "marketplace", nullable = false, length = 50)
+    private Marketplace marketplace;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "collection_mode", nullable = false, length = 20)
+    private String collectionMode;  // FULL, INCREMENTAL
+
+    @Column(name = "range_from", nullable = false)
+    private LocalDate rangeFrom;
+
+    @Column(name = "range_to", nullable = false)
+    private LocalDate rangeTo;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_PENDING;  // PENDING, RUNNING, SUCCESS, FAILED
+
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "total_elements", nullable = false)
+    @Builder.Default
+    private Integer totalElements = 0;
+
+    @Column(name = "created_batches", nullable = false)
+    @Builder.Default
+    private Integer createdBatches = 0;
+
+    @Column(name = "created_settlement_orders", nullable = false)
+    @Builder.Default
+    private Integer createdSettlementOrders = 0;
+
+    @Column(name = "error_message", length = 2000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (jobId == null) jobId = UUID.randomUUID();
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,116 @@
+package com.sellsync.api.domain.settlement.repository;
+
+import com.sellsync.api.domain.settlement.entity.SettlementCollectionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 정산 수집 작업 Repository
+ */
+public interface SettlementCollectionJobRepository extends JpaRepository<SettlementCollectionJob, UUID> {
+
+    /**
+     * 실행일에 이미 작업이 생성된 스토어
+     */
+    @Query("SELECT j.storeId FROM SettlementCollectionJob j WHERE j.runDate = :runDate")
+    List<UUID> findStoreIdsByRunDate(@Param("runDate") LocalDate runDate);
+
+    /**
+     * 스토어별 마지막 작업 (상태/모드 기준) - 다음 수집 구간 결정
+     */
+    SettlementCollectionJob findFirstByStoreIdAndStatusOrderByRunDateDesc(UUID storeId, String status);
+
+    SettlementCollectionJob findFirstByStoreIdAndStatusAndCollectionModeOrderByRunDateDesc(
+            UUID storeId, String status, String collectionMode);
+
+    /**
+     * 실행 가능 작업 (대기/재시도 가능 실패/lease 만료 실행 중)
+     */
+    @Query("""
+        SELECT j FROM SettlementCollectionJob j
+        WHERE j.runDate >= :sinceRunDate
+          AND ((j.status IN ('PENDING', 'FAILED') AND j.attemptCount < :maxAttempts)
+               OR (j.status = 'RUNNING' AND j.startedAt < :leaseCutoff))
+        ORDER BY j.runDate, j.createdAt
+        """)
+    List<SettlementCollectionJob> findRunnable(@Param("sinceRunDate") LocalDate sinceRunDate,
+                                               @Param("maxAttempts") int maxAttempts,
+                                               @Param("leaseCutoff") LocalDateTime leaseCutoff);
+
+    /**
+     * 작업 선점 (조건부 UPDATE - 여러 노드/재개 스케줄이 동시에 실행해도 1건만 성공)
+     *
+     * @return 1이면 선점 성공
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE SettlementCollectionJob j
+        SET j.status = 'RUNNING',
+            j.claimedBy = :claimedBy,
+            j.startedAt = :now,
+            j.attemptCount = j.attemptCount + 1,
+            j.errorMessage = NULL
+        WHERE j.jobId = :jobId
+          AND ((j.status IN ('PENDING', 'FAILED') AND j.attemptCount < :maxAttempts)
+               OR (j.status = 'RUNNING' AND j.startedAt < :leaseCutoff))
+        """)
+    int claim(@Param("jobId") UUID jobId,
+              @Param("claimedBy") String claimedBy,
+              @Param("now") LocalDateTime now,
+              @Param("maxAttempts") int maxAttempts,
+              @Param("leaseCutoff") LocalDateTime leaseCutoff);
+
+    /**
+     * 작업 종료 기록 (선점한 노드의 실행 중 작업만)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE SettlementCollectionJob j
+        SET j.status = :status,
+            j.finishedAt = :now,
+            j.totalElements = :totalElements,
+            j.createdBatches = :createdBatches,
+            j.createdSettlementOrders = :createdSettlementOrders,
+            j.errorMessage = :errorMessage
+        WHERE j.jobId = :jobId
+          AND j.status = 'RUNNING'
+          AND j.claimedBy = :claimedBy
+        """)
+    int finish(@Param("jobId") UUID jobId,
+               @Param("claimedBy") String claimedBy,
+               @Param("status") String status,
+               @Param("now") LocalDateTime now,
+               @Param("totalElements") int totalElements,
+               @Param("createdBatches") int createdBatches,
+               @Param("createdSettlementOrders") int createdSettlementOrders,
+               @Param("errorMessage") String errorMessage);
+
+    /**
+     * 실행 중 작업 lease 갱신 (선점한 노드의 실행 중 작업만 started_at 갱신)
+     *
+     * @return 갱신 건수
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE SettlementCollectionJob j
+        SET j.startedAt = :now
+        WHERE j.jobId IN :jobIds
+          AND j.status = 'RUNNING'
+          AND j.claimedBy = :claimedBy
+        """)
+    int renewLease(@Param("jobIds") Collection<UUID> jobIds,
+                   @Param("claimedBy") String claimedBy,
+                   @Param("now") LocalDateTime now);
+}
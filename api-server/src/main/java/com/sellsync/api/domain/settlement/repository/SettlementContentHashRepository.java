@@ -0,0 +1,38 @@
+package com.sellsync.api.domain.settlement.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 정산 수집 내용 지문 커스텀 Repository
+ *
+ * 역할: 스토어별 묶음 주문 x 정산일 단위로 마지막 처리한 정산 요소의 지문 관리
+ * - 다시 수집된 요소의 지문이 같으면 주문/배치/정산 주문 재처리 생략 (SettlementCollectionService)
+ */
+public interface SettlementContentHashRepository {
+
+    /**
+     * 저장된 지문 조회
+     *
+     * @return bundleKey + "_" + payDate → contentHash
+     */
+    Map<String, String> findContentHashes(UUID storeId, Collection<String> bundleKeys);
+
+    /**
+     * 지문 일괄 UPSERT
+     */
+    int upsertContentHashes(UUID storeId, List<ContentHash> hashes);
+
+    /**
+     * 묶음 주문 x 정산일 1건의 지문
+     */
+    record ContentHash(String bundleKey, LocalDate payDate, String contentHash) {
+
+        public String key() {
+            return bundleKey + "_" + payDate;
+        }
+    }
+}
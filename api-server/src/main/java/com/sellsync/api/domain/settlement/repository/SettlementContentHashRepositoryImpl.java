@@ -0,0 +1,87 @@
+package com.sellsync.api.domain.settlement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 정산 수집 내용 지문 커스텀 Repository 구현
+ */
+@Repository
+public class SettlementContentHashRepositoryImpl implements SettlementContentHashRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String SELECT_SQL = """
+        SELECT h.bundle_key, CAST(h.pay_date AS text), h.content_hash
+        FROM settlement_content_hashes h
+        WHERE h.store_id = CAST(:storeId AS uuid)
+          AND h.bundle_key = ANY(CAST(:bundleKeys AS text[]))
+        """;
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO settlement_content_hashes (store_id, bundle_key, pay_date, content_hash, updated_at)
+        SELECT CAST(:storeId AS uuid), h.bundle_key, h.pay_date, h.content_hash, NOW()
+        FROM unnest(
+                CAST(:bundleKeys AS text[]),
+                CAST(:payDates AS date[]),
+                CAST(:contentHashes AS text[])
+             ) AS h(bundle_key, pay_date, content_hash)
+        ON CONFLICT (store_id, bundle_key, pay_date)
+        DO UPDATE SET content_hash = EXCLUDED.content_hash,
+                      updated_at = NOW()
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, String> findContentHashes(UUID storeId, Collection<String> bundleKeys) {
+        Map<String, String> result = new HashMap<>();
+        List<String> keys = new ArrayList<>(bundleKeys);
+
+        for (int start = 0; start < keys.size(); start += CHUNK_SIZE) {
+            List<String> chunk = keys.subList(start, Math.min(start + CHUNK_SIZE, keys.size()));
+            List<Object[]> rows = entityManager.createNativeQuery(SELECT_SQL)
+                    .setParameter("storeId", storeId.toString())
+                    .setParameter("bundleKeys", chunk.toArray(String[]::new))
+                    .getResultList();
+
+            for (Object[] row : rows) {
+                result.put(row[0] + "_" + row[1], (String) row[2]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public int upsertContentHashes(UUID storeId, List<ContentHash> hashes) {
+        int total = 0;
+        for (int start = 0; start < hashes.size(); start += CHUNK_SIZE) {
+            List<ContentHash> chunk = hashes.subList(start, Math.min(start + CHUNK_SIZE, hashes.size()));
+            total += entityManager.createNativeQuery(UPSERT_SQL)
+                    .setParameter("storeId", storeId.toString())
+                    .setParameter("bundleKeys", map(chunk, ContentHash::bundleKey, String[]::new))
+                    .setParameter("payDates", map(chunk, h -> h.payDate().toString(), String[]::new))
+                    .setParameter("contentHashes", map(chunk, ContentHash::contentHash, String[]::new))
+                    .executeUpdate();
+        }
+        return total;
+    }
+
+    private static <T, R> R[] map(List<T> source, Function<T, R> getter, IntFunction<R[]> arrayFactory) {
+        return source.stream().map(getter).toArray(arrayFactory);
+    }
+}
@@ -0,0 +1,30 @@
+package com.sellsync.api.domain.settlement.repository;
+
+import com.sellsync.api.domain.settlement.entity.SettlementOrder;
+
+import java.util.List;
+
+/**
+ * 정산 주문 COPY 벌크 적재 커스텀 Repository
+ *
+ * 역할: 정산 주문/상품 라인을 엔티티 INSERT 없이 적재
+ * - PostgreSQL COPY로 임시 스테이징 테이블에 스트리밍
+ * - 스테이징 → settlement_orders / settlement_order_items 를 SQL 1회로 병합 (멱등성 키 충돌 시 생략)
+ */
+public interface SettlementOrderBulkRepository {
+
+    /**
+     * 정산 주문 + 상품 라인 벌크 적재
+     *
+     * 이미 존재하는 정산 주문 (tenant_id, settlement_batch_id, order_id)은 상품 라인까지 함께 생략합니다.
+     * 반드시 호출 측 트랜잭션 안에서 실행해야 합니다 (스테이징 테이블은 호출 시작 / 커밋 시 비워짐).
+     * 같은 트랜잭션에서 여러 번 호출해도 각 호출은 자기 입력만 병합합니다.
+     */
+    BulkInsertResult bulkInsertWithItems(List<SettlementOrder> settlementOrders);
+
+    /**
+     * 실제 저장된 건수
+     */
+    record BulkInsertResult(int orders, int items) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.sellsync.api.domain.settlement.repository;
+
+import com.sellsync.api.domain.settlement.entity.SettlementOrder;
+import com.sellsync.api.domain.settlement.entity.SettlementOrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 정산 주문 COPY 벌크 적재 커스텀 Repository 구현
+ *
+ * 흐름 (호출 측 트랜잭션의 JDBC 커넥션 사용):
+ * 1. 세션 임시 스테이징 테이블 준비 (커넥션당 1회 생성, 호출마다 TRUNCATE)
+ *    - ON COMMIT DELETE ROWS는 커밋 시에만 비우므로, 같은 트랜잭션의 이전 호출 행이 다시 병합되지 않도록 호출 시작 시 비움
+ * 2. COPY ... FROM STDIN (CSV) 으로 정산 주문/상품 라인 스트리밍 - 엔티티/행별 INSERT 문 없음
+ * 3. 데이터 변경 CTE 1회로 정산 주문 INSERT → 실제 저장된 주문의 상품 라인 INSERT
+ *
+ * 정산 주문 PK는 여기서 미리 발급하여 상품 라인이 스테이징 단계에서 부모를 참조하도록 합니다.
+ * 멱등성 키 충돌로 저장되지 않은 주문의 상품 라인은 병합 JOIN에서 제외됩니다 (기존 saveAll 중복 제외와 동일).
+ */
+@Slf4j
+@Repository
+public class SettlementOrderBulkRepositoryImpl implements SettlementOrderBulkRepository {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_ORDER_STAGE_SQL = """
+        CREATE TEMP TABLE IF NOT EXISTS settlement_order_stage (
+            settlement_order_id UUID,
+            tenant_id UUID,
+            settlement_batch_id UUID,
+            order_id UUID,
+            marketplace VARCHAR(50),
+            bundle_order_id VARCHAR(255),
+            marketplace_order_id VARCHAR(255),
+            gross_sales_amount NUMERIC(15, 2),
+            commission_amount NUMERIC(15, 2),
+            pg_fee_amount NUMERIC(15, 2),
+            shipping_fee_charged NUMERIC(15, 2),
+            shipping_fee_settled NUMERIC(15, 2),
+            net_payout_amount NUMERIC(15, 2),
+            marketplace_settlement_line_id VARCHAR(255),
+            marketplace_payload JSONB
+        ) ON COMMIT DELETE ROWS
+        """;
+
+    private static final String CREATE_ITEM_STAGE_SQL = """
+        CREATE TEMP TABLE IF NOT EXISTS settlement_order_item_stage (
+            settlement_order_id UUID,
+            marketplace_product_order_id VARCHAR(255),
+            product_order_type VARCHAR(50),
+            settle_type VARCHAR(50),
+            product_id VARCHAR(100),
+            product_name VARCHAR(500),
+            pay_settle_amount NUMERIC(15, 2),
+            total_pay_commission_amount NUMERIC(15, 2),
+            free_installment_commission_amount NUMERIC(15, 2),
+            selling_interlock_commission_amount NUMERIC(15, 2),
+            benefit_settle_amount NUMERIC(15, 2),
+            settle_expect_amount NUMERIC(15, 2),
+            marketplace_payload JSONB
+        ) ON COMMIT DELETE ROWS
+        """;
+
+    private static final String TRUNCATE_STAGE_SQL =
+            "TRUNCATE settlement_order_stage, settlement_order_item_stage";
+
+    private static final String COPY_ORDERS_SQL = """
+        COPY settlement_order_stage (
+            settlement_order_id, tenant_id, settlement_batch_id, order_id, marketplace,
+            bundle_order_id, marketplace_order_id,
+            gross_sales_amount, commission_amount, pg_fee_amount,
+            shipping_fee_charged, shipping_fee_settled, net_payout_amount,
+            marketplace_settlement_line_id, marketplace_payload
+        ) FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String COPY_ITEMS_SQL = """
+        COPY settlement_order_item_stage (
+            settlement_order_id, marketplace_product_order_id,
+            product_order_type, settle_type, product_id, product_name,
+            pay_settle_amount, total_pay_commission_amount, free_installment_commission_amount,
+            selling_interlock_commission_amount, benefit_settle_amount, settle_expect_amount,
+            marketplace_payload
+        ) FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String MERGE_SQL = """
+        WITH inserted_orders AS (
+            INSERT INTO settlement_orders (
+                settlement_order_id, tenant_id, settlement_batch_id, order_id, marketplace,
+                bundle_order_id, marketplace_order_id,
+                gross_sales_amount, commission_amount, pg_fee_amount,
+                shipping_fee_charged, shipping_fee_settled, net_payout_amount,
+                marketplace_settlement_line_id, marketplace_payload,
+                created_at, updated_at
+            )
+            SELECT s.settlement_order_id, s.tenant_id, s.settlement_batch_id, s.order_id, s.marketplace,
+                   s.bundle_order_id, s.marketplace_order_id,
+                   s.gross_sales_amount, s.commission_amount, s.pg_fee_amount,
+                   s.shipping_fee_charged, s.shipping_fee_settled, s.net_payout_amount,
+                   s.marketplace_settlement_line_id, s.marketplace_payload,
+                   NOW(), NOW()
+            FROM settlement_order_stage s
+            ON CONFLICT (tenant_id, settlement_batch_id, order_id) DO NOTHING
+            RETURNING settlement_order_id
+        ),
+        inserted_items AS (
+            INSERT INTO settlement_order_items (
+                settlement_order_id, marketplace_product_order_id,
+                product_order_type, settle_type, product_id, product_name,
+                pay_settle_amount, total_pay_commission_amount, free_installment_commission_amount,
+                selling_interlock_commission_amount, benefit_settle_amount, settle_expect_amount,
+                marketplace_payload, created_at, updated_at
+            )
+            SELECT i.settlement_order_id, i.marketplace_product_order_id,
+                   i.product_order_type, i.settle_type, i.product_id, i.product_name,
+                   i.pay_settle_amount, i.total_pay_commission_amount, i.free_installment_commission_amount,
+                   i.selling_interlock_commission_amount, i.benefit_settle_amount, i.settle_expect_amount,
+                   i.marketplace_payload, NOW(), NOW()
+            FROM settlement_order_item_stage i
+            JOIN inserted_orders o ON o.settlement_order_id = i.settlement_order_id
+            ON CONFLICT (settlement_order_id, marketplace_product_order_id) DO NOTHING
+            RETURNING 1
+        )
+        SELECT (SELECT COUNT(*) FROM inserted_orders),
+               (SELECT COUNT(*) FROM inserted_items)
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public BulkInsertResult bulkInsertWithItems(List<SettlementOrder> settlementOrders) {
+        if (settlementOrders == null || settlementOrders.isEmpty()) {
+            return new BulkInsertResult(0, 0);
+        }
+
+        BulkInsertResult result = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> load(connection, settlementOrders));
+
+        log.info("[정산 주문 COPY 적재] staged={}, insertedOrders={}, insertedItems={}",
+                settlementOrders.size(), result.orders(), result.items());
+        return result;
+    }
+
+    private BulkInsertResult load(Connection connection, List<SettlementOrder> settlementOrders) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_ORDER_STAGE_SQL);
+            statement.execute(CREATE_ITEM_STAGE_SQL);
+            statement.execute(TRUNCATE_STAGE_SQL);
+        }
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try {
+            copyOrders(pgConnection, settlementOrders);
+            copyItems(pgConnection, settlementOrders);
+        } catch (IOException e) {
+            throw new SQLException("정산 주문 COPY 스트리밍 실패", e);
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(MERGE_SQL)) {
+            rs.next();
+            return new BulkInsertResult(rs.getInt(1), rs.getInt(2));
+        }
+    }
+
+    private void copyOrders(PGConnection pgConnection, List<SettlementOrder> settlementOrders)
+            throws SQLException, IOException {
+        try (Writer out = copyWriter(pgConnection, COPY_ORDERS_SQL)) {
+            for (SettlementOrder so : settlementOrders) {
+                // 상품 라인이 참조할 PK 선발급 (엔티티 저장 경로를 거치지 않으므로)
+                if (so.getSettlementOrderId() == null) {
+                    so.setSettlementOrderId(UUID.randomUUID());
+                }
+                writeValue(out, so.getSettlementOrderId());
+                writeValue(out, so.getTenantId());
+                writeValue(out, so.getSettlementBatch().getSettlementBatchId());
+                writeValue(out, so.getOrderId());
+                writeValue(out, so.getMarketplace().name());
+                writeValue(out, so.getBundleOrderId());
+                writeValue(out, so.getMarketplaceOrderId());
+                writeValue(out, amount(so.getGrossSalesAmount()));
+                writeValue(out, amount(so.getCommissionAmount()));
+                writeValue(out, amount(so.getPgFeeAmount()));
+                writeValue(out, amount(so.getShippingFeeCharged()));
+                writeValue(out, amount(so.getShippingFeeSettled()));
+                writeValue(out, amount(so.getNetPayoutAmount()));
+                writeValue(out, so.getMarketplaceSettlementLineId());
+                writeLast(out, so.getMarketplacePayload());
+            }
+        }
+    }
+
+    private void copyItems(PGConnection pgConnection, List<SettlementOrder> settlementOrders)
+            throws SQLException, IOException {
+        try (Writer out = copyWriter(pgConnection, COPY_ITEMS_SQL)) {
+            for (SettlementOrder so : settlementOrders) {
+                for (SettlementOrderItem item : so.getItems()) {
+                    writeValue(out, so.getSettlementOrderId());
+                    writeValue(out, item.getMarketplaceProductOrderId());
+                    writeValue(out, item.getProductOrderType());
+                    writeValue(out, item.getSettleType());
+                    writeValue(out, item.getProductId());
+                    writeValue(out, item.getProductName());
+                    writeValue(out, amount(item.getPaySettleAmount()));
+                    writeValue(out, amount(item.getTotalPayCommissionAmount()));
+                    writeValue(out, amount(item.getFreeInstallmentCommissionAmount()));
+                    writeValue(out, amount(item.getSellingInterlockCommissionAmount()));
+                    writeValue(out, amount(item.getBenefitSettleAmount()));
+                    writeValue(out, amount(item.getSettleExpectAmount()));
+                    writeLast(out, item.getMarketplacePayload());
+                }
+            }
+        }
+    }
+
+    /**
+     * COPY IN 스트림 (close 시 COPY 종료)
+     */
+    private static Writer copyWriter(PGConnection pgConnection, String copySql) throws SQLException {
+        return new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, copySql, COPY_BUFFER_SIZE), StandardCharsets.UTF_8));
+    }
+
+    private static void writeValue(Writer out, Object value) throws IOException {
+        writeField(out, value);
+        out.write(',');
+    }
+
+    private static void writeLast(Writer out, Object value) throws IOException {
+        writeField(out, value);
+        out.write('\n');
+    }
+
+    /**
+     * CSV 필드 (null = 따옴표 없는 빈 값, 그 외는 따옴표로 감싸 빈 문자열과 구분)
+     */
+    private static void writeField(Writer out, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static String amount(BigDecimal value) {
+        return value != null ? value.toPlainString() : "0";
+    }
+}
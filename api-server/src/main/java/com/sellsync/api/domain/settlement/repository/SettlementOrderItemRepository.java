@@ -28,4 +28,15 @@ public interface SettlementOrderItemRepository extends JpaRepository<SettlementO
     @Query("SELECT DISTINCT i.marketplaceProductOrderId FROM SettlementOrderItem i " +
            "WHERE i.settlementOrder.settlementBatch.settlementBatchId IN :batchIds")
     Set<String> findProductOrderIdsBySettlementBatchIds(@Param("batchIds") Set<UUID> batchIds);
+
+    /**
+     * 정산 배치 ID 목록 + productOrderId 목록 범위의 기존 productOrderId 조회
+     * 정산 수집 조회 단위(일자/페이지)별 멱등성 체크에 사용 (배치 전체 조회 방지)
+     */
+    @Query("SELECT DISTINCT i.marketplaceProductOrderId FROM SettlementOrderItem i " +
+           "WHERE i.settlementOrder.settlementBatch.settlementBatchId IN :batchIds " +
+           "AND i.marketplaceProductOrderId IN :productOrderIds")
+    Set<String> findProductOrderIdsBySettlementBatchIdsAndProductOrderIds(
+            @Param("batchIds") Set<UUID> batchIds,
+            @Param("productOrderIds") Set<String> productOrderIds);
 }
@@ -18,7 +18,8 @@ import java.util.UUID;
  * SettlementOrder Repository
  */
 @Repository
-public interface SettlementOrderRepository extends JpaRepository<SettlementOrder, UUID> {
+public interface SettlementOrderRepository extends JpaRepository<SettlementOrder, UUID>, SettlementContentHashRepository,
+        SettlementOrderBulkRepository {
 
     /**
      * 멱등성 키로 정산 주문 조회 (ADR-0001)
@@ -82,6 +83,21 @@ public interface SettlementOrderRepository extends JpaRepository<SettlementOrder
            "WHERE so.marketplaceOrderId = :marketplaceOrderId")
     List<SettlementOrder> findByMarketplaceOrderIdWithItems(@Param("marketplaceOrderId") String marketplaceOrderId);
 
+    /**
+     * marketplaceOrderId 목록으로 정산 주문 일괄 조회 (일괄 전표 생성용)
+     * 
+     * @param tenantId 테넌트 ID
+     * @param marketplaceOrderIds 마켓플레이스 주문 ID 목록
+     * @return 정산 주문 목록 (items 포함)
+     */
+    @Query("SELECT DISTINCT so FROM SettlementOrder so " +
+           "LEFT JOIN FETCH so.items " +
+           "WHERE so.tenantId = :tenantId " +
+           "AND so.marketplaceOrderId IN :marketplaceOrderIds")
+    List<SettlementOrder> findByTenantIdAndMarketplaceOrderIdInWithItems(
+            @Param("tenantId") UUID tenantId,
+            @Param("marketplaceOrderIds") List<String> marketplaceOrderIds);
+
     /**
      * 테넌트 + 마켓별 정산 주문 목록 조회
      */
@@ -126,4 +142,14 @@ public interface SettlementOrderRepository extends JpaRepository<SettlementOrder
         UUID tenantId, 
         Set<UUID> settlementBatchIds
     );
+
+    /**
+     * 테넌트 + 배치 ID 목록 + 주문 ID 목록으로 정산 주문 조회
+     * 정산 수집 조회 단위(일자/페이지)별 멱등성 체크에 사용 (배치 전체 조회 방지)
+     */
+    List<SettlementOrder> findByTenantIdAndSettlementBatch_SettlementBatchIdInAndOrderIdIn(
+        UUID tenantId,
+        Set<UUID> settlementBatchIds,
+        Set<UUID> orderIds
+    );
 }
@@ -0,0 +1,239 @@
+package com.sellsync.api.domain.settlement.service;
+
+import java.util.Arrays;
+
+/**
+ * 주문별 정산 금액 컬럼형 누적 버퍼
+ *
+ * 정산 수집 1회 동안 주문(marketplaceOrderId)별 수수료/정산금액을 주문별 객체 없이 원시 배열로 누적합니다.
+ * - 색인: 오픈 어드레싱(선형 탐사) 주문 ID → 행 번호 (Map.Entry/Long 박싱 없음)
+ * - 값: 행 번호 기준 long[] 컬럼, 행은 최초 등장 순서
+ * - 변경 표시: 내용이 바뀐 요소가 하나라도 있는 주문만 {@link #retainChanged()} 후 기록 (합계는 기간 전체 요소 기준)
+ * - 기록: {@link Chunk}에 행 구간을 복사하여 unnest 벌크 UPDATE 배열 파라미터로 그대로 바인딩 (청크 간 배열 재사용)
+ */
+public final class OrderSettlementColumns {
+
+    private static final int INITIAL_ROWS = 256;
+
+    private String[] keys;
+    private long[] productCommission;   // 상품 수수료 (합산)
+    private long[] shippingCommission;  // 배송비 수수료 (마지막 값)
+    private long[] settlementAmount;    // 예상 정산금액 (합산)
+    private boolean[] changed;          // 변경 요소 포함 여부
+    private int size;
+    private int changedCount;
+
+    private int[] slots;                // 해시 슬롯 → 행 번호 + 1 (0 = 빈 슬롯), 부하율 0.5 이하
+    private int mask;
+
+    public OrderSettlementColumns() {
+        keys = new String[INITIAL_ROWS];
+        productCommission = new long[INITIAL_ROWS];
+        shippingCommission = new long[INITIAL_ROWS];
+        settlementAmount = new long[INITIAL_ROWS];
+        changed = new boolean[INITIAL_ROWS];
+        slots = new int[INITIAL_ROWS * 2];
+        mask = slots.length - 1;
+    }
+
+    /**
+     * 상품 수수료/정산금액 합산
+     */
+    public void addProduct(String marketplaceOrderId, long commission, long settlement) {
+        int row = rowOf(marketplaceOrderId);
+        productCommission[row] += commission;
+        settlementAmount[row] += settlement;
+    }
+
+    /**
+     * 배송비 수수료 기록 (주문당 1건 - 덮어쓰기)
+     */
+    public void setShippingCommission(String marketplaceOrderId, long commission) {
+        shippingCommission[rowOf(marketplaceOrderId)] = commission;
+    }
+
+    /**
+     * 변경 요소가 있는 주문으로 표시 (기록 대상)
+     */
+    public void markChanged(String marketplaceOrderId) {
+        int row = rowOf(marketplaceOrderId);
+        if (!changed[row]) {
+            changed[row] = true;
+            changedCount++;
+        }
+    }
+
+    /**
+     * 변경 표시된 주문 행만 남김 (행 순서 유지, 색인 재구성)
+     */
+    public void retainChanged() {
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            if (!changed[row]) {
+                continue;
+            }
+            if (kept != row) {
+                keys[kept] = keys[row];
+                productCommission[kept] = productCommission[row];
+                shippingCommission[kept] = shippingCommission[row];
+                settlementAmount[kept] = settlementAmount[row];
+                changed[kept] = true;
+            }
+            kept++;
+        }
+        Arrays.fill(keys, kept, size, null);
+        Arrays.fill(productCommission, kept, size, 0L);
+        Arrays.fill(shippingCommission, kept, size, 0L);
+        Arrays.fill(settlementAmount, kept, size, 0L);
+        Arrays.fill(changed, kept, size, false);
+        size = kept;
+        rehash(slots.length);
+    }
+
+    public int changedCount() {
+        return changedCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String key(int row) {
+        return keys[row];
+    }
+
+    public long productCommission(int row) {
+        return productCommission[row];
+    }
+
+    public long shippingCommission(int row) {
+        return shippingCommission[row];
+    }
+
+    public long settlementAmount(int row) {
+        return settlementAmount[row];
+    }
+
+    /**
+     * 벌크 UPDATE 청크 버퍼 생성 (청크 간 재사용)
+     */
+    public Chunk newChunk(int chunkSize) {
+        return new Chunk(chunkSize);
+    }
+
+    /**
+     * 주문 ID의 행 번호 (없으면 추가)
+     */
+    private int rowOf(String key) {
+        int slot = spread(key.hashCode()) & mask;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return insert(key, slot);
+            }
+            if (keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int insert(String key, int slot) {
+        if (size == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            productCommission = Arrays.copyOf(productCommission, capacity);
+            shippingCommission = Arrays.copyOf(shippingCommission, capacity);
+            settlementAmount = Arrays.copyOf(settlementAmount, capacity);
+            changed = Arrays.copyOf(changed, capacity);
+        }
+
+        int row = size++;
+        keys[row] = key;
+
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            slots[slot] = row + 1;
+        }
+        return row;
+    }
+
+    private void rehash(int slotCount) {
+        slots = new int[slotCount];
+        mask = slotCount - 1;
+        for (int row = 0; row < size; row++) {
+            int slot = spread(keys[row].hashCode()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row + 1;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 벌크 UPDATE 1회분 배열 파라미터
+     *
+     * 청크 크기가 같으면 배열을 재사용하고, 마지막 부분 청크만 길이에 맞춰 새로 할당
+     * (SQL 배열 파라미터는 길이 = 행 수여야 하므로)
+     */
+    public final class Chunk {
+
+        private String[] marketplaceOrderIds;
+        private long[] commissionAmounts;
+        private long[] shippingCommissionAmounts;
+        private long[] expectedSettlementAmounts;
+
+        private Chunk(int chunkSize) {
+            allocate(chunkSize);
+        }
+
+        /**
+         * fromRow부터 최대 청크 크기만큼 복사
+         *
+         * @return 복사한 행 수
+         */
+        public int fill(int fromRow) {
+            int length = Math.min(marketplaceOrderIds.length, size - fromRow);
+            if (length != marketplaceOrderIds.length) {
+                allocate(length);
+            }
+            System.arraycopy(keys, fromRow, marketplaceOrderIds, 0, length);
+            System.arraycopy(productCommission, fromRow, commissionAmounts, 0, length);
+            System.arraycopy(shippingCommission, fromRow, shippingCommissionAmounts, 0, length);
+            System.arraycopy(settlementAmount, fromRow, expectedSettlementAmounts, 0, length);
+            return length;
+        }
+
+        public String[] marketplaceOrderIds() {
+            return marketplaceOrderIds;
+        }
+
+        public long[] commissionAmounts() {
+            return commissionAmounts;
+        }
+
+        public long[] shippingCommissionAmounts() {
+            return shippingCommissionAmounts;
+        }
+
+        public long[] expectedSettlementAmounts() {
+            return expectedSettlementAmounts;
+        }
+
+        private void allocate(int length) {
+            marketplaceOrderIds = new String[length];
+            commissionAmounts = new long[length];
+            shippingCommissionAmounts = new long[length];
+            expectedSettlementAmounts = new long[length];
+        }
+    }
+}
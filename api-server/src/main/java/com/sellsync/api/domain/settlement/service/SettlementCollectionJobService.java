@@ -0,0 +1,296 @@
+package com.sellsync.api.domain.settlement.service;
+
+import com.sellsync.api.domain.credential.service.CredentialService;
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.order.service.OrderCollectionDispatcher;
+import com.sellsync.api.domain.settlement.dto.SettlementCollectionResult;
+import com.sellsync.api.domain.settlement.entity.SettlementCollectionJob;
+import com.sellsync.api.domain.settlement.repository.SettlementCollectionJobRepository;
+import com.sellsync.api.domain.store.entity.Store;
+import com.sellsync.api.domain.store.repository.StoreRepository;
+import com.sellsync.api.domain.tenant.entity.Tenant;
+import com.sellsync.api.domain.tenant.enums.TenantStatus;
+import com.sellsync.api.domain.tenant.repository.TenantRepository;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정산 수집 작업 서비스
+ *
+ * 야간 정산 수집을 스토어 x 실행일 작업(settlement_collection_jobs)으로 나누어 병렬 실행합니다.
+ * - plan: 활성 테넌트의 정산 지원 스토어별로 작업 생성 (수집 구간 결정)
+ * - run: 실행 가능 작업을 OrderCollectionDispatcher로 마켓플레이스별 동시 실행 수 + Rate Limit 예산 기준 분배
+ * - 작업은 조건부 UPDATE로 선점 - 시간 내 끝나지 않은 작업/실패 작업은 다음 run에서 이어서 처리
+ * - 실행 중 작업은 노드별 heartbeat로 lease(started_at) 갱신 - 노드가 종료된 작업만 lease 만료 후 재선점
+ *
+ * 수집 구간:
+ * - FULL: 어제 기준 1개월 (최초 수집 또는 마지막 FULL 후 full-reconcile-interval-days 경과)
+ * - INCREMENTAL: 마지막 성공 구간 끝 - recollect-days ~ 어제 (정산 확정 지연분 재수집)
+ */
+@Slf4j
+@Service
+public class SettlementCollectionJobService {
+
+    private static final List<Marketplace> SUPPORTED_MARKETPLACES =
+            List.of(Marketplace.NAVER_SMARTSTORE, Marketplace.COUPANG);
+
+    private final SettlementCollectionService settlementCollectionService;
+    private final SettlementCollectionJobRepository jobRepository;
+    private final TenantRepository tenantRepository;
+    private final StoreRepository storeRepository;
+    private final CredentialService credentialService;
+    private final OrderCollectionDispatcher dispatcher;
+    private final Executor settlementCollectionExecutor;
+    private final String workerId;
+    private final Set<UUID> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${scheduling.settlement-collection.max-concurrency-per-marketplace:4}")
+    private int maxConcurrencyPerMarketplace;
+
+    @Value("${scheduling.settlement-collection.recollect-days:7}")
+    private int recollectDays;
+
+    @Value("${scheduling.settlement-collection.full-reconcile-interval-days:7}")
+    private int fullReconcileIntervalDays;
+
+    @Value("${scheduling.settlement-collection.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${scheduling.settlement-collection.lease-minutes:30}")
+    private long leaseMinutes;
+
+    public SettlementCollectionJobService(
+            SettlementCollectionService settlementCollectionService,
+            SettlementCollectionJobRepository jobRepository,
+            TenantRepository tenantRepository,
+            StoreRepository storeRepository,
+            CredentialService credentialService,
+            OrderCollectionDispatcher dispatcher,
+            @Qualifier("settlementCollectionExecutor") Executor settlementCollectionExecutor) {
+        this.settlementCollectionService = settlementCollectionService;
+        this.jobRepository = jobRepository;
+        this.tenantRepository = tenantRepository;
+        this.storeRepository = storeRepository;
+        this.credentialService = credentialService;
+        this.dispatcher = dispatcher;
+        this.settlementCollectionExecutor = settlementCollectionExecutor;
+        this.workerId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Data
+    @Builder
+    public static class RunResult {
+        private int total;
+        private int success;
+        private int failed;
+        private int totalElements;
+        private int createdBatches;
+        private int createdSettlementOrders;
+        private long elapsedMs;
+        private Set<UUID> succeededTenantIds;   // 이번 실행에서 수집 성공한 스토어가 있는 테넌트 (자동 전표 대상)
+    }
+
+    /**
+     * 실행일 작업 생성 (이미 생성된 스토어는 건너뜀)
+     *
+     * @return 새로 생성한 작업 수
+     */
+    public int planRun(LocalDate runDate) {
+        Set<UUID> planned = new HashSet<>(jobRepository.findStoreIdsByRunDate(runDate));
+        LocalDate endDate = runDate.minusDays(1);
+
+        List<SettlementCollectionJob> jobs = new ArrayList<>();
+        for (Tenant tenant : tenantRepository.findByStatus(TenantStatus.ACTIVE)) {
+            for (Store store : storeRepository.findByTenantIdAndIsActive(tenant.getTenantId(), true)) {
+                if (!SUPPORTED_MARKETPLACES.contains(store.getMarketplace()) || planned.contains(store.getStoreId())) {
+                    continue;
+                }
+                jobs.add(newJob(store, runDate, endDate));
+            }
+        }
+        jobRepository.saveAll(jobs);
+
+        log.info("[정산 수집 작업] 생성: runDate={}, created={}, existing={}", runDate, jobs.size(), planned.size());
+        return jobs.size();
+    }
+
+    /**
+     * 실행 가능 작업 병렬 실행 (대기/재시도 가능 실패/lease 만료)
+     *
+     * @param sinceRunDate 이 실행일 이후 작업만 대상
+     * @param timeout 전체 실행 시간 상한 (남은 작업은 다음 실행에서 재개)
+     */
+    public RunResult runPending(LocalDate sinceRunDate, Duration timeout) {
+        LocalDateTime leaseCutoff = LocalDateTime.now().minusMinutes(leaseMinutes);
+        List<SettlementCollectionJob> runnable = jobRepository.findRunnable(sinceRunDate, maxAttempts, leaseCutoff);
+
+        // 스토어당 가장 이른 실행일 작업 1건 (같은 스토어 작업 동시 실행 방지)
+        Map<UUID, SettlementCollectionJob> jobByStore = new ConcurrentHashMap<>();
+        for (SettlementCollectionJob job : runnable) {
+            jobByStore.putIfAbsent(job.getStoreId(), job);
+        }
+        Map<UUID, Store> stores = storeRepository.findAllById(jobByStore.keySet()).stream()
+                .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+
+        RunResult result = RunResult.builder()
+                .total(stores.size())
+                .succeededTenantIds(ConcurrentHashMap.newKeySet())
+                .build();
+        if (stores.isEmpty()) {
+            return result;
+        }
+
+        log.info("[정산 수집 작업] 실행 시작: jobs={}, maxConcurrencyPerMarketplace={}, worker={}",
+                stores.size(), maxConcurrencyPerMarketplace, workerId);
+
+        OrderCollectionDispatcher.DispatchResult dispatched = dispatcher.dispatch(
+                new ArrayList<>(stores.values()),
+                store -> runJob(jobByStore.get(store.getStoreId()), store, result),
+                timeout,
+                settlementCollectionExecutor,
+                maxConcurrencyPerMarketplace);
+
+        result.setSuccess(dispatched.getSuccess());
+        result.setFailed(dispatched.getFailed());
+        result.setElapsedMs(dispatched.getElapsedMs());
+
+        log.info("[정산 수집 작업] 실행 완료: jobs={}, success={}, failed={}, elements={}, batches={}, settlementOrders={}, {}ms",
+                result.getTotal(), result.getSuccess(), result.getFailed(), result.getTotalElements(),
+                result.getCreatedBatches(), result.getCreatedSettlementOrders(), result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * 작업 1건 실행 (선점 → 수집 → 종료 기록)
+     * - 다른 노드가 먼저 선점한 작업은 건너뜀 (성공으로 집계)
+     * - 실패 시 예외를 다시 던져 디스패처 실패로 집계
+     */
+    private void runJob(SettlementCollectionJob job, Store store, RunResult result) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = jobRepository.claim(job.getJobId(), workerId, now, maxAttempts, now.minusMinutes(leaseMinutes));
+        if (claimed == 0) {
+            log.debug("[정산 수집 작업] 이미 선점됨: jobId={}, storeId={}", job.getJobId(), store.getStoreId());
+            return;
+        }
+
+        runningJobIds.add(job.getJobId());
+        try {
+            String credentials = credentialService.getMarketplaceCredentials(
+                            store.getTenantId(), store.getStoreId(), store.getMarketplace(), store.getCredentials())
+                    .orElseThrow(() -> new IllegalStateException("마켓 인증 정보 없음 - 마켓 연동 정보 입력 필요"));
+
+            SettlementCollectionResult collected = settlementCollectionService.collectAndProcessSettlements(
+                    store.getTenantId(), store.getStoreId(), store.getMarketplace(),
+                    job.getRangeFrom(), job.getRangeTo(), credentials);
+
+            jobRepository.finish(job.getJobId(), workerId, SettlementCollectionJob.STATUS_SUCCESS, LocalDateTime.now(),
+                    collected.getTotalElements(), collected.getCreatedBatches(),
+                    collected.getCreatedSettlementOrders(), null);
+
+            synchronized (result) {
+                result.setTotalElements(result.getTotalElements() + collected.getTotalElements());
+                result.setCreatedBatches(result.getCreatedBatches() + collected.getCreatedBatches());
+                result.setCreatedSettlementOrders(result.getCreatedSettlementOrders() + collected.getCreatedSettlementOrders());
+            }
+            result.getSucceededTenantIds().add(store.getTenantId());
+
+            log.info("[정산 수집 작업] 스토어 완료: storeId={}, storeName={}, mode={}, period={} ~ {}, elements={}, skipped={}, batches={}",
+                    store.getStoreId(), store.getStoreName(), job.getCollectionMode(),
+                    job.getRangeFrom(), job.getRangeTo(), collected.getTotalElements(),
+                    collected.getSkippedElements(), collected.getCreatedBatches());
+
+        } catch (Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            jobRepository.finish(job.getJobId(), workerId, SettlementCollectionJob.STATUS_FAILED, LocalDateTime.now(),
+                    0, 0, 0, message.length() > 2000 ? message.substring(0, 2000) : message);
+            throw e;
+        } finally {
+            runningJobIds.remove(job.getJobId());
+        }
+    }
+
+    /**
+     * 이 노드가 실행 중인 작업의 lease 갱신 (노드별 실행, 분산 락 없음)
+     *
+     * 스토어 1건 수집이 lease-minutes보다 오래 걸려도 다른 노드가 재선점하지 않도록 started_at을 주기적으로 갱신
+     */
+    @Scheduled(fixedDelayString = "${scheduling.settlement-collection.heartbeat-interval-ms:60000}",
+               initialDelayString = "${scheduling.settlement-collection.heartbeat-interval-ms:60000}")
+    public void renewLeases() {
+        if (runningJobIds.isEmpty()) {
+            return;
+        }
+        try {
+            int renewed = jobRepository.renewLease(List.copyOf(runningJobIds), workerId, LocalDateTime.now());
+            log.debug("[정산 수집 작업] lease 갱신: worker={}, running={}, renewed={}",
+                    workerId, runningJobIds.size(), renewed);
+        } catch (Exception e) {
+            log.warn("[정산 수집 작업] lease 갱신 실패: worker={}, error={}", workerId, e.getMessage());
+        }
+    }
+
+    /**
+     * 스토어 작업 생성 (수집 구간 결정)
+     */
+    private SettlementCollectionJob newJob(Store store, LocalDate runDate, LocalDate endDate) {
+        SettlementCollectionJob lastSuccess = jobRepository.findFirstByStoreIdAndStatusOrderByRunDateDesc(
+                store.getStoreId(), SettlementCollectionJob.STATUS_SUCCESS);
+        SettlementCollectionJob lastFull = jobRepository.findFirstByStoreIdAndStatusAndCollectionModeOrderByRunDateDesc(
+                store.getStoreId(), SettlementCollectionJob.STATUS_SUCCESS, SettlementCollectionJob.MODE_FULL);
+
+        boolean full = lastSuccess == null
+                || lastFull == null
+                || lastFull.getRunDate().isBefore(runDate.minusDays(fullReconcileIntervalDays));
+
+        LocalDate fullFrom = endDate.minusMonths(1);
+        LocalDate from = fullFrom;
+        if (!full) {
+            from = lastSuccess.getRangeTo().minusDays(recollectDays - 1L);
+            if (from.isBefore(fullFrom)) {
+                from = fullFrom;
+            }
+            if (from.isAfter(endDate)) {
+                from = endDate;
+            }
+        }
+
+        return SettlementCollectionJob.builder()
+                .tenantId(store.getTenantId())
+                .storeId(store.getStoreId())
+                .marketplace(store.getMarketplace())
+                .runDate(runDate)
+                .collectionMode(full ? SettlementCollectionJob.MODE_FULL : SettlementCollectionJob.MODE_INCREMENTAL)
+                .rangeFrom(from)
+                .rangeTo(endDate)
+                .build();
+    }
+
+    private static String resolveHostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;  // claimed_by VARCHAR(100)
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -12,8 +12,11 @@ import com.sellsync.api.domain.settlement.entity.SettlementOrder;
 import com.sellsync.api.domain.settlement.entity.SettlementOrderItem;
 import com.sellsync.api.domain.settlement.enums.SettlementStatus;
 import com.sellsync.api.domain.settlement.repository.SettlementBatchRepository;
+import com.sellsync.api.domain.settlement.repository.SettlementContentHashRepository.ContentHash;
+import com.sellsync.api.domain.settlement.repository.SettlementOrderBulkRepository;
 import com.sellsync.api.domain.settlement.repository.SettlementOrderItemRepository;
 import com.sellsync.api.domain.settlement.repository.SettlementOrderRepository;
+import com.sellsync.api.util.ContentHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -51,21 +54,38 @@ public class SettlementCollectionService {
     private final com.sellsync.api.domain.settlement.service.SettlementService settlementService;
     private final PlatformTransactionManager transactionManager;
 
+    private static final int ORDER_UPDATE_CHUNK_SIZE = 500;
+
     /**
      * 정산 데이터 수집 및 벌크 처리 (메인 메서드)
      *
-     * 플로우:
-     * 1. 마켓 API에서 정산 데이터 수집 (트랜잭션 외부 - DB 커넥션 점유 방지)
-     * 2. DB 처리 (트랜잭션 내부):
-     *    a. orderId로 기존 주문 매칭
-     *    b. 주문 테이블에 수수료 정보 벌크 업데이트
-     *    c. SettlementBatch 벌크 UPSERT
-     *    d. SettlementOrder 벌크 UPSERT
-     *    e. 배치 상태 자동 전환 (COLLECTED → VALIDATED)
+     * 플로우 (스트리밍 - 마켓 API 조회 단위(네이버: 일자, 쿠팡: 페이지)마다 처리):
+     * 1. 마켓 API 조회 단위 수신 (트랜잭션 외부 - DB 커넥션 점유 방지)
+     * 2. 조회 단위 처리 (단위별 트랜잭션):
+     *    a. 정산일별 배치 합계 누적 (전체 요소)
+     *    b. 내용 지문 비교 - 직전 처리분과 같은 묶음 주문 x 정산일 판별
+     *    c. productOrderId로 기존 주문 매칭 → 주문별 수수료 누적 (전체 요소, 변경 요소가 있는 주문 표시)
+     *    d. 정산 배치 확보 + SettlementOrder 벌크 UPSERT (변경 묶음만)
+     * 3. 마무리 (트랜잭션 1회):
+     *    a. 변경 요소가 있는 주문만 수수료 정보 벌크 업데이트 (고정 크기 청크)
+     *    b. SettlementBatch 합계 UPSERT (변경된 정산일)
+     *    c. 배치 상태 자동 전환 (COLLECTED → VALIDATED)
+     *    d. 처리한 묶음 주문 x 정산일 지문 저장
+     *
+     * 메모리:
+     * - 정산 요소 원본은 조회 단위 처리 후 보관하지 않음
+     * - 조회 단위 사이에는 주문별 수수료 / 정산일별 합계 / 지문 누적값만 유지
+     *
+     * 재처리 생략 단위 (묶음 주문 x 정산일):
+     * - SettlementOrder는 정산일별 배치에 속하므로 변경된 묶음 x 정산일만 UPSERT
+     * - 주문 정산 정보는 수집 기간 전체 요소의 합계로 덮어쓰므로 생략 판단은 주문 단위
+     *   → 여러 정산일에 걸친 주문은 한 정산일만 바뀌어도 기간 내 전체 정산일 합계로 기록
+     *   → 수집 기간 이전 정산일 지문이 있는 묶음(기간 밖 정산 요소 보유)의 주문은 기간 합계로 덮어쓰지 않고,
+     *     지문도 저장하지 않아 이전 정산일까지 포함하는 수집(FULL)에서 다시 처리
+     * - 정산 배치 합계는 정산일 전체 요소 누적값으로 기록 → 변경된 묶음이 있는 정산일만 마무리 단계에서 UPSERT
      *
-     * 트랜잭션 분리:
-     * - 외부 API 호출은 트랜잭션 외부에서 실행하여 DB 커넥션 점유 방지
-     * - DB 쓰기 작업만 TransactionTemplate으로 트랜잭션 처리
+     * 중단 시:
+     * - 지문은 마무리 단계에서만 저장 → 다음 수집에서 해당 구간 전체 재처리 (SettlementOrder는 멱등 키로 중복 제외)
      */
     public SettlementCollectionResult collectAndProcessSettlements(
             UUID tenantId,
@@ -90,94 +110,250 @@ public class SettlementCollectionService {
             log.warn("[정산 수집] ⚠️ 해당 기간에 수집된 주문이 없습니다. 주문 수집을 먼저 실행해주세요.");
         }
 
-        // 1. 마켓 API에서 정산 데이터 수집 (트랜잭션 외부 - DB 커넥션 점유 방지)
+        // 1~2. 마켓 API 조회 단위 수신 즉시 처리 (API 호출 구간에는 트랜잭션 없음)
         MarketplaceSettlementClient client = getSettlementClient(marketplace.name());
-        List<DailySettlementElement> elements = client.fetchSettlementElements(startDate, endDate, credentials);
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        SettlementAccumulator acc = new SettlementAccumulator(startDate);
+
+        client.streamSettlementElements(startDate, endDate, credentials, page ->
+                txTemplate.executeWithoutResult(status -> processPage(tenantId, storeId, marketplace, page, acc)));
 
-        log.info("[정산 데이터 수집 완료] count={}", elements.size());
+        log.info("[정산 데이터 수집 완료] count={}, 변경={}, 생략={}",
+                acc.totalElements, acc.totalElements - acc.skippedElements, acc.skippedElements);
 
-        if (elements.isEmpty()) {
+        if (acc.totalElements == 0) {
             return SettlementCollectionResult.empty();
         }
+        if (acc.changedPayDates.isEmpty() && acc.orderSettlements.changedCount() == 0) {
+            return SettlementCollectionResult.builder()
+                    .totalElements(acc.totalElements)
+                    .skippedElements(acc.skippedElements)
+                    .build();
+        }
 
-        // 2. DB 처리 (트랜잭션 내부)
-        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
-        return txTemplate.execute(status -> {
-            // 2-1. productOrderId(=marketplaceOrderId)로 기존 주문 조회 (벌크)
-            List<String> marketplaceOrderIds = elements.stream()
-                    .map(DailySettlementElement::getProductOrderId)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .toList();
-
-            Map<String, Order> orderMap = orderRepository
-                    .findByStoreIdAndMarketplaceOrderIdIn(storeId, marketplaceOrderIds)
-                    .stream()
-                    .collect(Collectors.toMap(Order::getMarketplaceOrderId, o -> o));
-
-            log.info("[주문 매칭 완료] 요청={}, 매칭={}", marketplaceOrderIds.size(), orderMap.size());
-
-            // 2-2. 주문 테이블에 수수료 정보 벌크 업데이트
-            int updatedOrders = bulkUpdateOrderSettlementInfo(tenantId, storeId, elements, orderMap, startDate);
-            log.info("[주문 수수료 업데이트 완료] count={}", updatedOrders);
-
-            // 2-3. SettlementBatch 생성/업데이트 (일별 배치)
-            Map<String, SettlementBatch> batchMap = createOrUpdateBatches(
-                tenantId, storeId, marketplace, elements, startDate, endDate
-            );
-            log.info("[정산 배치 처리 완료] count={}", batchMap.size());
+        // 3. 마무리
+        return txTemplate.execute(status -> completeCollection(tenantId, storeId, marketplace, startDate, acc));
+    }
+
+    /**
+     * 조회 단위(일자/페이지) 처리 - 원본 요소는 이 메서드 밖으로 보관하지 않음
+     */
+    private void processPage(
+            UUID tenantId,
+            UUID storeId,
+            Marketplace marketplace,
+            List<DailySettlementElement> page,
+            SettlementAccumulator acc) {
+
+        acc.totalElements += page.size();
 
-            for (SettlementBatch batch : batchMap.values()) {
-                log.info("[정산 배치 상태 확인] settlementBatchId={}, status={}, cycle={}",
-                        batch.getSettlementBatchId(),
-                        batch.getSettlementStatus(),
-                        batch.getSettlementCycle());
+        // 2-1. 정산일별 배치 합계 누적 (변경 여부와 무관하게 전체 요소)
+        for (DailySettlementElement element : page) {
+            if (element.getPayDate() != null) {
+                acc.dailyTotals
+                        .computeIfAbsent(LocalDate.parse(element.getPayDate()), d -> new DailySettlementTotals())
+                        .add(element);
             }
+        }
 
-            // 2-4. SettlementOrder 벌크 UPSERT
-            int createdOrders = bulkUpsertSettlementOrders(tenantId, marketplace, elements, orderMap, batchMap);
-            log.info("[정산 주문 생성 완료] count={}", createdOrders);
-
-            // 2-5. 자동으로 VALIDATED 상태로 전환
-            int validatedBatchCount = 0;
-            int alreadyValidatedCount = 0;
-            for (SettlementBatch batch : batchMap.values()) {
-                try {
-                    if (batch.getSettlementStatus() == SettlementStatus.COLLECTED) {
-                        settlementService.markAsValidated(batch.getSettlementBatchId());
-                        validatedBatchCount++;
-                        log.info("[정산 배치 자동 검증 완료] settlementBatchId={}, status: COLLECTED → VALIDATED",
-                                batch.getSettlementBatchId());
-                    } else if (batch.getSettlementStatus() == SettlementStatus.VALIDATED) {
-                        alreadyValidatedCount++;
-                        log.info("[정산 배치 자동 검증 스킵] settlementBatchId={}, status: VALIDATED (이미 검증됨)",
-                                batch.getSettlementBatchId());
-                    } else {
-                        log.warn("[정산 배치 자동 검증 스킵] settlementBatchId={}, status: {} (예상치 못한 상태)",
-                                batch.getSettlementBatchId(), batch.getSettlementStatus());
-                    }
-                } catch (Exception e) {
-                    log.warn("[정산 배치 자동 검증 실패] settlementBatchId={}, error={}",
-                            batch.getSettlementBatchId(), e.getMessage());
-                }
+        // 2-2. 내용 지문 비교 (변경/신규 묶음만 처리)
+        Map<String, List<DailySettlementElement>> bundles = groupByBundle(page);
+        Map<String, String> storedHashes = settlementOrderRepository.findContentHashes(
+                storeId,
+                bundles.values().stream().map(b -> bundleKey(b.get(0))).distinct().toList());
+
+        // 수집 기간 이전 정산일 지문이 있는 묶음 - 기간 내 요소 합계만으로는 주문 정산 정보를 기록할 수 없음
+        Set<String> outOfWindowBundleKeys = bundleKeysSettledBefore(storedHashes, acc.windowStart);
+
+        List<DailySettlementElement> changedElements = new ArrayList<>();
+        Set<DailySettlementElement> deferredElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, ContentHash> changedHashes = new HashMap<>();
+        for (Map.Entry<String, List<DailySettlementElement>> entry : bundles.entrySet()) {
+            List<DailySettlementElement> bundleElements = entry.getValue();
+            DailySettlementElement first = bundleElements.get(0);
+            String contentHash = contentHash(bundleElements);
+
+            if (contentHash.equals(storedHashes.get(entry.getKey()))) {
+                continue;
+            }
+            changedElements.addAll(bundleElements);
+            if (outOfWindowBundleKeys.contains(bundleKey(first))) {
+                deferredElements.addAll(bundleElements);
+                continue;
             }
-            log.info("[정산 배치 자동 검증 완료] 신규 검증: {}, 이미 검증됨: {}, 전체: {}",
-                    validatedBatchCount, alreadyValidatedCount, batchMap.size());
+            changedHashes.put(entry.getKey(),
+                    new ContentHash(bundleKey(first), LocalDate.parse(first.getPayDate()), contentHash));
+        }
+        if (!deferredElements.isEmpty()) {
+            acc.deferredElements += deferredElements.size();
+            log.info("[정산 수집] 수집 기간 이전 정산일이 있는 묶음 요소 {} 건 - 주문 정산 정보 기록 보류 (windowStart={})",
+                    deferredElements.size(), acc.windowStart);
+        }
+        // 묶음 키를 만들 수 없는 요소(payDate/주문 ID 없음)는 매번 처리
+        page.stream()
+                .filter(e -> !hasBundleKey(e))
+                .forEach(changedElements::add);
 
-            return SettlementCollectionResult.builder()
-                    .totalElements(elements.size())
-                    .matchedOrders(orderMap.size())
-                    .updatedOrders(updatedOrders)
-                    .createdBatches(batchMap.size())
-                    .createdSettlementOrders(createdOrders)
-                    .build();
-        });
+        acc.skippedElements += page.size() - changedElements.size();
+
+        // 2-3. productOrderId(=marketplaceOrderId)로 기존 주문 조회 (벌크) → 주문별 수수료 누적
+        // 주문 테이블은 기간 합계로 덮어쓰므로 변경 여부와 무관하게 전체 요소 누적, 변경 요소가 있는 주문만 기록
+        List<String> marketplaceOrderIds = page.stream()
+                .map(DailySettlementElement::getProductOrderId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<String, Order> orderMap = orderRepository
+                .findByStoreIdAndMarketplaceOrderIdIn(storeId, marketplaceOrderIds)
+                .stream()
+                .collect(Collectors.toMap(Order::getMarketplaceOrderId, o -> o));
+        acc.matchedOrders += orderMap.size();
+
+        log.debug("[주문 매칭 완료] 요청={}, 매칭={}", marketplaceOrderIds.size(), orderMap.size());
+
+        Set<DailySettlementElement> changedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedElements.stream()
+                .filter(e -> !deferredElements.contains(e))
+                .forEach(changedSet::add);
+        accumulateOrderSettlementInfo(storeId, page, changedSet, orderMap, acc.orderSettlements);
+
+        if (changedElements.isEmpty()) {
+            return;
+        }
+
+        // 2-4. 정산 배치 확보 + SettlementOrder 벌크 UPSERT
+        Set<LocalDate> changedPayDates = changedElements.stream()
+                .map(DailySettlementElement::getPayDate)
+                .filter(Objects::nonNull)
+                .map(LocalDate::parse)
+                .collect(Collectors.toSet());
+        acc.changedPayDates.addAll(changedPayDates);
+
+        Map<String, SettlementBatch> batchMap = ensureBatches(tenantId, marketplace, changedPayDates, acc);
+        acc.createdSettlementOrders += bulkUpsertSettlementOrders(
+                tenantId, marketplace, changedElements, orderMap, batchMap);
+
+        // 2-5. 지문은 마무리 단계에서 저장 (주문 미매칭 묶음 제외, 조회 단위에 걸쳐 나뉜 묶음은 매번 처리)
+        for (Map.Entry<String, ContentHash> entry : changedHashes.entrySet()) {
+            String key = entry.getKey();
+            if (acc.splitBundleKeys.contains(key) || !isFullyMatched(bundles.get(key), orderMap)) {
+                continue;
+            }
+            if (acc.pendingHashes.putIfAbsent(key, entry.getValue()) != null) {
+                acc.pendingHashes.remove(key);
+                acc.splitBundleKeys.add(key);
+            }
+        }
+    }
+
+    /**
+     * 조회 단위에 필요한 정산 배치 확보
+     *
+     * 처음 등장한 정산일은 현재까지의 누적 합계로 UPSERT하여 배치 ID 확보 (FK)
+     * → 최종 합계는 마무리 단계에서 다시 UPSERT
+     */
+    private Map<String, SettlementBatch> ensureBatches(
+            UUID tenantId,
+            Marketplace marketplace,
+            Set<LocalDate> payDates,
+            SettlementAccumulator acc) {
+
+        List<LocalDate> missingPayDates = payDates.stream()
+                .filter(d -> !acc.batchIds.containsKey(d))
+                .toList();
+        if (!missingPayDates.isEmpty()) {
+            createOrUpdateBatches(tenantId, marketplace, missingPayDates, acc.dailyTotals)
+                    .values()
+                    .forEach(b -> acc.batchIds.put(b.getSettlementPeriodStart(), b.getSettlementBatchId()));
+        }
+
+        Map<String, SettlementBatch> batchMap = new HashMap<>();
+        for (LocalDate payDate : payDates) {
+            UUID batchId = acc.batchIds.get(payDate);
+            if (batchId != null) {
+                batchMap.put(buildBatchKey(payDate, marketplace), settlementBatchRepository.getReferenceById(batchId));
+            }
+        }
+        return batchMap;
     }
 
     /**
-     * 주문 테이블에 정산 정보 벌크 업데이트
+     * 수집 마무리 - 누적값 기록 (주문 수수료, 배치 합계, 자동 검증, 지문)
+     */
+    private SettlementCollectionResult completeCollection(
+            UUID tenantId,
+            UUID storeId,
+            Marketplace marketplace,
+            LocalDate settlementDate,
+            SettlementAccumulator acc) {
+
+        // 3-1. 주문 테이블에 수수료 정보 벌크 업데이트 (변경 요소가 있는 주문만)
+        int accumulatedOrders = acc.orderSettlements.size();
+        acc.orderSettlements.retainChanged();
+        log.info("[주문 수수료 업데이트 대상] 변경={}, 생략={}, 기간 밖 정산일 보류 요소={}",
+                acc.orderSettlements.size(), accumulatedOrders - acc.orderSettlements.size(), acc.deferredElements);
+        int updatedOrders = flushOrderSettlementInfo(storeId, acc.orderSettlements, settlementDate);
+        log.info("[주문 수수료 업데이트 완료] count={}", updatedOrders);
+
+        // 3-2. SettlementBatch 최종 합계 UPSERT (변경된 정산일)
+        Map<String, SettlementBatch> batchMap = createOrUpdateBatches(
+                tenantId, marketplace, acc.changedPayDates, acc.dailyTotals);
+        log.info("[정산 배치 처리 완료] count={}", batchMap.size());
+
+        for (SettlementBatch batch : batchMap.values()) {
+            log.info("[정산 배치 상태 확인] settlementBatchId={}, status={}, cycle={}",
+                    batch.getSettlementBatchId(),
+                    batch.getSettlementStatus(),
+                    batch.getSettlementCycle());
+        }
+        log.info("[정산 주문 생성 완료] count={}", acc.createdSettlementOrders);
+
+        // 3-3. 자동으로 VALIDATED 상태로 전환
+        int validatedBatchCount = 0;
+        int alreadyValidatedCount = 0;
+        for (SettlementBatch batch : batchMap.values()) {
+            try {
+                if (batch.getSettlementStatus() == SettlementStatus.COLLECTED) {
+                    settlementService.markAsValidated(batch.getSettlementBatchId());
+                    validatedBatchCount++;
+                    log.info("[정산 배치 자동 검증 완료] settlementBatchId={}, status: COLLECTED → VALIDATED",
+                            batch.getSettlementBatchId());
+                } else if (batch.getSettlementStatus() == SettlementStatus.VALIDATED) {
+                    alreadyValidatedCount++;
+                    log.info("[정산 배치 자동 검증 스킵] settlementBatchId={}, status: VALIDATED (이미 검증됨)",
+                            batch.getSettlementBatchId());
+                } else {
+                    log.warn("[정산 배치 자동 검증 스킵] settlementBatchId={}, status: {} (예상치 못한 상태)",
+                            batch.getSettlementBatchId(), batch.getSettlementStatus());
+                }
+            } catch (Exception e) {
+                log.warn("[정산 배치 자동 검증 실패] settlementBatchId={}, error={}",
+                        batch.getSettlementBatchId(), e.getMessage());
+            }
+        }
+        log.info("[정산 배치 자동 검증 완료] 신규 검증: {}, 이미 검증됨: {}, 전체: {}",
+                validatedBatchCount, alreadyValidatedCount, batchMap.size());
+
+        // 3-4. 처리한 묶음 지문 저장
+        settlementOrderRepository.upsertContentHashes(storeId, new ArrayList<>(acc.pendingHashes.values()));
+        log.info("[정산 내용 지문 저장] count={}", acc.pendingHashes.size());
+
+        return SettlementCollectionResult.builder()
+                .totalElements(acc.totalElements)
+                .skippedElements(acc.skippedElements)
+                .matchedOrders(acc.matchedOrders)
+                .updatedOrders(updatedOrders)
+                .createdBatches(batchMap.size())
+                .createdSettlementOrders(acc.createdSettlementOrders)
+                .build();
+    }
+
+    /**
+     * 주문별 정산 정보 누적 (조회 단위별 호출, DB 쓰기는 flushOrderSettlementInfo)
      * 
-     * 주의: 한 주문에 대해 여러 element가 올 수 있음
+     * 주의: 한 주문에 대해 여러 element가 올 수 있음 (조회 단위에 걸쳐서도 누적)
+     * - 변경 요소(changedElements)와 매칭된 주문만 기록 대상으로 표시
      * - productOrderType != "DELIVERY": 상품 주문 (상품 수수료) → productOrderId로 매칭
      * - productOrderType = "DELIVERY": 배송비 (배송비 수수료) → productOrderId로 매칭
      * 
@@ -188,31 +364,27 @@ public class SettlementCollectionService {
      * 
      * ⚠️ 주의: orders 테이블의 bundleOrderId는 shipmentBoxId를 저장하고 있으나,
      *          정산 API에는 shipmentBoxId가 없으므로 productOrderId로 매칭해야 함
-     * 
-     * ⚠️ 성능 최적화: timeout 방지를 위해 500건씩 청크로 나누어 처리
      */
-    private int bulkUpdateOrderSettlementInfo(
-            UUID tenantId,
+    private void accumulateOrderSettlementInfo(
             UUID storeId,
             List<DailySettlementElement> elements,
+            Set<DailySettlementElement> changedElements,
             Map<String, Order> orderMap,
-            LocalDate settlementDate) {
+            OrderSettlementColumns orderSettlements) {
         
         // ========== 1. 상품 수수료 처리 (DELIVERY가 아닌 타입 - marketplaceOrderId로 매칭) ==========
-        List<DailySettlementElement> productElements = elements.stream()
-                .filter(e -> !"DELIVERY".equals(e.getProductOrderType()))
-                .filter(e -> e.getProductOrderId() != null && orderMap.containsKey(e.getProductOrderId()))
-                .toList();
-        
-        Map<String, OrderSettlementData> productSettlementMap = new java.util.HashMap<>();
         int productTypeCount = 0;
         
-        for (DailySettlementElement e : productElements) {
-            String marketplaceOrderId = e.getProductOrderId();  // marketplace_order_id
-            OrderSettlementData data = productSettlementMap.computeIfAbsent(marketplaceOrderId, k -> new OrderSettlementData());
-            
-            data.productCommission += e.getTotalCommission();
-            data.productSettlement += e.getCalculatedSettleAmount();
+        for (DailySettlementElement e : elements) {
+            if ("DELIVERY".equals(e.getProductOrderType())
+                    || e.getProductOrderId() == null || !orderMap.containsKey(e.getProductOrderId())) {
+                continue;
+            }
+            // marketplace_order_id 기준 합산
+            orderSettlements.addProduct(e.getProductOrderId(), e.getTotalCommission(), e.getCalculatedSettleAmount());
+            if (changedElements.contains(e)) {
+                orderSettlements.markChanged(e.getProductOrderId());
+            }
             productTypeCount++;
         }
         
@@ -226,22 +398,20 @@ public class SettlementCollectionService {
                 .toList();
         
         // bundleOrderId로 주문 조회를 위한 맵 생성 (스마트스토어용)
-        Map<String, Order> orderByBundleIdMap = orderRepository
-                .findByStoreIdAndBundleOrderIdIn(
-                    storeId, 
-                    deliveryElements.stream()
-                        .map(DailySettlementElement::getOrderId)
-                        .filter(Objects::nonNull)
-                        .distinct()
-                        .toList()
-                )
-                .stream()
-                .collect(Collectors.toMap(Order::getBundleOrderId, o -> o, (o1, o2) -> o1));
+        List<String> bundleOrderIds = deliveryElements.stream()
+                .map(DailySettlementElement::getOrderId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, Order> orderByBundleIdMap = bundleOrderIds.isEmpty()
+                ? Map.of()
+                : orderRepository.findByStoreIdAndBundleOrderIdIn(storeId, bundleOrderIds)
+                        .stream()
+                        .collect(Collectors.toMap(Order::getBundleOrderId, o -> o, (o1, o2) -> o1));
         
-        log.info("[배송비 수수료 처리] bundleOrderId로 조회된 주문: {} 건", orderByBundleIdMap.size());
+        log.debug("[배송비 수수료 처리] bundleOrderId로 조회된 주문: {} 건", orderByBundleIdMap.size());
         
         // productOrderId 또는 orderId로 배송비 수수료 매핑
-        Map<String, OrderSettlementData> deliverySettlementMap = new java.util.HashMap<>();
         int deliveryTypeCount = 0;
         long totalShippingCommission = 0L;
         
@@ -250,21 +420,18 @@ public class SettlementCollectionService {
             String bundleOrderId = e.getOrderId();
             long commission = e.getTotalCommission();
             
-            Order matchedOrder = null;
-            String matchKey = null;
+            Order matchedOrder;
             
             // 1. productOrderId로 매칭 시도 (쿠팡 케이스)
             if (productOrderId != null && orderMap.containsKey(productOrderId)) {
                 matchedOrder = orderMap.get(productOrderId);
-                matchKey = matchedOrder.getMarketplaceOrderId();
-                log.info("[배송비 수수료 매핑 성공 - productOrderId] productOrderId={}, commission={}", 
+                log.debug("[배송비 수수료 매핑 성공 - productOrderId] productOrderId={}, commission={}", 
                         productOrderId, commission);
             }
             // 2. bundleOrderId로 매칭 시도 (스마트스토어 케이스)
             else if (bundleOrderId != null && orderByBundleIdMap.containsKey(bundleOrderId)) {
                 matchedOrder = orderByBundleIdMap.get(bundleOrderId);
-                matchKey = matchedOrder.getMarketplaceOrderId();
-                log.info("[배송비 수수료 매핑 성공 - bundleOrderId] bundleOrderId={}, productOrderId={}, commission={}", 
+                log.debug("[배송비 수수료 매핑 성공 - bundleOrderId] bundleOrderId={}, productOrderId={}, commission={}", 
                         bundleOrderId, productOrderId, commission);
             }
             // 3. 매칭 실패
@@ -275,127 +442,114 @@ public class SettlementCollectionService {
             }
             
             // 매칭 성공 시 배송비 수수료 저장
-            if (matchedOrder != null && matchKey != null) {
-                OrderSettlementData data = deliverySettlementMap.computeIfAbsent(matchKey, k -> new OrderSettlementData());
-                data.shippingCommission = commission;
-                deliveryTypeCount++;
-                totalShippingCommission += commission;
+            orderSettlements.setShippingCommission(matchedOrder.getMarketplaceOrderId(), commission);
+            if (changedElements.contains(e)) {
+                orderSettlements.markChanged(matchedOrder.getMarketplaceOrderId());
             }
+            deliveryTypeCount++;
+            totalShippingCommission += commission;
         }
         
-        log.info("[정산 수집] 타입별 집계 - 상품: {} 건, 배송비: {} 건, 배송비 수수료 합계: {} 원", 
+        log.debug("[정산 수집] 타입별 집계 - 상품: {} 건, 배송비: {} 건, 배송비 수수료 합계: {} 원", 
                 productTypeCount, deliveryTypeCount, totalShippingCommission);
+    }
+
+    /**
+     * 주문 테이블에 정산 정보 벌크 업데이트 (누적값 기록)
+     * 
+     * ⚠️ 성능 최적화: timeout 방지를 위해 500건씩 청크로 나누어 처리
+     * - 청크 배열 파라미터는 재사용 (원시 long[] 그대로 바인딩)
+     */
+    private int flushOrderSettlementInfo(
+            UUID storeId,
+            OrderSettlementColumns orderSettlements,
+            LocalDate settlementDate) {
         
-        // ========== 3. 상품 수수료와 배송비 수수료 병합 ==========
-        Map<String, OrderSettlementData> mergedSettlementMap = new java.util.HashMap<>(productSettlementMap);
-        for (Map.Entry<String, OrderSettlementData> entry : deliverySettlementMap.entrySet()) {
-            String marketplaceOrderId = entry.getKey();
-            OrderSettlementData deliveryData = entry.getValue();
-            
-            OrderSettlementData data = mergedSettlementMap.computeIfAbsent(marketplaceOrderId, k -> new OrderSettlementData());
-            data.shippingCommission = deliveryData.shippingCommission;
-        }
-        
-        if (mergedSettlementMap.isEmpty()) {
+        if (orderSettlements.isEmpty()) {
             log.warn("[정산 정보 업데이트] 업데이트할 데이터가 없습니다.");
             return 0;
         }
         
-        // ========== 4. 벌크 업데이트 실행 (청크 처리) ==========
-        final int CHUNK_SIZE = 500;
-        int totalSize = mergedSettlementMap.size();
+        int totalSize = orderSettlements.size();
+        int totalChunks = (totalSize + ORDER_UPDATE_CHUNK_SIZE - 1) / ORDER_UPDATE_CHUNK_SIZE;
         int totalUpdated = 0;
         
-        log.info("[정산 정보 업데이트] 총 주문 수: {}, 청크 크기: {}", totalSize, CHUNK_SIZE);
+        log.info("[정산 정보 업데이트] 총 주문 수: {}, 청크 크기: {}", totalSize, ORDER_UPDATE_CHUNK_SIZE);
         
-        List<Map.Entry<String, OrderSettlementData>> entries = new ArrayList<>(mergedSettlementMap.entrySet());
-        for (int chunkStart = 0; chunkStart < totalSize; chunkStart += CHUNK_SIZE) {
-            int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, totalSize);
-            int chunkSize = chunkEnd - chunkStart;
-            
-            String[] marketplaceOrderIds = new String[chunkSize];
-            Long[] commissionAmounts = new Long[chunkSize];
-            Long[] shippingCommissionAmounts = new Long[chunkSize];
-            Long[] expectedSettlementAmounts = new Long[chunkSize];
-            LocalDate[] settlementDates = new LocalDate[chunkSize];
-
-            for (int i = 0; i < chunkSize; i++) {
-                Map.Entry<String, OrderSettlementData> entry = entries.get(chunkStart + i);
-                marketplaceOrderIds[i] = entry.getKey();
-                OrderSettlementData data = entry.getValue();
-                
-                commissionAmounts[i] = data.productCommission;
-                shippingCommissionAmounts[i] = data.shippingCommission;
-                expectedSettlementAmounts[i] = data.productSettlement + data.shippingSettlement;
-                settlementDates[i] = settlementDate;
-                
-                if (data.shippingCommission > 0) {
-                    log.info("[정산 정보 업데이트] 배송비 수수료 포함 - marketplaceOrderId={}, 상품수수료={}, 배송비수수료={}, 전체정산금액={}", 
-                            marketplaceOrderIds[i], data.productCommission, data.shippingCommission, expectedSettlementAmounts[i]);
-                }
-            }
+        OrderSettlementColumns.Chunk chunk = orderSettlements.newChunk(Math.min(ORDER_UPDATE_CHUNK_SIZE, totalSize));
+        for (int fromRow = 0, chunkNo = 1; fromRow < totalSize; chunkNo++) {
+            fromRow += chunk.fill(fromRow);
 
             int updated = orderRepository.bulkUpdateSettlementInfoByStoreId(
-                storeId, marketplaceOrderIds, commissionAmounts, shippingCommissionAmounts,
-                expectedSettlementAmounts, settlementDates
+                storeId, chunk.marketplaceOrderIds(), chunk.commissionAmounts(), chunk.shippingCommissionAmounts(),
+                chunk.expectedSettlementAmounts(), settlementDate
             );
             
             totalUpdated += updated;
-            log.info("[정산 정보 업데이트] 청크 {}/{} 완료: {} 건 업데이트", 
-                    (chunkStart / CHUNK_SIZE + 1), 
-                    (totalSize + CHUNK_SIZE - 1) / CHUNK_SIZE, 
-                    updated);
+            log.info("[정산 정보 업데이트] 청크 {}/{} 완료: {} 건 업데이트", chunkNo, totalChunks, updated);
         }
         
         log.info("[정산 정보 업데이트] 전체 완료: {} 건", totalUpdated);
         return totalUpdated;
     }
-    
+
     /**
-     * 주문별 정산 데이터 임시 저장용 클래스
+     * 정산일별 배치 합계 누적용 클래스
      */
-    private static class OrderSettlementData {
-        long productCommission = 0L;      // 상품 수수료
-        long shippingCommission = 0L;     // 배송비 수수료
-        long productSettlement = 0L;      // 상품 정산금액
-        long shippingSettlement = 0L;     // 배송비 정산금액
+    private static class DailySettlementTotals {
+        int elementCount = 0;
+        long grossSales = 0L;
+        long commission = 0L;
+        long netPayout = 0L;
+
+        void add(DailySettlementElement e) {
+            elementCount++;
+            grossSales += e.getPaySettleAmount() != null ? e.getPaySettleAmount() : 0L;
+            commission += e.getTotalCommission();
+            netPayout += e.getCalculatedSettleAmount();
+        }
     }
 
     /**
-     * 정산 배치 생성 또는 업데이트 (일별 그룹화)
+     * 수집 1회 누적 상태 (조회 단위 사이에 유지하는 값만 - 원본 요소 미보관)
+     */
+    private static class SettlementAccumulator {
+        final LocalDate windowStart;
+        int totalElements = 0;
+        int skippedElements = 0;
+        int matchedOrders = 0;
+        int createdSettlementOrders = 0;
+        int deferredElements = 0;
+        final OrderSettlementColumns orderSettlements = new OrderSettlementColumns();
+        final Map<LocalDate, DailySettlementTotals> dailyTotals = new HashMap<>();
+        final Set<LocalDate> changedPayDates = new HashSet<>();
+        final Map<LocalDate, UUID> batchIds = new HashMap<>();
+        final Map<String, ContentHash> pendingHashes = new HashMap<>();
+        final Set<String> splitBundleKeys = new HashSet<>();
+
+        SettlementAccumulator(LocalDate windowStart) {
+            this.windowStart = windowStart;
+        }
+    }
+
+    /**
+     * 정산 배치 생성 또는 업데이트 (정산일별 누적 합계)
      */
     private Map<String, SettlementBatch> createOrUpdateBatches(
             UUID tenantId,
-            UUID storeId,
             Marketplace marketplace,
-            List<DailySettlementElement> elements,
-            LocalDate startDate,
-            LocalDate endDate) {
+            Collection<LocalDate> payDates,
+            Map<LocalDate, DailySettlementTotals> dailyTotals) {
         
-        // 날짜별 그룹화
-        Map<LocalDate, List<DailySettlementElement>> groupedByDate = elements.stream()
-                .filter(e -> e.getPayDate() != null)
-                .collect(Collectors.groupingBy(e -> LocalDate.parse(e.getPayDate())));
-
         List<SettlementBatch> batches = new ArrayList<>();
         
-        for (Map.Entry<LocalDate, List<DailySettlementElement>> entry : groupedByDate.entrySet()) {
-            LocalDate payDate = entry.getKey();
-            List<DailySettlementElement> dayElements = entry.getValue();
-            
-            // 집계 계산
-            BigDecimal grossSales = dayElements.stream()
-                    .map(e -> BigDecimal.valueOf(e.getPaySettleAmount() != null ? e.getPaySettleAmount() : 0L))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            BigDecimal totalCommission = dayElements.stream()
-                    .map(e -> BigDecimal.valueOf(e.getTotalCommission()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (LocalDate payDate : payDates) {
+            DailySettlementTotals totals = dailyTotals.get(payDate);
+            if (totals == null) {
+                continue;
+            }
             
-            BigDecimal netPayout = dayElements.stream()
-                    .map(e -> BigDecimal.valueOf(e.getCalculatedSettleAmount()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+            BigDecimal netPayout = BigDecimal.valueOf(totals.netPayout);
             String settlementCycle = payDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
             SettlementBatch batch = SettlementBatch.builder()
@@ -405,9 +559,9 @@ public class SettlementCollectionService {
                     .settlementPeriodStart(payDate)
                     .settlementPeriodEnd(payDate)
                     .settlementStatus(SettlementStatus.COLLECTED)
-                    .totalOrderCount(dayElements.size())
-                    .grossSalesAmount(grossSales)
-                    .totalCommissionAmount(totalCommission)
+                    .totalOrderCount(totals.elementCount)
+                    .grossSalesAmount(BigDecimal.valueOf(totals.grossSales))
+                    .totalCommissionAmount(BigDecimal.valueOf(totals.commission))
                     .totalPgFeeAmount(BigDecimal.ZERO)
                     .totalShippingCharged(BigDecimal.ZERO)
                     .totalShippingSettled(BigDecimal.ZERO)
@@ -489,13 +643,22 @@ public class SettlementCollectionService {
         log.info("[정산 주문 적재] 그룹화 후 주문 수: {} (API 데이터 {} 건 → 필터링 후)", 
                 groupedByOrder.size(), elements.size());
 
-        // 기존 SettlementOrderItem의 productOrderId 조회 (중복 방지용)
+        // 기존 SettlementOrderItem의 productOrderId 조회 (중복 방지용 - 조회 단위 범위만)
         Set<UUID> batchIds = batchMap.values().stream()
                 .map(SettlementBatch::getSettlementBatchId)
                 .collect(Collectors.toSet());
         
+        if (groupedByOrder.isEmpty() || batchIds.isEmpty()) {
+            log.warn("[정산 주문 적재] ⚠️ 저장할 데이터가 없습니다.");
+            return 0;
+        }
+        
+        Set<String> productOrderIds = groupedByOrder.values().stream()
+                .flatMap(List::stream)
+                .map(DailySettlementElement::getProductOrderId)
+                .collect(Collectors.toSet());
         Set<String> existingItemProductOrderIds = settlementOrderItemRepository
-                .findProductOrderIdsBySettlementBatchIds(batchIds);
+                .findProductOrderIdsBySettlementBatchIdsAndProductOrderIds(batchIds, productOrderIds);
         
         log.info("[정산 주문 적재] DB 기존 Item productOrderId 수: {}", existingItemProductOrderIds.size());
 
@@ -645,9 +808,12 @@ public class SettlementCollectionService {
             return 0;
         }
 
-        // 6. 기존 SettlementOrder 조회하여 중복 제외
+        // 6. 기존 SettlementOrder 조회하여 중복 제외 (조회 단위 주문 범위만)
+        Set<UUID> orderIds = settlementOrders.stream()
+                .map(SettlementOrder::getOrderId)
+                .collect(Collectors.toSet());
         Set<String> existingKeys = settlementOrderRepository
-                .findByTenantIdAndSettlementBatch_SettlementBatchIdIn(tenantId, batchIds)
+                .findByTenantIdAndSettlementBatch_SettlementBatchIdInAndOrderIdIn(tenantId, batchIds, orderIds)
                 .stream()
                 .map(so -> buildIdempotencyKey(so.getTenantId(), 
                         so.getSettlementBatch().getSettlementBatchId(),
@@ -685,15 +851,10 @@ public class SettlementCollectionService {
             return 0;
         }
 
-        // 7. 벌크 저장 (Cascade로 items도 함께 저장됨)
-        List<SettlementOrder> saved = settlementOrderRepository.saveAll(newOrders);
+        // 7. 벌크 저장 (COPY 스테이징 → 주문/상품 라인 1회 병합, 멱등성 키 충돌 주문은 상품 라인까지 생략)
+        SettlementOrderBulkRepository.BulkInsertResult saved = settlementOrderRepository.bulkInsertWithItems(newOrders);
         
-        // 저장된 상품 라인 개수 계산
-        int totalItems = saved.stream()
-                .mapToInt(so -> so.getItems().size())
-                .sum();
-        
-        log.info("[정산 주문 적재] ✅ DB 저장 완료: {} 개 주문, {} 개 상품 라인", saved.size(), totalItems);
+        log.info("[정산 주문 적재] ✅ DB 저장 완료: {} 개 주문, {} 개 상품 라인", saved.orders(), saved.items());
         log.info("[정산 주문 적재] ========== 완료 ==========");
         log.info("[정산 주문 적재] 📊 요약:");
         log.info("[정산 주문 적재]   - API 수집: {} 건", elements.size());
@@ -703,10 +864,68 @@ public class SettlementCollectionService {
         log.info("[정산 주문 적재]   - 배치 없음 제외: {} 건", skippedDueToNoBatch);
         log.info("[정산 주문 적재]   - 중복 제외: {} 건", duplicateCount);
         log.info("[정산 주문 적재]   - 최종 저장: {} 건 ({}%)", 
-                saved.size(), 
-                elements.size() > 0 ? String.format("%.1f", (saved.size() * 100.0 / elements.size())) : "0.0");
+                saved.orders(), 
+                elements.size() > 0 ? String.format("%.1f", (saved.orders() * 100.0 / elements.size())) : "0.0");
         
-        return saved.size();
+        return saved.orders();
+    }
+
+    /**
+     * 묶음 주문 x 정산일 단위 그룹화 (내용 지문 비교 단위)
+     */
+    private Map<String, List<DailySettlementElement>> groupByBundle(List<DailySettlementElement> elements) {
+        return elements.stream()
+                .filter(this::hasBundleKey)
+                .collect(Collectors.groupingBy(e -> bundleKey(e) + "_" + e.getPayDate()));
+    }
+
+    /**
+     * 저장된 지문 중 수집 기간 시작일 이전 정산일이 있는 묶음 키
+     *
+     * @param storedHashes bundleKey + "_" + payDate → contentHash
+     */
+    private Set<String> bundleKeysSettledBefore(Map<String, String> storedHashes, LocalDate windowStart) {
+        Set<String> bundleKeys = new HashSet<>();
+        for (String key : storedHashes.keySet()) {
+            int separator = key.lastIndexOf('_');
+            if (LocalDate.parse(key.substring(separator + 1)).isBefore(windowStart)) {
+                bundleKeys.add(key.substring(0, separator));
+            }
+        }
+        return bundleKeys;
+    }
+
+    private boolean hasBundleKey(DailySettlementElement element) {
+        return element.getPayDate() != null && bundleKey(element) != null;
+    }
+
+    /**
+     * 묶음 키: 정산 API orderId (상품/배송비 요소 공통), 없으면 productOrderId
+     */
+    private String bundleKey(DailySettlementElement element) {
+        return element.getOrderId() != null ? element.getOrderId() : element.getProductOrderId();
+    }
+
+    /**
+     * 묶음 내용 지문 (SHA256) - 요소 원본 JSON을 정렬하여 API 응답 순서와 무관하게 계산
+     */
+    private String contentHash(List<DailySettlementElement> bundleElements) {
+        String input = bundleElements.stream()
+                .map(this::convertToJson)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return ContentHasher.sha256Hex(input);
+    }
+
+    /**
+     * 묶음의 상품 요소가 모두 주문과 매칭되었는지 (배송비 요소만 있는 묶음은 매번 처리)
+     */
+    private boolean isFullyMatched(List<DailySettlementElement> bundleElements, Map<String, Order> orderMap) {
+        List<DailySettlementElement> productElements = bundleElements.stream()
+                .filter(e -> !"DELIVERY".equals(e.getProductOrderType()))
+                .toList();
+        return !productElements.isEmpty() && productElements.stream()
+                .allMatch(e -> e.getProductOrderId() != null && orderMap.containsKey(e.getProductOrderId()));
     }
 
     /**
@@ -0,0 +1,123 @@
+package com.sellsync.api.infra.marketplace;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마켓플레이스 API 호출 토큰 버킷
+ *
+ * 마켓플레이스 전체(애플리케이션 단위)와 인증 정보(clientId / vendorId) 단위로
+ * 각각 토큰 버킷을 두고, API 호출 전 두 버킷에서 모두 토큰을 획득하도록 합니다.
+ *
+ * - acquire(): 토큰이 생길 때까지 대기 후 1건 소비 (고정 sleep 대체)
+ * - remainingBudget(): 남은 예산 비율 (0.0 ~ 1.0) - 스케줄러의 스토어 선택 기준
+ * - 설정이 없는 마켓플레이스는 제한 없음
+ */
+@Component
+@Slf4j
+public class MarketplaceRateLimiter {
+
+    private final Map<Marketplace, Long> marketplaceRates = new EnumMap<>(Marketplace.class);
+    private final Map<Marketplace, Long> credentialRates = new EnumMap<>(Marketplace.class);
+
+    private final Map<Marketplace, Bucket> marketplaceBuckets = new EnumMap<>(Marketplace.class);
+    private final Map<String, Bucket> credentialBuckets = new ConcurrentHashMap<>();
+
+    public MarketplaceRateLimiter(
+            @Value("${marketplace.smartstore.rate-limit.requests-per-second:10}") long smartStoreRate,
+            @Value("${marketplace.smartstore.rate-limit.credential-requests-per-second:2}") long smartStoreCredentialRate,
+            @Value("${marketplace.coupang.rate-limit.requests-per-second:10}") long coupangRate,
+            @Value("${marketplace.coupang.rate-limit.credential-requests-per-second:5}") long coupangCredentialRate) {
+        register(Marketplace.NAVER_SMARTSTORE, smartStoreRate, smartStoreCredentialRate);
+        register(Marketplace.COUPANG, coupangRate, coupangCredentialRate);
+    }
+
+    private void register(Marketplace marketplace, long rate, long credentialRate) {
+        marketplaceRates.put(marketplace, rate);
+        credentialRates.put(marketplace, credentialRate);
+        marketplaceBuckets.put(marketplace, createBucket(rate));
+        log.info("[RateLimiter] {} 초기화: marketplace={}/s, credential={}/s", marketplace, rate, credentialRate);
+    }
+
+    private Bucket createBucket(long requestsPerSecond) {
+        Bandwidth limit = Bandwidth.classic(requestsPerSecond, Refill.greedy(requestsPerSecond, Duration.ofSeconds(1)));
+        return Bucket.builder().addLimit(limit).build();
+    }
+
+    /**
+     * API 호출 토큰 획득 (토큰이 생길 때까지 대기)
+     *
+     * @param marketplace 마켓플레이스
+     * @param credentialKey 인증 정보 식별자 (스마트스토어: clientId, 쿠팡: vendorId), null이면 마켓 버킷만 사용
+     */
+    public void acquire(Marketplace marketplace, String credentialKey) {
+        Bucket marketplaceBucket = marketplaceBuckets.get(marketplace);
+        if (marketplaceBucket == null) {
+            return;
+        }
+
+        try {
+            Bucket credentialBucket = credentialBucket(marketplace, credentialKey);
+            if (credentialBucket != null) {
+                credentialBucket.asBlocking().consume(1);
+            }
+            marketplaceBucket.asBlocking().consume(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + marketplace + " rate limit", e);
+        }
+    }
+
+    /**
+     * 남은 예산 비율 (0.0 ~ 1.0)
+     * 마켓 버킷과 인증 정보 버킷 중 더 적게 남은 쪽 기준
+     */
+    public double remainingBudget(Marketplace marketplace, String credentialKey) {
+        Bucket marketplaceBucket = marketplaceBuckets.get(marketplace);
+        if (marketplaceBucket == null) {
+            return 1.0;
+        }
+
+        double budget = (double) marketplaceBucket.getAvailableTokens() / marketplaceRates.get(marketplace);
+        Bucket credentialBucket = credentialBucket(marketplace, credentialKey);
+        if (credentialBucket != null) {
+            budget = Math.min(budget, (double) credentialBucket.getAvailableTokens() / credentialRates.get(marketplace));
+        }
+        return Math.max(0.0, budget);
+    }
+
+    /**
+     * 다음 토큰이 생길 때까지 남은 시간 (나노초)
+     */
+    public long nanosUntilAvailable(Marketplace marketplace, String credentialKey) {
+        Bucket marketplaceBucket = marketplaceBuckets.get(marketplace);
+        if (marketplaceBucket == null) {
+            return 0L;
+        }
+
+        long nanos = marketplaceBucket.estimateAbilityToConsume(1).getNanosToWaitForRefill();
+        Bucket credentialBucket = credentialBucket(marketplace, credentialKey);
+        if (credentialBucket != null) {
+            nanos = Math.max(nanos, credentialBucket.estimateAbilityToConsume(1).getNanosToWaitForRefill());
+        }
+        return nanos;
+    }
+
+    private Bucket credentialBucket(Marketplace marketplace, String credentialKey) {
+        if (credentialKey == null || credentialKey.isEmpty()) {
+            return null;
+        }
+        return credentialBuckets.computeIfAbsent(marketplace + ":" + credentialKey,
+                k -> createBucket(credentialRates.get(marketplace)));
+    }
+}
@@ -3,41 +3,85 @@ package com.sellsync.api.infra.marketplace.coupang;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 쿠팡 수수료 조회 서비스
  *
  * 쿠팡 상품 조회 API를 통해 수수료율(saleAgentCommission)과 카테고리코드(displayCategoryCode)를 조회합니다.
- * Caffeine 인메모리 캐시를 사용하여 동일 sellerProductId에 대한 중복 API 호출을 방지합니다.
+ * 2단계 캐시로 동일 sellerProductId에 대한 중복 API 호출을 방지합니다.
  *
  * 캐시 전략:
- * - TTL: 24시간 (수수료율은 자주 변경되지 않음)
- * - 최대 5000건 (sellerProductId 기준)
- * - API 실패 시 graceful degradation (수수료 없이 진행)
+ * - 1단계: Caffeine 인메모리 캐시 (최대 5000건)
+ * - 2단계: coupang_product_info_cache 테이블 (재시작 후에도 유지, 노드 간 공유)
+ * - TTL: 24시간 (수수료율은 자주 변경되지 않음), TTL 임박(refresh-ahead) 항목은 기존 값 반환 후 백그라운드 갱신
+ * - 캐시 미스는 coupangProductInfoExecutor에서 동시 조회 (호출 속도는 MarketplaceRateLimiter가 제어)
+ * - 동일 sellerProductId 조회가 진행 중이면 결과를 공유 (여러 스토어/배치 간 중복 제거)
+ * - API 실패 시 graceful degradation (수수료 없이 진행), 실패 결과는 짧게만 캐시
  */
 @Service
 @Slf4j
 public class CoupangCommissionService {
 
     private final CoupangProductClient productClient;
+    private final CoupangProductInfoCacheRepository cacheRepository;
+    private final Executor productInfoExecutor;
+    private final Duration ttl;
+    private final Duration refreshAhead;
 
     /**
-     * sellerProductId → CoupangProductInfo 캐시
+     * sellerProductId → CoupangProductInfo 캐시 (1단계)
      * 24시간 TTL, 최대 5000건
      */
-    private final Cache<String, Optional<CoupangProductInfo>> productInfoCache;
+    private final Cache<String, CachedProductInfo> productInfoCache;
 
-    public CoupangCommissionService(CoupangProductClient productClient) {
+    /**
+     * 조회 실패 sellerProductId (같은 수집 실행 중 반복 호출 방지)
+     */
+    private final Cache<String, Boolean> failedLookups;
+
+    /**
+     * 진행 중인 API 조회 (sellerProductId 기준 중복 제거)
+     */
+    private final Map<String, CompletableFuture<Optional<CoupangProductInfo>>> inFlight = new ConcurrentHashMap<>();
+
+    public CoupangCommissionService(
+            CoupangProductClient productClient,
+            CoupangProductInfoCacheRepository cacheRepository,
+            @Qualifier("coupangProductInfoExecutor") Executor productInfoExecutor,
+            @Value("${marketplace.coupang.product-info.ttl-hours:24}") long ttlHours,
+            @Value("${marketplace.coupang.product-info.refresh-ahead-hours:4}") long refreshAheadHours,
+            @Value("${marketplace.coupang.product-info.failure-cache-minutes:10}") long failureCacheMinutes) {
         this.productClient = productClient;
+        this.cacheRepository = cacheRepository;
+        this.productInfoExecutor = productInfoExecutor;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.refreshAhead = Duration.ofHours(refreshAheadHours);
         this.productInfoCache = Caffeine.newBuilder()
                 .maximumSize(5000)
-                .expireAfterWrite(24, TimeUnit.HOURS)
+                .expireAfterWrite(ttlHours, TimeUnit.HOURS)
                 .recordStats()
                 .build();
+        this.failedLookups = Caffeine.newBuilder()
+                .maximumSize(5000)
+                .expireAfterWrite(failureCacheMinutes, TimeUnit.MINUTES)
+                .build();
     }
 
     /**
@@ -51,29 +95,137 @@ public class CoupangCommissionService {
         if (sellerProductId == null || sellerProductId.isEmpty()) {
             return Optional.empty();
         }
+        return Optional.ofNullable(getProductInfos(credentials, List.of(sellerProductId)).get(sellerProductId));
+    }
+
+    /**
+     * 쿠팡 상품 수수료 정보 일괄 조회 (인메모리 → DB → API 순)
+     *
+     * @param credentials 쿠팡 API 인증 JSON
+     * @param sellerProductIds 조회할 sellerProductId 목록 (중복 허용)
+     * @return sellerProductId → 상품 정보 (조회 실패 항목 제외)
+     */
+    public Map<String, CoupangProductInfo> getProductInfos(String credentials, Collection<String> sellerProductIds) {
+        Map<String, CoupangProductInfo> result = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 인메모리 캐시
+        for (String spid : sellerProductIds) {
+            if (spid == null || spid.isEmpty() || result.containsKey(spid)) continue;
+            CachedProductInfo cached = productInfoCache.getIfPresent(spid);
+            if (cached != null && !cached.isExpired(now, ttl)) {
+                result.put(spid, cached.info());
+                refreshIfDue(credentials, cached, now);
+            } else if (failedLookups.getIfPresent(spid) == null) {
+                misses.add(spid);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // 2. DB 캐시
+        try {
+            for (CoupangProductInfoCache row : cacheRepository.findBySellerProductIdIn(misses)) {
+                CachedProductInfo cached = new CachedProductInfo(row.toProductInfo(), row.getFetchedAt());
+                if (cached.isExpired(now, ttl)) continue;
+                productInfoCache.put(row.getSellerProductId(), cached);
+                result.put(row.getSellerProductId(), cached.info());
+                misses.remove(row.getSellerProductId());
+                refreshIfDue(credentials, cached, now);
+            }
+        } catch (Exception e) {
+            log.warn("[CoupangCommission] DB 캐시 조회 실패 - API 조회로 진행: {}", e.getMessage());
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
 
-        return productInfoCache.get(sellerProductId, key -> {
-            log.info("[CoupangCommission] 캐시 미스 - API 호출: sellerProductId={}", key);
+        // 3. API 동시 조회 (진행 중인 조회는 공유)
+        log.info("[CoupangCommission] 캐시 미스 {}건 - API 조회", misses.size());
+        Map<String, CompletableFuture<Optional<CoupangProductInfo>>> futures = new HashMap<>();
+        for (String spid : misses) {
+            futures.put(spid, fetchAsync(credentials, spid));
+        }
+        futures.forEach((spid, future) -> future.join().ifPresent(info -> result.put(spid, info)));
+
+        return result;
+    }
+
+    /**
+     * TTL 임박 항목 백그라운드 갱신 (호출자는 기존 값 사용)
+     */
+    private void refreshIfDue(String credentials, CachedProductInfo cached, LocalDateTime now) {
+        if (cached.fetchedAt().plus(ttl).minus(refreshAhead).isBefore(now)) {
+            fetchAsync(credentials, cached.info().getSellerProductId());
+        }
+    }
+
+    private CompletableFuture<Optional<CoupangProductInfo>> fetchAsync(String credentials, String sellerProductId) {
+        CompletableFuture<Optional<CoupangProductInfo>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<CoupangProductInfo>> existing = inFlight.putIfAbsent(sellerProductId, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 큐 포화 시 CallerRunsPolicy로 호출 스레드에서 실행될 수 있으므로 등록 후 실행
+        productInfoExecutor.execute(() -> {
             try {
-                Optional<CoupangProductInfo> result = productClient.fetchProductInfo(credentials, key);
-                log.info("[CoupangCommission] API 결과: sellerProductId={}, success={}, commissionRate={}",
-                        key, result.isPresent(),
-                        result.map(CoupangProductInfo::getSaleAgentCommission).orElse(null));
-                return result;
+                future.complete(fetchAndStore(credentials, sellerProductId));
             } catch (Exception e) {
-                log.error("[CoupangCommission] 상품 정보 조회 실패 - sellerProductId={}, error={}",
-                        key, e.getMessage(), e);
-                return Optional.empty();
+                future.complete(Optional.empty());
+            } finally {
+                inFlight.remove(sellerProductId, future);
             }
         });
+        return future;
+    }
+
+    private Optional<CoupangProductInfo> fetchAndStore(String credentials, String sellerProductId) {
+        Optional<CoupangProductInfo> result;
+        try {
+            result = productClient.fetchProductInfo(credentials, sellerProductId);
+            log.info("[CoupangCommission] API 결과: sellerProductId={}, success={}, commissionRate={}",
+                    sellerProductId, result.isPresent(),
+                    result.map(CoupangProductInfo::getSaleAgentCommission).orElse(null));
+        } catch (Exception e) {
+            log.error("[CoupangCommission] 상품 정보 조회 실패 - sellerProductId={}, error={}",
+                    sellerProductId, e.getMessage(), e);
+            result = Optional.empty();
+        }
+
+        if (result.isEmpty()) {
+            failedLookups.put(sellerProductId, Boolean.TRUE);
+            return result;
+        }
+
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        productInfoCache.put(sellerProductId, new CachedProductInfo(result.get(), fetchedAt));
+        try {
+            cacheRepository.save(CoupangProductInfoCache.from(result.get(), fetchedAt));
+        } catch (Exception e) {
+            // 다른 노드와 동시 저장 등 - 인메모리 캐시로 계속 진행
+            log.warn("[CoupangCommission] DB 캐시 저장 실패 - sellerProductId={}, error={}",
+                    sellerProductId, e.getMessage());
+        }
+        return result;
     }
 
     /**
-     * 상품 정보 캐시 전체 무효화
+     * 상품 정보 캐시 전체 무효화 (인메모리 + DB)
      * 카테고리 동기화 후 호출하여 수수료율이 재조회되도록 함
      */
     public void invalidateAllCache() {
         productInfoCache.invalidateAll();
+        failedLookups.invalidateAll();
+        cacheRepository.deleteAllInBatch();
         log.info("[CoupangCommission] 상품 정보 캐시 전체 무효화 완료");
     }
+
+    private record CachedProductInfo(CoupangProductInfo info, LocalDateTime fetchedAt) {
+        boolean isExpired(LocalDateTime now, Duration ttl) {
+            return fetchedAt.plus(ttl).isBefore(now);
+        }
+    }
 }
@@ -6,10 +6,12 @@ import com.sellsync.api.domain.order.client.MarketplaceOrderClient;
 import com.sellsync.api.domain.order.dto.MarketplaceOrderDto;
 import com.sellsync.api.domain.order.dto.MarketplaceOrderItemDto;
 import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.infra.marketplace.MarketplaceRateLimiter;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.retry.Retry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -19,7 +21,14 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -27,108 +36,156 @@ import java.util.function.Supplier;
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class CoupangOrderClient implements MarketplaceOrderClient {
 
     private static final String BASE_URL = "https://api-gateway.coupang.com";
     private static final String ORDERS_PATH = "/v2/providers/openapi/apis/api/v4/vendors/{vendorId}/ordersheets";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // 수집 대상 발주서 상태
+    private static final String[] STATUSES = {"ACCEPT", "INSTRUCT", "DEPARTURE", "DELIVERING", "FINAL_DELIVERY"};
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final CoupangHmacGenerator hmacGenerator;
     private final CircuitBreaker coupangCircuitBreaker;
     private final Retry coupangRetry;
+    private final MarketplaceRateLimiter rateLimiter;
+    private final Executor marketplaceFetchExecutor;
+    private final boolean parallelStatusFetch;
+
+    public CoupangOrderClient(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            CoupangHmacGenerator hmacGenerator,
+            CircuitBreaker coupangCircuitBreaker,
+            Retry coupangRetry,
+            MarketplaceRateLimiter rateLimiter,
+            @Qualifier("marketplaceFetchExecutor") Executor marketplaceFetchExecutor,
+            @Value("${marketplace.coupang.parallel-status-fetch:true}") boolean parallelStatusFetch) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.hmacGenerator = hmacGenerator;
+        this.coupangCircuitBreaker = coupangCircuitBreaker;
+        this.coupangRetry = coupangRetry;
+        this.rateLimiter = rateLimiter;
+        this.marketplaceFetchExecutor = marketplaceFetchExecutor;
+        this.parallelStatusFetch = parallelStatusFetch;
+    }
 
     @Override
     public Marketplace getMarketplace() {
         return Marketplace.COUPANG;
     }
 
+    @Override
+    public String credentialKey(String credentials) {
+        return CoupangCredentials.parse(credentials).getVendorId();
+    }
+
     @Override
     public List<MarketplaceOrderDto> fetchOrders(String credentials, LocalDateTime from, LocalDateTime to) {
+        List<MarketplaceOrderDto> allOrders = Collections.synchronizedList(new ArrayList<>());
+        fetchOrders(credentials, from, to, allOrders::addAll);
+        return new ArrayList<>(allOrders);
+    }
+
+    /**
+     * 주문 목록 수집 (상태별 병렬 조회 + 페이지 단위 스트리밍)
+     * 
+     * - 상태별 nextToken 페이징을 marketplaceFetchExecutor에서 동시에 실행 (호출 속도는 Rate Limiter가 제어)
+     * - 페이지가 조회되는 즉시 pageConsumer로 전달
+     * - 상태 간 중복 주문은 먼저 조회된 것만 전달 (조회 중 상태가 바뀐 주문)
+     */
+    @Override
+    public void fetchOrders(String credentials, LocalDateTime from, LocalDateTime to,
+                            Consumer<List<MarketplaceOrderDto>> pageConsumer) {
         CoupangCredentials creds = CoupangCredentials.parse(credentials);
 
-        List<MarketplaceOrderDto> allOrders = new ArrayList<>();
+        // 중복 제거
+        Set<String> seenOrderIds = ConcurrentHashMap.newKeySet();
+        Consumer<List<MarketplaceOrderDto>> dedupConsumer = page -> {
+            List<MarketplaceOrderDto> unique = page.stream()
+                    .filter(order -> seenOrderIds.add(order.getMarketplaceOrderId()))
+                    .toList();
+            if (!unique.isEmpty()) {
+                pageConsumer.accept(unique);
+            }
+        };
 
-        // 상태별 조회
-        String[] statuses = {"ACCEPT", "INSTRUCT", "DEPARTURE", "DELIVERING", "FINAL_DELIVERY"};
-        
-        for (String status : statuses) {
-            try {
-                List<MarketplaceOrderDto> orders = fetchOrdersByStatus(creds, from, to, status);
-                allOrders.addAll(orders);
-                log.info("[Coupang] Fetched {} orders with status {}", orders.size(), status);
-            } catch (Exception e) {
-                log.warn("[Coupang] Failed to fetch orders with status {}: {}", status, e.getMessage());
+        if (!parallelStatusFetch) {
+            for (String status : STATUSES) {
+                fetchOrdersByStatus(creds, from, to, status, dedupConsumer);
             }
+            return;
         }
 
-        // 중복 제거
-        return allOrders.stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        MarketplaceOrderDto::getMarketplaceOrderId,
-                        o -> o,
-                        (o1, o2) -> o1
-                ))
-                .values()
-                .stream()
-                .toList();
+        // 상태별 병렬 조회
+        CompletableFuture<?>[] futures = Arrays.stream(STATUSES)
+                .map(status -> CompletableFuture.runAsync(
+                        () -> fetchOrdersByStatus(creds, from, to, status, dedupConsumer),
+                        marketplaceFetchExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        log.info("[Coupang] Fetched {} orders from {} statuses", seenOrderIds.size(), STATUSES.length);
     }
 
     /**
      * 특정 상태의 주문 조회 (페이징 처리)
+     * 페이지마다 pageConsumer로 전달
+     * 
+     * 조회/파싱 실패와 pageConsumer(저장) 실패는 모두 예외로 전파 - 일부 페이지만 수집된 채 성공 처리되지 않도록
      */
-    private List<MarketplaceOrderDto> fetchOrdersByStatus(
-            CoupangCredentials creds, LocalDateTime from, LocalDateTime to, String status) {
-        // from = to.minusMonths(1);
-        List<MarketplaceOrderDto> allOrders = new ArrayList<>();
+    private void fetchOrdersByStatus(
+            CoupangCredentials creds, LocalDateTime from, LocalDateTime to, String status,
+            Consumer<List<MarketplaceOrderDto>> pageConsumer) {
         String nextToken = null;
         int pageCount = 0;
+        int fetchedCount = 0;
         
         do {
             pageCount++;
             log.debug("[Coupang] 상태 {} 페이지 {} 조회 중...", status, pageCount);
             
+            JsonNode root;
+            List<MarketplaceOrderDto> pageOrders = new ArrayList<>();
             try {
                 // API 호출
                 String responseBody = fetchOrdersPage(creds, from, to, status, nextToken);
-                
                 if (responseBody == null) {
-                    break;
+                    throw new IllegalStateException("empty response");
                 }
                 
                 // 응답 파싱
-                JsonNode root = objectMapper.readTree(responseBody);
+                root = objectMapper.readTree(responseBody);
                 JsonNode dataNode = root.path("data");
                 
                 // 주문 데이터 파싱
                 if (dataNode.isArray()) {
                     for (JsonNode orderNode : dataNode) {
-                        allOrders.addAll(convertOrderItems(orderNode));
+                        pageOrders.addAll(convertOrderItems(orderNode));
                     }
                 }
-                
-                log.debug("[Coupang] 페이지 {} 조회 완료: {} 건 (누적: {} 건)", 
-                    pageCount, dataNode.size(), allOrders.size());
-                
-                // nextToken 확인
-                nextToken = root.path("nextToken").asText(null);
-                
-                // nextToken이 비어있으면 더 이상 페이지가 없음
-                if (nextToken == null || nextToken.isEmpty()) {
-                    break;
-                }
-                
             } catch (Exception e) {
-                log.error("[Coupang] 페이지 {} 조회 실패: {}", pageCount, e.getMessage(), e);
-                break;
+                log.error("[Coupang] 상태 {} 페이지 {} 조회 실패: {}", status, pageCount, e.getMessage(), e);
+                throw new RuntimeException("Coupang 주문 조회 실패 (status=" + status + ", page=" + pageCount + "): "
+                        + e.getMessage(), e);
+            }
+            fetchedCount += pageOrders.size();
+            
+            log.debug("[Coupang] 상태 {} 페이지 {} 조회 완료: {} 건 (누적: {} 건)", 
+                status, pageCount, pageOrders.size(), fetchedCount);
+            
+            // nextToken 확인 (다음 페이지 조회 전에 현재 페이지 전달)
+            nextToken = root.path("nextToken").asText(null);
+            
+            if (!pageOrders.isEmpty()) {
+                pageConsumer.accept(pageOrders);
             }
             
         } while (nextToken != null && !nextToken.isEmpty());
         
-        log.info("[Coupang] 상태 {} 전체 {} 페이지, {} 건 조회 완료", status, pageCount, allOrders.size());
-        return allOrders;
+        log.info("[Coupang] 상태 {} 전체 {} 페이지, {} 건 조회 완료", status, pageCount, fetchedCount);
     }
     
     /**
@@ -169,14 +226,18 @@ public class CoupangOrderClient implements MarketplaceOrderClient {
 
         try {
             // Circuit Breaker + Retry 적용: 장애 시 빠른 실패 + 일시적 오류 재시도
+            // 재시도 포함 모든 호출은 Rate Limit 토큰을 획득한 뒤 실행
             Supplier<ResponseEntity<String>> decoratedSupplier =
                     Retry.decorateSupplier(coupangRetry,
                             CircuitBreaker.decorateSupplier(coupangCircuitBreaker,
-                                    () -> restTemplate.exchange(
-                                            url,
-                                            HttpMethod.GET,
-                                            request,
-                                            String.class)));
+                                    () -> {
+                                        rateLimiter.acquire(Marketplace.COUPANG, creds.getVendorId());
+                                        return restTemplate.exchange(
+                                                url,
+                                                HttpMethod.GET,
+                                                request,
+                                                String.class);
+                                    }));
 
             ResponseEntity<String> response = decoratedSupplier.get();
 
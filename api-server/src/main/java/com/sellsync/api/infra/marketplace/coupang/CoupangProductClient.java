@@ -2,6 +2,8 @@ package com.sellsync.api.infra.marketplace.coupang;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.infra.marketplace.MarketplaceRateLimiter;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.retry.Retry;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +37,7 @@ public class CoupangProductClient {
     private final CircuitBreaker coupangCircuitBreaker;
     private final Retry coupangRetry;
     private final CoupangCommissionRateService commissionRateService;
+    private final MarketplaceRateLimiter rateLimiter;
 
     public CoupangProductClient(
             RestTemplate restTemplate,
@@ -42,13 +45,15 @@ public class CoupangProductClient {
             CoupangHmacGenerator hmacGenerator,
             CircuitBreaker coupangCircuitBreaker,
             Retry coupangRetry,
-            CoupangCommissionRateService commissionRateService) {
+            CoupangCommissionRateService commissionRateService,
+            MarketplaceRateLimiter rateLimiter) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.hmacGenerator = hmacGenerator;
         this.coupangCircuitBreaker = coupangCircuitBreaker;
         this.coupangRetry = coupangRetry;
         this.commissionRateService = commissionRateService;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -75,7 +80,10 @@ public class CoupangProductClient {
             Supplier<ResponseEntity<String>> decoratedSupplier =
                     Retry.decorateSupplier(coupangRetry,
                             CircuitBreaker.decorateSupplier(coupangCircuitBreaker,
-                                    () -> restTemplate.exchange(url, HttpMethod.GET, request, String.class)));
+                                    () -> {
+                                        rateLimiter.acquire(Marketplace.COUPANG, creds.getVendorId());
+                                        return restTemplate.exchange(url, HttpMethod.GET, request, String.class);
+                                    }));
 
             ResponseEntity<String> response = decoratedSupplier.get();
 
@@ -0,0 +1,60 @@
+package com.sellsync.api.infra.marketplace.coupang;
+
+import com.sellsync.api.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 쿠팡 상품 정보 캐시 (CoupangCommissionService DB 계층)
+ */
+@Entity
+@Table(name = "coupang_product_info_cache")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CoupangProductInfoCache extends BaseEntity {
+
+    @Id
+    @Column(name = "seller_product_id", length = 30)
+    private String sellerProductId;
+
+    @Column(name = "display_category_code", length = 20)
+    private String displayCategoryCode;
+
+    @Column(name = "sale_agent_commission", precision = 5, scale = 2)
+    private BigDecimal saleAgentCommission;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "item_commissions", columnDefinition = "jsonb")
+    private Map<String, BigDecimal> itemCommissions;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    public static CoupangProductInfoCache from(CoupangProductInfo info, LocalDateTime fetchedAt) {
+        return CoupangProductInfoCache.builder()
+                .sellerProductId(info.getSellerProductId())
+                .displayCategoryCode(info.getDisplayCategoryCode())
+                .saleAgentCommission(info.getSaleAgentCommission())
+                .itemCommissions(info.getItemCommissions())
+                .fetchedAt(fetchedAt)
+                .build();
+    }
+
+    public CoupangProductInfo toProductInfo() {
+        return CoupangProductInfo.builder()
+                .sellerProductId(sellerProductId)
+                .displayCategoryCode(displayCategoryCode)
+                .saleAgentCommission(saleAgentCommission)
+                .itemCommissions(itemCommissions)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.sellsync.api.infra.marketplace.coupang;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CoupangProductInfoCacheRepository extends JpaRepository<CoupangProductInfoCache, String> {
+
+    List<CoupangProductInfoCache> findBySellerProductIdIn(Collection<String> sellerProductIds);
+}
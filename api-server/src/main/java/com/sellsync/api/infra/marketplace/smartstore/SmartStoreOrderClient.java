@@ -6,12 +6,13 @@ import com.sellsync.api.domain.order.client.MarketplaceOrderClient;
 import com.sellsync.api.domain.order.dto.MarketplaceOrderDto;
 import com.sellsync.api.domain.order.dto.MarketplaceOrderItemDto;
 import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.infra.marketplace.MarketplaceRateLimiter;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.retry.Retry;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -21,7 +22,17 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -29,11 +40,17 @@ import java.util.function.Supplier;
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class SmartStoreOrderClient implements MarketplaceOrderClient {
 
     private static final String BASE_URL = "https://api.commerce.naver.com";
     private static final String ORDERS_ENDPOINT = "/external/v1/pay-order/seller/product-orders";
+    private static final String LAST_CHANGED_ENDPOINT = "/external/v1/pay-order/seller/product-orders/last-changed-statuses";
+    private static final String QUERY_ENDPOINT = "/external/v1/pay-order/seller/product-orders/query";
+    private static final int QUERY_CHUNK_SIZE = 300;  // 상품주문 상세 조회 최대 건수
+    private static final int WINDOW_MAX_ATTEMPTS = 2;  // 24시간 구간별 재조회 횟수 (HTTP 재시도와 별개)
+    // 수집 대상 상품주문 상태 (전체/증분 수집 공통)
+    private static final List<String> COLLECTED_STATUSES = List.of("PAYED", "DELIVERING", "DELIVERED", "PURCHASE_DECIDED");
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     // 네이버 API는 ISO-8601 형식 + 밀리초 3자리 + 타임존 필수 (예: 2024-06-07T19:00:00.000+09:00)
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
 
@@ -42,91 +59,276 @@ public class SmartStoreOrderClient implements MarketplaceOrderClient {
     private final SmartStoreTokenService tokenService;
     private final CircuitBreaker smartStoreCircuitBreaker;
     private final Retry smartStoreRetry;
+    private final MarketplaceRateLimiter rateLimiter;
+    private final Executor marketplaceFetchExecutor;
+
+    public SmartStoreOrderClient(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            SmartStoreTokenService tokenService,
+            CircuitBreaker smartStoreCircuitBreaker,
+            Retry smartStoreRetry,
+            MarketplaceRateLimiter rateLimiter,
+            @Qualifier("marketplaceFetchExecutor") Executor marketplaceFetchExecutor) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.tokenService = tokenService;
+        this.smartStoreCircuitBreaker = smartStoreCircuitBreaker;
+        this.smartStoreRetry = smartStoreRetry;
+        this.rateLimiter = rateLimiter;
+        this.marketplaceFetchExecutor = marketplaceFetchExecutor;
+    }
 
     @Override
     public Marketplace getMarketplace() {
         return Marketplace.NAVER_SMARTSTORE;
     }
 
+    @Override
+    public String credentialKey(String credentials) {
+        return SmartStoreCredentials.parse(credentials).getClientId();
+    }
+
     @Override
     public List<MarketplaceOrderDto> fetchOrders(String credentials, LocalDateTime from, LocalDateTime to) {
+        List<MarketplaceOrderDto> allOrders = Collections.synchronizedList(new ArrayList<>());
+        fetchOrders(credentials, from, to, allOrders::addAll);
+        return new ArrayList<>(allOrders);
+    }
+
+    /**
+     * 주문 목록 수집 (24시간 구간 동시 조회 + 구간 단위 스트리밍)
+     * 
+     * 구간 조회가 끝나는 즉시 pageConsumer로 전달
+     * 구간 경계에 걸친 주문은 상품주문번호(productOrderId) 기준으로 먼저 조회된 것만 전달
+     */
+    @Override
+    public void fetchOrders(String credentials, LocalDateTime from, LocalDateTime to,
+                            Consumer<List<MarketplaceOrderDto>> pageConsumer) {
         SmartStoreCredentials creds = SmartStoreCredentials.parse(credentials);
         String accessToken = tokenService.getAccessToken(creds);
 
         // 스마트스토어 API 제약: 24시간 이내만 조회 가능
-        // 전체 기간을 24시간씩 나눠서 여러 번 호출
-        List<MarketplaceOrderDto> allOrders = new ArrayList<>();
-        
+        // 전체 기간을 24시간씩 나눠 동시에 조회 (호출 속도는 Rate Limiter가 제어)
+        Set<String> seenOrderIds = ConcurrentHashMap.newKeySet();
+        fetchWindows(from, to,
+                (windowFrom, windowTo) -> fetchOrdersByDateRange(creds, accessToken, windowFrom, windowTo),
+                windowOrders -> {
+                    List<MarketplaceOrderDto> unique = windowOrders.stream()
+                            .filter(order -> seenOrderIds.add(order.getMarketplaceOrderId()))
+                            .toList();
+                    if (!unique.isEmpty()) {
+                        pageConsumer.accept(unique);
+                    }
+                });
+
+        log.info("[SmartStore] Total fetched {} orders", seenOrderIds.size());
+    }
+
+    @Override
+    public List<MarketplaceOrderDto> fetchChangedOrders(String credentials, LocalDateTime changedFrom, LocalDateTime changedTo) {
+        List<MarketplaceOrderDto> orders = new ArrayList<>();
+        fetchChangedOrders(credentials, changedFrom, changedTo, orders::addAll);
+        return orders;
+    }
+
+    /**
+     * 변경된 주문 수집 (증분 수집, 상세 조회 단위 스트리밍)
+     * 
+     * 1. last-changed-statuses API로 기간 내 상태가 변경된 상품주문번호 조회 (24시간 단위, more 페이징)
+     * 2. 상품주문 상세 조회 API로 변경된 주문만 상세 조회 (300건 단위) → 조회 즉시 pageConsumer로 전달
+     * 
+     * 전체 수집(fetchOrders)과 동일한 상품주문 상태만 수집 대상으로 포함
+     * 메모리에는 변경된 상품주문번호만 유지 (주문 상세는 300건 단위로만 보관)
+     */
+    @Override
+    public void fetchChangedOrders(String credentials, LocalDateTime changedFrom, LocalDateTime changedTo,
+                                   Consumer<List<MarketplaceOrderDto>> pageConsumer) {
+        SmartStoreCredentials creds = SmartStoreCredentials.parse(credentials);
+        String accessToken = tokenService.getAccessToken(creds);
+
+        // 1. 변경된 상품주문번호 조회 (24시간 단위 분할, 동시 조회)
+        Set<String> productOrderIds = ConcurrentHashMap.newKeySet();
+        fetchWindows(changedFrom, changedTo,
+                (windowFrom, windowTo) -> fetchChangedProductOrderIds(creds, accessToken, windowFrom, windowTo),
+                productOrderIds::addAll);
+
+        log.info("[SmartStore] Changed product orders: {} ({} ~ {})", productOrderIds.size(), changedFrom, changedTo);
+
+        // 2. 상품주문 상세 조회 (300건 단위)
+        List<String> ids = new ArrayList<>(productOrderIds);
+        int fetched = 0;
+        for (int i = 0; i < ids.size(); i += QUERY_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(i, Math.min(i + QUERY_CHUNK_SIZE, ids.size()));
+            List<MarketplaceOrderDto> orders = queryProductOrders(creds, accessToken, chunk);
+            fetched += orders.size();
+            if (!orders.isEmpty()) {
+                pageConsumer.accept(orders);
+            }
+        }
+
+        log.info("[SmartStore] Total fetched {} changed orders", fetched);
+    }
+
+    @Override
+    public boolean supportsIncrementalFetch() {
+        return true;
+    }
+
+    /**
+     * 24시간 구간 분할 동시 조회
+     * 
+     * - 구간별 조회는 marketplaceFetchExecutor에서 동시에 실행 (고정 sleep 없음, Rate Limiter가 속도 제어)
+     * - 실패한 구간만 다시 조회 (최대 WINDOW_MAX_ATTEMPTS회), 다른 구간 결과는 유지
+     * - 재조회 후에도 실패한 구간이 있으면 예외 (누락된 상태로 커서가 전진하지 않도록)
+     * 
+     * @param windowConsumer 구간별 조회 결과 처리 (조회 스레드에서 호출, 구간 완료 순서)
+     */
+    private <T> void fetchWindows(LocalDateTime from, LocalDateTime to,
+                                  BiFunction<LocalDateTime, LocalDateTime, List<T>> fetcher,
+                                  Consumer<List<T>> windowConsumer) {
+        List<LocalDateTime[]> windows = new ArrayList<>();
         LocalDateTime currentFrom = from;
-        int batchCount = 0;
-        
         while (currentFrom.isBefore(to)) {
             // 24시간 단위로 분할 (마지막 구간은 to까지)
             LocalDateTime currentTo = currentFrom.plusHours(24);
             if (currentTo.isAfter(to)) {
                 currentTo = to;
             }
-            
-            batchCount++;
-            log.info("[SmartStore] Batch {}: Fetching orders from {} to {}", 
-                    batchCount, currentFrom, currentTo);
-            
+            windows.add(new LocalDateTime[]{currentFrom, currentTo});
+            currentFrom = currentTo;
+        }
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < windows.size(); i++) {
+            pending.add(i);
+        }
+
+        Exception lastError = null;
+        for (int attempt = 1; attempt <= WINDOW_MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            Map<Integer, CompletableFuture<Integer>> futures = new LinkedHashMap<>();
+            for (Integer index : pending) {
+                LocalDateTime[] window = windows.get(index);
+                futures.put(index, CompletableFuture.supplyAsync(() -> {
+                    // 조회에 성공한 구간만 전달 (실패 구간은 재조회 시 전달)
+                    List<T> windowResult = fetcher.apply(window[0], window[1]);
+                    windowConsumer.accept(windowResult);
+                    return windowResult.size();
+                }, marketplaceFetchExecutor));
+            }
+
+            List<Integer> failed = new ArrayList<>();
+            for (Map.Entry<Integer, CompletableFuture<Integer>> entry : futures.entrySet()) {
+                LocalDateTime[] window = windows.get(entry.getKey());
+                try {
+                    int fetched = entry.getValue().join();
+                    log.info("[SmartStore] Window {} ~ {}: Fetched {}", window[0], window[1], fetched);
+                } catch (CompletionException e) {
+                    failed.add(entry.getKey());
+                    lastError = e.getCause() instanceof Exception cause ? cause : e;
+                    log.warn("[SmartStore] Window {} ~ {} failed (attempt {}/{}): {}",
+                            window[0], window[1], attempt, WINDOW_MAX_ATTEMPTS, lastError.getMessage());
+                }
+            }
+            pending = failed;
+        }
+
+        if (!pending.isEmpty()) {
+            log.error("[SmartStore] {} of {} windows failed after {} attempts", pending.size(), windows.size(), WINDOW_MAX_ATTEMPTS);
+            throw new RuntimeException("SmartStore fetch failed for " + pending.size() + " windows: "
+                    + lastError.getMessage(), lastError);
+        }
+    }
+
+    /**
+     * 변경 상품주문 내역 조회 (last-changed-statuses)
+     * 응답의 more(moreFrom, moreSequence)가 있으면 다음 페이지 조회
+     * 
+     * 응답 없음/파싱 실패 시 예외 (일부만 조회된 채 변경 커서가 구간 끝으로 전진하지 않도록)
+     */
+    private List<String> fetchChangedProductOrderIds(
+            SmartStoreCredentials creds, String accessToken, LocalDateTime from, LocalDateTime to) {
+        
+        List<String> productOrderIds = new ArrayList<>();
+        String lastChangedFrom = formatDateTime(from);
+        String lastChangedTo = formatDateTime(to);
+        String moreSequence = null;
+
+        do {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(BASE_URL + LAST_CHANGED_ENDPOINT)
+                    .queryParam("lastChangedFrom", lastChangedFrom)
+                    .queryParam("lastChangedTo", lastChangedTo);
+            if (moreSequence != null) {
+                builder.queryParam("moreSequence", moreSequence);
+            }
+            java.net.URI uri = java.net.URI.create(builder.build(false).toUriString());
+
+            String body = exchange(creds, uri, HttpMethod.GET, new HttpEntity<>(bearerHeaders(accessToken)));
+            if (body == null) {
+                throw new IllegalStateException("SmartStore last-changed-statuses returned no body ("
+                        + lastChangedFrom + " ~ " + lastChangedTo + ")");
+            }
+
+            JsonNode dataNode;
             try {
-                List<MarketplaceOrderDto> batchOrders = fetchOrdersByDateRange(accessToken, currentFrom, currentTo);
-                allOrders.addAll(batchOrders);
-                log.info("[SmartStore] Batch {}: Fetched {} orders", batchCount, batchOrders.size());
-                
-                // API Rate Limit 방지: 요청 간 딜레이 (1초)
-                if (currentTo.isBefore(to)) {
-                    Thread.sleep(1000);
+                dataNode = objectMapper.readTree(body).path("data");
+            } catch (Exception e) {
+                log.error("[SmartStore] Failed to parse last-changed-statuses response", e);
+                throw new IllegalStateException("SmartStore last-changed-statuses parse failed: " + e.getMessage(), e);
+            }
+
+            for (JsonNode change : dataNode.path("lastChangeStatuses")) {
+                if (COLLECTED_STATUSES.contains(change.path("productOrderStatus").asText())) {
+                    productOrderIds.add(change.path("productOrderId").asText());
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("[SmartStore] Batch {} interrupted", batchCount);
+            }
+
+            JsonNode more = dataNode.path("more");
+            if (more.isMissingNode() || more.isNull() || more.path("moreFrom").asText("").isEmpty()) {
                 break;
-            } catch (Exception e) {
-                log.error("[SmartStore] Batch {} failed: {}", batchCount, e.getMessage(), e);
-                throw e;
             }
-            
-            currentFrom = currentTo;
-        }
+            lastChangedFrom = more.path("moreFrom").asText().replace("+", "%2B");
+            moreSequence = more.path("moreSequence").asText(null);
+        } while (moreSequence != null);
+
+        return productOrderIds;
+    }
+
+    /**
+     * 상품주문 상세 조회 (최대 300건)
+     */
+    private List<MarketplaceOrderDto> queryProductOrders(
+            SmartStoreCredentials creds, String accessToken, List<String> productOrderIds) {
         
-        log.info("[SmartStore] Total fetched {} orders from {} batches", allOrders.size(), batchCount);
-        return allOrders;
+        java.net.URI uri = java.net.URI.create(BASE_URL + QUERY_ENDPOINT);
+        HttpEntity<Map<String, Object>> request =
+                new HttpEntity<>(Map.of("productOrderIds", productOrderIds), bearerHeaders(accessToken));
+
+        String body = exchange(creds, uri, HttpMethod.POST, request);
+        if (body == null) {
+            // 변경 주문 상세가 비면 커서 전진 시 해당 변경분이 유실되므로 예외
+            throw new IllegalStateException("SmartStore product-orders query returned no body");
+        }
+        return parseOrdersResponse(body);
     }
 
     /**
      * 날짜 범위로 주문 조회 (네이버 커머스 API 표준 엔드포인트)
      */
     private List<MarketplaceOrderDto> fetchOrdersByDateRange(
-            String accessToken, LocalDateTime from, LocalDateTime to) {
+            SmartStoreCredentials creds, String accessToken, LocalDateTime from, LocalDateTime to) {
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
         // 네이버 커머스 API 요구사항: + 기호만 URL 인코딩 (%2B)
         // 예시: 2026-01-13T18:24:52.281%2B09:00
-        ZoneId kst = ZoneId.of("Asia/Seoul");
-        
-        // LocalDateTime을 KST OffsetDateTime으로 변환
-        OffsetDateTime fromOdt = from.atZone(kst).toOffsetDateTime();
-        OffsetDateTime toOdt = to.atZone(kst).toOffsetDateTime().minusSeconds(1); // 24시간 미만으로 보정
-        
-        // 밀리초 3자리 포맷 (yyyy-MM-dd'T'HH:mm:ss.SSSXXX)
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
-        
-        // 날짜 포맷팅 후 + 기호만 %2B로 수동 인코딩
-        String fromStr = fromOdt.format(fmt).replace("+", "%2B");
-        String toStr = toOdt.format(fmt).replace("+", "%2B");
+        String fromStr = formatDateTime(from);
+        String toStr = formatDateTime(to.minusSeconds(1)); // 24시간 미만으로 보정
         
         // URL 빌드 (추가 인코딩 하지 않음)
         String urlString = UriComponentsBuilder.fromHttpUrl(BASE_URL + ORDERS_ENDPOINT)
                 .queryParam("from", fromStr)
                 .queryParam("to", toStr)
                 .queryParam("rangeType", "PAYED_DATETIME")
-                .queryParam("productOrderStatuses", "PAYED", "DELIVERING", "DELIVERED", "PURCHASE_DECIDED")
+                .queryParam("productOrderStatuses", COLLECTED_STATUSES.toArray())
                 .build(false)  // false: 이미 + → %2B 처리했으므로 추가 인코딩 하지 않음
                 .toUriString();
 
@@ -135,25 +337,41 @@ public class SmartStoreOrderClient implements MarketplaceOrderClient {
 
         log.debug("[SmartStore] API Request URL: {}", uri);
         
-        HttpEntity<Void> request = new HttpEntity<>(headers);
+        String body = exchange(creds, uri, HttpMethod.GET, new HttpEntity<>(bearerHeaders(accessToken)));
+        if (body == null) {
+            // 빈 결과로 처리하면 수집 커서가 구간 끝으로 전진해 해당 구간 주문이 유실되므로 예외
+            throw new IllegalStateException("SmartStore product-orders returned no body (" + from + " ~ " + to + ")");
+        }
+        return parseOrdersResponse(body);
+    }
 
+    /**
+     * API 호출 (Rate Limit + Circuit Breaker + Retry)
+     * 
+     * @return 200 OK 응답 본문 (그 외 null)
+     */
+    private String exchange(SmartStoreCredentials creds, java.net.URI uri, HttpMethod method, HttpEntity<?> request) {
         try {
             // Circuit Breaker + Retry 적용: 장애 시 빠른 실패 + 일시적 오류 재시도
+            // 재시도 포함 모든 호출은 Rate Limit 토큰을 획득한 뒤 실행
             Supplier<ResponseEntity<String>> decoratedSupplier =
                     Retry.decorateSupplier(smartStoreRetry,
                             CircuitBreaker.decorateSupplier(smartStoreCircuitBreaker,
-                                    () -> restTemplate.exchange(
-                                            uri,
-                                            HttpMethod.GET,
-                                            request,
-                                            String.class)));
+                                    () -> {
+                                        rateLimiter.acquire(Marketplace.NAVER_SMARTSTORE, creds.getClientId());
+                                        return restTemplate.exchange(
+                                                uri,
+                                                method,
+                                                request,
+                                                String.class);
+                                    }));
 
             ResponseEntity<String> response = decoratedSupplier.get();
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseOrdersResponse(response.getBody());
+                return response.getBody();
             }
-            return new ArrayList<>();
+            return null;
 
         } catch (io.github.resilience4j.circuitbreaker.CallNotPermittedException e) {
             log.error("[SmartStore] Circuit breaker OPEN - API calls blocked: {}", e.getMessage());
@@ -164,39 +382,56 @@ public class SmartStoreOrderClient implements MarketplaceOrderClient {
         }
     }
 
+    private HttpHeaders bearerHeaders(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    /**
+     * 네이버 API 일시 포맷 (KST, 밀리초 3자리, + 기호만 %2B 인코딩)
+     */
+    private String formatDateTime(LocalDateTime dateTime) {
+        OffsetDateTime odt = dateTime.atZone(KST).toOffsetDateTime();
+        return odt.format(DATE_FORMAT).replace("+", "%2B");
+    }
+
     /**
      * API 응답 파싱
+     * 
+     * 응답 파싱 실패/주문 변환 실패 시 예외 (일부 주문만 저장된 채 수집 커서가 전진하지 않도록)
      */
     private List<MarketplaceOrderDto> parseOrdersResponse(String responseBody) {
-        List<MarketplaceOrderDto> orders = new ArrayList<>();
-        
+        JsonNode root;
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            
-            // /product-orders 엔드포인트는 data.contents 구조 사용
-            JsonNode dataNode = root.path("data");
-            JsonNode contentsNode = dataNode.path("contents");
-            
-            // contents 배열이 있으면 사용, 없으면 data 배열 시도
-            JsonNode targetNode = contentsNode.isArray() ? contentsNode : 
-                                  dataNode.isArray() ? dataNode : null;
-            
-            if (targetNode != null && targetNode.isArray()) {
-                for (JsonNode orderNode : targetNode) {
-                    try {
-                        orders.add(convertOrder(orderNode));
-                    } catch (Exception e) {
-                        log.warn("[SmartStore] Failed to convert order: {}", e.getMessage());
-                    }
-                }
-            } else {
-                log.warn("[SmartStore] No orders found in response. Response: {}", 
-                    responseBody.length() > 200 ? responseBody.substring(0, 200) + "..." : responseBody);
-            }
+            root = objectMapper.readTree(responseBody);
         } catch (Exception e) {
-            log.error("[SmartStore] Failed to parse response", e);
+            throw new IllegalStateException("SmartStore product-orders parse failed: " + e.getMessage(), e);
+        }
+
+        // /product-orders 엔드포인트는 data.contents 구조 사용
+        JsonNode dataNode = root.path("data");
+        JsonNode contentsNode = dataNode.path("contents");
+
+        // contents 배열이 있으면 사용, 없으면 data 배열 시도
+        JsonNode targetNode = contentsNode.isArray() ? contentsNode :
+                              dataNode.isArray() ? dataNode : null;
+
+        if (targetNode == null) {
+            throw new IllegalStateException("SmartStore product-orders response has no order list: "
+                    + (responseBody.length() > 200 ? responseBody.substring(0, 200) + "..." : responseBody));
+        }
+
+        List<MarketplaceOrderDto> orders = new ArrayList<>(targetNode.size());
+        for (JsonNode orderNode : targetNode) {
+            try {
+                orders.add(convertOrder(orderNode));
+            } catch (Exception e) {
+                throw new IllegalStateException("SmartStore order conversion failed (productOrderId="
+                        + orderNode.path("productOrderId").asText("") + "): " + e.getMessage(), e);
+            }
         }
-        
         return orders;
     }
 
@@ -211,7 +446,8 @@ public class SmartStoreOrderClient implements MarketplaceOrderClient {
      */
     private MarketplaceOrderDto convertOrder(JsonNode node) {
         // content.order, content.productOrder, content.delivery 추출
-        JsonNode contentNode = node.path("content");
+        // (상품주문 상세 조회 API는 content 래퍼 없이 order/productOrder/delivery를 반환)
+        JsonNode contentNode = node.has("content") ? node.path("content") : node;
         JsonNode orderNode = contentNode.path("order");
         JsonNode productOrderNode = contentNode.path("productOrder");
         JsonNode deliveryNode = contentNode.path("delivery");
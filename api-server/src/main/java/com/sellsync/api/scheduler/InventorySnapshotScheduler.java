@@ -0,0 +1,36 @@
+package com.sellsync.api.scheduler;
+
+import com.sellsync.api.domain.erp.service.InventorySnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 스냅샷 갱신 스케줄러
+ * - 노드 메모리에 적재된 테넌트 재고 스냅샷을 주기 갱신
+ * - 스냅샷이 노드별이므로 ShedLock 없이 각 노드에서 실행
+ */
+@Component
+@ConditionalOnProperty(
+    name = "scheduling.inventory-snapshot.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySnapshotScheduler {
+
+    private final InventorySnapshotService inventorySnapshotService;
+
+    @Scheduled(fixedDelayString = "${scheduling.inventory-snapshot.refresh-interval-ms:300000}",
+               initialDelayString = "${scheduling.inventory-snapshot.refresh-interval-ms:300000}")
+    public void refreshSnapshots() {
+        try {
+            inventorySnapshotService.refreshLoadedSnapshots();
+        } catch (Exception e) {
+            log.error("[InventorySnapshotScheduler] Refresh failed", e);
+        }
+    }
+}
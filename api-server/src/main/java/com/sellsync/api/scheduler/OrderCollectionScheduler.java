@@ -1,42 +1,38 @@
 package com.sellsync.api.scheduler;
 
+import com.sellsync.api.domain.order.service.OrderCollectionDispatcher;
 import com.sellsync.api.domain.order.service.OrderCollectionHistoryService;
 import com.sellsync.api.domain.order.service.OrderCollectionService;
+import com.sellsync.api.domain.order.service.OrderSyncCursorService;
 import com.sellsync.api.domain.store.entity.Store;
 import com.sellsync.api.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 /**
  * 주문 수집 스케줄러 (병렬 처리 최적화 버전)
  * 
  * 개선 사항:
- * - 1시간 주기로 최근 7일치 주문 수집 (상태 업데이트 반영)
- * - 병렬 처리: 동시에 10개 스토어 처리 (순차 처리 대비 8배 빠름)
- * - 시간 분산: 스토어별 시작 시간 분산으로 API Rate Limit 회피
+ * - 1시간 주기로 커서(last_synced_at) 이후 변경된 주문만 증분 수집
+ * - 보정 주기마다 최근 7일치 전체 수집 (누락 보정, 증분 미지원 마켓플레이스는 항상 전체 수집)
+ * - 병렬 처리: OrderCollectionDispatcher가 마켓플레이스별 동시 실행 수와 Rate Limit 예산 기준으로 스토어 배분
+ * - Rate Limit: 마켓플레이스/인증 정보별 토큰 버킷 (MarketplaceRateLimiter) - 고정 딜레이 제거
  * 
  * 성능 개선:
- * - 1000개 스토어 처리: 50분 → 6분
- * - API Rate Limit 자연스러운 회피
+ * - 1000개 스토어 처리: 50분 → 수 분 (마켓플레이스 쿼터 범위 내)
  * - CPU/네트워크 리소스 효율적 활용
  */
 @Component
@@ -47,30 +43,31 @@ public class OrderCollectionScheduler {
     private final OrderCollectionService orderCollectionService;
     private final StoreRepository storeRepository;
     private final OrderCollectionHistoryService historyService;
-    @Qualifier("orderCollectionExecutor")
-    private final Executor orderCollectionExecutor;
+    private final OrderCollectionDispatcher collectionDispatcher;
+    private final OrderSyncCursorService syncCursorService;
 
-    private static final int COLLECTION_DAYS = 7;           // 수집 범위 (일) - 최근 7일 수집 (상태 업데이트 반영)
-    private static final boolean ENABLE_PARALLEL = false;   // 병렬 처리 활성화 (일단 false로 설정, 안정화 후 true)
+    private static final Duration PARALLEL_TIMEOUT = Duration.ofMinutes(50);  // ShedLock(55분) 내 종료
+
+    @Value("${scheduling.order-collection.parallel.enabled:true}")
+    private boolean enableParallel;                         // 병렬 처리 활성화 (false: 순차 처리)
     
     private volatile boolean isRunning = false; // 중복 실행 방지 플래그
 
     @PostConstruct
     public void init() {
         log.info("=== [OrderCollectionScheduler] 초기화 완료 - 스케줄러 빈 생성됨 ===");
-        log.info("[OrderCollectionScheduler] 설정: COLLECTION_DAYS={} (최근 {}일 수집), PARALLEL_ENABLED={}", 
-                COLLECTION_DAYS, COLLECTION_DAYS, ENABLE_PARALLEL);
+        log.info("[OrderCollectionScheduler] 설정: 증분 수집(커서) + 주기적 FULL 보정, PARALLEL_ENABLED={}", 
+                enableParallel);
     }
 
     /**
      * 1시간 주기 주문 수집 스케줄러 (병렬 처리)
      * cron: 매 1시간 (정각: 00:00, 01:00, 02:00, ...)
-     * 수집 범위: 오늘 포함 최근 7일치 (상태 업데이트 반영)
+     * 수집 범위: 스토어별 커서 기준 (OrderSyncCursorService)
      * 
      * 병렬 처리 전략:
-     * - CompletableFuture를 사용한 비동기 병렬 처리
-     * - 최대 10개 스토어 동시 처리 (orderCollectionExecutor)
-     * - 시간 분산으로 API Rate Limit 자연스러운 회피
+     * - 마켓플레이스별 동시 실행 수 제한 (scheduling.order-collection.parallel.max-concurrency-per-marketplace)
+     * - 남은 Rate Limit 예산이 가장 많은 스토어부터 실행
      */
     @Scheduled(cron = "${scheduling.order-collection.cron:0 0 * * * *}") // 매 1시간 (기본값)
     @SchedulerLock(name = "collectOrdersScheduled", lockAtLeastFor = "PT5M", lockAtMostFor = "PT55M")
@@ -83,7 +80,7 @@ public class OrderCollectionScheduler {
 
         isRunning = true;
         try {
-            log.info("=== [OrderCollectionScheduler] Starting scheduled collection (PARALLEL={}) ===", ENABLE_PARALLEL);
+            log.info("=== [OrderCollectionScheduler] Starting scheduled collection (PARALLEL={}) ===", enableParallel);
             
             long startTime = System.currentTimeMillis();
             List<Store> activeStores = storeRepository.findByIsActive(true);
@@ -91,7 +88,7 @@ public class OrderCollectionScheduler {
             
             log.info("[OrderCollectionScheduler] Found {} active stores", totalStores);
 
-            if (ENABLE_PARALLEL) {
+            if (enableParallel) {
                 // 병렬 처리 실행
                 executeParallelCollection(activeStores, startTime);
             } else {
@@ -107,55 +104,19 @@ public class OrderCollectionScheduler {
     /**
      * 병렬 처리 실행
      * 
-     * 개선된 시간 분산 전략:
-     * - 시간 분산 제거 (즉시 실행)
-     * - ThreadPool 크기(10)로 동시 실행 수 자동 제어
-     * - API Rate Limit은 각 클라이언트에서 처리
+     * Rate Limit 기반 디스패치:
+     * - 마켓플레이스/인증 정보별 토큰 버킷 예산이 남은 스토어부터 실행
+     * - 실제 API 호출 속도는 각 클라이언트의 MarketplaceRateLimiter가 제어
      */
     private void executeParallelCollection(List<Store> activeStores, long startTime) {
-        int totalStores = activeStores.size();
-        AtomicInteger successStores = new AtomicInteger(0);
-        AtomicInteger failedStores = new AtomicInteger(0);
-        
-        log.info("[OrderCollectionScheduler] Parallel execution: totalStores={}", totalStores);
-        
-        // 모든 스토어에 대해 비동기 작업 생성 (시간 분산 제거)
-        List<CompletableFuture<Void>> futures = activeStores.stream()
-            .map(store -> CompletableFuture.runAsync(() -> {
-                try {
-                    // 주문 수집 실행
-                    collectForStore(store);
-                    successStores.incrementAndGet();
-                    
-                } catch (org.springframework.dao.QueryTimeoutException e) {
-                    failedStores.incrementAndGet();
-                    log.error("[OrderCollectionScheduler] Query timeout for store {}: {}", 
-                            store.getStoreId(), e.getMessage());
-                } catch (org.springframework.transaction.UnexpectedRollbackException e) {
-                    failedStores.incrementAndGet();
-                    log.error("[OrderCollectionScheduler] Transaction rollback for store {}: {}", 
-                            store.getStoreId(), e.getMessage());
-                } catch (Exception e) {
-                    failedStores.incrementAndGet();
-                    log.error("[OrderCollectionScheduler] Failed to collect orders for store {}: {}", 
-                            store.getStoreId(), e.getMessage());
-                }
-            }, orderCollectionExecutor))
-            .collect(Collectors.toList());
-        
-        try {
-            // 모든 작업 완료 대기 (타임아웃 설정: 30분)
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .get(30, TimeUnit.MINUTES);
-        } catch (java.util.concurrent.TimeoutException e) {
-            log.error("[OrderCollectionScheduler] Parallel execution timeout after 30 minutes");
-        } catch (Exception e) {
-            log.error("[OrderCollectionScheduler] Parallel execution error: {}", e.getMessage());
-        }
-        
+        log.info("[OrderCollectionScheduler] Parallel execution: totalStores={}", activeStores.size());
+
+        OrderCollectionDispatcher.DispatchResult result =
+                collectionDispatcher.dispatch(activeStores, this::collectForStore, PARALLEL_TIMEOUT);
+
         long elapsed = System.currentTimeMillis() - startTime;
         log.info("=== [OrderCollectionScheduler] Parallel Completed: total={}, success={}, failed={}, elapsed={}ms ===",
-                totalStores, successStores.get(), failedStores.get(), elapsed);
+                result.getTotal(), result.getSuccess(), result.getFailed(), elapsed);
     }
     
     /**
@@ -182,11 +143,6 @@ public class OrderCollectionScheduler {
                 log.info("[OrderCollectionScheduler] [{}/{}] ✅ 완료: {}", 
                         i + 1, totalStores, store.getStoreName());
                 
-                // Rate Limit 방지를 위한 딜레이 (3초)
-                if (i < activeStores.size() - 1) {  // 마지막 스토어가 아니면
-                    TimeUnit.MILLISECONDS.sleep(3000);
-                }
-                
             } catch (org.springframework.dao.QueryTimeoutException e) {
                 failedStores++;
                 log.error("[OrderCollectionScheduler] [{}/{}] ❌ Query timeout: {}",
@@ -211,39 +167,47 @@ public class OrderCollectionScheduler {
 
     /**
      * 스토어별 주문 수집 실행
+     * 
+     * 수집 모드는 OrderSyncCursorService가 결정 (INCREMENTAL: 커서 이후 변경분, FULL: 최근 7일 전체)
+     * 성공 시 커서(last_synced_at)를 수집 시작 시각으로 전진
+     * 저장 실패 주문이 있으면 커서를 유지하여 다음 수집에서 같은 구간부터 다시 수집
      */
     private void collectForStore(Store store) {
         log.info("[OrderCollectionScheduler] Processing store: {} ({})", 
                 store.getStoreName(), store.getMarketplace());
 
-        // 오늘 포함 최근 7일치 수집 (상태 업데이트 반영)
-        LocalDateTime to = LocalDate.now().atTime(LocalTime.MAX);
-        LocalDateTime from = calculateFromDateTime(store);
+        OrderSyncCursorService.SyncWindow window = syncCursorService.resolveWindow(store, LocalDateTime.now());
+        LocalDateTime from = window.getFrom();
+        LocalDateTime to = window.getTo();
 
-        log.debug("[OrderCollectionScheduler] Collection range: {} ~ {}", from, to);
+        log.debug("[OrderCollectionScheduler] Collection range ({}): {} ~ {}", window.getMode(), from, to);
 
         try {
-            OrderCollectionService.CollectionResult result = 
-                    orderCollectionService.collectOrders(
-                            store.getTenantId(),
-                            store.getStoreId(),
-                            from,
-                            to
-                    );
+            OrderCollectionService.CollectionResult result = window.isIncremental()
+                    ? orderCollectionService.collectChangedOrders(store.getTenantId(), store.getStoreId(), from, to)
+                    : orderCollectionService.collectOrders(store.getTenantId(), store.getStoreId(), from, to);
 
             // 결과 로깅
-            log.info("[OrderCollectionScheduler] Store {} result: fetched={}, created={}, updated={}, failed={}",
+            log.info("[OrderCollectionScheduler] Store {} result ({}): fetched={}, created={}, updated={}, skipped={}, failed={}",
                     store.getStoreId(),
+                    window.getMode(),
                     result.getTotalFetched(),
                     result.getCreated(),
                     result.getUpdated(),
+                    result.getSkipped(),
                     result.getFailed());
 
             // 수집 이력 저장
-            historyService.saveCollectionHistory(store, from, to, result);
+            historyService.saveCollectionHistory(store, from, to, result, window.getMode());
 
-            // 마지막 동기화 시간 업데이트
-            store.setLastSyncedAt(to);
+            if (result.getFailed() > 0) {
+                log.warn("[OrderCollectionScheduler] Store {} has {} failed orders, keeping cursor at {}",
+                        store.getStoreId(), result.getFailed(), store.getLastSyncedAt());
+                return;
+            }
+
+            // 커서 전진 (마지막 동기화 시간 업데이트)
+            store.setLastSyncedAt(window.getCursor());
             storeRepository.save(store);
 
         } catch (Exception e) {
@@ -253,22 +217,6 @@ public class OrderCollectionScheduler {
         }
     }
 
-    /**
-     * 수집 시작 시간 계산
-     * - 항상 오늘 포함 최근 7일치 수집 (상태값 업데이트 반영을 위함)
-     * - from: 오늘 기준 7일 전 00:00:00
-     * - to: 오늘 23:59:59
-     */
-    private LocalDateTime calculateFromDateTime(Store store) {
-        LocalDate today = LocalDate.now();
-        LocalDate fromDate = today.minusDays(COLLECTION_DAYS - 1);  // 오늘 포함 7일이므로 -6일
-        
-        log.info("[OrderCollectionScheduler] Store {} - collecting orders from {} to {} ({}일)", 
-                store.getStoreId(), fromDate, today, COLLECTION_DAYS);
-        
-        return fromDate.atStartOfDay();
-    }
-
     /**
      * 수동 동기화 트리거 (특정 스토어)
      */
@@ -296,8 +244,8 @@ public class OrderCollectionScheduler {
             store.setLastSyncedAt(LocalDateTime.now());
             storeRepository.save(store);
 
-            log.info("[OrderCollectionScheduler] Manual collection completed: fetched={}, created={}, updated={}, failed={}",
-                    result.getTotalFetched(), result.getCreated(), result.getUpdated(), result.getFailed());
+            log.info("[OrderCollectionScheduler] Manual collection completed: fetched={}, created={}, updated={}, skipped={}, failed={}",
+                    result.getTotalFetched(), result.getCreated(), result.getUpdated(), result.getSkipped(), result.getFailed());
 
             return result;
             
@@ -311,7 +259,7 @@ public class OrderCollectionScheduler {
 
     /**
      * 전체 동기화 트리거 (테넌트의 모든 스토어)
-     * 순차 처리 방식으로 실행
+     * 스케줄러와 동일한 Rate Limit 기반 병렬 디스패치로 실행
      */
     public void triggerFullCollection(UUID tenantId) {
         log.info("[OrderCollectionScheduler] Full collection trigger for tenant: {}", tenantId);
@@ -320,18 +268,11 @@ public class OrderCollectionScheduler {
         
         log.info("[OrderCollectionScheduler] Found {} active stores for tenant {}", stores.size(), tenantId);
         
-        for (Store store : stores) {
-            try {
-                collectForStore(store);
-                // Rate Limit 방지를 위한 딜레이 (3초)
-                TimeUnit.MILLISECONDS.sleep(3000);
-            } catch (Exception e) {
-                log.error("[OrderCollectionScheduler] Failed for store {}: {}", 
-                        store.getStoreId(), e.getMessage(), e);
-            }
-        }
+        OrderCollectionDispatcher.DispatchResult result =
+                collectionDispatcher.dispatch(stores, this::collectForStore, PARALLEL_TIMEOUT);
         
-        log.info("[OrderCollectionScheduler] Full collection completed for tenant: {}", tenantId);
+        log.info("[OrderCollectionScheduler] Full collection completed for tenant: {} (success={}, failed={}, elapsed={}ms)",
+                tenantId, result.getSuccess(), result.getFailed(), result.getElapsedMs());
     }
     
     /**
@@ -0,0 +1,150 @@
+package com.sellsync.api.scheduler;
+
+import com.sellsync.api.domain.posting.repository.PostingDispatchRepository.ClaimedBatch;
+import com.sellsync.api.domain.posting.repository.PostingDispatchRepository.DispatchTarget;
+import com.sellsync.api.domain.posting.repository.PostingRepository;
+import com.sellsync.api.domain.posting.service.PostingExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 전표 전송 작업 큐 워커
+ *
+ * postings 테이블을 작업 큐로 사용하여 READY 전표를 짧은 주기로 선점/전송합니다.
+ * - 노드마다 실행 (ShedLock 미사용) - 선점은 FOR UPDATE SKIP LOCKED로 노드 간 분리
+ * - 테넌트 간 공정성: 오래 대기한 테넌트부터 테넌트당 1묶음씩 라운드로빈 선점
+ * - 테넌트별 동시 전송 제한: 진행 중 묶음 수가 max-concurrency-per-tenant 이상이면 선점 보류 (전체 노드 합산)
+ * - 노드 용량: postingTaskExecutor 유휴 스레드 수만큼만 선점 (처리 용량은 노드 수에 비례)
+ * - lease 만료: 전송 중 노드가 종료된 묶음은 FAILED 처리 (ERP 확인 후 수동 재시도)
+ *
+ * 자동 전송은 ERP 설정 auto_send_enabled=true인 테넌트만 대상입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    name = "posting.dispatch.enabled",
+    havingValue = "true",
+    matchIfMissing = false
+)
+public class PostingDispatchScheduler {
+
+    private final PostingRepository postingRepository;
+    private final PostingExecutor postingExecutor;
+    private final ThreadPoolTaskExecutor postingTaskExecutor;
+    private final String workerId;
+
+    @Value("${posting.dispatch.max-concurrency-per-tenant:2}")
+    private int maxConcurrencyPerTenant;
+
+    @Value("${posting.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${posting.dispatch.lease-minutes:10}")
+    private long leaseMinutes;
+
+    public PostingDispatchScheduler(PostingRepository postingRepository,
+                                    PostingExecutor postingExecutor,
+                                    @Qualifier("postingTaskExecutor") ThreadPoolTaskExecutor postingTaskExecutor) {
+        this.postingRepository = postingRepository;
+        this.postingExecutor = postingExecutor;
+        this.postingTaskExecutor = postingTaskExecutor;
+        this.workerId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 전송 대기 전표 선점 및 비동기 전송 제출
+     *
+     * 스케줄: 이전 실행 종료 후 poll-interval-ms (기본 2초)
+     */
+    @Scheduled(fixedDelayString = "${posting.dispatch.poll-interval-ms:2000}", initialDelay = 10000)
+    public void dispatch() {
+        try {
+            LocalDateTime leaseCutoff = LocalDateTime.now().minusMinutes(leaseMinutes);
+
+            int expired = postingRepository.expireClaims(leaseCutoff);
+            if (expired > 0) {
+                log.warn("[전송 큐] lease 만료 전표 FAILED 처리: {}건 (ERP 전표 확인 필요)", expired);
+            }
+
+            int slots = availableSlots();
+            if (slots <= 0) {
+                return;
+            }
+
+            List<DispatchTarget> targets = new ArrayList<>(postingRepository.findDispatchTargets(slots * 4));
+            int submitted = 0;
+
+            // 테넌트당 1묶음씩 돌아가며 선점 (선점할 전표가 없거나 동시 전송 한도인 테넌트는 제외)
+            while (submitted < slots && !targets.isEmpty()) {
+                var it = targets.iterator();
+                while (it.hasNext() && submitted < slots) {
+                    DispatchTarget target = it.next();
+                    ClaimedBatch batch = postingRepository.claimBatch(
+                            target.tenantId(), target.erpCode(), workerId,
+                            maxConcurrencyPerTenant, batchSize, leaseCutoff);
+
+                    if (batch.isEmpty()) {
+                        it.remove();
+                        continue;
+                    }
+                    if (!submit(batch)) {
+                        return;
+                    }
+                    submitted++;
+                }
+            }
+
+            if (submitted > 0) {
+                log.info("[전송 큐] workerId={}, 제출 묶음={}, 유휴 슬롯={}", workerId, submitted, slots);
+            }
+
+        } catch (Exception e) {
+            log.error("[전송 큐] 선점 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 선점 묶음 비동기 전송 제출 (실패 시 선점 해제)
+     */
+    private boolean submit(ClaimedBatch batch) {
+        try {
+            postingExecutor.executeClaimedBatchAsync(batch.postingIds());
+            return true;
+        } catch (TaskRejectedException e) {
+            int released = postingRepository.releaseBatch(batch.claimBatchId());
+            log.warn("[전송 큐] 실행 큐 포화 - 선점 해제: claimBatchId={}, released={}",
+                    batch.claimBatchId(), released);
+            return false;
+        }
+    }
+
+    /**
+     * postingTaskExecutor 유휴 스레드 수 (대기 중인 작업 차감)
+     */
+    private int availableSlots() {
+        return postingTaskExecutor.getMaxPoolSize()
+                - postingTaskExecutor.getActiveCount()
+                - postingTaskExecutor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    private static String resolveHostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;  // claimed_by VARCHAR(100)
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.sellsync.api.scheduler;
 
 import com.sellsync.api.domain.erp.service.ErpConfigService;
-import com.sellsync.api.domain.order.entity.Order;
 import com.sellsync.api.domain.order.enums.Marketplace;
 import com.sellsync.api.domain.order.enums.OrderStatus;
 import com.sellsync.api.domain.order.enums.SettlementCollectionStatus;
@@ -19,7 +18,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -44,9 +46,13 @@ public class PostingScheduler {
     private final ErpConfigService erpConfigService;
     private final OrderSettlementPostingService orderSettlementPostingService;
     private final OrderRepository orderRepository;
-    private final com.sellsync.api.domain.order.service.OrderService orderService;
     private final TenantRepository tenantRepository;
 
+    /**
+     * 일괄 전표 생성 1회당 조회할 대상 주문 수 (번들 단위로 묶어서 처리)
+     */
+    private static final int POSTING_CHUNK_SIZE = 500;
+
     /**
      * READY 상태 전표 자동 전송 (조건부 실행)
      * 
@@ -81,7 +87,7 @@ public class PostingScheduler {
 
                     String erpCredentials = getErpCredentials(tenantId, erpCode);
 
-                    // READY 상태 전표 조회 (최대 10건)
+                    // READY 상태 전표 조회 (최대 100건)
                     List<PostingResponse> readyPostings = postingExecutorService.findReadyPostings(tenantId, erpCode);
 
                     if (readyPostings.isEmpty()) {
@@ -91,13 +97,12 @@ public class PostingScheduler {
 
                     log.info("[스케줄러] READY 전표 발견: {} 건 (tenant={})", readyPostings.size(), tenantId);
 
-                    // 비동기 전송
+                    // 비동기 일괄 전송 (ERP 요청당 여러 전표, 묶음 크기는 ERP 클라이언트가 결정)
                     List<UUID> postingIds = readyPostings.stream()
-                            .limit(10) // 한 번에 최대 10건
                             .map(PostingResponse::getPostingId)
                             .toList();
 
-                    postingExecutor.executeBatchAsync(postingIds, erpCredentials);
+                    postingExecutor.executeBulkAsync(postingIds, erpCredentials);
 
                     log.info("[스케줄러] READY 전표 전송 완료: {} 건 전송 시작 (tenant={})", postingIds.size(), tenantId);
                 } catch (Exception e) {
@@ -176,11 +181,11 @@ public class PostingScheduler {
      * 스케줄: 매 10분마다 실행
      *
      * 로직:
-     * - 전표 생성 대상 조회: orderStatus IN (SHIPPING, DELIVERED) + 미전표(≠POSTED)
-     *   + (정산완료 COLLECTED OR 쿠팡 마켓플레이스) → 최대 100건
-     * - 각 주문에 대해 OrderSettlementPostingService.createPostingsForSettledOrder() 호출
-     * - 성공/실패 카운트 로깅
-     * - 개별 주문 실패 시에도 다음 주문 계속 처리
+     * - 전표 생성 대상 번들 조회: orderStatus IN (SHIPPING, DELIVERED) + 미전표(≠POSTED)
+     *   + (정산완료 COLLECTED OR 쿠팡 마켓플레이스) → 주문 POSTING_CHUNK_SIZE건 단위
+     * - 번들 묶음마다 OrderSettlementPostingService.createPostingsForSettledOrders() 일괄 호출
+     * - 대상이 남아 있으면 같은 실행 안에서 다음 묶음 계속 처리
+     * - 일괄 처리 실패(동시 생성 충돌 등) 시 해당 묶음만 번들 단건 생성으로 재시도
      */
 //    @Scheduled(fixedDelay = 600000, initialDelay = 60000) // 10분마다, 시작 후 1분 대기
     public void createPostingsForSettledOrders() {
@@ -194,57 +199,7 @@ public class PostingScheduler {
             for (Tenant tenant : activeTenants) {
                 UUID tenantId = tenant.getTenantId();
                 try {
-                    // 전표 생성 대상 주문 조회 (SettlementScheduler와 동일한 조건)
-                    // 조건: SHIPPING/DELIVERED + 미전표(≠POSTED) + (COLLECTED OR 쿠팡)
-                    List<Order> settledOrders = orderRepository.findPostingTargetOrders(
-                            tenantId,
-                            List.of(OrderStatus.SHIPPING, OrderStatus.DELIVERED),
-                            SettlementCollectionStatus.POSTED,
-                            SettlementCollectionStatus.COLLECTED,
-                            Marketplace.COUPANG,
-                            PageRequest.of(0, 100)
-                    );
-
-                    if (settledOrders.isEmpty()) {
-                        log.debug("[스케줄러] 정산 전표 생성 대상 없음 (tenant={})", tenantId);
-                        continue;
-                    }
-
-                    log.info("[스케줄러] 정산 전표 생성 시작: 대상 주문 {} 건 (tenant={})", settledOrders.size(), tenantId);
-
-                    int successCount = 0;
-                    int failureCount = 0;
-                    int skippedCount = 0;
-
-                    // 각 주문에 대해 전표 생성 시도
-                    for (Order order : settledOrders) {
-                        try {
-                            // 상품 매핑 완료 여부 사전 체크
-                            if (!orderService.isReadyForPosting(order)) {
-                                skippedCount++;
-                                log.debug("[정산 전표 생성 스킵 - 상품매핑 미완료] orderId={}, marketplaceOrderId={}",
-                                        order.getOrderId(), order.getMarketplaceOrderId());
-                                continue;
-                            }
-
-                            // 통합 전표 생성 (한 주문당 1개의 전표)
-                            PostingResponse createdPosting = orderSettlementPostingService
-                                    .createPostingsForSettledOrder(order.getBundleOrderId(), erpCode);
-
-                            successCount++;
-                            log.debug("[정산 전표 생성 성공] orderId={}, postingId={}",
-                                    order.getOrderId(), createdPosting.getPostingId());
-
-                        } catch (Exception e) {
-                            failureCount++;
-                            log.error("[정산 전표 생성 실패] orderId={}, error={}",
-                                    order.getOrderId(), e.getMessage(), e);
-                        }
-                    }
-
-                    log.info("[스케줄러] 정산 전표 생성 완료 (tenant={}): 성공 {} 건, 실패 {} 건, 스킵 {} 건",
-                            tenantId, successCount, failureCount, skippedCount);
-
+                    createPostingsForTenant(tenantId, erpCode);
                 } catch (Exception e) {
                     log.error("[스케줄러] 정산 전표 생성 실패 (tenant={}): {}", tenantId, e.getMessage(), e);
                 }
@@ -257,6 +212,82 @@ public class PostingScheduler {
 
     // ========== Helper Methods ==========
 
+    /**
+     * 테넌트의 전표 생성 대상 번들을 묶음 단위로 모두 처리
+     *
+     * 전표 생성 후 POSTED로 바뀐 주문은 대상에서 빠지고, 스킵/실패/쿠팡 정산 미수집 주문은 남으므로
+     * 같은 페이지를 다시 조회하다가 새 번들이 없으면 다음 페이지로 넘어갑니다.
+     */
+    private void createPostingsForTenant(UUID tenantId, String erpCode) {
+        Set<String> processedBundleOrderIds = new HashSet<>();
+        int page = 0;
+        int createdCount = 0;
+        int existingCount = 0;
+        int skippedCount = 0;
+        int failureCount = 0;
+
+        while (true) {
+            // 조건: SHIPPING/DELIVERED + 미전표(≠POSTED) + (COLLECTED OR 쿠팡)
+            List<String> bundleOrderIds = orderRepository.findPostingTargetBundleOrderIds(
+                    tenantId,
+                    List.of(OrderStatus.SHIPPING, OrderStatus.DELIVERED),
+                    SettlementCollectionStatus.POSTED,
+                    SettlementCollectionStatus.COLLECTED,
+                    Marketplace.COUPANG,
+                    PageRequest.of(page, POSTING_CHUNK_SIZE)
+            );
+
+            if (bundleOrderIds.isEmpty()) {
+                break;
+            }
+
+            List<String> newBundleOrderIds = bundleOrderIds.stream()
+                    .filter(Objects::nonNull)
+                    .filter(processedBundleOrderIds::add)
+                    .toList();
+
+            if (newBundleOrderIds.isEmpty()) {
+                page++;
+                continue;
+            }
+
+            log.info("[스케줄러] 정산 전표 생성 시작: 대상 번들 {} 건 (tenant={})", newBundleOrderIds.size(), tenantId);
+
+            try {
+                OrderSettlementPostingService.BulkPostingResult result = orderSettlementPostingService
+                        .createPostingsForSettledOrders(tenantId, newBundleOrderIds, erpCode);
+                createdCount += result.created();
+                existingCount += result.existing();
+                skippedCount += result.skipped();
+                failureCount += result.failed();
+            } catch (Exception e) {
+                log.warn("[스케줄러] 정산 전표 일괄 생성 실패 - 번들 단건 생성으로 재시도 (tenant={}): {}",
+                        tenantId, e.getMessage());
+                for (String bundleOrderId : newBundleOrderIds) {
+                    try {
+                        PostingResponse createdPosting = orderSettlementPostingService
+                                .createPostingsForSettledOrder(bundleOrderId, erpCode);
+                        createdCount++;
+                        log.debug("[정산 전표 생성 성공] bundleOrderId={}, postingId={}",
+                                bundleOrderId, createdPosting.getPostingId());
+                    } catch (Exception ex) {
+                        failureCount++;
+                        log.error("[정산 전표 생성 실패] bundleOrderId={}, error={}",
+                                bundleOrderId, ex.getMessage(), ex);
+                    }
+                }
+            }
+        }
+
+        if (processedBundleOrderIds.isEmpty()) {
+            log.debug("[스케줄러] 정산 전표 생성 대상 없음 (tenant={})", tenantId);
+            return;
+        }
+
+        log.info("[스케줄러] 정산 전표 생성 완료 (tenant={}): 생성 {} 건, 기존 {} 건, 실패 {} 건, 스킵 {} 건",
+                tenantId, createdCount, existingCount, failureCount, skippedCount);
+    }
+
     private String getErpCredentials(UUID tenantId, String erpCode) {
         // TODO: ErpConfig 테이블 또는 Credential 테이블에서 조회
         return String.format("{\"tenantId\":\"%s\",\"erpCode\":\"%s\",\"apiKey\":\"mock-key\"}",
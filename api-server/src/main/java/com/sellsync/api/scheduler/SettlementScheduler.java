@@ -1,6 +1,5 @@
 package com.sellsync.api.scheduler;
 
-import com.sellsync.api.domain.credential.service.CredentialService;
 import com.sellsync.api.domain.erp.service.ErpConfigService;
 import com.sellsync.api.domain.mapping.service.ProductMappingService;
 import com.sellsync.api.domain.order.entity.Order;
@@ -10,21 +9,18 @@ import com.sellsync.api.domain.order.enums.OrderStatus;
 import com.sellsync.api.domain.order.enums.SettlementCollectionStatus;
 import com.sellsync.api.domain.order.repository.OrderRepository;
 import com.sellsync.api.domain.posting.service.OrderSettlementPostingService;
-import com.sellsync.api.domain.settlement.dto.SettlementCollectionResult;
-import com.sellsync.api.domain.settlement.service.SettlementCollectionService;
-import com.sellsync.api.domain.store.entity.Store;
-import com.sellsync.api.domain.store.repository.StoreRepository;
-import com.sellsync.api.domain.tenant.entity.Tenant;
+import com.sellsync.api.domain.settlement.service.SettlementCollectionJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -36,8 +32,8 @@ import java.util.UUID;
  *    → 자동 상품별 전표 생성 (autoPostingEnabled인 경우)
  *    → 자동 ERP 전송 (autoSendEnabled인 경우)
  * 
- * 2. 모든 활성 테넌트에 대해 순차 처리
- * 3. 스토어별 딜레이로 서버 부하 분산
+ * 2. 스토어별 정산 수집 작업을 병렬 실행 (SettlementCollectionJobService, 마켓플레이스별 동시 실행 수 + Rate Limit)
+ * 3. 미완료 작업은 재개 스케줄(매시 30분)에서 이어서 처리
  * 
  * 주의:
  * - 상품별 전표 생성: OrderSettlementPostingService 사용
@@ -52,15 +48,14 @@ public class SettlementScheduler {
     private final OrderSettlementPostingService orderSettlementPostingService;
     private final OrderRepository orderRepository;
     private final ErpConfigService erpConfigService;
-    private final SettlementCollectionService settlementCollectionService;
-    private final StoreRepository storeRepository;
-    private final CredentialService credentialService;
-    private final com.sellsync.api.domain.tenant.repository.TenantRepository tenantRepository;
+    private final SettlementCollectionJobService settlementCollectionJobService;
     private final com.sellsync.api.domain.posting.service.PostingExecutor postingExecutor;
     private final ProductMappingService productMappingService;
     
     private static final int MAX_ORDERS_PER_POSTING = 50; // 한 번에 처리할 최대 주문 수
-    private static final long DELAY_BETWEEN_TENANTS_MS = 5000; // 테넌트 간 딜레이 (5초)
+
+    @Value("${scheduling.settlement-collection.dispatch-timeout-minutes:90}")
+    private long dispatchTimeoutMinutes; // 1회 실행 시간 상한 (ShedLock 2시간 이내, 남은 작업은 재개 스케줄에서 처리)
 
     /**
      * 정산 데이터 수집 및 자동 처리 (새벽 1시)
@@ -68,13 +63,13 @@ public class SettlementScheduler {
      * 스케줄: 매일 새벽 1시
      * 
      * 통합 워크플로우:
-     * 1. 모든 활성 테넌트 조회
-     * 2. 각 테넌트별로:
-     *    a. 활성 스토어 목록 조회 (SmartStore, Coupang)
-     *    b. 정산 데이터 수집 및 자동 COLLECTED 처리
-     *    c. ERP 자동 전표 생성 활성화 시 → 상품별 전표 생성 (OrderSettlementPostingService)
-     *    d. ERP 자동 전송 활성화 시 → ERP 전송
-     * 3. 테넌트 간 딜레이로 서버 부하 분산
+     * 1. 오늘 실행일의 스토어별 정산 수집 작업 생성 (SettlementCollectionJobService.planRun)
+     * 2. 작업을 마켓플레이스별 동시 실행 수 + Rate Limit 예산 기준으로 병렬 실행 (정산 수집 → 자동 VALIDATED)
+     * 3. 수집 성공 스토어가 있는 테넌트별로:
+     *    a. ERP 자동 전표 생성 활성화 시 → 상품별 전표 생성 (OrderSettlementPostingService)
+     *    b. ERP 자동 전송 활성화 시 → ERP 전송
+     * 
+     * 시간 내 끝나지 않은 작업/실패 작업은 resumeSettlementCollection에서 이어서 처리합니다.
      */
      @Scheduled(cron = "0 0 1 * * *") // 매일 새벽 1시
 //    @Scheduled(cron = "0 */10 * * * *") // 10분마다 (테스트용)
@@ -83,6 +78,18 @@ public class SettlementScheduler {
         doCollectDailySettlements();
     }
 
+    /**
+     * 정산 수집 작업 재개 (매시 30분)
+     * 
+     * 오늘 실행일의 미완료 작업(대기/재시도 가능 실패/lease 만료)만 실행 - 완료된 스토어는 재수집하지 않음
+     * 야간 수집과 같은 ShedLock 이름을 사용하여 동시에 실행되지 않음
+     */
+    @Scheduled(cron = "${scheduling.settlement-collection.resume-cron:0 30 * * * *}")
+    @SchedulerLock(name = "collectDailySettlements", lockAtLeastFor = "PT1M", lockAtMostFor = "PT2H")
+    public void resumeSettlementCollection() {
+        runSettlementJobs(LocalDate.now());
+    }
+
     /**
      * 정산 수집 비즈니스 로직 (ShedLock 우회 가능)
      *
@@ -94,169 +101,9 @@ public class SettlementScheduler {
         log.info("========================================");
         
         try {
-            // 1. 활성 테넌트 목록 조회
-            List<com.sellsync.api.domain.tenant.entity.Tenant> activeTenants = 
-                    tenantRepository.findByStatus(com.sellsync.api.domain.tenant.enums.TenantStatus.ACTIVE);
-            
-            if (activeTenants.isEmpty()) {
-                log.info("[스케줄러] 활성 테넌트가 없습니다.");
-                return;
-            }
-            
-            log.info("[스케줄러] 활성 테넌트 수: {}", activeTenants.size());
-            
-            int totalTenantProcessed = 0;
-            int totalStoresProcessed = 0;
-            int totalBatchCount = 0;
-            int totalOrderCount = 0;
-            
-            // 2. 최근 7일 기간 설정
-            LocalDate endDate = LocalDate.now().minusDays(1);  // 어제까지
-            LocalDate startDate = endDate.minusMonths(1); // 1달 전부터
-//            LocalDate startDate = endDate.minusDays(6);        // 7일 전부터
-
-            // 3. 각 테넌트별로 처리
-            for (Tenant tenant : activeTenants) {
-                try {
-                    log.info("========================================");
-                    log.info("[스케줄러] 테넌트 처리 시작");
-                    log.info("[스케줄러]   - 테넌트 ID: {}", tenant.getTenantId());
-                    log.info("[스케줄러]   - 테넌트명: {}", tenant.getName());
-                    log.info("========================================");
-                    
-                    // 3-1. 테넌트의 활성 스토어 조회
-                    List<Store> activeStores = storeRepository
-                            .findByTenantIdAndIsActive(tenant.getTenantId(), true)
-                            .stream()
-                            .filter(store -> store.getMarketplace() == Marketplace.NAVER_SMARTSTORE 
-                                          || store.getMarketplace() == Marketplace.COUPANG)
-                            .toList();
-                    
-                    if (activeStores.isEmpty()) {
-                        log.info("[스케줄러] 테넌트의 활성 스토어가 없습니다.");
-                        continue;
-                    }
-                    
-                    log.info("[스케줄러] 활성 스토어 수: {} (스마트스토어={}, 쿠팡={})", 
-                            activeStores.size(),
-                            activeStores.stream().filter(s -> s.getMarketplace() == Marketplace.NAVER_SMARTSTORE).count(),
-                            activeStores.stream().filter(s -> s.getMarketplace() == Marketplace.COUPANG).count());
-                    
-                    int tenantBatchCount = 0;
-                    int tenantOrderCount = 0;
-                    
-                    // 3-2. 각 스토어별로 정산 데이터 수집
-                    for (Store store : activeStores) {
-                try {
-                    log.info("========================================");
-                    log.info("[스케줄러] 스토어 처리 시작");
-                    log.info("[스케줄러]   - 스토어 ID: {}", store.getStoreId());
-                    log.info("[스케줄러]   - 스토어명: {}", store.getStoreName());
-                    log.info("[스케줄러]   - 마켓플레이스: {}", store.getMarketplace());
-                    log.info("[스케줄러]   - 처리 기간: {} ~ {}", startDate, endDate);
-                    log.info("========================================");
-                    
-                    // ✅ credentials 테이블에서 마켓플레이스 인증 정보 조회
-                    // 우선순위: credentials 테이블 → stores 테이블 (fallback, 스마트스토어만)
-                    Optional<String> credentialsOpt = credentialService.getMarketplaceCredentials(
-                            store.getTenantId(), 
-                            store.getStoreId(), 
-                            store.getMarketplace(),
-                            store.getCredentials()  // stores 테이블 credentials 컬럼 (fallback용)
-                    );
-                    
-                    String credentials;
-                    if (credentialsOpt.isPresent()) {
-                        credentials = credentialsOpt.get();
-                        log.info("[스케줄러]   - 인증 정보: 조회 성공 ✅");
-                    } else {
-                        log.error("[스케줄러] ❌ 인증 정보 없음 - 스킵");
-                        log.error("[스케줄러]   - credentials 테이블과 stores 테이블 모두에서 인증 정보를 찾을 수 없습니다.");
-                        log.error("[스케줄러]   - 해결: 관리자 화면에서 마켓 연동 정보를 입력해주세요.");
-                        continue;
-                    }
-//                    startDate = endDate.minusMonths(1);
-                    // ✅ SettlementCollectionService 호출하여 전체 플로우 처리
-                    // (정산 수집 → 자동 VALIDATED 처리까지 완료됨)
-                    SettlementCollectionResult result = settlementCollectionService.collectAndProcessSettlements(
-                            store.getTenantId(),
-                            store.getStoreId(),
-                            store.getMarketplace(),
-                            startDate,
-                            endDate,
-                            credentials
-                    );
-                    
-                    tenantBatchCount += result.getCreatedBatches();
-                    tenantOrderCount += result.getCreatedSettlementOrders();
-                    
-                    log.info("========================================");
-                    log.info("[스케줄러] ✅ 스토어 정산 수집 완료");
-                    log.info("[스케줄러]   - 스토어 ID: {}", store.getStoreId());
-                    log.info("[스케줄러]   - API 수집: {} 건", result.getTotalElements());
-                    log.info("[스케줄러]   - 주문 매칭: {} 건", result.getMatchedOrders());
-                    log.info("[스케줄러]   - 주문 수수료 업데이트: {} 건", result.getUpdatedOrders());
-                    log.info("[스케줄러]   - 정산 배치 생성: {} 건", result.getCreatedBatches());
-                    log.info("[스케줄러]   - 정산 주문 저장: {} 건", result.getCreatedSettlementOrders());
-                    if (result.getTotalElements() > 0) {
-                        double saveRate = (result.getCreatedSettlementOrders() * 100.0) / result.getTotalElements();
-                        log.info("[스케줄러]   - 저장 비율: {}/{} ({}%)", 
-                                result.getCreatedSettlementOrders(), 
-                                result.getTotalElements(),
-                                String.format("%.1f", saveRate));
-                    }
-                    log.info("========================================");
-                    
-                        } catch (Exception e) {
-                            log.error("========================================");
-                            log.error("[스케줄러] ❌ 스토어 처리 실패");
-                            log.error("[스케줄러]   - 스토어 ID: {}", store.getStoreId());
-                            log.error("[스케줄러]   - 스토어명: {}", store.getStoreName());
-                            log.error("[스케줄러]   - 에러: {}", e.getMessage(), e);
-                            log.error("========================================");
-                        }
-                    }
-                    
-                    totalStoresProcessed += activeStores.size();
-                    totalBatchCount += tenantBatchCount;
-                    totalOrderCount += tenantOrderCount;
-                    
-                    // 3-3. 정산 수집 완료 후 자동 전표 생성 및 전송 처리
-                    processAutoPostingAndSend(tenant.getTenantId());
-                    
-                    totalTenantProcessed++;
-                    
-                    log.info("========================================");
-                    log.info("[스케줄러] ✅ 테넌트 처리 완료");
-                    log.info("[스케줄러]   - 테넌트 ID: {}", tenant.getTenantId());
-                    log.info("[스케줄러]   - 처리 스토어 수: {}", activeStores.size());
-                    log.info("[스케줄러]   - 정산 배치: {} 건", tenantBatchCount);
-                    log.info("[스케줄러]   - 정산 주문: {} 건", tenantOrderCount);
-                    log.info("========================================");
-                    
-                    // 테넌트 간 딜레이 (서버 부하 분산)
-                    if (totalTenantProcessed < activeTenants.size()) {
-                        Thread.sleep(DELAY_BETWEEN_TENANTS_MS);
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("========================================");
-                    log.error("[스케줄러] ❌ 테넌트 처리 실패");
-                    log.error("[스케줄러]   - 테넌트 ID: {}", tenant.getTenantId());
-                    log.error("[스케줄러]   - 테넌트명: {}", tenant.getName());
-                    log.error("[스케줄러]   - 에러: {}", e.getMessage(), e);
-                    log.error("========================================");
-                }
-            }
-            
-            log.info("========================================");
-            log.info("[스케줄러] ✅ 일별 정산 수집 및 자동 처리 전체 완료");
-            log.info("[스케줄러]   - 처리 테넌트 수: {}/{}", totalTenantProcessed, activeTenants.size());
-            log.info("[스케줄러]   - 처리 스토어 수: {}", totalStoresProcessed);
-            log.info("[스케줄러]   - 총 정산 배치: {} 건", totalBatchCount);
-            log.info("[스케줄러]   - 총 정산 주문: {} 건", totalOrderCount);
-            log.info("========================================");
-            
+            LocalDate runDate = LocalDate.now();
+            settlementCollectionJobService.planRun(runDate);
+            runSettlementJobs(runDate);
         } catch (Exception e) {
             log.error("========================================");
             log.error("[스케줄러] ❌ 일별 정산 수집 배치 실패");
@@ -265,6 +112,33 @@ public class SettlementScheduler {
         }
     }
 
+    /**
+     * 실행일 정산 수집 작업 실행 후 수집 성공 테넌트의 자동 전표 생성/전송
+     */
+    private void runSettlementJobs(LocalDate runDate) {
+        SettlementCollectionJobService.RunResult result = settlementCollectionJobService.runPending(
+                runDate, Duration.ofMinutes(dispatchTimeoutMinutes));
+        if (result.getTotal() == 0) {
+            log.info("[스케줄러] 실행할 정산 수집 작업이 없습니다. runDate={}", runDate);
+            return;
+        }
+
+        // 정산 수집 완료 후 자동 전표 생성 및 전송 처리
+        for (UUID tenantId : result.getSucceededTenantIds()) {
+            processAutoPostingAndSend(tenantId);
+        }
+
+        log.info("========================================");
+        log.info("[스케줄러] ✅ 정산 수집 및 자동 처리 완료");
+        log.info("[스케줄러]   - 실행일: {}", runDate);
+        log.info("[스케줄러]   - 작업: {} (성공={}, 실패={})", result.getTotal(), result.getSuccess(), result.getFailed());
+        log.info("[스케줄러]   - 자동 처리 테넌트 수: {}", result.getSucceededTenantIds().size());
+        log.info("[스케줄러]   - 총 정산 배치: {} 건", result.getCreatedBatches());
+        log.info("[스케줄러]   - 총 정산 주문: {} 건", result.getCreatedSettlementOrders());
+        log.info("[스케줄러]   - 소요 시간: {}ms", result.getElapsedMs());
+        log.info("========================================");
+    }
+
     /**
      * 정산 수집 완료 후 자동 전표 생성 및 전송 처리 (상품별 전표)
      * 
@@ -488,7 +362,7 @@ public class SettlementScheduler {
             log.info("========================================");
             
             String erpCredentials = getErpCredentials(tenantId, erpCode);
-            postingExecutor.executeBatchAsync(allCreatedPostingIds, erpCredentials);
+            postingExecutor.executeBulkAsync(allCreatedPostingIds, erpCredentials);
             
             log.info("[스케줄러] ✅ ERP 전송 시작 완료 (비동기 처리 중)");
             
@@ -0,0 +1,58 @@
+package com.sellsync.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 수집 내용 지문 (SHA256) 유틸리티
+ *
+ * 재수집 시 변경 여부 판단용 지문 계산 (주문 수집, ERP 품목 동기화, 정산 수집)
+ * - add(): 필드 값을 길이 접두어로 연결 (null과 빈 문자열, 필드 경계를 구분)
+ * - mark(): 구간 구분 문자 (예: 주문 아이템 시작/끝)
+ * - sha256Hex(): 입력 문자열의 SHA256 소문자 16진수 (64자)
+ */
+public final class ContentHasher {
+
+    private final StringBuilder input = new StringBuilder();
+
+    /**
+     * 필드 값 추가 (null → "-1:", 그 외 → "길이:값")
+     */
+    public ContentHasher add(Object... values) {
+        for (Object value : values) {
+            if (value == null) {
+                input.append("-1:");
+            } else {
+                String text = value.toString();
+                input.append(text.length()).append(':').append(text);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 구간 구분 문자 추가
+     */
+    public ContentHasher mark(char marker) {
+        input.append(marker);
+        return this;
+    }
+
+    /**
+     * 지금까지 추가한 입력의 지문
+     */
+    public String hash() {
+        return sha256Hex(input.toString());
+    }
+
+    public static String sha256Hex(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not found", e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.sellsync.infra.erp.ecount;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sellsync.api.domain.erp.client.ErpClient;
 import com.sellsync.api.domain.erp.dto.*;
 import com.sellsync.infra.erp.ecount.auth.EcountApiException;
@@ -10,9 +9,7 @@ import com.sellsync.infra.erp.ecount.dto.EcountCredentials;
 import com.sellsync.api.domain.credential.service.CredentialService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
 
@@ -23,8 +20,6 @@ public class EcountClient implements ErpClient {
 
     private static final String ERP_CODE = "ECOUNT";
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
     private final EcountSessionService sessionService;
     private final CredentialService credentialService;
 
@@ -35,22 +30,11 @@ public class EcountClient implements ErpClient {
 
     @Override
     public ErpPostingResult postSalesDocument(UUID tenantId, ErpSalesDocumentRequest request) {
-        EcountCredentials creds = getCredentials(tenantId);
-        String sessionId = sessionService.getSessionId(tenantId, creds);
-        // SESSION_ID를 URL 쿼리 파라미터로 전달 (이카운트 API 요구사항)
-        String url = String.format("https://oapi%s.ecount.com/OAPI/V2/Sale/SaveSale?SESSION_ID=%s", 
-                creds.getZone(), sessionId);
-
         try {
+            EcountCredentials creds = getCredentials(tenantId);
             Map<String, Object> body = buildSalesDocumentPayload(request);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept-Encoding", "gzip, deflate");
-            HttpEntity<Map<String, Object>> httpRequest = new HttpEntity<>(body, headers);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(url, httpRequest, String.class);
-            JsonNode root = objectMapper.readTree(response.getBody());
+            JsonNode root = sessionService.call(tenantId, creds, "Sale/SaveSale", body);
 
             if (isSuccess(root)) {
                 String docNo = extractDocumentNo(root);
@@ -59,23 +43,17 @@ public class EcountClient implements ErpClient {
                 return ErpPostingResult.builder()
                         .success(true)
                         .documentNo(docNo)
-                        .rawResponse(response.getBody())
+                        .rawResponse(root.toString())
                         .build();
             } else {
                 String errorMsg = extractErrorMessage(root);
                 log.warn("[Ecount] Sales document failed: {}", errorMsg);
                 
-                // 세션 만료 시 재시도
-                if (isSessionExpired(root)) {
-                    sessionService.invalidateSession(tenantId);
-                    return postSalesDocument(tenantId, request); // 재귀 호출 (1회)
-                }
-                
                 return ErpPostingResult.builder()
                         .success(false)
                         .errorCode(extractErrorCode(root))
                         .errorMessage(errorMsg)
-                        .rawResponse(response.getBody())
+                        .rawResponse(root.toString())
                         .build();
             }
 
@@ -91,40 +69,17 @@ public class EcountClient implements ErpClient {
     @Override
     public List<ErpItemDto> getItems(UUID tenantId, ErpItemSearchRequest request) {
         EcountCredentials creds = getCredentials(tenantId);
-        String sessionId = sessionService.getSessionId(tenantId, creds);
-        // SESSION_ID를 URL 쿼리 파라미터로 전달
-        String url = String.format("https://oapi%s.ecount.com/OAPI/V2/InventoryBasic/GetBasicProductsList?SESSION_ID=%s", 
-                creds.getZone(), sessionId);
 
         try {
             // Ecount API는 페이징을 지원하지만, 빈 body로 요청 시 전체 데이터를 반환할 수 있음
             // 안전하게 페이징 파라미터는 제공하되, 에러 발생 시 빈 body로 재시도
             Map<String, Object> body = buildGetItemsBody(request);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
-            // Brotli(br) 압축 제외 - Ecount API 서버가 br을 제대로 처리하지 못할 수 있음
-            headers.set("Accept-Encoding", "gzip, deflate");
-            HttpEntity<Map<String, Object>> httpRequest = new HttpEntity<>(body, headers);
-
-            log.info("[Ecount] GetItems Request: URL={}, Body={}", 
-                    url.replace(sessionId, "***SESSION***"), 
+            log.info("[Ecount] GetItems Request: Body={}", 
                     body.isEmpty() ? "{}" : "page=" + body.getOrDefault("PAGE_NO", "?") + 
                             ", size=" + body.getOrDefault("PER_PAGE_CNT", "?"));
 
-            ResponseEntity<String> response = restTemplate.postForEntity(url, httpRequest, String.class);
-            String responseBody = response.getBody();
-            
-            if (responseBody == null) {
-                throw new EcountApiException("Empty response from Ecount API");
-            }
-            
-            log.debug("[Ecount] GetItems Response: Status={}, Body={}", 
-                    response.getStatusCode(), 
-                    responseBody.length() > 500 ? responseBody.substring(0, 500) + "..." : responseBody);
-            
-            JsonNode root = objectMapper.readTree(responseBody);
+            JsonNode root = sessionService.call(tenantId, creds, "InventoryBasic/GetBasicProductsList", body);
 
             if (isSuccess(root)) {
                 List<ErpItemDto> items = parseItems(root.path("Data").path("Result"));
@@ -134,19 +89,13 @@ public class EcountClient implements ErpClient {
                         body.getOrDefault("PER_PAGE_CNT", "all"));
                 return items;
             } else {
-                if (isSessionExpired(root)) {
-                    log.warn("[Ecount] Session expired, retrying...");
-                    sessionService.invalidateSession(tenantId);
-                    return getItems(tenantId, request);
-                }
-                
                 String errorMsg = extractErrorMessage(root);
                 String errorCode = extractErrorCode(root);
                 
                 // "Exception while reading from stream" 에러인 경우, 빈 body로 재시도
                 if ("EXP00001".equals(errorCode) || errorMsg.contains("reading from stream")) {
                     log.warn("[Ecount] Stream reading error detected, retrying with empty body...");
-                    return retryWithEmptyBody(tenantId, url, headers);
+                    return retryWithEmptyBody(tenantId, creds);
                 }
                 
                 log.error("[Ecount] GetItems Failed: {}", errorMsg);
@@ -191,29 +140,11 @@ public class EcountClient implements ErpClient {
      * 스트림 에러 시 빈 body로 재시도
      * - Ecount API가 페이징 파라미터를 잘못 처리할 경우를 대비
      */
-    private List<ErpItemDto> retryWithEmptyBody(UUID tenantId, String url, HttpHeaders headers) {
+    private List<ErpItemDto> retryWithEmptyBody(UUID tenantId, EcountCredentials creds) {
         try {
-            Map<String, Object> emptyBody = new HashMap<>();
-            // Accept-Encoding 헤더가 없으면 추가
-            if (!headers.containsKey("Accept-Encoding")) {
-                headers.set("Accept-Encoding", "gzip, deflate");
-            }
-            HttpEntity<Map<String, Object>> retryRequest = new HttpEntity<>(emptyBody, headers);
-            
             log.info("[Ecount] Retrying GetItems with empty body");
             
-            ResponseEntity<String> response = restTemplate.postForEntity(url, retryRequest, String.class);
-            String responseBody = response.getBody();
-            
-            if (responseBody == null) {
-                throw new EcountApiException("Empty response from Ecount API on retry");
-            }
-            
-            log.debug("[Ecount] GetItems Retry Response: Status={}, Body={}", 
-                    response.getStatusCode(), 
-                    responseBody.length() > 500 ? responseBody.substring(0, 500) + "..." : responseBody);
-            
-            JsonNode root = objectMapper.readTree(responseBody);
+            JsonNode root = sessionService.call(tenantId, creds, "InventoryBasic/GetBasicProductsList", Map.of());
             
             if (isSuccess(root)) {
                 List<ErpItemDto> items = parseItems(root.path("Data").path("Result"));
@@ -234,10 +165,6 @@ public class EcountClient implements ErpClient {
     @Override
     public List<ErpCustomerDto> getCustomers(UUID tenantId, ErpCustomerSearchRequest request) {
         EcountCredentials creds = getCredentials(tenantId);
-        String sessionId = sessionService.getSessionId(tenantId, creds);
-        // SESSION_ID를 URL 쿼리 파라미터로 전달
-        String url = String.format("https://oapi%s.ecount.com/OAPI/V2/Account/GetListCustomer?SESSION_ID=%s", 
-                creds.getZone(), sessionId);
 
         try {
             Map<String, Object> body = new HashMap<>();
@@ -246,21 +173,11 @@ public class EcountClient implements ErpClient {
             body.put("PAGE_NO", request.getPage() != null ? request.getPage() : 1);
             body.put("PER_PAGE_CNT", request.getSize() != null ? request.getSize() : 100);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept-Encoding", "gzip, deflate");
-            HttpEntity<Map<String, Object>> httpRequest = new HttpEntity<>(body, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(url, httpRequest, String.class);
-            JsonNode root = objectMapper.readTree(response.getBody());
+            JsonNode root = sessionService.call(tenantId, creds, "Account/GetListCustomer", body);
 
             if (isSuccess(root)) {
                 return parseCustomers(root.path("Data").path("Datas"));
             } else {
-                if (isSessionExpired(root)) {
-                    sessionService.invalidateSession(tenantId);
-                    return getCustomers(tenantId, request);
-                }
                 throw new EcountApiException(extractErrorMessage(root));
             }
 
@@ -290,49 +207,30 @@ public class EcountClient implements ErpClient {
      * - UPLOAD_SER_NO가 같은 항목끼리 한 전표로 묶임
      */
     public ErpPostingResult saveSaleForms(UUID tenantId, com.sellsync.infra.erp.ecount.dto.EcountSaleFormRequest request) {
-        EcountCredentials creds = getCredentials(tenantId);
-        String sessionId = sessionService.getSessionId(tenantId, creds);
-        String url = String.format("https://oapi%s.ecount.com/OAPI/V2/Sale/SaveSale?SESSION_ID=%s", 
-                creds.getZone(), sessionId);
-
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
-            headers.set("Accept-Encoding", "gzip, deflate");
-            HttpEntity<com.sellsync.infra.erp.ecount.dto.EcountSaleFormRequest> httpRequest = 
-                    new HttpEntity<>(request, headers);
+            EcountCredentials creds = getCredentials(tenantId);
 
-            log.info("[Ecount] SaveSale Request: URL={}, Forms={}", 
-                    url.replace(sessionId, "***SESSION***"), 
-                    request.getSaleList().size());
+            log.info("[Ecount] SaveSale Request: Forms={}", request.getSaleList().size());
 
-            ResponseEntity<String> response = restTemplate.postForEntity(url, httpRequest, String.class);
-            JsonNode root = objectMapper.readTree(response.getBody());
+            JsonNode root = sessionService.call(tenantId, creds, "Sale/SaveSale", request);
 
             if (isSuccess(root)) {
-                log.info("[Ecount] SaveSale Success: {}", response.getBody());
+                log.info("[Ecount] SaveSale Success: {}", root);
                 
                 return ErpPostingResult.builder()
                         .success(true)
                         .documentNo(extractSlipNos(root))
-                        .rawResponse(response.getBody())
+                        .rawResponse(root.toString())
                         .build();
             } else {
                 String errorMsg = extractErrorMessage(root);
                 log.warn("[Ecount] SaveSale Failed: {}", errorMsg);
                 
-                // 세션 만료 시 재시도
-                if (isSessionExpired(root)) {
-                    sessionService.invalidateSession(tenantId);
-                    return saveSaleForms(tenantId, request);
-                }
-                
                 return ErpPostingResult.builder()
                         .success(false)
                         .errorCode(extractErrorCode(root))
                         .errorMessage(errorMsg)
-                        .rawResponse(response.getBody())
+                        .rawResponse(root.toString())
                         .build();
             }
 
@@ -363,22 +261,12 @@ public class EcountClient implements ErpClient {
 
     /**
      * 창고재고현황 조회
-     * - 품목별 재고 수량을 조회
+     * - 품목 x 창고별 재고 수량 목록 (품목별 합산/주 창고 선택은 InventorySnapshot에서 수행)
+     * - 변경분 조회 파라미터가 없어 항상 기준일자 전체 현황을 반환
      * - 주의: 재고현황 API는 sboapi 도메인을 사용 (다른 API는 oapi 사용)
      */
-    public Map<String, InventoryBalance> getInventoryBalances(UUID tenantId, String baseDate) {
+    public List<InventoryBalance> getInventoryBalances(UUID tenantId, String baseDate) {
         EcountCredentials creds = getCredentials(tenantId);
-        String sessionId = sessionService.getSessionId(tenantId, creds);
-        
-        // Zone은 getCredentials()에서 이미 확인 및 DB 저장 완료
-        String zone = creds.getZone().trim();
-        
-        // 재고현황 API는 sboapi 도메인 사용 (zone이 AC인 경우 sboapiAC.ecount.com)
-        String url = String.format("https://oapi%s.ecount.com/OAPI/V2/InventoryBalance/GetListInventoryBalanceStatusByLocation?SESSION_ID=%s",
-                zone, sessionId);
-        
-        log.info("[Ecount] Inventory balance API URL: zone=[{}], final_url={}", 
-                zone, url.replace(sessionId, "***SESSION***"));
 
         try {
             Map<String, Object> body = new HashMap<>();
@@ -387,38 +275,17 @@ public class EcountClient implements ErpClient {
             body.put("DEL_GUBUN", "Y"); // 삭제 품목 포함
             body.put("DEL_LOCATION_YN", "Y"); // 위치별 조회
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
-            headers.set("Accept-Encoding", "gzip, deflate");
-            HttpEntity<Map<String, Object>> httpRequest = new HttpEntity<>(body, headers);
-
-            log.info("[Ecount] GetListInventoryBalanceStatusByLocation Request: URL={}, BASE_DATE={}", 
-                    url.replace(sessionId, "***SESSION***"), baseDate);
+            log.info("[Ecount] GetListInventoryBalanceStatusByLocation Request: zone=[{}], BASE_DATE={}", 
+                    creds.getZone(), baseDate);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(url, httpRequest, String.class);
-            String responseBody = response.getBody();
-
-            if (responseBody == null) {
-                throw new EcountApiException("Empty response from Ecount API");
-            }
-
-            log.debug("[Ecount] GetListInventoryBalanceStatusByLocation Response: Status={}, Body={}",
-                    response.getStatusCode(),
-                    responseBody.length() > 500 ? responseBody.substring(0, 500) + "..." : responseBody);
-
-            JsonNode root = objectMapper.readTree(responseBody);
+            JsonNode root = sessionService.call(tenantId, creds,
+                    "InventoryBalance/GetListInventoryBalanceStatusByLocation", body);
 
             if (isSuccess(root)) {
-                Map<String, InventoryBalance> balances = parseInventoryBalances(root.path("Data").path("Result"));
-                log.info("[Ecount] GetListInventoryBalanceStatusByLocation Success: {} items", balances.size());
+                List<InventoryBalance> balances = parseInventoryBalances(root.path("Data").path("Result"));
+                log.info("[Ecount] GetListInventoryBalanceStatusByLocation Success: {} records", balances.size());
                 return balances;
             } else {
-                if (isSessionExpired(root)) {
-                    log.warn("[Ecount] Session expired, retrying...");
-                    sessionService.invalidateSession(tenantId);
-                    return getInventoryBalances(tenantId, baseDate);
-                }
                 String errorMsg = extractErrorMessage(root);
                 log.error("[Ecount] GetListInventoryBalanceStatusByLocation Failed: {}", errorMsg);
                 throw new EcountApiException(errorMsg);
@@ -518,11 +385,6 @@ public class EcountClient implements ErpClient {
         return "200".equals(status);
     }
 
-    private boolean isSessionExpired(JsonNode root) {
-        String errorCode = root.path("Error").path("Code").asText();
-        return "SESSION_EXPIRED".equals(errorCode) || "INVALID_SESSION".equals(errorCode);
-    }
-
     private String extractDocumentNo(JsonNode root) {
         JsonNode data = root.path("Data").path("Datas");
         if (data.isArray() && data.size() > 0) {
@@ -614,75 +476,34 @@ public class EcountClient implements ErpClient {
 
     /**
      * 재고 현황 파싱
-     * - 품목 코드를 키로 하는 맵 반환
-     * - 여러 창고에 동일 품목이 있는 경우, 재고가 가장 많은 창고를 주 창고로 선택
+     * - 품목 x 창고별 레코드 목록 반환 (품목 코드 없는 레코드 제외)
      */
-    private Map<String, InventoryBalance> parseInventoryBalances(JsonNode datasNode) {
-        Map<String, InventoryBalance> balanceMap = new HashMap<>();
+    private List<InventoryBalance> parseInventoryBalances(JsonNode datasNode) {
+        List<InventoryBalance> balances = new ArrayList<>();
         
         if (datasNode.isMissingNode() || datasNode.isNull()) {
             log.warn("[Ecount] Inventory balance data node is missing or null");
-            return balanceMap;
+            return balances;
         }
         
-        if (datasNode.isArray()) {
-            log.debug("[Ecount] Parsing {} inventory balance records", datasNode.size());
-            
-            // 품목별 창고 목록 (재고량 포함)
-            Map<String, List<InventoryBalance>> itemWarehousesMap = new HashMap<>();
-            
-            for (JsonNode node : datasNode) {
-                try {
-                    String prodCd = node.path("PROD_CD").asText();
-                    String whCd = node.path("WH_CD").asText();
-                    String whDes = node.path("WH_DES").asText();
-                    double balQty = node.path("BAL_QTY").asDouble(0.0);
-                    
-                    if (prodCd != null && !prodCd.isEmpty()) {
-                        InventoryBalance balance = new InventoryBalance();
-                        balance.setItemCode(prodCd);
-                        balance.setWarehouseCode(whCd);
-                        balance.setWarehouseName(whDes);
-                        balance.setBalanceQty(balQty);
-                        
-                        itemWarehousesMap.computeIfAbsent(prodCd, k -> new ArrayList<>())
-                                .add(balance);
-                    }
-                } catch (Exception e) {
-                    log.warn("[Ecount] Failed to parse inventory balance: {}", node.toString(), e);
-                }
-            }
-            
-            // 품목별로 재고가 가장 많은 창고를 주 창고로 선택
-            for (Map.Entry<String, List<InventoryBalance>> entry : itemWarehousesMap.entrySet()) {
-                String prodCd = entry.getKey();
-                List<InventoryBalance> warehouses = entry.getValue();
-                
-                // 재고량 기준 내림차순 정렬 (재고가 가장 많은 창고가 첫 번째)
-                warehouses.sort((a, b) -> Double.compare(b.getBalanceQty(), a.getBalanceQty()));
-                
-                // 총 재고량 계산
-                double totalQty = warehouses.stream()
-                        .mapToDouble(InventoryBalance::getBalanceQty)
-                        .sum();
-                
-                // 주 창고 (재고가 가장 많은 창고)
-                InventoryBalance mainWarehouse = warehouses.get(0);
-                mainWarehouse.setBalanceQty(totalQty); // 총 재고량으로 업데이트
-                
-                balanceMap.put(prodCd, mainWarehouse);
-                
-                if (warehouses.size() > 1) {
-                    log.debug("[Ecount] Item {} found in {} warehouses, selected {} (qty: {}) as main warehouse", 
-                            prodCd, warehouses.size(), mainWarehouse.getWarehouseCode(), totalQty);
-                }
-            }
-            
-            log.info("[Ecount] Parsed {} unique items with inventory balances", balanceMap.size());
-        } else {
+        if (!datasNode.isArray()) {
             log.warn("[Ecount] Inventory balance data is not an array: {}", datasNode.getNodeType());
+            return balances;
+        }
+        
+        for (JsonNode node : datasNode) {
+            String prodCd = node.path("PROD_CD").asText();
+            if (prodCd.isEmpty()) {
+                continue;
+            }
+            InventoryBalance balance = new InventoryBalance();
+            balance.setItemCode(prodCd);
+            balance.setWarehouseCode(node.path("WH_CD").asText());
+            balance.setWarehouseName(node.path("WH_DES").asText());
+            balance.setBalanceQty(node.path("BAL_QTY").asDouble(0.0));
+            balances.add(balance);
         }
         
-        return balanceMap;
+        return balances;
     }
 }
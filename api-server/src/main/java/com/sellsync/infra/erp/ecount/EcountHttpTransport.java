@@ -0,0 +1,106 @@
+package com.sellsync.infra.erp.ecount;
+
+import com.sellsync.infra.erp.ecount.auth.EcountApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이카운트 HTTP 전송 계층
+ *
+ * 모든 이카운트 호출(Zone/로그인/API)이 공유하는 커넥션 풀 기반 HTTP 클라이언트
+ * - keep-alive 커넥션 재사용으로 호출마다 TLS 핸드셰이크 제거
+ * - 유휴 커넥션은 주기적으로 정리 (서버 측 종료 커넥션 재사용 방지)
+ * - gzip, deflate만 요청 (Brotli는 별도 라이브러리 필요, 이카운트 서버 처리 불안정)
+ */
+@Component
+@Slf4j
+public class EcountHttpTransport {
+
+    private static final int MAX_LOG_BODY_LENGTH = 500;
+
+    private final CloseableHttpClient httpClient;
+
+    public EcountHttpTransport(
+            @Value("${ecount.api.connect-timeout:5000}") long connectTimeoutMs,
+            @Value("${ecount.api.read-timeout:30000}") long readTimeoutMs,
+            @Value("${ecount.api.max-connections:50}") int maxConnections,
+            @Value("${ecount.api.max-connections-per-route:20}") int maxConnectionsPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)     // 존(oapi{ZONE}.ecount.com)별 동시 커넥션
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        log.info("[Ecount] HTTP transport initialized: maxConnections={}, maxPerRoute={}, connectTimeout={}ms, readTimeout={}ms",
+                maxConnections, maxConnectionsPerRoute, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * JSON POST 요청
+     *
+     * @param url 요청 URL (SESSION_ID 쿼리 파라미터 포함 가능)
+     * @param jsonBody 요청 JSON
+     * @return 응답 본문
+     * @throws EcountApiException 네트워크 오류 또는 HTTP 4xx/5xx
+     */
+    public String post(String url, String jsonBody) {
+        HttpPost httpPost = new HttpPost(url);
+        httpPost.setHeader("Accept", "application/json");
+        httpPost.setHeader("Accept-Encoding", "gzip, deflate");
+        httpPost.setEntity(new StringEntity(jsonBody, ContentType.APPLICATION_JSON));
+
+        try {
+            return httpClient.execute(httpPost, response -> {
+                String body = response.getEntity() != null
+                        ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
+                        : "";
+                if (response.getCode() >= 400) {
+                    throw new EcountApiException("HTTP_" + response.getCode(),
+                            "Ecount HTTP error " + response.getCode() + ": " + truncate(body));
+                }
+                return body;
+            });
+        } catch (EcountApiException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new EcountApiException("Ecount HTTP request failed: " + e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private static String truncate(String body) {
+        return body.length() > MAX_LOG_BODY_LENGTH ? body.substring(0, MAX_LOG_BODY_LENGTH) + "..." : body;
+    }
+}
@@ -2,58 +2,94 @@ package com.sellsync.infra.erp.ecount.auth;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sellsync.infra.erp.ecount.EcountHttpTransport;
 import com.sellsync.infra.erp.ecount.dto.EcountCredentials;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.ContentType;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 이카운트 세션 관리
+ *
+ * - Zone: COM_CODE별 캐시 (회사 존은 사실상 변하지 않음)
+ * - 세션: 테넌트별 캐시, 로그인은 테넌트당 1건만 진행 (동시 요청은 진행 중인 로그인 결과를 공유)
+ * - 선제 갱신: 만료 REFRESH_AHEAD_SECONDS 전부터 한 요청만 재로그인, 나머지는 기존 세션으로 계속 호출
+ * - 세션 만료 응답 시 해당 세션만 무효화 후 재로그인하여 1회 재시도 ({@link #call})
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class EcountSessionService {
 
     private static final String ZONE_URL = "https://oapi.ecount.com/OAPI/V2/Zone";
+    private static final String API_URL_FORMAT = "https://oapi%s.ecount.com/OAPI/V2/%s?SESSION_ID=%s";
     private static final long SESSION_TTL_SECONDS = 23 * 60 * 60; // 23시간 (24시간 - 여유)
+    private static final long REFRESH_AHEAD_SECONDS = 60 * 60;    // 만료 1시간 전부터 선제 갱신
 
-    private final RestTemplate restTemplate;
+    private final EcountHttpTransport transport;
     private final ObjectMapper objectMapper;
 
     // 테넌트별 세션 캐시: tenantId -> SessionInfo
     private final Map<UUID, SessionInfo> sessionCache = new ConcurrentHashMap<>();
 
+    // 테넌트별 진행 중인 로그인 (single-flight)
+    private final Map<UUID, CompletableFuture<SessionInfo>> pendingLogins = new ConcurrentHashMap<>();
+
+    // COM_CODE별 Zone 캐시
+    private final Map<String, String> zoneCache = new ConcurrentHashMap<>();
+
     /**
      * 유효한 세션 ID 반환 (캐시 또는 신규 발급)
      */
     public String getSessionId(UUID tenantId, EcountCredentials credentials) {
         SessionInfo cached = sessionCache.get(tenantId);
-        
+
         if (cached != null && !cached.isExpired()) {
+            if (cached.needsRefresh()) {
+                return refreshAhead(tenantId, credentials, cached);
+            }
             return cached.sessionId;
         }
-        
-        // 새 세션 발급
-        String sessionId = login(credentials);
-        sessionCache.put(tenantId, new SessionInfo(sessionId, Instant.now().plusSeconds(SESSION_TTL_SECONDS)));
-        
-        return sessionId;
+
+        return awaitLogin(tenantId, credentials).sessionId;
     }
 
     /**
-     * 세션 무효화 (로그아웃 또는 에러 시)
+     * 세션 기반 API 호출 (세션 만료 응답 시 재로그인 후 1회 재시도)
+     *
+     * @param tenantId 테넌트 ID
+     * @param credentials 이카운트 인증 정보 (zone 없으면 조회하여 채움)
+     * @param apiPath API 경로 (예: Sale/SaveSale)
+     * @param body 요청 바디 (JSON 문자열 또는 직렬화 대상 객체)
+     * @return 응답 JSON (성공/실패 판정은 호출 측)
+     */
+    public JsonNode call(UUID tenantId, EcountCredentials credentials, String apiPath, Object body) {
+        String jsonBody = toJson(body);
+        if (credentials.getZone() == null || credentials.getZone().trim().isEmpty()) {
+            credentials.setZone(getZone(credentials.getComCode()));
+        }
+
+        String sessionId = getSessionId(tenantId, credentials);
+        JsonNode root = post(credentials, apiPath, sessionId, jsonBody);
+
+        if (isSessionExpired(root)) {
+            log.info("[Ecount] Session expired, re-login and retry: tenantId={}, api={}", tenantId, apiPath);
+            invalidateSession(tenantId, sessionId);
+            root = post(credentials, apiPath, getSessionId(tenantId, credentials), jsonBody);
+        }
+
+        return root;
+    }
+
+    /**
+     * 세션 무효화 (로그아웃 또는 인증 정보 변경 시)
      */
     public void invalidateSession(UUID tenantId) {
         sessionCache.remove(tenantId);
@@ -61,76 +97,82 @@ public class EcountSessionService {
     }
 
     /**
-     * Zone 조회 (Apache HttpClient 직접 사용)
+     * 만료 응답을 받은 세션만 무효화 (다른 요청이 이미 재발급한 세션은 유지)
+     */
+    public void invalidateSession(UUID tenantId, String expiredSessionId) {
+        sessionCache.computeIfPresent(tenantId,
+                (key, current) -> current.sessionId.equals(expiredSessionId) ? null : current);
+    }
+
+    /**
+     * 세션 만료 응답 여부
+     * - Status 401 또는 Error.Code SESSION_EXPIRED / INVALID_SESSION
+     */
+    public boolean isSessionExpired(JsonNode root) {
+        String errorCode = root.path("Error").path("Code").asText();
+        return "401".equals(root.path("Status").asText())
+                || "SESSION_EXPIRED".equals(errorCode)
+                || "INVALID_SESSION".equals(errorCode);
+    }
+
+    /**
+     * Zone 조회 (COM_CODE별 캐시)
      */
     public String getZone(String comCode) {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpPost httpPost = new HttpPost(ZONE_URL);
-            
-            // 헤더 설정
-            httpPost.setHeader("Content-Type", "application/json");
-            httpPost.setHeader("Accept", "application/json");
-            // gzip, deflate만 요청 (Apache HttpClient가 자동으로 압축 해제함)
-            // Brotli(br)는 별도 라이브러리가 필요하므로 제외
-            httpPost.setHeader("Accept-Encoding", "gzip, deflate");
-            
-            // Body 설정
-            String jsonBody = String.format("{\"COM_CODE\":\"%s\"}", comCode.trim());
-            StringEntity entity = new StringEntity(jsonBody, ContentType.APPLICATION_JSON);
-            httpPost.setEntity(entity);
-            
+        String key = comCode.trim();
+        String cached = zoneCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String zone = fetchZone(key);
+        zoneCache.put(key, zone);
+        return zone;
+    }
+
+    private String fetchZone(String comCode) {
+        try {
+            String jsonBody = String.format("{\"COM_CODE\":\"%s\"}", comCode);
             log.info("[Ecount] Zone API Request: URL={}, Body={}", ZONE_URL, jsonBody);
-            
-            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
-                String responseBody = EntityUtils.toString(response.getEntity());
-                
-                log.info("[Ecount] Zone API Response: Status={}, Body={}", 
-                        response.getCode(), responseBody);
-                
-                JsonNode root = objectMapper.readTree(responseBody);
-                
-                if (root.path("Status").asInt() == 200) {
-                    JsonNode data = root.path("Data");
-                    
-                    // EMPTY_ZONE 먼저 체크
-                    if (data.path("EMPTY_ZONE").asBoolean(false)) {
-                        log.error("[Ecount] Zone not assigned for comCode={}", comCode);
-                        throw new EcountApiException("Zone not assigned for company code: " + comCode);
+
+            String responseBody = transport.post(ZONE_URL, jsonBody);
+            log.info("[Ecount] Zone API Response: Body={}", responseBody);
+
+            JsonNode root = objectMapper.readTree(responseBody);
+
+            if (root.path("Status").asInt() == 200) {
+                JsonNode data = root.path("Data");
+
+                // EMPTY_ZONE 먼저 체크
+                if (data.path("EMPTY_ZONE").asBoolean(false)) {
+                    log.error("[Ecount] Zone not assigned for comCode={}", comCode);
+                    throw new EcountApiException("Zone not assigned for company code: " + comCode);
+                }
+
+                // DOMAIN_ZONE과 ZONE 모두 체크 (DOMAIN_ZONE 우선)
+                String zone = null;
+                if (data.isObject()) {
+                    if (!data.path("DOMAIN_ZONE").isMissingNode()) {
+                        zone = data.path("DOMAIN_ZONE").asText();
+                    }
+                    if ((zone == null || zone.isEmpty() || "null".equals(zone))
+                            && !data.path("ZONE").isMissingNode()) {
+                        zone = data.path("ZONE").asText();
                     }
-                    
-                    // Data가 객체인 경우 처리
-                    // DOMAIN_ZONE과 ZONE 모두 체크 (DOMAIN_ZONE 우선)
-                    String zone = null;
-                    if (data.isObject()) {
-                        // 1. DOMAIN_ZONE 먼저 확인 (빨간색으로 강조된 필드)
-                        if (!data.path("DOMAIN_ZONE").isMissingNode()) {
-                            zone = data.path("DOMAIN_ZONE").asText();
-                            log.info("[Ecount] Found DOMAIN_ZONE: {}", zone);
-                        }
-                        
-                        // 2. DOMAIN_ZONE이 없으면 ZONE 확인
-                        if ((zone == null || zone.isEmpty() || "null".equals(zone)) 
-                                && !data.path("ZONE").isMissingNode()) {
-                            zone = data.path("ZONE").asText();
-                            log.info("[Ecount] Found ZONE: {}", zone);
-                        }
-                        
-                        // 유효한 zone 값 확인
-                        if (zone != null && !zone.isEmpty() && !"null".equals(zone)) {
-                            log.info("[Ecount] Zone lookup success: comCode={}, zone={}", comCode, zone);
-                            return zone;
-                        }
+                    if (zone != null && !zone.isEmpty() && !"null".equals(zone)) {
+                        log.info("[Ecount] Zone lookup success: comCode={}, zone={}", comCode, zone);
+                        return zone;
                     }
-                    
-                    log.warn("[Ecount] Zone lookup returned no zone data: {}", responseBody);
                 }
-                
-                String errorMsg = root.path("Error").path("Message").asText("Unknown error");
-                log.error("[Ecount] Zone lookup failed: status={}, error={}, response={}", 
-                        root.path("Status").asText(), errorMsg, responseBody);
-                throw new EcountApiException("Zone lookup failed: " + errorMsg);
+
+                log.warn("[Ecount] Zone lookup returned no zone data: {}", responseBody);
             }
-            
+
+            String errorMsg = root.path("Error").path("Message").asText("Unknown error");
+            log.error("[Ecount] Zone lookup failed: status={}, error={}, response={}",
+                    root.path("Status").asText(), errorMsg, responseBody);
+            throw new EcountApiException("Zone lookup failed: " + errorMsg);
+
         } catch (EcountApiException e) {
             throw e;
         } catch (Exception e) {
@@ -139,6 +181,59 @@ public class EcountSessionService {
         }
     }
 
+    /**
+     * 선제 갱신 - 이미 다른 요청이 갱신 중이면 기존 세션 사용, 갱신 실패 시에도 기존 세션 사용
+     */
+    private String refreshAhead(UUID tenantId, EcountCredentials credentials, SessionInfo current) {
+        if (pendingLogins.containsKey(tenantId)) {
+            return current.sessionId;
+        }
+        try {
+            return awaitLogin(tenantId, credentials).sessionId;
+        } catch (EcountApiException e) {
+            log.warn("[Ecount] Session refresh-ahead failed, using current session: tenantId={}, error={}",
+                    tenantId, e.getMessage());
+            return current.sessionId;
+        }
+    }
+
+    /**
+     * 테넌트별 single-flight 로그인 (진행 중인 로그인이 있으면 그 결과를 대기)
+     */
+    private SessionInfo awaitLogin(UUID tenantId, EcountCredentials credentials) {
+        CompletableFuture<SessionInfo> created = new CompletableFuture<>();
+        CompletableFuture<SessionInfo> pending = pendingLogins.putIfAbsent(tenantId, created);
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof EcountApiException ecountEx
+                        ? ecountEx
+                        : new EcountApiException("Login failed", e.getCause());
+            }
+        }
+
+        try {
+            // 대기 사이에 다른 요청이 이미 발급한 경우
+            SessionInfo current = sessionCache.get(tenantId);
+            if (current != null && !current.needsRefresh()) {
+                created.complete(current);
+                return current;
+            }
+
+            SessionInfo session = new SessionInfo(login(credentials), Instant.now().plusSeconds(SESSION_TTL_SECONDS));
+            sessionCache.put(tenantId, session);
+            created.complete(session);
+            return session;
+
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLogins.remove(tenantId, created);
+        }
+    }
+
     /**
      * 로그인 및 세션 발급
      */
@@ -152,12 +247,7 @@ public class EcountSessionService {
 
         // Zone을 포함한 전체 URL 생성
         // 예: zone="AC" -> "https://oapiAC.ecount.com/OAPI/V2/OAPILogin"
-        String loginUrl = String.format("https://oapi%s.ecount.com/OAPI/V2/OAPILogin", zone);
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        // Brotli(br) 압축 제외 - Ecount API 서버가 br을 제대로 처리하지 못할 수 있음
-        headers.set("Accept-Encoding", "gzip, deflate");
+        String loginUrl = String.format("https://oapi%s.ecount.com/OAPI/V2/OAPILogin", zone.trim());
 
         // JSON 문자열을 직접 생성하여 Talend 성공 요청과 정확히 동일하게 구성
         String jsonBody = String.format(
@@ -169,44 +259,34 @@ public class EcountSessionService {
             zone.trim()
         );
 
-        HttpEntity<String> request = new HttpEntity<>(jsonBody, headers);
-
         try {
-            String maskedApiKey = credentials.getApiKey().substring(0, 8) + "..." + 
+            String maskedApiKey = credentials.getApiKey().substring(0, 8) + "..." +
                                   credentials.getApiKey().substring(credentials.getApiKey().length() - 4);
-            log.info("[Ecount] Login Request: URL={}, Body={}", loginUrl, jsonBody);
-            log.info("[Ecount] Login Request Details: COM_CODE={}, USER_ID={}, API_CERT_KEY={}, ZONE={}", 
-                    credentials.getComCode(), credentials.getUserId(), maskedApiKey, zone);
-            
-            ResponseEntity<String> response = restTemplate.postForEntity(loginUrl, request, String.class);
-            JsonNode root = objectMapper.readTree(response.getBody());
-            
-            log.info("[Ecount] Login Response: Status={}, Body={}", 
-                    response.getStatusCode(), response.getBody());
-            
+            log.info("[Ecount] Login Request: URL={}, COM_CODE={}, USER_ID={}, API_CERT_KEY={}, ZONE={}",
+                    loginUrl, credentials.getComCode(), credentials.getUserId(), maskedApiKey, zone);
+
+            String responseBody = transport.post(loginUrl, jsonBody);
+            JsonNode root = objectMapper.readTree(responseBody);
+
             // Status는 숫자 200 또는 문자열 "200"일 수 있음
             int status = root.path("Status").asInt(-1);
             if (status == 200) {
-                JsonNode data = root.path("Data");
-                
                 // 응답 구조: Data.Datas.SESSION_ID
-                JsonNode datas = data.path("Datas");
-                String sessionId = datas.path("SESSION_ID").asText();
-                
+                String sessionId = root.path("Data").path("Datas").path("SESSION_ID").asText();
+
                 if (sessionId != null && !sessionId.isEmpty() && !"null".equals(sessionId)) {
-                    log.info("[Ecount] Login successful for company {}, sessionId={}", 
-                            credentials.getComCode(), sessionId);
+                    log.info("[Ecount] Login successful for company {}", credentials.getComCode());
                     return sessionId;
                 }
-                
-                log.error("[Ecount] Login response missing SESSION_ID: {}", response.getBody());
+
+                log.error("[Ecount] Login response missing SESSION_ID: {}", responseBody);
                 throw new EcountApiException("Login response missing SESSION_ID");
             }
-            
+
             String errorMsg = root.path("Error").path("Message").asText("Unknown error");
             log.error("[Ecount] Login failed: status={}, error={}", status, errorMsg);
             throw new EcountApiException("Login failed: " + errorMsg);
-            
+
         } catch (EcountApiException e) {
             throw e;
         } catch (Exception e) {
@@ -215,9 +295,35 @@ public class EcountSessionService {
         }
     }
 
+    private JsonNode post(EcountCredentials credentials, String apiPath, String sessionId, String jsonBody) {
+        String url = String.format(API_URL_FORMAT, credentials.getZone().trim(), apiPath, sessionId);
+        try {
+            return objectMapper.readTree(transport.post(url, jsonBody));
+        } catch (EcountApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EcountApiException("Invalid response from Ecount API: " + apiPath, e);
+        }
+    }
+
+    private String toJson(Object body) {
+        if (body instanceof String json) {
+            return json;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new EcountApiException("Failed to serialize Ecount request", e);
+        }
+    }
+
     private record SessionInfo(String sessionId, Instant expiresAt) {
         boolean isExpired() {
             return Instant.now().isAfter(expiresAt);
         }
+
+        boolean needsRefresh() {
+            return Instant.now().isAfter(expiresAt.minusSeconds(REFRESH_AHEAD_SECONDS));
+        }
     }
 }
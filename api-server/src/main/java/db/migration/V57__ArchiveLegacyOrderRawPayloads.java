@@ -0,0 +1,105 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * V57: 레거시 raw_payload 컬럼 → order_raw_payloads 이관
+ *
+ * 배경:
+ * V50 이전 수집 주문의 원본은 orders / order_items.raw_payload(jsonb)에 남아 있어
+ * 조회 시 레거시 컬럼 폴백이 필요하고 heap 크기도 그대로였음
+ *
+ * 변경:
+ * - 레거시 원본을 GZIP 압축하여 보관소로 이관 (이미 보관된 키는 유지, ON CONFLICT DO NOTHING)
+ * - 주문 단위 payload는 marketplace_item_id = ''
+ * - marketplace_item_id가 없는 주문 상품의 원본은 보관소 키가 없어 이관하지 않음 (조회 경로 없음)
+ * - 압축은 PostgreSQL에서 불가하므로 Java 마이그레이션으로 처리, 컬럼 삭제는 V58
+ */
+public class V57__ArchiveLegacyOrderRawPayloads extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_ORDERS_SQL = """
+        SELECT order_id, order_id, '', CAST(raw_payload AS text)
+        FROM orders
+        WHERE raw_payload IS NOT NULL AND order_id > ?
+        ORDER BY order_id
+        LIMIT ?
+        """;
+
+    private static final String SELECT_ORDER_ITEMS_SQL = """
+        SELECT order_item_id, order_id, marketplace_item_id, CAST(raw_payload AS text)
+        FROM order_items
+        WHERE raw_payload IS NOT NULL AND marketplace_item_id IS NOT NULL AND order_item_id > ?
+        ORDER BY order_item_id
+        LIMIT ?
+        """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO order_raw_payloads (order_id, marketplace_item_id, payload_gzip, created_at)
+        VALUES (?, ?, ?, NOW())
+        ON CONFLICT (order_id, marketplace_item_id) DO NOTHING
+        """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        archive(connection, SELECT_ORDERS_SQL);
+        archive(connection, SELECT_ORDER_ITEMS_SQL);
+    }
+
+    /**
+     * 키 순서 배치 이관 (컬럼: 배치 키, order_id, marketplace_item_id, payload)
+     */
+    private void archive(Connection connection, String selectSql) throws SQLException {
+        UUID lastKey = new UUID(0L, 0L);
+        try (PreparedStatement select = connection.prepareStatement(selectSql);
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            while (true) {
+                select.setObject(1, lastKey);
+                select.setInt(2, BATCH_SIZE);
+
+                int rows = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        lastKey = rs.getObject(1, UUID.class);
+                        insert.setObject(1, rs.getObject(2, UUID.class));
+                        insert.setString(2, rs.getString(3));
+                        insert.setBytes(3, compress(rs.getString(4)));
+                        insert.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows == 0) {
+                    return;
+                }
+                insert.executeBatch();
+                if (rows < BATCH_SIZE) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static byte[] compress(String payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress raw payload", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,18 @@
+-- V47: 주문 수집 이력에 수집 모드 추가 (증분 수집 커서)
+--
+-- 배경:
+-- 매시간 모든 스토어의 최근 7일 주문을 전체 재조회하면 대부분 변경 없는 주문을 다시 내려받음
+-- - INCREMENTAL: stores.last_synced_at 이후 변경된 주문만 조회 (스마트스토어 last-changed-statuses API)
+-- - FULL: 최근 7일 전체 재조회 (저빈도 정합성 보정)
+--
+-- 마지막 FULL 수집 시각은 order_collection_histories에서 조회하여 보정 주기를 판단
+
+ALTER TABLE order_collection_histories
+ADD COLUMN collection_mode VARCHAR(20);
+
+COMMENT ON COLUMN order_collection_histories.collection_mode IS 'FULL, INCREMENTAL';
+COMMENT ON COLUMN stores.last_synced_at IS '마지막 주문 동기화 시간 (증분 수집 커서)';
+
+-- 스토어별 마지막 FULL 수집 조회용
+CREATE INDEX idx_collection_history_store_mode
+ON order_collection_histories(store_id, collection_mode, started_at DESC);
@@ -0,0 +1,28 @@
+-- V48: 주문 벌크 UPSERT 지원 (order_items)
+--
+-- 배경:
+-- 주문 수집 시 배치(50건) 단위로 orders / order_items를 INSERT ... ON CONFLICT로 일괄 저장
+-- - orders: uq_orders_marketplace (store_id, marketplace_order_id) 사용
+-- - order_items: (order_id, marketplace_item_id) 유니크 인덱스 필요 → 추가
+--
+-- line_no 재배치:
+-- 한 문장에서 여러 아이템의 line_no가 서로 바뀔 수 있으므로
+-- uq_order_items_line을 DEFERRABLE로 변경하여 문장 종료 시점에 검사
+
+-- 1. 중복 아이템 정리 (동일 주문 내 같은 marketplace_item_id는 line_no가 가장 작은 것만 유지)
+DELETE FROM order_items a
+USING order_items b
+WHERE a.order_id = b.order_id
+  AND a.marketplace_item_id = b.marketplace_item_id
+  AND a.line_no > b.line_no;
+
+-- 2. 벌크 UPSERT 충돌 대상 유니크 인덱스
+CREATE UNIQUE INDEX IF NOT EXISTS uq_order_items_marketplace_item
+ON order_items(order_id, marketplace_item_id);
+
+-- 3. line_no 유니크 제약을 문장 단위 검사로 변경
+ALTER TABLE order_items DROP CONSTRAINT IF EXISTS uq_order_items_line;
+ALTER TABLE order_items
+ADD CONSTRAINT uq_order_items_line UNIQUE (order_id, line_no) DEFERRABLE INITIALLY IMMEDIATE;
+
+COMMENT ON INDEX uq_order_items_marketplace_item IS '주문 상품 벌크 UPSERT 충돌 대상 (order_id, marketplace_item_id)';
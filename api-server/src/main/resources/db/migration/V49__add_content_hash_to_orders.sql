@@ -0,0 +1,14 @@
+-- V49: 주문 수집 내용 지문 (변경 감지)
+--
+-- 배경:
+-- 매시간 최근 7일 주문을 재수집하면 대부분 변경 없는 주문도 매번 UPSERT되어
+-- orders / order_items UPDATE 및 updated_at 갱신이 반복됨
+-- - content_hash: 정규화된 수집 DTO의 SHA256 (raw_payload 제외)
+-- - 재수집 시 지문이 같으면 매핑/저장 생략
+--
+-- 기존 주문은 NULL → 다음 수집 시 1회 저장되며 채워짐
+
+ALTER TABLE orders
+ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON COLUMN orders.content_hash IS '수집 내용 지문 (SHA256, 변경 없는 재수집 시 저장 생략)';
@@ -0,0 +1,35 @@
+-- V50: 마켓 원본 payload 분리 보관 (order_raw_payloads)
+--
+-- 배경:
+-- orders.raw_payload / order_items.raw_payload(jsonb)는 크기가 커서
+-- - UPDATE 시 타임아웃 유발 (수집 시 신규 주문에만 저장하도록 우회 중)
+-- - 목록 조회 시 읽는 heap 페이지를 키움
+--
+-- 변경:
+-- - 원본 payload를 GZIP 압축(bytea)하여 별도 테이블에 저장 (order_id 해시 파티션)
+-- - 주문 단위 payload는 marketplace_item_id = ''
+-- - 이후 수집분은 orders / order_items.raw_payload에 저장하지 않음 (NULL)
+-- - 기존 raw_payload 컬럼은 조회 폴백용으로 유지 (애플리케이션에서 보관소 → 레거시 컬럼 순으로 조회)
+
+CREATE TABLE order_raw_payloads (
+    order_id UUID NOT NULL,
+    marketplace_item_id VARCHAR(100) NOT NULL DEFAULT '',
+    payload_gzip BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_order_raw_payloads PRIMARY KEY (order_id, marketplace_item_id),
+    CONSTRAINT fk_order_raw_payloads_order FOREIGN KEY (order_id) REFERENCES orders(order_id) ON DELETE CASCADE
+) PARTITION BY HASH (order_id);
+
+CREATE TABLE order_raw_payloads_p0 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE order_raw_payloads_p1 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE order_raw_payloads_p2 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE order_raw_payloads_p3 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE order_raw_payloads_p4 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE order_raw_payloads_p5 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE order_raw_payloads_p6 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE order_raw_payloads_p7 PARTITION OF order_raw_payloads FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+COMMENT ON TABLE order_raw_payloads IS '마켓 원본 payload 보관소 (GZIP 압축, 최초 수집 시 1회 저장)';
+COMMENT ON COLUMN order_raw_payloads.marketplace_item_id IS '주문 상품 ID (주문 단위 payload는 빈 문자열)';
+COMMENT ON COLUMN orders.raw_payload IS '레거시 원본 (V50 이후 order_raw_payloads에 저장)';
+COMMENT ON COLUMN order_items.raw_payload IS '레거시 원본 (V50 이후 order_raw_payloads에 저장)';
@@ -0,0 +1,44 @@
+-- V51: 결제일(paid_at) 기준 조회 인덱스 정비
+--
+-- 배경:
+-- 주문 목록 / 정산 매칭 / 전표 대상 조회는 모두 paid_at 기준 범위 조회·정렬이지만
+-- 기존 인덱스는 ordered_at 기준(idx_orders_tenant_ordered_at 등)이거나 DATE(paid_at) 표현식 기반
+-- → 이력이 쌓일수록 테넌트 전체 주문을 정렬/스캔
+--
+-- 참고: orders를 paid_at 월 단위 파티션 테이블로 전환하지 않음
+-- - 파티션 키가 모든 유니크 제약에 포함되어야 하므로 (store_id, marketplace_order_id) 멱등 UPSERT 충돌 대상 유지 불가
+-- - order_items, postings, shipments 등 orders(order_id) 참조 FK 유지 불가
+-- 대신 조회 조건을 paid_at 범위(>=, <)로 통일하고, 범위 스캔이 가능한 복합/부분 인덱스로 대체
+
+-- 1. 주문 목록 (tenant + 필터 + paid_at DESC 정렬)
+CREATE INDEX IF NOT EXISTS idx_orders_tenant_paid_at
+ON orders(tenant_id, paid_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_orders_tenant_status_paid_at
+ON orders(tenant_id, order_status, paid_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_orders_tenant_marketplace_paid_at
+ON orders(tenant_id, marketplace, paid_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_orders_tenant_settlement_paid_at
+ON orders(tenant_id, settlement_status, paid_at);
+
+-- 2. 정산 매칭 (스토어 + 결제일 범위)
+CREATE INDEX IF NOT EXISTS idx_orders_store_paid_at
+ON orders(store_id, paid_at);
+
+-- 3. 전표 생성 대상 (미전표 + 배송 중/완료 주문만 포함 → 전표 완료 이력이 늘어도 크기 유지)
+CREATE INDEX IF NOT EXISTS idx_orders_posting_target
+ON orders(tenant_id, paid_at)
+WHERE settlement_status <> 'POSTED'
+  AND order_status IN ('SHIPPING', 'DELIVERED');
+
+-- 4. 정산 상태별 전체 조회 (paid_at 오름차순)
+CREATE INDEX IF NOT EXISTS idx_orders_settlement_paid_at
+ON orders(settlement_status, paid_at);
+
+-- 5. 대체된 인덱스 제거
+-- DATE(paid_at) 표현식 인덱스: 조회가 paid_at 범위 조건으로 바뀌어 미사용
+DROP INDEX IF EXISTS idx_orders_paid_at_settlement;
+-- (tenant_id, settlement_status): idx_orders_tenant_settlement_paid_at 선두 컬럼과 중복
+DROP INDEX IF EXISTS idx_orders_settlement_status;
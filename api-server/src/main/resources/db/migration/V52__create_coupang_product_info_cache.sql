@@ -0,0 +1,22 @@
+-- V52: 쿠팡 상품 정보 캐시 (수수료율 / 노출 카테고리)
+--
+-- 배경:
+-- 쿠팡 수수료 계산 시 sellerProductId별 상품 조회 API를 호출하며, 결과는 인메모리 캐시에만 보관
+-- → 재배포 직후 첫 수집에서 수천 건의 상품 API를 다시 호출, 노드 간 공유 불가
+--
+-- CoupangCommissionService 2단계 캐시의 DB 계층
+-- - fetched_at 기준 TTL 경과 시 재조회, TTL 임박 항목은 백그라운드 갱신 (refresh-ahead)
+
+CREATE TABLE coupang_product_info_cache (
+    seller_product_id      VARCHAR(30) PRIMARY KEY,
+    display_category_code  VARCHAR(20),
+    sale_agent_commission  NUMERIC(5,2),
+    item_commissions       JSONB,
+    fetched_at             TIMESTAMP NOT NULL,
+    created_at             TIMESTAMP NOT NULL DEFAULT now(),
+    updated_at             TIMESTAMP NOT NULL DEFAULT now()
+);
+
+COMMENT ON TABLE coupang_product_info_cache IS '쿠팡 상품 조회 API 결과 캐시 (sellerProductId 기준)';
+COMMENT ON COLUMN coupang_product_info_cache.item_commissions IS 'vendorItemId → 수수료율 맵';
+COMMENT ON COLUMN coupang_product_info_cache.fetched_at IS '상품 API 조회 시각 (TTL 기준)';
@@ -0,0 +1,28 @@
+-- V53: 전표 전송 작업 큐 (선점 기반 다중 노드 전송)
+--
+-- 배경:
+-- 전표 전송이 스케줄러 주기(테넌트별 조회 → 최대 10건) 단위로만 진행되어 READY → POSTED까지 다음 주기를 기다림
+-- → postings 테이블 자체를 작업 큐로 사용하고, 각 노드 워커가 FOR UPDATE SKIP LOCKED로 전표 묶음을 선점
+--
+-- 선점 정보:
+-- - claim_batch_id: 같은 ERP 요청으로 전송되는 전표 묶음 (테넌트별 동시 전송 수 = 진행 중 묶음 수)
+-- - claimed_by / claimed_at: 선점 노드와 시각 (lease 만료 시 전송 결과 미확인으로 FAILED 처리)
+
+ALTER TABLE postings
+    ADD COLUMN claim_batch_id UUID,
+    ADD COLUMN claimed_by VARCHAR(100),
+    ADD COLUMN claimed_at TIMESTAMP;
+
+-- READY 전표 선점 (테넌트/ERP별 오래된 순)
+CREATE INDEX idx_postings_dispatch_ready
+    ON postings(tenant_id, erp_code, created_at)
+    WHERE posting_status = 'READY';
+
+-- 테넌트별 진행 중 묶음 수 집계 + lease 만료 검사
+CREATE INDEX idx_postings_dispatch_in_flight
+    ON postings(tenant_id, erp_code, claimed_at)
+    WHERE posting_status = 'POSTING_REQUESTED' AND claim_batch_id IS NOT NULL;
+
+COMMENT ON COLUMN postings.claim_batch_id IS '전송 작업 큐 선점 묶음 ID (같은 ERP 요청으로 전송)';
+COMMENT ON COLUMN postings.claimed_by IS '전송 작업 큐 선점 노드';
+COMMENT ON COLUMN postings.claimed_at IS '전송 작업 큐 선점 시각 (lease 기준)';
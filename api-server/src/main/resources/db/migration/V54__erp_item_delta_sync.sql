@@ -0,0 +1,21 @@
+-- V54: ERP 품목 스트리밍 동기화 (변경분만 UPSERT + 집합 기반 비활성화)
+--
+-- 배경:
+-- 품목 동기화가 전체 품목을 메모리에 모은 뒤 기존 품목 전체를 엔티티로 로드하여 Java에서 비교
+-- → 페이지 단위로 받는 즉시 content_hash 비교 UPSERT (변경 없는 행은 쓰지 않음)
+-- → 이번 동기화에서 받은 품목 코드는 erp_item_sync_seen에 기록, 종료 시 anti-join으로 미수신 품목 비활성화
+
+ALTER TABLE erp_items
+    ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON COLUMN erp_items.content_hash IS '동기화 내용 지문 (SHA-256, 품목/재고 필드 기준) - 같으면 UPSERT 생략';
+
+-- 동기화 회차별 수신 품목 코드 (동기화 종료 시 삭제)
+-- 주의: UNLOGGED는 DB 비정상 종료 시 비워져 진행 중 회차의 비활성화가 오동작할 수 있음 → V59에서 LOGGED 전환
+CREATE UNLOGGED TABLE erp_item_sync_seen (
+    sync_id UUID NOT NULL,
+    item_code VARCHAR(50) NOT NULL,
+    PRIMARY KEY (sync_id, item_code)
+);
+
+COMMENT ON TABLE erp_item_sync_seen IS 'ERP 품목 동기화 회차별 수신 품목 코드 (미수신 품목 비활성화용)';
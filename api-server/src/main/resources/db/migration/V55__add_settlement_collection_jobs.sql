@@ -0,0 +1,37 @@
+-- V55: 정산 수집 작업 단위 (스토어 x 실행일)
+--
+-- 배경:
+-- 야간 정산 수집이 테넌트/스토어를 직렬 처리하며 매일 1개월 전체를 재수집 → 스토어 수가 늘면 ShedLock(2시간) 초과
+-- → 실행일마다 스토어별 작업을 기록하고 병렬 워커가 조건부 UPDATE로 선점
+-- → 시간 내 끝나지 않은 작업/실패 작업은 재개 스케줄에서 이어서 처리 (완료된 스토어는 재수집하지 않음)
+
+CREATE TABLE settlement_collection_jobs (
+    job_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id UUID NOT NULL,
+    store_id UUID NOT NULL,
+    marketplace VARCHAR(50) NOT NULL,
+    run_date DATE NOT NULL,
+    collection_mode VARCHAR(20) NOT NULL,
+    range_from DATE NOT NULL,
+    range_to DATE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempt_count INT NOT NULL DEFAULT 0,
+    claimed_by VARCHAR(100),
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    total_elements INT NOT NULL DEFAULT 0,
+    created_batches INT NOT NULL DEFAULT 0,
+    created_settlement_orders INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(2000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_settlement_collection_jobs_store_run UNIQUE (store_id, run_date)
+);
+
+-- 재개 대상 조회 (실행일 + 상태)
+CREATE INDEX idx_settlement_collection_jobs_run_status
+    ON settlement_collection_jobs(run_date, status);
+
+COMMENT ON TABLE settlement_collection_jobs IS '정산 수집 작업 (스토어 x 실행일, 재개 가능 단위)';
+COMMENT ON COLUMN settlement_collection_jobs.status IS 'PENDING, RUNNING, SUCCESS, FAILED';
+COMMENT ON COLUMN settlement_collection_jobs.collection_mode IS 'FULL(어제 기준 1개월)';
+COMMENT ON COLUMN settlement_collection_jobs.claimed_by IS '실행 노드 (RUNNING lease 만료 시 다른 노드가 재선점)';
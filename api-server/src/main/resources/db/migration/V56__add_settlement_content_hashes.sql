@@ -0,0 +1,34 @@
+-- V56: 정산 수집 증분 구간 + 내용 지문 (스토어 x 묶음 주문 x 정산일)
+--
+-- 수집 구간 (settlement_collection_jobs.collection_mode):
+-- - FULL: 어제 기준 1개월 (최초 수집 또는 보정 주기 경과)
+-- - INCREMENTAL: 마지막 성공 구간 끝 - 재수집 일수 ~ 어제
+--
+-- 배경:
+-- 정산 수집 구간(마지막 성공 구간 끝 - 재수집 일수 ~ 어제)에 포함된 정산 요소 대부분은 이미 COLLECTED 상태
+-- → 매 수집마다 주문 정산 정보/정산 배치/정산 주문을 다시 처리하던 부하 제거
+-- → 묶음 주문(orderId) + 정산일(payDate) 단위 내용 지문이 직전 처리분과 같으면 DB 처리 생략
+--
+-- 묶음 단위인 이유:
+-- 주문 정산 정보 업데이트는 상품 수수료와 배송비 수수료를 같은 주문 행에 함께 기록하므로
+-- 상품/배송비 요소 중 일부만 처리하면 나머지 금액이 0으로 덮어써짐
+
+CREATE TABLE settlement_content_hashes (
+    store_id UUID NOT NULL,
+    bundle_key VARCHAR(255) NOT NULL,
+    pay_date DATE NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (store_id, bundle_key, pay_date)
+);
+
+COMMENT ON TABLE settlement_content_hashes IS '정산 수집 내용 지문 (변경 없는 정산 요소 재처리 생략용)';
+COMMENT ON COLUMN settlement_content_hashes.bundle_key IS '정산 API orderId (없으면 productOrderId)';
+COMMENT ON COLUMN settlement_content_hashes.content_hash IS '묶음 내 정산 요소 원본 JSON SHA256';
+
+-- 스토어별 마지막 성공 구간 (다음 수집 구간 결정)
+CREATE INDEX idx_settlement_collection_jobs_store_success
+    ON settlement_collection_jobs(store_id, run_date DESC)
+    WHERE status = 'SUCCESS';
+
+COMMENT ON COLUMN settlement_collection_jobs.collection_mode IS 'FULL(1개월), INCREMENTAL(마지막 성공 이후 + 재수집 일수)';
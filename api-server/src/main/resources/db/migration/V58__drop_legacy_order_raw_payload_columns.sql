@@ -0,0 +1,9 @@
+-- V58: 레거시 raw_payload 컬럼 삭제 (orders / order_items)
+--
+-- 배경:
+-- V57에서 레거시 원본을 order_raw_payloads로 이관 완료
+-- → 조회는 보관소만 사용 (레거시 컬럼 폴백 제거)
+-- → 컬럼 삭제로 이후 VACUUM FULL / 테이블 재작성 시 heap 크기 회수
+
+ALTER TABLE orders DROP COLUMN IF EXISTS raw_payload;
+ALTER TABLE order_items DROP COLUMN IF EXISTS raw_payload;
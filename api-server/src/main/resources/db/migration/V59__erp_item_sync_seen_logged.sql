@@ -0,0 +1,19 @@
+-- V59: erp_item_sync_seen 내구성 보강 + 중단된 회차 정리
+--
+-- 배경:
+-- V54에서 UNLOGGED로 생성 → DB 비정상 종료 후 복구 시 테이블이 비워짐
+-- → 진행 중이던 회차가 이어서 미수신 품목 비활성화를 실행하면 이미 받은 품목까지 비활성화됨 (유실이 무해하지 않음)
+-- → 종료 시 삭제하지 못한 회차(노드 종료 등)의 행이 계속 남음
+--
+-- 변경:
+-- - LOGGED 전환 (애플리케이션은 비활성화 전 수신 기록 건수도 확인)
+-- - 기록 시각(seen_at) 추가, 보관 기간이 지난 행은 동기화 시작 시 정리
+
+ALTER TABLE erp_item_sync_seen SET LOGGED;
+
+ALTER TABLE erp_item_sync_seen
+    ADD COLUMN seen_at TIMESTAMP NOT NULL DEFAULT NOW();
+
+CREATE INDEX idx_erp_item_sync_seen_seen_at ON erp_item_sync_seen(seen_at);
+
+COMMENT ON COLUMN erp_item_sync_seen.seen_at IS '기록 시각 (보관 기간이 지난 회차 행 정리 기준)';
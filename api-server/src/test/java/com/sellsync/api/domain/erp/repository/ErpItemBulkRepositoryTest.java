@@ -0,0 +1,188 @@
+package com.sellsync.api.domain.erp.repository;
+
+import com.sellsync.api.domain.erp.entity.ErpItem;
+import com.sellsync.api.domain.erp.repository.ErpItemBulkRepository.BulkUpsertResult;
+import com.sellsync.api.domain.settlement.SettlementTestBase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ERP 품목 벌크 처리 테스트 (ErpItemBulkRepository)
+ *
+ * 핵심:
+ * - unnest 배열 바인딩 + ON CONFLICT (tenant_id, erp_code, item_code) - content_hash/is_active가 다른 행만 UPDATE
+ * - 회차 수신 기록(erp_item_sync_seen)에 없는 활성 품목만 anti-join으로 비활성화 (다른 테넌트/ERP 영향 없음)
+ * - 수신 기록은 처음 받은 코드 수만 반환, 회차 종료/보관 기간 경과 시 삭제
+ */
+@Slf4j
+class ErpItemBulkRepositoryTest extends SettlementTestBase {
+
+    private static final String ERP_CODE = "ECOUNT";
+
+    @Autowired
+    private ErpItemRepository erpItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+    private LocalDateTime syncTime;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        syncTime = LocalDateTime.of(2026, 3, 2, 10, 0);
+    }
+
+    @Test
+    @DisplayName("[품목 벌크 UPSERT] 신규 INSERT 후 content_hash가 같은 재수신은 쓰지 않고 바뀐 품목만 UPDATE")
+    void testBulkUpsert_onlyChangedRowsUpdated() {
+        // Given: 1차 수신
+        BulkUpsertResult first = erpItemRepository.bulkUpsert(List.of(
+                item("ITEM-1", "상품 1", "h1", true),
+                item("ITEM-2", "상품 2", "h2", true)));
+
+        // Then
+        assertThat(first.inserted()).isEqualTo(2);
+        assertThat(first.updated()).isZero();
+
+        // When: 같은 내용 재수신
+        syncTime = syncTime.plusHours(1);
+        BulkUpsertResult unchanged = erpItemRepository.bulkUpsert(List.of(
+                item("ITEM-1", "상품 1", "h1", true),
+                item("ITEM-2", "상품 2", "h2", true)));
+
+        // Then: 쓰기 없음 (동기화 시각도 유지)
+        assertThat(unchanged.inserted()).isZero();
+        assertThat(unchanged.updated()).isZero();
+        assertThat(itemRow("ITEM-1").get("last_synced_at").toString()).startsWith("2026-03-02 10:00");
+
+        // When: ITEM-1 내용 변경 + ITEM-3 신규
+        BulkUpsertResult changed = erpItemRepository.bulkUpsert(List.of(
+                item("ITEM-1", "상품 1 (변경)", "h1-v2", true),
+                item("ITEM-2", "상품 2", "h2", true),
+                item("ITEM-3", "상품 3", "h3", true)));
+
+        // Then
+        assertThat(changed.inserted()).isEqualTo(1);
+        assertThat(changed.updated()).isEqualTo(1);
+        assertThat(countItems()).isEqualTo(3);
+        Map<String, Object> row = itemRow("ITEM-1");
+        assertThat(row.get("item_name")).isEqualTo("상품 1 (변경)");
+        assertThat(row.get("content_hash")).isEqualTo("h1-v2");
+    }
+
+    @Test
+    @DisplayName("[품목 벌크 UPSERT] 비활성화된 품목이 다시 수신되면 content_hash가 같아도 재활성화")
+    void testBulkUpsert_reactivatesDeactivatedItem() {
+        // Given: 비활성화된 품목
+        erpItemRepository.bulkUpsert(List.of(item("ITEM-1", "상품 1", "h1", true)));
+        jdbcTemplate.update("UPDATE erp_items SET is_active = FALSE WHERE tenant_id = ? AND item_code = ?",
+                tenantId, "ITEM-1");
+
+        // When
+        BulkUpsertResult result = erpItemRepository.bulkUpsert(List.of(item("ITEM-1", "상품 1", "h1", true)));
+
+        // Then
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(itemRow("ITEM-1").get("is_active")).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("[품목 비활성화] 회차에서 수신하지 않은 활성 품목만 비활성화 (다른 테넌트 품목 유지)")
+    void testDeactivateUnseen_antiJoin() {
+        // Given: 활성 품목 3개 + 다른 테넌트 품목
+        erpItemRepository.bulkUpsert(List.of(
+                item("ITEM-1", "상품 1", "h1", true),
+                item("ITEM-2", "상품 2", "h2", true),
+                item("ITEM-3", "상품 3", "h3", true)));
+        UUID otherTenantId = UUID.randomUUID();
+        ErpItem otherTenantItem = item("ITEM-9", "다른 테넌트 상품", "h9", true);
+        otherTenantItem.setTenantId(otherTenantId);
+        erpItemRepository.bulkUpsert(List.of(otherTenantItem));
+
+        // When: ITEM-1, ITEM-3만 수신 (페이지 중복 수신 포함)
+        UUID syncId = UUID.randomUUID();
+        int firstPage = erpItemRepository.markSeen(syncId, List.of("ITEM-1", "ITEM-3"));
+        int duplicatePage = erpItemRepository.markSeen(syncId, List.of("ITEM-1", "ITEM-3"));
+        int deactivated = erpItemRepository.deactivateUnseen(tenantId, ERP_CODE, syncId);
+
+        // Then
+        assertThat(firstPage).isEqualTo(2);
+        assertThat(duplicatePage).isZero();
+        assertThat(erpItemRepository.countSeen(syncId)).isEqualTo(2);
+        assertThat(deactivated).isEqualTo(1);
+        assertThat(itemRow("ITEM-1").get("is_active")).isEqualTo(true);
+        assertThat(itemRow("ITEM-2").get("is_active")).isEqualTo(false);
+        assertThat(itemRow("ITEM-3").get("is_active")).isEqualTo(true);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT is_active FROM erp_items WHERE tenant_id = ? AND item_code = ?",
+                Boolean.class, otherTenantId, "ITEM-9")).isTrue();
+
+        // When: 같은 회차 재실행
+        int again = erpItemRepository.deactivateUnseen(tenantId, ERP_CODE, syncId);
+
+        // Then: 이미 비활성화된 품목은 다시 쓰지 않음
+        assertThat(again).isZero();
+    }
+
+    @Test
+    @DisplayName("[품목 비활성화] 수신 기록은 회차 종료 시 삭제, 보관 기간이 지난 회차 기록은 정리")
+    void testSeen_clearAndPurge() {
+        // Given
+        UUID finishedSyncId = UUID.randomUUID();
+        UUID abandonedSyncId = UUID.randomUUID();
+        erpItemRepository.markSeen(finishedSyncId, List.of("ITEM-1", "ITEM-2"));
+        erpItemRepository.markSeen(abandonedSyncId, List.of("ITEM-1"));
+        jdbcTemplate.update("UPDATE erp_item_sync_seen SET seen_at = NOW() - INTERVAL '2 days' WHERE sync_id = ?",
+                abandonedSyncId);
+
+        // When
+        erpItemRepository.clearSeen(finishedSyncId);
+        int purged = erpItemRepository.purgeSeenBefore(LocalDateTime.now().minusHours(24));
+
+        // Then
+        assertThat(erpItemRepository.countSeen(finishedSyncId)).isZero();
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(erpItemRepository.countSeen(abandonedSyncId)).isZero();
+    }
+
+    private int countItems() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM erp_items WHERE tenant_id = ? AND erp_code = ?",
+                Integer.class, tenantId, ERP_CODE);
+    }
+
+    private Map<String, Object> itemRow(String itemCode) {
+        return jdbcTemplate.queryForMap(
+                "SELECT item_name, is_active, content_hash, last_synced_at FROM erp_items " +
+                "WHERE tenant_id = ? AND erp_code = ? AND item_code = ?",
+                tenantId, ERP_CODE, itemCode);
+    }
+
+    private ErpItem item(String itemCode, String itemName, String contentHash, boolean active) {
+        ErpItem item = new ErpItem();
+        item.setTenantId(tenantId);
+        item.setErpCode(ERP_CODE);
+        item.setItemCode(itemCode);
+        item.setItemName(itemName);
+        item.setUnit("EA");
+        item.setUnitPrice(10000L);
+        item.setIsActive(active);
+        item.setLastSyncedAt(syncTime);
+        item.setRawData("{\"itemCode\": \"" + itemCode + "\"}");
+        item.setContentHash(contentHash);
+        return item;
+    }
+}
@@ -0,0 +1,159 @@
+package com.sellsync.api.domain.erp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sellsync.api.domain.erp.client.ErpClient;
+import com.sellsync.api.domain.erp.dto.ErpItemDto;
+import com.sellsync.api.domain.erp.dto.ErpItemSearchRequest;
+import com.sellsync.api.domain.erp.repository.ErpItemRepository;
+import com.sellsync.api.domain.erp.repository.ErpItemSyncHistoryRepository;
+import com.sellsync.api.domain.erp.service.ErpItemSyncService.SyncResult;
+import com.sellsync.api.domain.settlement.SettlementTestBase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ERP 품목 스트리밍 동기화 테스트 (ErpItemSyncService.syncItems)
+ *
+ * 핵심:
+ * - 전체 수신 완료 시 미수신 품목 비활성화, 변경 없는 재수신은 생성/업데이트 0건
+ * - 중간 페이지 연속 실패로 일부만 받은 경우 비활성화 생략
+ * - 회차 종료 후 수신 기록 삭제
+ */
+@Slf4j
+class ErpItemSyncServiceTest extends SettlementTestBase {
+
+    private static final String ERP_CODE = "TEST_ERP";
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private ErpItemRepository erpItemRepository;
+
+    @Autowired
+    private ErpItemSyncHistoryRepository syncHistoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InventorySnapshotService inventorySnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ErpClient client = mock(ErpClient.class);
+
+    private ErpItemSyncService syncService;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        when(client.getErpCode()).thenReturn(ERP_CODE);
+        syncService = new ErpItemSyncService(
+                erpItemRepository, syncHistoryRepository, List.of(client), objectMapper, inventorySnapshotService);
+    }
+
+    @Test
+    @DisplayName("[품목 동기화] 전체 수신 완료 시 미수신 품목 비활성화, 변경 없는 재동기화는 쓰지 않음")
+    void testSyncItems_completeFetchDeactivatesUnseen() {
+        // Given: 1차 동기화 (ITEM-1, ITEM-2, OLD-1)
+        givenPage(1, List.of(dto("ITEM-1", 1000L), dto("ITEM-2", 2000L), dto("OLD-1", 3000L)));
+        SyncResult first = syncService.syncItems(tenantId, ERP_CODE, "MANUAL");
+
+        assertThat(first.getTotalFetched()).isEqualTo(3);
+        assertThat(first.getCreated()).isEqualTo(3);
+        assertThat(first.getDeactivated()).isZero();
+
+        // When: 2차 동기화 (OLD-1 삭제, ITEM-2 단가 변경)
+        givenPage(1, List.of(dto("ITEM-1", 1000L), dto("ITEM-2", 2500L)));
+        SyncResult second = syncService.syncItems(tenantId, ERP_CODE, "MANUAL");
+
+        // Then
+        assertThat(second.getTotalFetched()).isEqualTo(2);
+        assertThat(second.getCreated()).isZero();
+        assertThat(second.getUpdated()).isEqualTo(1);
+        assertThat(second.getDeactivated()).isEqualTo(1);
+        assertThat(isActive("OLD-1")).isFalse();
+        assertThat(isActive("ITEM-2")).isTrue();
+
+        // When: 3차 동기화 (변경 없음)
+        SyncResult third = syncService.syncItems(tenantId, ERP_CODE, "MANUAL");
+
+        // Then: 쓰기 없음, 수신 기록 정리
+        assertThat(third.getCreated()).isZero();
+        assertThat(third.getUpdated()).isZero();
+        assertThat(third.getDeactivated()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM erp_item_sync_seen s " +
+                "JOIN erp_item_sync_histories h ON h.sync_id = s.sync_id WHERE h.tenant_id = ?",
+                Integer.class, tenantId)).isZero();
+    }
+
+    @Test
+    @DisplayName("[품목 동기화] 중간 페이지 연속 실패로 일부만 받으면 비활성화 생략")
+    void testSyncItems_partialFetchSkipsDeactivation() {
+        // Given: 기존 품목 (이번 회차 2페이지에 있을 품목)
+        givenPage(1, List.of(dto("LATER-1", 1000L)));
+        syncService.syncItems(tenantId, ERP_CODE, "SCHEDULED");
+
+        // Given: 1페이지 정상(가득 참), 2페이지 연속 실패
+        List<ErpItemDto> firstPage = new ArrayList<>();
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            firstPage.add(dto("ITEM-" + i, 1000L));
+        }
+        givenPage(1, firstPage);
+        when(client.getItems(eq(tenantId), argThat(request -> isPage(request, 2))))
+                .thenThrow(new RuntimeException("Ecount API timeout"));
+
+        // When
+        SyncResult result = syncService.syncItems(tenantId, ERP_CODE, "SCHEDULED");
+
+        // Then: 받은 페이지는 저장, 받지 못한 품목은 활성 유지
+        assertThat(result.getTotalFetched()).isEqualTo(PAGE_SIZE);
+        assertThat(result.getCreated()).isEqualTo(PAGE_SIZE);
+        assertThat(result.getDeactivated()).isZero();
+        assertThat(isActive("LATER-1")).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM erp_item_sync_histories WHERE tenant_id = ? ORDER BY started_at DESC LIMIT 1",
+                String.class, tenantId)).isEqualTo("SUCCESS");
+    }
+
+    private void givenPage(int page, List<ErpItemDto> items) {
+        when(client.getItems(eq(tenantId), argThat(request -> isPage(request, page)))).thenReturn(items);
+        when(client.getItems(eq(tenantId), argThat(request -> isPage(request, page + 1)))).thenReturn(List.of());
+    }
+
+    private static boolean isPage(ErpItemSearchRequest request, int page) {
+        return request != null && request.getPage() != null && request.getPage() == page;
+    }
+
+    private boolean isActive(String itemCode) {
+        return jdbcTemplate.queryForObject(
+                "SELECT is_active FROM erp_items WHERE tenant_id = ? AND erp_code = ? AND item_code = ?",
+                Boolean.class, tenantId, ERP_CODE, itemCode);
+    }
+
+    private static ErpItemDto dto(String itemCode, long unitPrice) {
+        return ErpItemDto.builder()
+                .itemCode(itemCode)
+                .itemName("품목 " + itemCode)
+                .unit("EA")
+                .unitPrice(unitPrice)
+                .isActive(true)
+                .build();
+    }
+}
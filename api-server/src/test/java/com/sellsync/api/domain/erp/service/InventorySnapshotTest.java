@@ -0,0 +1,179 @@
+package com.sellsync.api.domain.erp.service;
+
+import com.sellsync.api.domain.erp.service.InventorySnapshot.WarehouseQty;
+import com.sellsync.infra.erp.ecount.EcountClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 현황 스냅샷 색인 검증 (InventorySnapshot)
+ *
+ * 핵심:
+ * - 정렬된 품목 코드 배열 + 이진 탐색 (입력 순서 무관)
+ * - 같은 품목/창고 레코드 합산, 품목별 총 재고 미리 합산
+ * - 품목 구간 내 창고는 재고 내림차순 (첫 창고 = 주 창고)
+ * - sameBalances는 조회 시각을 제외한 재고 수치/창고만 비교
+ */
+class InventorySnapshotTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final String BASE_DATE = "20260302";
+    private static final LocalDateTime FETCHED_AT = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Test
+    @DisplayName("[재고 스냅샷] 정렬되지 않은 입력도 품목 코드 이진 탐색으로 조회, 없는 품목은 0/null")
+    void build_indexesUnsortedItems() {
+        // Given
+        InventorySnapshot snapshot = snapshot(List.of(
+                balance("ITEM-C", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W1", "본사창고", 1.0),
+                balance("ITEM-B", "W2", "물류센터", 2.0)));
+
+        // Then
+        assertThat(snapshot.getItemCount()).isEqualTo(3);
+        assertThat(snapshot.contains("ITEM-A")).isTrue();
+        assertThat(snapshot.contains("ITEM-B")).isTrue();
+        assertThat(snapshot.contains("ITEM-C")).isTrue();
+        assertThat(snapshot.getTotalQty("ITEM-C")).isEqualTo(3.0);
+
+        assertThat(snapshot.contains("ITEM-0")).isFalse();
+        assertThat(snapshot.contains("ITEM-Z")).isFalse();
+        assertThat(snapshot.contains(null)).isFalse();
+        assertThat(snapshot.getTotalQty("ITEM-Z")).isZero();
+        assertThat(snapshot.getQty("ITEM-Z", "W1")).isZero();
+        assertThat(snapshot.getMainWarehouseCode("ITEM-Z")).isNull();
+        assertThat(snapshot.getWarehouses("ITEM-Z")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[재고 스냅샷] 같은 품목/창고 레코드는 합산, 창고는 재고 내림차순으로 주 창고 결정")
+    void build_mergesDuplicatesAndSortsWarehousesByQty() {
+        // Given: ITEM-A W1 2건(3 + 2), W2 7, W3 1
+        InventorySnapshot snapshot = snapshot(List.of(
+                balance("ITEM-A", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W3", "반품창고", 1.0),
+                balance("ITEM-A", "W2", "물류센터", 7.0),
+                balance("ITEM-A", "W1", "본사창고", 2.0)));
+
+        // Then
+        assertThat(snapshot.getItemCount()).isEqualTo(1);
+        assertThat(snapshot.getTotalQty("ITEM-A")).isEqualTo(13.0);
+        assertThat(snapshot.getQty("ITEM-A", "W1")).isEqualTo(5.0);
+        assertThat(snapshot.getQty("ITEM-A", "W9")).isZero();
+        assertThat(snapshot.getMainWarehouseCode("ITEM-A")).isEqualTo("W2");
+        assertThat(snapshot.getWarehouses("ITEM-A")).containsExactly(
+                new WarehouseQty("W2", "물류센터", 7.0),
+                new WarehouseQty("W1", "본사창고", 5.0),
+                new WarehouseQty("W3", "반품창고", 1.0));
+    }
+
+    @Test
+    @DisplayName("[재고 스냅샷] 창고 코드/수량이 없는 레코드는 빈 창고 코드, 수량 0으로 색인")
+    void build_handlesMissingWarehouseAndQty() {
+        // Given
+        InventorySnapshot snapshot = snapshot(List.of(
+                balance("ITEM-A", null, null, null),
+                balance("ITEM-A", "W1", "본사창고", 4.0)));
+
+        // Then
+        assertThat(snapshot.getTotalQty("ITEM-A")).isEqualTo(4.0);
+        assertThat(snapshot.getQty("ITEM-A", "")).isZero();
+        assertThat(snapshot.getMainWarehouseCode("ITEM-A")).isEqualTo("W1");
+        assertThat(snapshot.getWarehouses("ITEM-A")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("[재고 스냅샷] 빈 재고현황도 조회 가능")
+    void build_empty() {
+        // Given
+        InventorySnapshot snapshot = snapshot(List.of());
+
+        // Then
+        assertThat(snapshot.getItemCount()).isZero();
+        assertThat(snapshot.contains("ITEM-A")).isFalse();
+        assertThat(snapshot.getTotalQty("ITEM-A")).isZero();
+    }
+
+    @Test
+    @DisplayName("[재고 스냅샷] sameBalances는 입력 순서/조회 시각과 무관하고 수량/창고/기준일 변경은 감지")
+    void sameBalances() {
+        // Given
+        InventorySnapshot base = snapshot(List.of(
+                balance("ITEM-A", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W2", "물류센터", 5.0),
+                balance("ITEM-B", "W1", "본사창고", 2.0)));
+
+        // 입력 순서만 다름 (창고 사전 번호도 달라짐)
+        InventorySnapshot reordered = InventorySnapshot.build(TENANT_ID, BASE_DATE, FETCHED_AT.plusMinutes(10), List.of(
+                balance("ITEM-A", "W2", "물류센터", 5.0),
+                balance("ITEM-B", "W1", "본사창고", 2.0),
+                balance("ITEM-A", "W1", "본사창고", 3.0)));
+
+        InventorySnapshot qtyChanged = snapshot(List.of(
+                balance("ITEM-A", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W2", "물류센터", 4.0),
+                balance("ITEM-B", "W1", "본사창고", 2.0)));
+
+        InventorySnapshot warehouseChanged = snapshot(List.of(
+                balance("ITEM-A", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W3", "반품창고", 5.0),
+                balance("ITEM-B", "W1", "본사창고", 2.0)));
+
+        InventorySnapshot itemAdded = snapshot(List.of(
+                balance("ITEM-A", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W2", "물류센터", 5.0),
+                balance("ITEM-B", "W1", "본사창고", 2.0),
+                balance("ITEM-C", "W1", "본사창고", 1.0)));
+
+        InventorySnapshot otherBaseDate = InventorySnapshot.build(TENANT_ID, "20260303", FETCHED_AT, List.of(
+                balance("ITEM-A", "W1", "본사창고", 3.0),
+                balance("ITEM-A", "W2", "물류센터", 5.0),
+                balance("ITEM-B", "W1", "본사창고", 2.0)));
+
+        // Then
+        assertThat(base.sameBalances(reordered)).isTrue();
+        assertThat(base.sameBalances(qtyChanged)).isFalse();
+        assertThat(base.sameBalances(warehouseChanged)).isFalse();
+        assertThat(base.sameBalances(itemAdded)).isFalse();
+        assertThat(base.sameBalances(otherBaseDate)).isFalse();
+        assertThat(base.sameBalances(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[재고 스냅샷] withFetchedAt은 조회 시각만 바꾸고 재고 수치는 유지")
+    void withFetchedAt_keepsBalances() {
+        // Given
+        InventorySnapshot base = snapshot(List.of(balance("ITEM-A", "W1", "본사창고", 3.0)));
+        LocalDateTime refreshedAt = FETCHED_AT.plusHours(1);
+
+        // When
+        InventorySnapshot refreshed = base.withFetchedAt(refreshedAt);
+
+        // Then
+        assertThat(refreshed.getFetchedAt()).isEqualTo(refreshedAt);
+        assertThat(base.getFetchedAt()).isEqualTo(FETCHED_AT);
+        assertThat(refreshed.sameBalances(base)).isTrue();
+        assertThat(refreshed.getTenantId()).isEqualTo(TENANT_ID);
+        assertThat(refreshed.getTotalQty("ITEM-A")).isEqualTo(3.0);
+    }
+
+    private static InventorySnapshot snapshot(List<EcountClient.InventoryBalance> balances) {
+        return InventorySnapshot.build(TENANT_ID, BASE_DATE, FETCHED_AT, balances);
+    }
+
+    private static EcountClient.InventoryBalance balance(String itemCode, String warehouseCode,
+                                                         String warehouseName, Double qty) {
+        EcountClient.InventoryBalance balance = new EcountClient.InventoryBalance();
+        balance.setItemCode(itemCode);
+        balance.setWarehouseCode(warehouseCode);
+        balance.setWarehouseName(warehouseName);
+        balance.setBalanceQty(qty);
+        return balance;
+    }
+}
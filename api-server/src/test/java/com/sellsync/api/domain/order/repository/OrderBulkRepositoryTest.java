@@ -0,0 +1,265 @@
+package com.sellsync.api.domain.order.repository;
+
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.order.entity.OrderItem;
+import com.sellsync.api.domain.order.enums.ItemStatus;
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.order.enums.OrderStatus;
+import com.sellsync.api.domain.order.repository.OrderBulkRepository.BulkUpsertResult;
+import com.sellsync.api.domain.settlement.SettlementTestBase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 벌크 UPSERT 테스트 (OrderBulkRepository.bulkUpsertWithItems)
+ *
+ * 핵심:
+ * - unnest 배열 바인딩 + ON CONFLICT (store_id, marketplace_order_id) - 신규/업데이트 건수는 xmax로 구분
+ * - 주문 상품은 (order_id, marketplace_item_id) 기준 UPSERT, ID 없는 상품은 line_no 기준, 수집 결과에 없는 상품 삭제
+ * - 정산 완료(COLLECTED, POSTED) 주문은 주문/상품 수수료 유지
+ * - 원본 payload는 최초 수집 시에만 order_raw_payloads에 보관
+ */
+@Slf4j
+class OrderBulkRepositoryTest extends SettlementTestBase {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderRawPayloadRepository rawPayloadRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        storeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("[벌크 UPSERT] 신규 INSERT 후 같은 주문번호 재수집은 UPDATE로 집계")
+    void testBulkUpsert_insertThenUpdate() {
+        // Given
+        String orderNoA = "PO-" + UUID.randomUUID();
+        String orderNoB = "PO-" + UUID.randomUUID();
+
+        // When: 1차 수집
+        BulkUpsertResult first = orderRepository.bulkUpsertWithItems(List.of(
+                order(orderNoA, 1000L, item(1, orderNoA + "-1", 500L)),
+                order(orderNoB, 2000L, item(1, orderNoB + "-1", 700L))));
+
+        // Then
+        assertThat(first.inserted()).isEqualTo(2);
+        assertThat(first.updated()).isZero();
+
+        // When: 2차 수집 (A 금액 변경 + 신규 C)
+        String orderNoC = "PO-" + UUID.randomUUID();
+        Order changedA = order(orderNoA, 1500L, item(1, orderNoA + "-1", 800L));
+        changedA.setBuyerName("변경된 구매자");
+        BulkUpsertResult second = orderRepository.bulkUpsertWithItems(List.of(
+                changedA,
+                order(orderNoB, 2000L, item(1, orderNoB + "-1", 700L)),
+                order(orderNoC, 3000L)));
+
+        // Then: A/B UPDATE, C INSERT, 주문 행 중복 없음
+        assertThat(second.inserted()).isEqualTo(1);
+        assertThat(second.updated()).isEqualTo(2);
+        assertThat(countOrders()).isEqualTo(3);
+
+        Map<String, Object> rowA = orderRow(orderNoA);
+        assertThat(rowA.get("buyer_name")).isEqualTo("변경된 구매자");
+        assertThat(rowA.get("commission_amount")).isEqualTo(1500L);
+        assertThat(itemCommissions(orderNoA)).containsExactly(800L);
+
+        // Then: 엔티티에 PK 반영
+        assertThat(changedA.getOrderId()).isEqualTo(rowA.get("order_id"));
+    }
+
+    @Test
+    @DisplayName("[벌크 UPSERT] 한 호출 안의 같은 주문번호는 마지막 값 1건으로 저장")
+    void testBulkUpsert_duplicateOrdersInOneCall() {
+        // Given
+        String orderNo = "PO-" + UUID.randomUUID();
+
+        // When
+        BulkUpsertResult result = orderRepository.bulkUpsertWithItems(List.of(
+                order(orderNo, 1000L),
+                order(orderNo, 1200L)));
+
+        // Then
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isZero();
+        assertThat(countOrders()).isEqualTo(1);
+        assertThat(orderRow(orderNo).get("commission_amount")).isEqualTo(1200L);
+    }
+
+    @Test
+    @DisplayName("[벌크 UPSERT] 상품은 marketplace_item_id 기준 UPSERT, 수집 결과에 없는 상품은 삭제")
+    void testBulkUpsert_itemsUpsertedAndStaleDeleted() {
+        // Given: 상품 2개 주문
+        String orderNo = "PO-" + UUID.randomUUID();
+        orderRepository.bulkUpsertWithItems(List.of(order(orderNo, 1000L,
+                item(1, orderNo + "-1", 100L),
+                item(2, orderNo + "-2", 200L))));
+
+        // When: 상품 1 변경 + 상품 2 누락 + 상품 3 추가
+        orderRepository.bulkUpsertWithItems(List.of(order(orderNo, 1000L,
+                item(1, orderNo + "-1", 150L),
+                item(2, orderNo + "-3", 300L))));
+
+        // Then
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT marketplace_item_id FROM order_items WHERE order_id = ? ORDER BY line_no",
+                String.class, orderRow(orderNo).get("order_id")))
+                .containsExactly(orderNo + "-1", orderNo + "-3");
+        assertThat(itemCommissions(orderNo)).containsExactly(150L, 300L);
+    }
+
+    @Test
+    @DisplayName("[벌크 UPSERT] marketplace_item_id 없는 상품은 line_no 기준으로 갱신 (중복 행 없음)")
+    void testBulkUpsert_itemsWithoutMarketplaceItemIdMatchedByLineNo() {
+        // Given
+        String orderNo = "PO-" + UUID.randomUUID();
+        orderRepository.bulkUpsertWithItems(List.of(order(orderNo, 1000L,
+                item(1, null, 100L),
+                item(2, null, 200L))));
+
+        // When: 같은 라인 재수집
+        orderRepository.bulkUpsertWithItems(List.of(order(orderNo, 1000L,
+                item(1, null, 110L),
+                item(2, null, 220L))));
+
+        // Then
+        assertThat(itemCommissions(orderNo)).containsExactly(110L, 220L);
+    }
+
+    @Test
+    @DisplayName("[벌크 UPSERT] 정산 완료 주문은 주문/상품 수수료와 정산 예정 금액을 덮어쓰지 않음")
+    void testBulkUpsert_settledOrderKeepsCommission() {
+        // Given: 정산 수집 완료 주문
+        String orderNo = "PO-" + UUID.randomUUID();
+        orderRepository.bulkUpsertWithItems(List.of(order(orderNo, 1000L, item(1, orderNo + "-1", 500L))));
+        jdbcTemplate.update(
+                "UPDATE orders SET settlement_status = 'COLLECTED', commission_amount = 1300, " +
+                "expected_settlement_amount = 8700 WHERE store_id = ? AND marketplace_order_id = ?",
+                storeId, orderNo);
+
+        // When: 주문 API 기준 수수료로 재수집
+        Order recollected = order(orderNo, 999L, item(1, orderNo + "-1", 999L));
+        recollected.setBuyerName("재수집 구매자");
+        BulkUpsertResult result = orderRepository.bulkUpsertWithItems(List.of(recollected));
+
+        // Then: 주문 정보는 갱신, 정산 금액은 유지
+        assertThat(result.updated()).isEqualTo(1);
+        Map<String, Object> row = orderRow(orderNo);
+        assertThat(row.get("buyer_name")).isEqualTo("재수집 구매자");
+        assertThat(row.get("settlement_status")).isEqualTo("COLLECTED");
+        assertThat(row.get("commission_amount")).isEqualTo(1300L);
+        assertThat(row.get("expected_settlement_amount")).isEqualTo(8700L);
+        assertThat(itemCommissions(orderNo)).containsExactly(500L);
+    }
+
+    @Test
+    @DisplayName("[벌크 UPSERT] 원본 payload는 최초 수집 시에만 보관")
+    void testBulkUpsert_rawPayloadArchivedOnce() {
+        // Given
+        String orderNo = "PO-" + UUID.randomUUID();
+        Order first = order(orderNo, 1000L, item(1, orderNo + "-1", 100L));
+        first.setRawPayload("{\"version\": 1}");
+        first.getItems().get(0).setRawPayload("{\"item\": 1}");
+        orderRepository.bulkUpsertWithItems(List.of(first));
+
+        // When: 재수집 (payload 변경)
+        Order second = order(orderNo, 1000L, item(1, orderNo + "-1", 100L));
+        second.setRawPayload("{\"version\": 2}");
+        orderRepository.bulkUpsertWithItems(List.of(second));
+
+        // Then: 최초 payload 유지
+        UUID orderId = second.getOrderId();
+        assertThat(rawPayloadRepository.findOrderPayload(orderId)).contains("{\"version\": 1}");
+        assertThat(rawPayloadRepository.findItemPayload(orderId, orderNo + "-1")).contains("{\"item\": 1}");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_raw_payloads WHERE order_id = ?", Integer.class, orderId))
+                .isEqualTo(2);
+    }
+
+    private int countOrders() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE store_id = ?", Integer.class, storeId);
+    }
+
+    private Map<String, Object> orderRow(String marketplaceOrderId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT order_id, buyer_name, commission_amount, expected_settlement_amount, settlement_status " +
+                "FROM orders WHERE store_id = ? AND marketplace_order_id = ?",
+                storeId, marketplaceOrderId);
+    }
+
+    private List<Long> itemCommissions(String marketplaceOrderId) {
+        return jdbcTemplate.queryForList(
+                "SELECT oi.commission_amount FROM order_items oi " +
+                "JOIN orders o ON o.order_id = oi.order_id " +
+                "WHERE o.store_id = ? AND o.marketplace_order_id = ? ORDER BY oi.line_no",
+                Long.class, storeId, marketplaceOrderId);
+    }
+
+    private OrderItem item(int lineNo, String marketplaceItemId, long commission) {
+        return OrderItem.builder()
+                .lineNo(lineNo)
+                .marketplaceItemId(marketplaceItemId)
+                .marketplaceProductId("P-" + lineNo)
+                .productName("테스트 상품 " + lineNo)
+                .quantity(1)
+                .unitPrice(10000L)
+                .originalPrice(10000L)
+                .discountAmount(0L)
+                .lineAmount(10000L)
+                .commissionAmount(commission)
+                .itemStatus(ItemStatus.NORMAL)
+                .build();
+    }
+
+    private Order order(String marketplaceOrderId, long commission, OrderItem... items) {
+        LocalDateTime paidAt = LocalDateTime.of(2026, 3, 2, 10, 0);
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .storeId(storeId)
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId(marketplaceOrderId)
+                .bundleOrderId("BO-" + marketplaceOrderId)
+                .orderStatus(OrderStatus.PAID)
+                .orderedAt(paidAt)
+                .paidAt(paidAt)
+                .buyerName("구매자")
+                .receiverName("수령인")
+                .totalProductAmount(10000L)
+                .totalDiscountAmount(0L)
+                .totalShippingAmount(0L)
+                .totalPaidAmount(10000L)
+                .commissionAmount(commission)
+                .expectedSettlementAmount(10000L - commission)
+                .shippingFee(0L)
+                .prepaidShippingFee(0L)
+                .additionalShippingFee(0L)
+                .build();
+        for (OrderItem item : items) {
+            order.addItem(item);
+        }
+        return order;
+    }
+}
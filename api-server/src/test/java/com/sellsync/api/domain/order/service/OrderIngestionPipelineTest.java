@@ -0,0 +1,88 @@
+package com.sellsync.api.domain.order.service;
+
+import com.sellsync.api.domain.order.dto.MarketplaceOrderDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 수집 스트리밍 파이프라인 검증
+ */
+class OrderIngestionPipelineTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("[Pipeline] 페이지를 배치 단위로 나눠 모두 저장하고 결과를 합산한다")
+    void run_splitsPagesIntoBatches() {
+        AtomicInteger batches = new AtomicInteger();
+        OrderIngestionPipeline pipeline = new OrderIngestionPipeline(2, 50, batch -> {
+            batches.incrementAndGet();
+            return OrderCollectionService.CollectionResult.builder().created(batch.size()).build();
+        });
+
+        OrderCollectionService.CollectionResult result = pipeline.run(sink -> {
+            sink.accept(orders(120));
+            sink.accept(orders(30));
+        }, executor);
+
+        assertThat(batches.get()).isEqualTo(4);  // 50 + 50 + 20 + 30
+        assertThat(result.getTotalFetched()).isEqualTo(150);
+        assertThat(result.getCreated()).isEqualTo(150);
+        assertThat(result.getFailed()).isZero();
+    }
+
+    @Test
+    @DisplayName("[Pipeline] 배치 저장 실패는 해당 배치만 실패로 집계한다")
+    void run_countsFailedBatch() {
+        AtomicInteger calls = new AtomicInteger();
+        OrderIngestionPipeline pipeline = new OrderIngestionPipeline(2, 10, batch -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("DB error");
+            }
+            return OrderCollectionService.CollectionResult.builder().updated(batch.size()).build();
+        });
+
+        OrderCollectionService.CollectionResult result = pipeline.run(sink -> sink.accept(orders(25)), executor);
+
+        assertThat(result.getFailed()).isEqualTo(10);
+        assertThat(result.getUpdated()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("[Pipeline] 조회 실패 시 이미 전달된 배치를 저장한 뒤 예외를 전달한다")
+    void run_persistsPublishedBatchesBeforeRethrowing() {
+        AtomicInteger persisted = new AtomicInteger();
+        OrderIngestionPipeline pipeline = new OrderIngestionPipeline(1, 10, batch -> {
+            persisted.addAndGet(batch.size());
+            return OrderCollectionService.CollectionResult.builder().created(batch.size()).build();
+        });
+
+        assertThatThrownBy(() -> pipeline.run(sink -> {
+            sink.accept(orders(30));
+            throw new RuntimeException("API error");
+        }, executor)).hasMessage("API error");
+
+        assertThat(persisted.get()).isEqualTo(30);
+    }
+
+    private List<MarketplaceOrderDto> orders(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> MarketplaceOrderDto.builder().marketplaceOrderId("ORDER-" + i).build())
+                .toList();
+    }
+}
@@ -0,0 +1,249 @@
+package com.sellsync.api.domain.posting;
+
+import com.sellsync.api.domain.erp.entity.ErpConfig;
+import com.sellsync.api.domain.erp.repository.ErpConfigRepository;
+import com.sellsync.api.domain.mapping.dto.ProductMappingResponse;
+import com.sellsync.api.domain.mapping.enums.MappingStatus;
+import com.sellsync.api.domain.mapping.service.ProductMappingService;
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.order.entity.OrderItem;
+import com.sellsync.api.domain.order.enums.ItemStatus;
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.order.enums.OrderStatus;
+import com.sellsync.api.domain.order.enums.SettlementCollectionStatus;
+import com.sellsync.api.domain.order.repository.OrderRepository;
+import com.sellsync.api.domain.posting.dto.CreatePostingRequest;
+import com.sellsync.api.domain.posting.enums.PostingType;
+import com.sellsync.api.domain.posting.service.OrderSettlementPostingService;
+import com.sellsync.api.domain.posting.service.OrderSettlementPostingService.BulkPostingResult;
+import com.sellsync.api.domain.posting.service.PostingService;
+import com.sellsync.api.domain.posting.service.PostingTemplateCompiler;
+import com.sellsync.api.domain.posting.service.PostingTemplatePlan;
+import com.sellsync.api.domain.posting.service.TemplateBasedPostingBuilder;
+import com.sellsync.api.domain.store.entity.Store;
+import com.sellsync.api.domain.store.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정산 전표 일괄 생성 테스트 (OrderSettlementPostingService.createPostingsForSettledOrders)
+ *
+ * 핵심:
+ * - 번들별 결과 집계: 신규 생성 / 기존 전표 / 상품 매핑 미완료 스킵 / 실패
+ * - 실패 번들의 예외가 일괄 저장 트랜잭션을 rollback-only로 만들지 않음 (다른 번들은 정상 저장)
+ * - 실패/스킵 번들의 주문 엔티티는 변경되지 않음 (수수료 금액, 정산 상태)
+ */
+@Slf4j
+@Testcontainers
+class OrderSettlementPostingServiceTest extends PostingTestBase {
+
+    private static final String ERP_CODE = "ECOUNT";
+    private static final String MAPPED_PRODUCT_ID = "P-MAPPED";
+    private static final String UNMAPPED_PRODUCT_ID = "P-UNMAPPED";
+
+    @Autowired
+    private OrderSettlementPostingService orderSettlementPostingService;
+
+    @Autowired
+    private PostingService postingService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ErpConfigRepository erpConfigRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PostingTemplateCompiler templateCompiler;
+
+    @MockBean
+    private TemplateBasedPostingBuilder templateBasedPostingBuilder;
+
+    @MockBean
+    private ProductMappingService productMappingService;
+
+    private UUID tenantId;
+    private Store store;
+    private String failingBundleOrderId;
+
+    @BeforeEach
+    void setUpFixtures() {
+        tenantId = UUID.randomUUID();
+        failingBundleOrderId = "BO-FAIL-" + UUID.randomUUID();
+
+        store = storeRepository.save(Store.builder()
+                .tenantId(tenantId)
+                .storeName("테스트 스토어")
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .commissionItemCode("COMM")
+                .shippingItemCode("SHIP")
+                .shippingCommissionItemCode("SHIP-COMM")
+                .build());
+        erpConfigRepository.save(ErpConfig.builder()
+                .tenantId(tenantId)
+                .erpCode(ERP_CODE)
+                .build());
+
+        when(templateCompiler.findActivePlan(tenantId, ERP_CODE, PostingType.PRODUCT_SALES))
+                .thenReturn(mock(PostingTemplatePlan.class));
+        when(productMappingService.findActiveMappingsByProductIds(eq(tenantId), anyList()))
+                .thenReturn(List.of(ProductMappingResponse.builder()
+                        .tenantId(tenantId)
+                        .storeId(store.getStoreId())
+                        .marketplace(Marketplace.NAVER_SMARTSTORE)
+                        .marketplaceProductId(MAPPED_PRODUCT_ID)
+                        .erpCode(ERP_CODE)
+                        .erpItemCode("ERP-ITEM-001")
+                        .warehouseCode("100")
+                        .mappingStatus(MappingStatus.MAPPED)
+                        .isActive(true)
+                        .build()));
+
+        // 실패 번들: 배송비수수료 라인 생성 중 예외
+        // (실제 buildBulkData처럼 현재 트랜잭션에 참여한 상태로 실패 → 참여 트랜잭션 rollback-only 표시)
+        doAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            String bulkDataType = invocation.getArgument(5);
+            if (failingBundleOrderId.equals(order.getBundleOrderId())
+                    && "product_shipping_commission".equals(bulkDataType)) {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    throw new IllegalStateException("전표 필드 추출 실패");
+                });
+            }
+            return new HashMap<String, Object>();
+        }).when(templateBasedPostingBuilder).buildBulkData(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("[정산 전표 일괄 생성] 신규/기존/매핑 미완료/실패 번들이 섞여도 성공 번들은 저장되고 실패 번들 주문은 변경되지 않음")
+    void testCreatePostingsForSettledOrders_mixedBundles() {
+        // Given: 신규 번들
+        String createdBundle = "BO-NEW-" + UUID.randomUUID();
+        Order createdOrder = createOrder(createdBundle, MAPPED_PRODUCT_ID, 0L, 0);
+
+        // Given: 이미 전표가 있는 번들
+        String existingBundle = "BO-EXIST-" + UUID.randomUUID();
+        Order existingOrder = createOrder(existingBundle, MAPPED_PRODUCT_ID, 0L, 0);
+        postingService.createOrGet(CreatePostingRequest.builder()
+                .tenantId(tenantId)
+                .erpCode(ERP_CODE)
+                .orderId(existingOrder.getOrderId())
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId(existingBundle)
+                .postingType(PostingType.PRODUCT_SALES)
+                .requestPayload("{}")
+                .build());
+
+        // Given: 상품 매핑 미완료 번들
+        String unmappedBundle = "BO-UNMAPPED-" + UUID.randomUUID();
+        Order unmappedOrder = createOrder(unmappedBundle, UNMAPPED_PRODUCT_ID, 0L, 0);
+
+        // Given: 실패 번들 (대표 주문의 배송비 수수료는 번들 내 다른 주문에서 조회됨)
+        Order failingFirst = createOrder(failingBundleOrderId, MAPPED_PRODUCT_ID, 0L, 0);
+        createOrder(failingBundleOrderId, MAPPED_PRODUCT_ID, 300L, 1);
+
+        // When
+        BulkPostingResult result = orderSettlementPostingService.createPostingsForSettledOrders(
+                tenantId, List.of(createdBundle, existingBundle, unmappedBundle, failingBundleOrderId), ERP_CODE);
+
+        // Then: 번들별 집계 (실패 번들이 있어도 일괄 트랜잭션은 커밋)
+        assertThat(result).isEqualTo(new BulkPostingResult(1, 1, 1, 1));
+        assertThat(countPostings(createdBundle)).isEqualTo(1);
+        assertThat(countPostings(existingBundle)).isEqualTo(1);
+        assertThat(countPostings(unmappedBundle)).isZero();
+        assertThat(countPostings(failingBundleOrderId)).isZero();
+
+        // Then: 신규/기존 번들만 POSTED 마킹
+        assertThat(settlementStatus(createdOrder)).isEqualTo(SettlementCollectionStatus.POSTED.name());
+        assertThat(settlementStatus(existingOrder)).isEqualTo(SettlementCollectionStatus.POSTED.name());
+        assertThat(settlementStatus(unmappedOrder)).isEqualTo(SettlementCollectionStatus.COLLECTED.name());
+        assertThat(settlementStatus(failingFirst)).isEqualTo(SettlementCollectionStatus.COLLECTED.name());
+
+        // Then: 실패 번들 대표 주문에 번들 배송비 수수료가 기록되지 않음
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT shipping_commission_amount FROM orders WHERE order_id = ?",
+                Long.class, failingFirst.getOrderId())).isZero();
+    }
+
+    private int countPostings(String bundleOrderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM postings WHERE tenant_id = ? AND marketplace_order_id = ?",
+                Integer.class, tenantId, bundleOrderId);
+    }
+
+    private String settlementStatus(Order order) {
+        return jdbcTemplate.queryForObject(
+                "SELECT settlement_status FROM orders WHERE order_id = ?", String.class, order.getOrderId());
+    }
+
+    private Order createOrder(String bundleOrderId, String productId, long shippingCommission, int orderedOffsetMinutes) {
+        LocalDateTime orderedAt = LocalDateTime.of(2026, 3, 2, 10, 0).plusMinutes(orderedOffsetMinutes);
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .storeId(store.getStoreId())
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId("PO-" + UUID.randomUUID())
+                .bundleOrderId(bundleOrderId)
+                .orderStatus(OrderStatus.DELIVERED)
+                .orderedAt(orderedAt)
+                .paidAt(orderedAt)
+                .buyerName("구매자")
+                .receiverName("수령인")
+                .totalProductAmount(10000L)
+                .totalDiscountAmount(0L)
+                .totalShippingAmount(3000L)
+                .totalPaidAmount(13000L)
+                .commissionAmount(1000L)
+                .shippingCommissionAmount(shippingCommission)
+                .expectedSettlementAmount(12000L)
+                .settlementStatus(SettlementCollectionStatus.COLLECTED)
+                .shippingFee(3000L)
+                .prepaidShippingFee(0L)
+                .additionalShippingFee(0L)
+                .build();
+        order.addItem(OrderItem.builder()
+                .lineNo(1)
+                .marketplaceItemId("ITEM-" + UUID.randomUUID())
+                .marketplaceProductId(productId)
+                .productName("테스트 상품")
+                .quantity(1)
+                .unitPrice(10000L)
+                .originalPrice(10000L)
+                .discountAmount(0L)
+                .lineAmount(10000L)
+                .commissionAmount(1000L)
+                .itemStatus(ItemStatus.NORMAL)
+                .build());
+        return orderRepository.save(order);
+    }
+}
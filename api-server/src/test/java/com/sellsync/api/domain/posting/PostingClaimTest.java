@@ -0,0 +1,146 @@
+package com.sellsync.api.domain.posting;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.posting.dto.CreatePostingRequest;
+import com.sellsync.api.domain.posting.dto.PostingResponse;
+import com.sellsync.api.domain.posting.entity.Posting;
+import com.sellsync.api.domain.posting.enums.PostingStatus;
+import com.sellsync.api.domain.posting.enums.PostingType;
+import com.sellsync.api.domain.posting.repository.PostingRepository;
+import com.sellsync.api.domain.posting.service.PostingService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전표 전송 선점(claimForTransmission) 테스트
+ *
+ * 핵심:
+ * - 조건부 UPDATE (WHERE posting_status IN ('READY', 'READY_TO_POST'))
+ * - 경쟁 시 각 전표는 단 1개 호출만 선점
+ * - 전송 중/완료 전표는 선점 대상에서 제외
+ */
+@Slf4j
+@Testcontainers
+class PostingClaimTest extends PostingTestBase {
+
+    @Autowired
+    private PostingService postingService;
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Test
+    @DisplayName("[전송 선점] READY/READY_TO_POST 전표만 POSTING_REQUESTED로 선점")
+    void testClaim_onlyTransmittableStatuses() {
+        // Given: READY, READY_TO_POST, POSTING_REQUESTED, POSTED 전표
+        PostingResponse ready = createNewPosting();
+        PostingResponse readyToPost = createNewPosting();
+        postingService.transitionTo(readyToPost.getPostingId(), PostingStatus.READY_TO_POST);
+        PostingResponse requested = createNewPosting();
+        postingService.transitionTo(requested.getPostingId(), PostingStatus.READY_TO_POST);
+        postingService.transitionTo(requested.getPostingId(), PostingStatus.POSTING_REQUESTED);
+        PostingResponse posted = createNewPosting();
+        postingService.transitionTo(posted.getPostingId(), PostingStatus.READY_TO_POST);
+        postingService.transitionTo(posted.getPostingId(), PostingStatus.POSTING_REQUESTED);
+        postingService.markAsPosted(posted.getPostingId(), "ERP-DOC-CLAIM", "{\"success\": true}");
+
+        // When: 4건 선점 요청
+        List<Posting> claimed = postingService.claimForTransmission(List.of(
+                ready.getPostingId(), readyToPost.getPostingId(),
+                requested.getPostingId(), posted.getPostingId()));
+
+        // Then: READY/READY_TO_POST 2건만 선점
+        assertThat(claimed).extracting(Posting::getPostingId)
+                .containsExactlyInAnyOrder(ready.getPostingId(), readyToPost.getPostingId());
+        assertThat(status(ready.getPostingId())).isEqualTo(PostingStatus.POSTING_REQUESTED);
+        assertThat(status(readyToPost.getPostingId())).isEqualTo(PostingStatus.POSTING_REQUESTED);
+        assertThat(status(requested.getPostingId())).isEqualTo(PostingStatus.POSTING_REQUESTED);
+        assertThat(status(posted.getPostingId())).isEqualTo(PostingStatus.POSTED);
+    }
+
+    @Test
+    @DisplayName("[전송 선점] 이미 선점된 전표는 다시 선점하지 않음 (멱등)")
+    void testClaim_secondClaimReturnsEmpty() {
+        // Given: 한 번 선점된 전표
+        PostingResponse posting = createNewPosting();
+        assertThat(postingService.claimForTransmission(List.of(posting.getPostingId()))).hasSize(1);
+
+        // When: 다시 선점
+        List<Posting> claimed = postingService.claimForTransmission(List.of(posting.getPostingId()));
+
+        // Then: 선점 없음
+        assertThat(claimed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[전송 선점+동시성] 동시 5개 스레드가 같은 전표 묶음 선점 시 전표별 1회만 선점")
+    void testClaim_concurrentClaim_eachPostingClaimedOnce() throws InterruptedException {
+        // Given: READY 전표 10건
+        List<UUID> postingIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            postingIds.add(createNewPosting().getPostingId());
+        }
+
+        // When: 5개 스레드가 동시에 같은 묶음 선점 시도
+        int threadCount = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        List<UUID> claimedIds = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    List<Posting> claimed = postingService.claimForTransmission(postingIds);
+                    claimed.forEach(p -> claimedIds.add(p.getPostingId()));
+                    log.info("스레드 {} 선점: {}건", index, claimed.size());
+                } catch (Exception e) {
+                    log.error("스레드 {} 오류: {}", index, e.getMessage(), e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // Then: 모든 전표가 정확히 1회씩 선점 (중복 전송 없음)
+        assertThat(claimedIds).hasSize(postingIds.size());
+        assertThat(claimedIds).containsExactlyInAnyOrderElementsOf(postingIds);
+        postingIds.forEach(id -> assertThat(status(id)).isEqualTo(PostingStatus.POSTING_REQUESTED));
+    }
+
+    private PostingStatus status(UUID postingId) {
+        return postingRepository.findById(postingId).orElseThrow().getPostingStatus();
+    }
+
+    private PostingResponse createNewPosting() {
+        CreatePostingRequest request = CreatePostingRequest.builder()
+                .tenantId(UUID.randomUUID())
+                .erpCode("ECOUNT")
+                .orderId(UUID.randomUUID())
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId("ORDER-" + UUID.randomUUID())
+                .postingType(PostingType.PRODUCT_SALES)
+                .build();
+
+        return postingService.createOrGet(request);
+    }
+}
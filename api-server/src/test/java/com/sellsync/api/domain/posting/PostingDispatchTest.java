@@ -0,0 +1,266 @@
+package com.sellsync.api.domain.posting;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.posting.dto.CreatePostingRequest;
+import com.sellsync.api.domain.posting.enums.PostingStatus;
+import com.sellsync.api.domain.posting.enums.PostingType;
+import com.sellsync.api.domain.posting.repository.PostingDispatchRepository.ClaimedBatch;
+import com.sellsync.api.domain.posting.repository.PostingRepository;
+import com.sellsync.api.domain.posting.repository.PostingTransitionRepository.StatusTransition;
+import com.sellsync.api.domain.posting.service.PostingService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전표 전송 작업 큐 테스트 (선점 / 해제 / lease 만료)
+ *
+ * 핵심:
+ * - claimBatch: 테넌트/ERP의 READY 전표를 묶음 크기만큼 POSTING_REQUESTED로 선점, 동시 전송 한도 초과 시 보류
+ * - releaseBatch: ERP 전송 전 선점 취소 (READY 복원, 선점 정보 제거)
+ * - expireClaims: lease 만료 묶음 FAILED 처리 + 시도 이력(LEASE_EXPIRED) 기록
+ * - POSTING_REQUESTED에서 나가는 전이/재시도 전이는 선점 정보 해제 (재시도 전표가 이전 lease로 만료되지 않음)
+ * - claimForTransmission: 지정 전표 선점도 선점 정보 기록 (동시 전송 수 집계, lease 만료 대상)
+ */
+@Slf4j
+@Testcontainers
+class PostingDispatchTest extends PostingTestBase {
+
+    private static final String ERP_CODE = "ECOUNT";
+
+    @Autowired
+    private PostingService postingService;
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[작업 큐] READY 전표를 묶음 크기만큼 선점하고 동시 전송 한도 초과 시 보류")
+    void testClaimBatch_claimsUpToBatchSize() {
+        // Given: 같은 테넌트/ERP의 READY 전표 3건
+        UUID tenantId = UUID.randomUUID();
+        List<UUID> postingIds = createReadyPostings(tenantId, 3);
+
+        // When: 묶음 크기 2로 선점
+        ClaimedBatch batch = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-1",
+                1, 2, LocalDateTime.now().minusMinutes(10));
+
+        // Then: 2건 선점 (선점 정보 기록)
+        assertThat(batch.postingIds()).hasSize(2);
+        assertThat(postingIds).containsAll(batch.postingIds());
+        UUID remaining = postingIds.stream().filter(id -> !batch.postingIds().contains(id)).findFirst().orElseThrow();
+        for (UUID postingId : batch.postingIds()) {
+            Map<String, Object> row = claimRow(postingId);
+            assertThat(row.get("posting_status")).isEqualTo(PostingStatus.POSTING_REQUESTED.name());
+            assertThat(row.get("claim_batch_id")).isEqualTo(batch.claimBatchId());
+            assertThat(row.get("claimed_by")).isEqualTo("worker-1");
+            assertThat(row.get("claimed_at")).isNotNull();
+        }
+        assertThat(claimRow(remaining).get("posting_status")).isEqualTo(PostingStatus.READY.name());
+
+        // When: 동시 전송 한도(1) 도달 상태에서 다시 선점
+        ClaimedBatch second = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-2",
+                1, 2, LocalDateTime.now().minusMinutes(10));
+
+        // Then: 선점 보류
+        assertThat(second.isEmpty()).isTrue();
+        assertThat(claimRow(remaining).get("posting_status")).isEqualTo(PostingStatus.READY.name());
+    }
+
+    @Test
+    @DisplayName("[작업 큐] 선점 해제 시 READY로 복원되고 다시 선점 가능")
+    void testReleaseBatch_restoresReady() {
+        // Given: 선점된 묶음
+        UUID tenantId = UUID.randomUUID();
+        List<UUID> postingIds = createReadyPostings(tenantId, 2);
+        ClaimedBatch batch = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-1",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+        assertThat(batch.postingIds()).hasSize(2);
+
+        // When: 선점 해제
+        int released = postingRepository.releaseBatch(batch.claimBatchId());
+
+        // Then: READY 복원, 선점 정보 제거
+        assertThat(released).isEqualTo(2);
+        for (UUID postingId : postingIds) {
+            Map<String, Object> row = claimRow(postingId);
+            assertThat(row.get("posting_status")).isEqualTo(PostingStatus.READY.name());
+            assertThat(row.get("claim_batch_id")).isNull();
+            assertThat(row.get("claimed_by")).isNull();
+            assertThat(row.get("claimed_at")).isNull();
+        }
+
+        // Then: 다시 선점 가능
+        ClaimedBatch again = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-2",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+        assertThat(again.postingIds()).containsExactlyInAnyOrderElementsOf(postingIds);
+    }
+
+    @Test
+    @DisplayName("[작업 큐] lease 만료 묶음은 FAILED 처리하고 시도 이력을 기록")
+    void testExpireClaims_marksFailedWithAttempt() {
+        // Given: 선점된 묶음 + lease 유효한 다른 테넌트 묶음
+        UUID tenantId = UUID.randomUUID();
+        List<UUID> postingIds = createReadyPostings(tenantId, 2);
+        ClaimedBatch batch = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-1",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+        assertThat(batch.postingIds()).hasSize(2);
+
+        UUID otherTenantId = UUID.randomUUID();
+        List<UUID> otherIds = createReadyPostings(otherTenantId, 1);
+        postingRepository.claimBatch(otherTenantId, ERP_CODE, "worker-1",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+
+        // 첫 묶음만 lease 만료 (선점 시각을 과거로 이동)
+        jdbcTemplate.update("UPDATE postings SET claimed_at = NOW() - INTERVAL '1 hour' WHERE claim_batch_id = ?",
+                batch.claimBatchId());
+
+        // When: lease 만료 처리 (10분 기준)
+        int expired = postingRepository.expireClaims(LocalDateTime.now().minusMinutes(10));
+
+        // Then: 만료 묶음만 FAILED + 시도 이력 1건
+        assertThat(expired).isGreaterThanOrEqualTo(2);
+        for (UUID postingId : postingIds) {
+            Map<String, Object> row = claimRow(postingId);
+            assertThat(row.get("posting_status")).isEqualTo(PostingStatus.FAILED.name());
+            assertThat(row.get("attempt_count")).isEqualTo(1);
+
+            List<Map<String, Object>> attempts = jdbcTemplate.queryForList(
+                    "SELECT attempt_number, status, error_code, trace_id FROM posting_attempts WHERE posting_id = ?",
+                    postingId);
+            assertThat(attempts).hasSize(1);
+            assertThat(attempts.get(0).get("attempt_number")).isEqualTo(1);
+            assertThat(attempts.get(0).get("status")).isEqualTo("FAILED");
+            assertThat(attempts.get(0).get("error_code")).isEqualTo("LEASE_EXPIRED");
+            assertThat(attempts.get(0).get("trace_id")).isEqualTo(batch.claimBatchId().toString());
+        }
+        assertThat(claimRow(otherIds.get(0)).get("posting_status")).isEqualTo(PostingStatus.POSTING_REQUESTED.name());
+
+        // Then: 실패 전표는 재시도 가능 상태
+        postingIds.forEach(id -> assertThat(postingService.getById(id).getPostingStatus().isRetryable()).isTrue());
+    }
+
+    @Test
+    @DisplayName("[작업 큐] lease 만료 후 재처리한 전표는 선점 정보가 없어 다시 만료되지 않음")
+    void testReprocessAfterExpiry_clearsClaim() {
+        // Given: 선점 후 lease 만료로 FAILED
+        UUID tenantId = UUID.randomUUID();
+        UUID postingId = createReadyPostings(tenantId, 1).get(0);
+        ClaimedBatch batch = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-1",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+        jdbcTemplate.update("UPDATE postings SET claimed_at = NOW() - INTERVAL '1 hour' WHERE claim_batch_id = ?",
+                batch.claimBatchId());
+        postingRepository.expireClaims(LocalDateTime.now().minusMinutes(10));
+
+        Map<String, Object> failed = claimRow(postingId);
+        assertThat(failed.get("posting_status")).isEqualTo(PostingStatus.FAILED.name());
+        assertThat(failed.get("claim_batch_id")).isNull();
+        assertThat(failed.get("claimed_at")).isNull();
+
+        // When: 재처리 (FAILED → POSTING_REQUESTED) 후 lease 만료 처리
+        postingService.reprocess(postingId);
+        postingRepository.expireClaims(LocalDateTime.now().minusMinutes(10));
+
+        // Then: 전송 중 상태 유지, 선점 정보 없음, 만료 이력 추가 없음
+        Map<String, Object> retried = claimRow(postingId);
+        assertThat(retried.get("posting_status")).isEqualTo(PostingStatus.POSTING_REQUESTED.name());
+        assertThat(retried.get("claim_batch_id")).isNull();
+        assertThat(retried.get("claimed_by")).isNull();
+        assertThat(retried.get("claimed_at")).isNull();
+        assertThat(retried.get("attempt_count")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[작업 큐] 전송 결과 반영(FAILED) 후 재시도 전이 시 선점 정보 해제")
+    void testRetryAfterFailedResult_clearsClaim() {
+        // Given: 선점 후 전송 실패 반영
+        UUID tenantId = UUID.randomUUID();
+        UUID postingId = createReadyPostings(tenantId, 1).get(0);
+        postingRepository.claimBatch(tenantId, ERP_CODE, "worker-1",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+        postingService.applyTransitions(List.of(StatusTransition.failed(postingId, "ERP 오류", null)));
+
+        assertThat(claimRow(postingId).get("claim_batch_id")).isNull();
+
+        // When: 재시도 전이 (FAILED → POSTING_REQUESTED) 후 선점 시각이 한참 지난 것으로 lease 만료 처리
+        postingService.applyTransitions(List.of(new StatusTransition(postingId,
+                PostingStatus.FAILED, PostingStatus.POSTING_REQUESTED, null, null, null, null)));
+        postingRepository.expireClaims(LocalDateTime.now().plusMinutes(1));
+
+        // Then: 재시도 전송 중 상태 유지
+        Map<String, Object> row = claimRow(postingId);
+        assertThat(row.get("posting_status")).isEqualTo(PostingStatus.POSTING_REQUESTED.name());
+        assertThat(row.get("claim_batch_id")).isNull();
+        assertThat(row.get("claimed_at")).isNull();
+    }
+
+    @Test
+    @DisplayName("[작업 큐] 지정 전표 선점도 선점 정보를 기록해 동시 전송 수에 집계되고 lease 만료 대상")
+    void testClaimForTransmission_recordsClaim() {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        List<UUID> postingIds = createReadyPostings(tenantId, 3);
+
+        // When: 2건 지정 선점
+        List<UUID> claimed = postingRepository.claimForTransmission(postingIds.subList(0, 2));
+
+        // Then: 같은 선점 묶음으로 기록
+        assertThat(claimed).containsExactlyInAnyOrderElementsOf(postingIds.subList(0, 2));
+        Map<String, Object> first = claimRow(postingIds.get(0));
+        assertThat(first.get("claim_batch_id")).isNotNull();
+        assertThat(first.get("claimed_by")).isNotNull();
+        assertThat(first.get("claimed_at")).isNotNull();
+        assertThat(claimRow(postingIds.get(1)).get("claim_batch_id")).isEqualTo(first.get("claim_batch_id"));
+
+        // Then: 진행 중 묶음 1개 - 동시 전송 한도 1이면 작업 큐 선점 보류
+        ClaimedBatch held = postingRepository.claimBatch(tenantId, ERP_CODE, "worker-1",
+                1, 10, LocalDateTime.now().minusMinutes(10));
+        assertThat(held.isEmpty()).isTrue();
+
+        // When: lease 만료
+        jdbcTemplate.update("UPDATE postings SET claimed_at = NOW() - INTERVAL '1 hour' WHERE claim_batch_id = ?",
+                first.get("claim_batch_id"));
+        postingRepository.expireClaims(LocalDateTime.now().minusMinutes(10));
+
+        // Then: 지정 선점 전표 FAILED
+        assertThat(claimRow(postingIds.get(0)).get("posting_status")).isEqualTo(PostingStatus.FAILED.name());
+        assertThat(claimRow(postingIds.get(1)).get("posting_status")).isEqualTo(PostingStatus.FAILED.name());
+        assertThat(claimRow(postingIds.get(2)).get("posting_status")).isEqualTo(PostingStatus.READY.name());
+    }
+
+    private Map<String, Object> claimRow(UUID postingId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT posting_status, claim_batch_id, claimed_by, claimed_at, attempt_count FROM postings WHERE posting_id = ?",
+                postingId);
+    }
+
+    private List<UUID> createReadyPostings(UUID tenantId, int count) {
+        List<UUID> postingIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CreatePostingRequest request = CreatePostingRequest.builder()
+                    .tenantId(tenantId)
+                    .erpCode(ERP_CODE)
+                    .orderId(UUID.randomUUID())
+                    .marketplace(Marketplace.NAVER_SMARTSTORE)
+                    .marketplaceOrderId("ORDER-" + UUID.randomUUID())
+                    .postingType(PostingType.PRODUCT_SALES)
+                    .build();
+            postingIds.add(postingService.createOrGet(request).getPostingId());
+        }
+        return postingIds;
+    }
+}
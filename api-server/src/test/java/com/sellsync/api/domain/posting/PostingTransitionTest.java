@@ -0,0 +1,207 @@
+package com.sellsync.api.domain.posting;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.posting.dto.CreatePostingRequest;
+import com.sellsync.api.domain.posting.enums.PostingStatus;
+import com.sellsync.api.domain.posting.enums.PostingType;
+import com.sellsync.api.domain.posting.repository.PostingTransitionRepository.AttemptRecord;
+import com.sellsync.api.domain.posting.repository.PostingTransitionRepository.StatusTransition;
+import com.sellsync.api.domain.posting.service.PostingService;
+import com.sellsync.api.domain.posting.service.PostingService.BulkTransitionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전표 상태 전이 일괄 반영 테스트 (PostingService.applyTransitions)
+ *
+ * 핵심:
+ * - (posting_id, expected_status) 조건 UPDATE FROM unnest - 현재 상태가 다르면 건너뜀 (skipped)
+ * - 상태머신상 허용되지 않는 전이는 DB에 보내지 않음 (rejected)
+ * - 전이된 전표만 시도 이력 저장 (attempt_number = 증가 후 attempt_count)
+ */
+@Slf4j
+@Testcontainers
+class PostingTransitionTest extends PostingTestBase {
+
+    @Autowired
+    private PostingService postingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[일괄 전이] POSTED/FAILED 반영 + 전표별 시도 이력 저장")
+    void testApplyTransitions_postedAndFailedWithAttempts() {
+        // Given: 전송 요청 상태 전표 2건
+        UUID postedId = createRequestedPosting();
+        UUID failedId = createRequestedPosting();
+
+        // When: 성공 1건 + 실패 1건 일괄 반영
+        BulkTransitionResult result = postingService.applyTransitions(List.of(
+                StatusTransition.posted(postedId, "ERP-DOC-001", "{\"success\": true}", attempt("SUCCESS", null)),
+                StatusTransition.failed(failedId, "ERP 검증 오류", attempt("FAILED", "E001"))));
+
+        // Then: 2건 전이
+        assertThat(result.getApplied()).containsExactlyInAnyOrder(postedId, failedId);
+        assertThat(result.getSkipped()).isEmpty();
+        assertThat(result.getRejected()).isEmpty();
+
+        Map<String, Object> posted = postingRow(postedId);
+        assertThat(posted.get("posting_status")).isEqualTo(PostingStatus.POSTED.name());
+        assertThat(posted.get("erp_document_no")).isEqualTo("ERP-DOC-001");
+        assertThat(posted.get("posted_at")).isNotNull();
+        assertThat(posted.get("error_message")).isNull();
+        assertThat(posted.get("attempt_count")).isEqualTo(1);
+
+        Map<String, Object> failed = postingRow(failedId);
+        assertThat(failed.get("posting_status")).isEqualTo(PostingStatus.FAILED.name());
+        assertThat(failed.get("error_message")).isEqualTo("ERP 검증 오류");
+        assertThat(failed.get("attempt_count")).isEqualTo(1);
+
+        // Then: 전표별 시도 이력 1건 (attempt_number = 1)
+        List<Map<String, Object>> postedAttempts = attemptRows(postedId);
+        assertThat(postedAttempts).hasSize(1);
+        assertThat(postedAttempts.get(0).get("attempt_number")).isEqualTo(1);
+        assertThat(postedAttempts.get(0).get("status")).isEqualTo("SUCCESS");
+        assertThat(postedAttempts.get(0).get("trace_id")).isEqualTo("trace-001");
+
+        List<Map<String, Object>> failedAttempts = attemptRows(failedId);
+        assertThat(failedAttempts).hasSize(1);
+        assertThat(failedAttempts.get(0).get("status")).isEqualTo("FAILED");
+        assertThat(failedAttempts.get(0).get("error_code")).isEqualTo("E001");
+    }
+
+    @Test
+    @DisplayName("[일괄 전이] 현재 상태가 expected_status와 다르면 건너뛰고 시도 이력 미저장")
+    void testApplyTransitions_staleExpectedStatusSkipped() {
+        // Given: READY 전표 (expected POSTING_REQUESTED와 불일치) + 전송 요청 전표
+        UUID readyId = createReadyPosting();
+        UUID requestedId = createRequestedPosting();
+
+        // When
+        BulkTransitionResult result = postingService.applyTransitions(List.of(
+                StatusTransition.posted(readyId, "ERP-DOC-STALE", "{}", attempt("SUCCESS", null)),
+                StatusTransition.posted(requestedId, "ERP-DOC-002", "{}", attempt("SUCCESS", null))));
+
+        // Then: 불일치 전표는 건너뜀
+        assertThat(result.getApplied()).containsExactly(requestedId);
+        assertThat(result.getSkipped()).containsExactly(readyId);
+        assertThat(postingRow(readyId).get("posting_status")).isEqualTo(PostingStatus.READY.name());
+        assertThat(postingRow(readyId).get("attempt_count")).isEqualTo(0);
+        assertThat(attemptRows(readyId)).isEmpty();
+        assertThat(attemptRows(requestedId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[일괄 전이] 같은 결과를 다시 반영해도 중복 전이/이력 없음")
+    void testApplyTransitions_reapplyIsIdempotent() {
+        // Given: 이미 POSTED 반영된 전표
+        UUID postingId = createRequestedPosting();
+        StatusTransition transition = StatusTransition.posted(postingId, "ERP-DOC-003", "{}", attempt("SUCCESS", null));
+        postingService.applyTransitions(List.of(transition));
+
+        // When: 같은 결과 재반영
+        BulkTransitionResult result = postingService.applyTransitions(List.of(transition));
+
+        // Then: 건너뜀, 이력 1건 유지
+        assertThat(result.getApplied()).isEmpty();
+        assertThat(result.getSkipped()).containsExactly(postingId);
+        assertThat(postingRow(postingId).get("attempt_count")).isEqualTo(1);
+        assertThat(attemptRows(postingId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[일괄 전이] 허용되지 않는 전이는 DB에 보내지 않음 (rejected)")
+    void testApplyTransitions_disallowedTransitionRejected() {
+        // Given: READY 전표
+        UUID postingId = createReadyPosting();
+
+        // When: READY → POSTED (READY_TO_POST/POSTING_REQUESTED를 거치지 않음)
+        BulkTransitionResult result = postingService.applyTransitions(List.of(
+                new StatusTransition(postingId, PostingStatus.READY, PostingStatus.POSTED,
+                        "ERP-DOC-X", "{}", null, attempt("SUCCESS", null))));
+
+        // Then: 거부, 상태/이력 변경 없음
+        assertThat(result.getRejected()).containsExactly(postingId);
+        assertThat(result.getApplied()).isEmpty();
+        assertThat(postingRow(postingId).get("posting_status")).isEqualTo(PostingStatus.READY.name());
+        assertThat(attemptRows(postingId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[일괄 전이] 재시도 실패 시 attempt_number가 이어서 증가, attempt 없는 전이는 이력 미저장")
+    void testApplyTransitions_attemptNumberIncrements() {
+        // Given: 1차 실패 후 재처리 (FAILED → POSTING_REQUESTED)
+        UUID postingId = createRequestedPosting();
+        postingService.applyTransitions(List.of(
+                StatusTransition.failed(postingId, "1차 실패", attempt("FAILED", "E001"))));
+        postingService.reprocess(postingId);
+
+        // When: 2차 실패
+        postingService.applyTransitions(List.of(
+                StatusTransition.failed(postingId, "2차 실패", attempt("FAILED", "E002"))));
+
+        // Then: attempt_number 1, 2
+        assertThat(attemptRows(postingId)).extracting(row -> row.get("attempt_number"))
+                .containsExactly(1, 2);
+        assertThat(postingRow(postingId).get("attempt_count")).isEqualTo(2);
+
+        // When: 시도 이력 없는 전이 (FAILED → POSTING_REQUESTED)
+        BulkTransitionResult result = postingService.applyTransitions(List.of(
+                new StatusTransition(postingId, PostingStatus.FAILED, PostingStatus.POSTING_REQUESTED,
+                        null, null, null, null)));
+
+        // Then: 전이되지만 attempt_count / 이력 유지
+        assertThat(result.getApplied()).containsExactly(postingId);
+        assertThat(postingRow(postingId).get("posting_status")).isEqualTo(PostingStatus.POSTING_REQUESTED.name());
+        assertThat(postingRow(postingId).get("attempt_count")).isEqualTo(2);
+        assertThat(attemptRows(postingId)).hasSize(2);
+    }
+
+    private AttemptRecord attempt(String status, String errorCode) {
+        return new AttemptRecord(status, "{\"request\": \"payload\"}", "{\"response\": \"payload\"}",
+                errorCode, errorCode != null ? "오류 " + errorCode : null, "trace-001", null, 120L);
+    }
+
+    private Map<String, Object> postingRow(UUID postingId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT posting_status, erp_document_no, posted_at, error_message, attempt_count " +
+                "FROM postings WHERE posting_id = ?", postingId);
+    }
+
+    private List<Map<String, Object>> attemptRows(UUID postingId) {
+        return jdbcTemplate.queryForList(
+                "SELECT attempt_number, status, error_code, trace_id FROM posting_attempts " +
+                "WHERE posting_id = ? ORDER BY attempt_number", postingId);
+    }
+
+    private UUID createRequestedPosting() {
+        UUID postingId = createReadyPosting();
+        postingService.transitionTo(postingId, PostingStatus.READY_TO_POST);
+        postingService.transitionTo(postingId, PostingStatus.POSTING_REQUESTED);
+        return postingId;
+    }
+
+    private UUID createReadyPosting() {
+        CreatePostingRequest request = CreatePostingRequest.builder()
+                .tenantId(UUID.randomUUID())
+                .erpCode("ECOUNT")
+                .orderId(UUID.randomUUID())
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId("ORDER-" + UUID.randomUUID())
+                .postingType(PostingType.PRODUCT_SALES)
+                .build();
+
+        return postingService.createOrGet(request).getPostingId();
+    }
+}
@@ -0,0 +1,82 @@
+package com.sellsync.api.domain.posting.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계산식 파싱/평가 검증
+ */
+class CompiledFormulaTest {
+
+    @Test
+    @DisplayName("[Formula] 연산자 우선순위와 괄호를 적용한다")
+    void evaluate_numericPrecedence() {
+        assertThat(eval("2 + 3 * 4", Map.of())).isEqualTo(14L);
+        assertThat(eval("(2 + 3) * 4", Map.of())).isEqualTo(20L);
+        assertThat(eval("10 - 3 - 2", Map.of())).isEqualTo(5L);
+        assertThat(eval("2 * 3 * 4", Map.of())).isEqualTo(24L);
+        assertThat(eval("5 - -3", Map.of())).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("[Formula] 필드 값을 바인딩하고 나눗셈은 소수로 반환한다")
+    void evaluate_bindsFields() {
+        Map<String, Object> fields = Map.of(
+                "order.totalPaymentAmount", 50000L,
+                "item.quantity", 2);
+
+        assertThat(eval("order.totalPaymentAmount / item.quantity", fields)).isEqualTo(25000.0);
+        assertThat(eval("order.totalPaymentAmount - 1000", fields)).isEqualTo(49000L);
+        assertThat(eval("item.quantity / 0", fields)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("[Formula] 필드는 참조 횟수와 무관하게 1회만 조회한다")
+    void evaluate_resolvesEachFieldOnce() {
+        List<String> resolved = new ArrayList<>();
+        CompiledFormula formula = CompiledFormula.compile("item.unitPrice * item.quantity + item.unitPrice");
+
+        Object result = formula.evaluate(ref -> {
+            resolved.add(ref);
+            return ref.equals("item.unitPrice") ? new BigDecimal("1000") : 3;
+        });
+
+        assertThat(result).isEqualTo(4000L);
+        assertThat(resolved).containsExactly("item.unitPrice", "item.quantity");
+    }
+
+    @Test
+    @DisplayName("[Formula] 문자열 리터럴 또는 문자열 필드가 있으면 연결한다")
+    void evaluate_stringConcat() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("order.marketplaceOrderId", "ORD123");
+        fields.put("order.buyerName", "홍길동");
+        fields.put("order.buyerPhone", null);
+
+        assertThat(eval("order.marketplaceOrderId + ' ' + order.buyerName", fields)).isEqualTo("ORD123 홍길동");
+        assertThat(eval("order.marketplaceOrderId + order.buyerPhone", fields)).isEqualTo("ORD123");
+        assertThat(eval("'A+B' + \"-\" + 1", fields)).isEqualTo("A+B-1");
+    }
+
+    @Test
+    @DisplayName("[Formula] 문법 오류는 파싱 시점에 거부한다")
+    void compile_rejectsInvalidFormula() {
+        assertThatThrownBy(() -> CompiledFormula.compile("order.amount % 2")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledFormula.compile("(1 + 2")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledFormula.compile("foo.bar + 1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledFormula.compile("'unterminated")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Object eval(String formula, Map<String, Object> fields) {
+        return CompiledFormula.compile(formula).evaluate(fields::get);
+    }
+}
@@ -0,0 +1,236 @@
+package com.sellsync.api.domain.settlement;
+
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.order.enums.OrderStatus;
+import com.sellsync.api.domain.order.repository.OrderRepository;
+import com.sellsync.api.domain.settlement.adapter.NaverSmartStoreSettlementClient;
+import com.sellsync.api.domain.settlement.dto.SettlementCollectionResult;
+import com.sellsync.api.domain.settlement.dto.smartstore.DailySettlementElement;
+import com.sellsync.api.domain.settlement.service.SettlementCollectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정산 수집 서비스 통합 테스트 (내용 지문 기반 재처리 생략)
+ *
+ * 핵심:
+ * - 변경 없는 묶음 x 정산일은 SettlementOrder 처리 생략
+ * - 주문 테이블 정산 정보는 기간 전체 요소 합계로 기록 (한 정산일만 바뀌어도 다른 정산일 금액 유지)
+ * - 수집 기간 이전 정산일이 있는 주문은 기간 내 합계로 덮어쓰지 않음 (이전 정산일을 포함하는 수집에서 기록)
+ * - 마켓 조회 실패는 예외로 전파 (작업 FAILED), 지문 미저장으로 재수집 시 전체 재처리
+ */
+@Slf4j
+class SettlementCollectionServiceTest extends SettlementTestBase {
+
+    private static final LocalDate DAY0 = LocalDate.of(2026, 3, 1);
+    private static final LocalDate DAY1 = LocalDate.of(2026, 3, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 3, 3);
+
+    @Autowired
+    private SettlementCollectionService settlementCollectionService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockBean
+    private NaverSmartStoreSettlementClient naverSettlementClient;
+
+    private List<List<DailySettlementElement>> pages = List.of();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(naverSettlementClient.getMarketplaceCode()).thenReturn("NAVER_SMARTSTORE");
+        doAnswer(invocation -> {
+            Consumer<List<DailySettlementElement>> consumer = invocation.getArgument(3);
+            pages.forEach(consumer);
+            return null;
+        }).when(naverSettlementClient).streamSettlementElements(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("[정산 수집] 여러 정산일에 걸친 주문은 한 정산일만 바뀌어도 기간 전체 합계로 기록")
+    void testCollect_multiPayDateOrderKeepsUnchangedDayAmounts() {
+        // Given: 정산일 2일에 걸친 주문 1건
+        UUID tenantId = UUID.randomUUID();
+        UUID storeId = UUID.randomUUID();
+        String productOrderId = "PO-" + UUID.randomUUID();
+        String bundleOrderId = "BO-" + UUID.randomUUID();
+        createOrder(tenantId, storeId, productOrderId, bundleOrderId);
+
+        // When: 1차 수집 (DAY1 + DAY2)
+        pages = List.of(
+                List.of(element(DAY1, bundleOrderId, productOrderId, 10000L, -1000L, 9000L)),
+                List.of(element(DAY2, bundleOrderId, productOrderId, 3000L, -300L, 2700L)));
+        SettlementCollectionResult first = collect(tenantId, storeId);
+
+        // Then: 2일 합계 기록
+        assertThat(first.getSkippedElements()).isZero();
+        Order afterFirst = findOrder(storeId, productOrderId);
+        assertThat(afterFirst.getCommissionAmount()).isEqualTo(1300L);
+        assertThat(afterFirst.getExpectedSettlementAmount()).isEqualTo(11700L);
+
+        // When: 2차 수집 (DAY1 그대로, DAY2만 변경)
+        pages = List.of(
+                List.of(element(DAY1, bundleOrderId, productOrderId, 10000L, -1000L, 9000L)),
+                List.of(element(DAY2, bundleOrderId, productOrderId, 3000L, -500L, 2500L)));
+        SettlementCollectionResult second = collect(tenantId, storeId);
+
+        // Then: DAY1 묶음은 생략되지만 주문 금액은 DAY1 + 변경된 DAY2 합계
+        assertThat(second.getSkippedElements()).isEqualTo(1);
+        assertThat(second.getUpdatedOrders()).isEqualTo(1);
+        Order afterSecond = findOrder(storeId, productOrderId);
+        assertThat(afterSecond.getCommissionAmount()).isEqualTo(1500L);
+        assertThat(afterSecond.getExpectedSettlementAmount()).isEqualTo(11500L);
+
+        // When: 3차 수집 (변경 없음)
+        SettlementCollectionResult third = collect(tenantId, storeId);
+
+        // Then: 전체 생략, 주문 금액 유지
+        assertThat(third.getSkippedElements()).isEqualTo(2);
+        assertThat(third.getUpdatedOrders()).isZero();
+        Order afterThird = findOrder(storeId, productOrderId);
+        assertThat(afterThird.getCommissionAmount()).isEqualTo(1500L);
+        assertThat(afterThird.getExpectedSettlementAmount()).isEqualTo(11500L);
+    }
+
+    @Test
+    @DisplayName("[정산 수집] 첫 정산일이 수집 기간 밖인 주문은 기간 내 합계로 덮어쓰지 않음")
+    void testCollect_orderWithPayDateBeforeWindowNotOverwritten() {
+        // Given: DAY0 + DAY2 정산 주문을 DAY0부터 수집
+        UUID tenantId = UUID.randomUUID();
+        UUID storeId = UUID.randomUUID();
+        String productOrderId = "PO-" + UUID.randomUUID();
+        String bundleOrderId = "BO-" + UUID.randomUUID();
+        createOrder(tenantId, storeId, productOrderId, bundleOrderId);
+
+        pages = List.of(
+                List.of(element(DAY0, bundleOrderId, productOrderId, 10000L, -1000L, 9000L)),
+                List.of(element(DAY2, bundleOrderId, productOrderId, 3000L, -300L, 2700L)));
+        collect(tenantId, storeId, DAY0);
+        assertThat(findOrder(storeId, productOrderId).getCommissionAmount()).isEqualTo(1300L);
+
+        // When: 증분 수집 (DAY1 ~ DAY2, DAY2만 변경)
+        pages = List.of(List.of(element(DAY2, bundleOrderId, productOrderId, 3000L, -500L, 2500L)));
+        SettlementCollectionResult incremental = collect(tenantId, storeId, DAY1);
+
+        // Then: DAY2만의 합계로 덮어쓰지 않음
+        assertThat(incremental.getUpdatedOrders()).isZero();
+        Order afterIncremental = findOrder(storeId, productOrderId);
+        assertThat(afterIncremental.getCommissionAmount()).isEqualTo(1300L);
+        assertThat(afterIncremental.getExpectedSettlementAmount()).isEqualTo(11700L);
+
+        // When: DAY0을 포함하는 수집
+        pages = List.of(
+                List.of(element(DAY0, bundleOrderId, productOrderId, 10000L, -1000L, 9000L)),
+                List.of(element(DAY2, bundleOrderId, productOrderId, 3000L, -500L, 2500L)));
+        SettlementCollectionResult full = collect(tenantId, storeId, DAY0);
+
+        // Then: 보류했던 DAY2 변경이 기간 전체 합계로 기록
+        assertThat(full.getUpdatedOrders()).isEqualTo(1);
+        Order afterFull = findOrder(storeId, productOrderId);
+        assertThat(afterFull.getCommissionAmount()).isEqualTo(1500L);
+        assertThat(afterFull.getExpectedSettlementAmount()).isEqualTo(11500L);
+    }
+
+    @Test
+    @DisplayName("[정산 수집] 조회 단위 실패는 예외로 전파되고 지문은 저장하지 않음")
+    void testCollect_fetchFailurePropagates() {
+        // Given: DAY1 조회 후 DAY2 조회 실패
+        UUID tenantId = UUID.randomUUID();
+        UUID storeId = UUID.randomUUID();
+        String productOrderId = "PO-" + UUID.randomUUID();
+        String bundleOrderId = "BO-" + UUID.randomUUID();
+        createOrder(tenantId, storeId, productOrderId, bundleOrderId);
+
+        List<DailySettlementElement> day1 = List.of(element(DAY1, bundleOrderId, productOrderId, 10000L, -1000L, 9000L));
+        doAnswer(invocation -> {
+            Consumer<List<DailySettlementElement>> consumer = invocation.getArgument(3);
+            consumer.accept(day1);
+            throw new RuntimeException("스마트스토어 정산 요소 조회 실패 (날짜: " + DAY2 + ")");
+        }).when(naverSettlementClient).streamSettlementElements(any(), any(), any(), any());
+
+        // When / Then: 수집 실패
+        assertThatThrownBy(() -> collect(tenantId, storeId))
+                .hasMessageContaining(DAY2.toString());
+
+        // When: 재수집 (정상)
+        pages = List.of(day1);
+        setUp();
+        SettlementCollectionResult retried = collect(tenantId, storeId);
+
+        // Then: 실패 수집분 지문이 없어 DAY1도 다시 처리
+        assertThat(retried.getSkippedElements()).isZero();
+        assertThat(retried.getUpdatedOrders()).isEqualTo(1);
+    }
+
+    private SettlementCollectionResult collect(UUID tenantId, UUID storeId) {
+        return collect(tenantId, storeId, DAY1);
+    }
+
+    private SettlementCollectionResult collect(UUID tenantId, UUID storeId, LocalDate startDate) {
+        return settlementCollectionService.collectAndProcessSettlements(
+                tenantId, storeId, Marketplace.NAVER_SMARTSTORE, startDate, DAY2, "{}");
+    }
+
+    private Order findOrder(UUID storeId, String marketplaceOrderId) {
+        return orderRepository.findByStoreIdAndMarketplaceOrderIdIn(storeId, List.of(marketplaceOrderId)).get(0);
+    }
+
+    private DailySettlementElement element(LocalDate payDate, String bundleOrderId, String productOrderId,
+                                           long paySettleAmount, long commission, long settleExpectAmount) {
+        return DailySettlementElement.builder()
+                .payDate(payDate.toString())
+                .orderId(bundleOrderId)
+                .productOrderId(productOrderId)
+                .productOrderType("PROD_ORDER")
+                .settleType("NORMAL_SETTLE_ORIGINAL")
+                .productId("P-001")
+                .productName("테스트 상품")
+                .paySettleAmount(paySettleAmount)
+                .totalPayCommissionAmount(commission)
+                .settleExpectAmount(settleExpectAmount)
+                .build();
+    }
+
+    private void createOrder(UUID tenantId, UUID storeId, String marketplaceOrderId, String bundleOrderId) {
+        LocalDateTime paidAt = DAY1.minusDays(3).atTime(10, 0);
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .storeId(storeId)
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId(marketplaceOrderId)
+                .bundleOrderId(bundleOrderId)
+                .orderStatus(OrderStatus.PAID)
+                .orderedAt(paidAt)
+                .paidAt(paidAt)
+                .buyerName("구매자")
+                .receiverName("수령인")
+                .totalProductAmount(13000L)
+                .totalDiscountAmount(0L)
+                .totalShippingAmount(0L)
+                .totalPaidAmount(13000L)
+                .shippingFee(0L)
+                .prepaidShippingFee(0L)
+                .additionalShippingFee(0L)
+                .build();
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,258 @@
+package com.sellsync.api.domain.settlement;
+
+import com.sellsync.api.domain.order.entity.Order;
+import com.sellsync.api.domain.order.enums.Marketplace;
+import com.sellsync.api.domain.order.enums.OrderStatus;
+import com.sellsync.api.domain.order.repository.OrderRepository;
+import com.sellsync.api.domain.settlement.dto.CreateSettlementBatchRequest;
+import com.sellsync.api.domain.settlement.entity.SettlementBatch;
+import com.sellsync.api.domain.settlement.entity.SettlementOrder;
+import com.sellsync.api.domain.settlement.entity.SettlementOrderItem;
+import com.sellsync.api.domain.settlement.repository.SettlementBatchRepository;
+import com.sellsync.api.domain.settlement.repository.SettlementOrderBulkRepository.BulkInsertResult;
+import com.sellsync.api.domain.settlement.repository.SettlementOrderRepository;
+import com.sellsync.api.domain.settlement.service.SettlementService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 주문 COPY 벌크 적재 테스트 (SettlementOrderBulkRepository)
+ *
+ * 핵심:
+ * - 멱등성 키 (tenant_id, settlement_batch_id, order_id) 충돌 주문은 상품 라인까지 생략
+ * - 같은 입력 재실행 시 추가 적재 없음
+ * - 같은 트랜잭션에서 여러 번 호출해도 이전 호출 스테이징 행은 다시 병합되지 않음
+ */
+@Slf4j
+class SettlementOrderBulkRepositoryTest extends SettlementTestBase {
+
+    @Autowired
+    private SettlementOrderRepository settlementOrderRepository;
+
+    @Autowired
+    private SettlementBatchRepository settlementBatchRepository;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID tenantId;
+    private SettlementBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        UUID batchId = settlementService.createOrGet(CreateSettlementBatchRequest.builder()
+                        .tenantId(tenantId)
+                        .marketplace(Marketplace.NAVER_SMARTSTORE)
+                        .settlementCycle("2026-03-02")
+                        .settlementPeriodStart(LocalDate.of(2026, 3, 2))
+                        .settlementPeriodEnd(LocalDate.of(2026, 3, 2))
+                        .build())
+                .getSettlementBatchId();
+        batch = settlementBatchRepository.findById(batchId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("[COPY 적재] 같은 입력 재실행 시 주문/상품 라인 추가 적재 없음 (멱등)")
+    void testBulkInsert_rerunIsIdempotent() {
+        // Given
+        Order orderA = createOrder();
+        Order orderB = createOrder();
+
+        // When: 1차 적재
+        BulkInsertResult first = settlementOrderRepository.bulkInsertWithItems(List.of(
+                settlementOrder(orderA, "A-1", "A-2"),
+                settlementOrder(orderB, "B-1")));
+
+        // Then
+        assertThat(first.orders()).isEqualTo(2);
+        assertThat(first.items()).isEqualTo(3);
+
+        // When: 같은 키로 재실행 (새 엔티티)
+        BulkInsertResult second = settlementOrderRepository.bulkInsertWithItems(List.of(
+                settlementOrder(orderA, "A-1", "A-2"),
+                settlementOrder(orderB, "B-1")));
+
+        // Then: 추가 적재 없음
+        assertThat(second.orders()).isZero();
+        assertThat(second.items()).isZero();
+        assertThat(countOrders()).isEqualTo(2);
+        assertThat(countItems()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[COPY 적재] 한 호출 안의 중복 주문은 1건만 저장하고 생략된 주문의 상품 라인은 저장하지 않음")
+    void testBulkInsert_duplicateOrdersInOneCall() {
+        // Given: 같은 주문의 정산 주문 2건 (상품 라인 다름)
+        Order order = createOrder();
+        SettlementOrder candidate1 = settlementOrder(order, "DUP-1");
+        SettlementOrder candidate2 = settlementOrder(order, "DUP-2");
+
+        // When
+        BulkInsertResult result = settlementOrderRepository.bulkInsertWithItems(List.of(candidate1, candidate2));
+
+        // Then: 주문 1건, 저장된 주문의 상품 라인만
+        assertThat(result.orders()).isEqualTo(1);
+        assertThat(result.items()).isEqualTo(1);
+
+        UUID storedId = jdbcTemplate.queryForObject(
+                "SELECT settlement_order_id FROM settlement_orders WHERE settlement_batch_id = ? AND order_id = ?",
+                UUID.class, batch.getSettlementBatchId(), order.getOrderId());
+        SettlementOrder stored = storedId.equals(candidate1.getSettlementOrderId()) ? candidate1 : candidate2;
+        assertThat(storedId).isEqualTo(stored.getSettlementOrderId());
+        assertThat(itemProductOrderIds(storedId))
+                .containsExactly(stored.getItems().get(0).getMarketplaceProductOrderId());
+    }
+
+    @Test
+    @DisplayName("[COPY 적재] 기존 주문과 충돌한 정산 주문의 상품 라인은 저장하지 않음")
+    void testBulkInsert_conflictingOrderItemsSkipped() {
+        // Given: 이미 적재된 주문 A
+        Order orderA = createOrder();
+        Order orderC = createOrder();
+        settlementOrderRepository.bulkInsertWithItems(List.of(settlementOrder(orderA, "A-1")));
+        UUID existingId = jdbcTemplate.queryForObject(
+                "SELECT settlement_order_id FROM settlement_orders WHERE settlement_batch_id = ? AND order_id = ?",
+                UUID.class, batch.getSettlementBatchId(), orderA.getOrderId());
+
+        // When: A(새 상품 라인) + C 적재
+        BulkInsertResult result = settlementOrderRepository.bulkInsertWithItems(List.of(
+                settlementOrder(orderA, "A-NEW"),
+                settlementOrder(orderC, "C-1")));
+
+        // Then: C만 저장, A에는 새 상품 라인 없음
+        assertThat(result.orders()).isEqualTo(1);
+        assertThat(result.items()).isEqualTo(1);
+        assertThat(itemProductOrderIds(existingId)).containsExactly("A-1");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM settlement_order_items WHERE marketplace_product_order_id = 'A-NEW'",
+                Integer.class)).isZero();
+        assertThat(countItems()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[COPY 적재] 같은 트랜잭션의 두 번째 호출은 자기 입력만 스테이징/병합")
+    void testBulkInsert_stageTruncatedPerCall() {
+        // Given
+        Order orderA = createOrder();
+        Order orderB = createOrder();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // When: 같은 트랜잭션에서 2회 호출
+            BulkInsertResult first = settlementOrderRepository.bulkInsertWithItems(List.of(
+                    settlementOrder(orderA, "A-1", "A-2")));
+            BulkInsertResult second = settlementOrderRepository.bulkInsertWithItems(List.of(
+                    settlementOrder(orderB, "B-1")));
+
+            // Then: 두 번째 호출 스테이징에는 두 번째 입력만
+            assertThat(first.orders()).isEqualTo(1);
+            assertThat(first.items()).isEqualTo(2);
+            assertThat(second.orders()).isEqualTo(1);
+            assertThat(second.items()).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settlement_order_stage", Integer.class))
+                    .isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settlement_order_item_stage", Integer.class))
+                    .isEqualTo(1);
+        });
+
+        assertThat(countOrders()).isEqualTo(2);
+        assertThat(countItems()).isEqualTo(3);
+    }
+
+    private int countOrders() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM settlement_orders WHERE settlement_batch_id = ?",
+                Integer.class, batch.getSettlementBatchId());
+    }
+
+    private int countItems() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM settlement_order_items i " +
+                "JOIN settlement_orders o ON o.settlement_order_id = i.settlement_order_id " +
+                "WHERE o.settlement_batch_id = ?",
+                Integer.class, batch.getSettlementBatchId());
+    }
+
+    private List<String> itemProductOrderIds(UUID settlementOrderId) {
+        return jdbcTemplate.queryForList(
+                "SELECT marketplace_product_order_id FROM settlement_order_items " +
+                "WHERE settlement_order_id = ? ORDER BY marketplace_product_order_id",
+                String.class, settlementOrderId);
+    }
+
+    private SettlementOrder settlementOrder(Order order, String... productOrderIds) {
+        SettlementOrder settlementOrder = SettlementOrder.builder()
+                .tenantId(tenantId)
+                .settlementBatch(batch)
+                .orderId(order.getOrderId())
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .bundleOrderId(order.getBundleOrderId())
+                .marketplaceOrderId(order.getMarketplaceOrderId())
+                .grossSalesAmount(BigDecimal.valueOf(10000))
+                .commissionAmount(BigDecimal.valueOf(1000))
+                .pgFeeAmount(BigDecimal.ZERO)
+                .shippingFeeCharged(BigDecimal.ZERO)
+                .shippingFeeSettled(BigDecimal.ZERO)
+                .netPayoutAmount(BigDecimal.valueOf(9000))
+                .build();
+
+        for (String productOrderId : productOrderIds) {
+            settlementOrder.addItem(SettlementOrderItem.builder()
+                    .marketplaceProductOrderId(productOrderId)
+                    .productOrderType("PROD_ORDER")
+                    .settleType("NORMAL_SETTLE_ORIGINAL")
+                    .productName("테스트 상품 \"따옴표\", 쉼표")
+                    .paySettleAmount(BigDecimal.valueOf(10000))
+                    .settleExpectAmount(BigDecimal.valueOf(9000))
+                    .build());
+        }
+        return settlementOrder;
+    }
+
+    private Order createOrder() {
+        LocalDateTime paidAt = LocalDateTime.of(2026, 2, 27, 10, 0);
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .storeId(UUID.randomUUID())
+                .marketplace(Marketplace.NAVER_SMARTSTORE)
+                .marketplaceOrderId("PO-" + UUID.randomUUID())
+                .bundleOrderId("BO-" + UUID.randomUUID())
+                .orderStatus(OrderStatus.PAID)
+                .orderedAt(paidAt)
+                .paidAt(paidAt)
+                .buyerName("구매자")
+                .receiverName("수령인")
+                .totalProductAmount(10000L)
+                .totalDiscountAmount(0L)
+                .totalShippingAmount(0L)
+                .totalPaidAmount(10000L)
+                .shippingFee(0L)
+                .prepaidShippingFee(0L)
+                .additionalShippingFee(0L)
+                .build();
+        return orderRepository.save(order);
+    }
+}
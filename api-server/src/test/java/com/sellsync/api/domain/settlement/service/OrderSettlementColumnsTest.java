@@ -0,0 +1,122 @@
+package com.sellsync.api.domain.settlement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문별 정산 금액 컬럼형 누적 버퍼 검증
+ */
+class OrderSettlementColumnsTest {
+
+    @Test
+    @DisplayName("[Settlement] 상품 금액은 합산하고 배송비 수수료는 덮어쓴다")
+    void accumulate_sumsProductAndOverwritesShipping() {
+        OrderSettlementColumns columns = new OrderSettlementColumns();
+
+        columns.addProduct("A", 100, 900);
+        columns.addProduct("B", 50, 450);
+        columns.addProduct("A", 10, 90);
+        columns.setShippingCommission("A", 30);
+        columns.setShippingCommission("A", 35);
+        columns.setShippingCommission("C", 20);
+
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.key(0)).isEqualTo("A");
+        assertThat(columns.productCommission(0)).isEqualTo(110);
+        assertThat(columns.settlementAmount(0)).isEqualTo(990);
+        assertThat(columns.shippingCommission(0)).isEqualTo(35);
+        assertThat(columns.key(2)).isEqualTo("C");
+        assertThat(columns.productCommission(2)).isZero();
+        assertThat(columns.shippingCommission(2)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("[Settlement] 색인 확장 후에도 같은 주문은 같은 행에 누적한다")
+    void accumulate_keepsRowsAcrossRehash() {
+        OrderSettlementColumns columns = new OrderSettlementColumns();
+        int orders = 10_000;
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < orders; i++) {
+                columns.addProduct("order-" + i, i, 1);
+            }
+        }
+
+        assertThat(columns.size()).isEqualTo(orders);
+        for (int row = 0; row < orders; row++) {
+            assertThat(columns.key(row)).isEqualTo("order-" + row);
+            assertThat(columns.productCommission(row)).isEqualTo(2L * row);
+            assertThat(columns.settlementAmount(row)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("[Settlement] 청크는 배열을 재사용하고 마지막 청크만 길이를 맞춘다")
+    void chunk_reusesArraysAndTrimsLast() {
+        OrderSettlementColumns columns = new OrderSettlementColumns();
+        for (int i = 0; i < 1_200; i++) {
+            columns.addProduct("order-" + i, i, i * 10L);
+            columns.setShippingCommission("order-" + i, 3);
+        }
+
+        OrderSettlementColumns.Chunk chunk = columns.newChunk(500);
+        List<Integer> lengths = new ArrayList<>();
+        long[] firstArray = null;
+        boolean reused = false;
+
+        for (int fromRow = 0; fromRow < columns.size(); ) {
+            int copied = chunk.fill(fromRow);
+            assertThat(chunk.marketplaceOrderIds()).hasSize(copied);
+            assertThat(chunk.marketplaceOrderIds()[0]).isEqualTo("order-" + fromRow);
+            assertThat(chunk.commissionAmounts()[copied - 1]).isEqualTo(fromRow + copied - 1);
+            assertThat(chunk.expectedSettlementAmounts()[copied - 1]).isEqualTo((fromRow + copied - 1) * 10L);
+            assertThat(chunk.shippingCommissionAmounts()).containsOnly(3L);
+
+            if (firstArray == null) {
+                firstArray = chunk.commissionAmounts();
+            } else if (copied == 500) {
+                reused = chunk.commissionAmounts() == firstArray;
+            }
+            lengths.add(copied);
+            fromRow += copied;
+        }
+
+        assertThat(lengths).containsExactly(500, 500, 200);
+        assertThat(reused).isTrue();
+    }
+
+    @Test
+    @DisplayName("[Settlement] 변경 표시된 주문만 남기고 누적 합계는 유지한다")
+    void retainChanged_keepsChangedRowsWithTotals() {
+        OrderSettlementColumns columns = new OrderSettlementColumns();
+
+        columns.addProduct("A", 100, 900);
+        columns.addProduct("B", 50, 450);
+        columns.addProduct("C", 20, 180);
+        columns.addProduct("B", 5, 45);
+        columns.setShippingCommission("C", 30);
+        columns.markChanged("B");
+        columns.markChanged("C");
+        columns.markChanged("B");
+
+        columns.retainChanged();
+
+        assertThat(columns.changedCount()).isEqualTo(2);
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.key(0)).isEqualTo("B");
+        assertThat(columns.productCommission(0)).isEqualTo(55);
+        assertThat(columns.settlementAmount(0)).isEqualTo(495);
+        assertThat(columns.key(1)).isEqualTo("C");
+        assertThat(columns.shippingCommission(1)).isEqualTo(30);
+
+        // 색인 재구성 후에도 같은 주문은 같은 행
+        columns.addProduct("C", 1, 1);
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.productCommission(1)).isEqualTo(21);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sellsync.api.infra.marketplace;
+
+import com.sellsync.api.domain.order.enums.Marketplace;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MarketplaceRateLimiter 토큰 버킷 검증
+ */
+class MarketplaceRateLimiterTest {
+
+    private final MarketplaceRateLimiter rateLimiter = new MarketplaceRateLimiter(10, 2, 10, 5);
+
+    @Test
+    @DisplayName("[Rate Limit] 인증 정보 버킷 소진 시 해당 인증 정보의 예산만 0이 된다")
+    void credentialBudget_isIsolatedPerCredential() {
+        rateLimiter.acquire(Marketplace.NAVER_SMARTSTORE, "client-a");
+        rateLimiter.acquire(Marketplace.NAVER_SMARTSTORE, "client-a");
+
+        assertThat(rateLimiter.remainingBudget(Marketplace.NAVER_SMARTSTORE, "client-a")).isEqualTo(0.0);
+        assertThat(rateLimiter.remainingBudget(Marketplace.NAVER_SMARTSTORE, "client-b")).isGreaterThanOrEqualTo(0.8);
+        assertThat(rateLimiter.nanosUntilAvailable(Marketplace.NAVER_SMARTSTORE, "client-a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("[Rate Limit] 마켓플레이스 버킷은 다른 마켓플레이스와 독립적이다")
+    void marketplaceBudget_isIsolatedPerMarketplace() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(Marketplace.COUPANG, "vendor-" + i);
+        }
+
+        assertThat(rateLimiter.remainingBudget(Marketplace.COUPANG, null)).isLessThan(1.0);
+        assertThat(rateLimiter.remainingBudget(Marketplace.NAVER_SMARTSTORE, null)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("[Rate Limit] 설정되지 않은 마켓플레이스는 제한하지 않는다")
+    void unconfiguredMarketplace_isUnlimited() {
+        rateLimiter.acquire(Marketplace.GMARKET, "any");
+
+        assertThat(rateLimiter.remainingBudget(Marketplace.GMARKET, "any")).isEqualTo(1.0);
+        assertThat(rateLimiter.nanosUntilAvailable(Marketplace.GMARKET, "any")).isZero();
+    }
+}
@@ -0,0 +1,163 @@
+package com.sellsync.api.infra.marketplace.coupang;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CoupangCommissionService 2단계 캐시 검증
+ * (TTL 24시간, refresh-ahead 4시간, 실패 캐시 10분)
+ */
+class CoupangCommissionServiceTest {
+
+    private static final String CREDENTIALS = "{}";
+
+    private final CoupangProductClient productClient = mock(CoupangProductClient.class);
+    private final CoupangProductInfoCacheRepository cacheRepository = mock(CoupangProductInfoCacheRepository.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("[Coupang 캐시] API 조회 결과는 인메모리 + DB에 저장되고 이후 조회는 인메모리에서 반환한다")
+    void getProductInfos_cachesApiResultInMemoryAndDb() {
+        CoupangCommissionService service = service(Runnable::run);
+        when(productClient.fetchProductInfo(CREDENTIALS, "SP-1")).thenReturn(Optional.of(info("SP-1", "10.8")));
+
+        Map<String, CoupangProductInfo> first = service.getProductInfos(CREDENTIALS, List.of("SP-1", "SP-1"));
+        Map<String, CoupangProductInfo> second = service.getProductInfos(CREDENTIALS, List.of("SP-1"));
+
+        assertThat(first.get("SP-1").getSaleAgentCommission()).isEqualByComparingTo("10.8");
+        assertThat(second.get("SP-1").getSaleAgentCommission()).isEqualByComparingTo("10.8");
+        verify(productClient, times(1)).fetchProductInfo(CREDENTIALS, "SP-1");
+        verify(cacheRepository, times(1)).findBySellerProductIdIn(anyCollection());
+        verify(cacheRepository, times(1)).save(any(CoupangProductInfoCache.class));
+    }
+
+    @Test
+    @DisplayName("[Coupang 캐시] 유효한 DB 캐시는 API 없이 반환하고 인메모리로 승격한다")
+    void getProductInfos_servesFreshDbRowWithoutApiCall() {
+        CoupangCommissionService service = service(Runnable::run);
+        when(cacheRepository.findBySellerProductIdIn(anyCollection()))
+                .thenReturn(List.of(CoupangProductInfoCache.from(info("SP-2", "7.5"), LocalDateTime.now().minusHours(1))));
+
+        assertThat(service.getProductInfo(CREDENTIALS, "SP-2")).get()
+                .extracting(CoupangProductInfo::getSaleAgentCommission).isEqualTo(new BigDecimal("7.5"));
+        assertThat(service.getProductInfo(CREDENTIALS, "SP-2")).isPresent();
+
+        verify(productClient, never()).fetchProductInfo(anyString(), anyString());
+        verify(cacheRepository, times(1)).findBySellerProductIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("[Coupang 캐시] TTL이 지난 DB 캐시는 사용하지 않고 API로 다시 조회한다")
+    void getProductInfos_refetchesExpiredDbRow() {
+        CoupangCommissionService service = service(Runnable::run);
+        when(cacheRepository.findBySellerProductIdIn(anyCollection()))
+                .thenReturn(List.of(CoupangProductInfoCache.from(info("SP-3", "5.0"), LocalDateTime.now().minusHours(25))));
+        when(productClient.fetchProductInfo(CREDENTIALS, "SP-3")).thenReturn(Optional.of(info("SP-3", "6.0")));
+
+        assertThat(service.getProductInfo(CREDENTIALS, "SP-3")).get()
+                .extracting(CoupangProductInfo::getSaleAgentCommission).isEqualTo(new BigDecimal("6.0"));
+        verify(productClient, times(1)).fetchProductInfo(CREDENTIALS, "SP-3");
+    }
+
+    @Test
+    @DisplayName("[Coupang 캐시] TTL 임박 항목은 기존 값을 반환하고 백그라운드로 갱신한다 (refresh-ahead)")
+    void getProductInfos_refreshesAheadOfExpiry() {
+        CoupangCommissionService service = service(Runnable::run);
+        when(cacheRepository.findBySellerProductIdIn(anyCollection()))
+                .thenReturn(List.of(CoupangProductInfoCache.from(info("SP-4", "5.0"), LocalDateTime.now().minusHours(21))));
+        when(productClient.fetchProductInfo(CREDENTIALS, "SP-4")).thenReturn(Optional.of(info("SP-4", "5.5")));
+
+        // 기존 값 반환 + 갱신 (동기 실행기)
+        assertThat(service.getProductInfo(CREDENTIALS, "SP-4")).get()
+                .extracting(CoupangProductInfo::getSaleAgentCommission).isEqualTo(new BigDecimal("5.0"));
+        verify(productClient, times(1)).fetchProductInfo(CREDENTIALS, "SP-4");
+
+        // 갱신된 값이 인메모리에서 반환
+        assertThat(service.getProductInfo(CREDENTIALS, "SP-4")).get()
+                .extracting(CoupangProductInfo::getSaleAgentCommission).isEqualTo(new BigDecimal("5.5"));
+    }
+
+    @Test
+    @DisplayName("[Coupang 캐시] 조회 실패 결과는 캐시되어 실패 캐시 기간 동안 API를 다시 호출하지 않는다")
+    void getProductInfos_cachesFailedLookup() {
+        CoupangCommissionService service = service(Runnable::run);
+        when(productClient.fetchProductInfo(CREDENTIALS, "SP-5")).thenThrow(new IllegalStateException("API error"));
+        when(productClient.fetchProductInfo(CREDENTIALS, "SP-6")).thenReturn(Optional.empty());
+
+        assertThat(service.getProductInfos(CREDENTIALS, List.of("SP-5", "SP-6"))).isEmpty();
+        assertThat(service.getProductInfos(CREDENTIALS, List.of("SP-5", "SP-6"))).isEmpty();
+
+        verify(productClient, times(1)).fetchProductInfo(CREDENTIALS, "SP-5");
+        verify(productClient, times(1)).fetchProductInfo(CREDENTIALS, "SP-6");
+        verify(cacheRepository, never()).save(any(CoupangProductInfoCache.class));
+    }
+
+    @Test
+    @DisplayName("[Coupang 캐시] 같은 sellerProductId 동시 조회는 진행 중인 API 호출 1건을 공유한다")
+    void getProductInfos_sharesInFlightLookup() throws Exception {
+        CoupangCommissionService service = service(executor);
+        CountDownLatch apiStarted = new CountDownLatch(1);
+        CountDownLatch releaseApi = new CountDownLatch(1);
+        when(productClient.fetchProductInfo(eq(CREDENTIALS), eq("SP-7"))).thenAnswer(invocation -> {
+            apiStarted.countDown();
+            releaseApi.await(5, TimeUnit.SECONDS);
+            return Optional.of(info("SP-7", "9.0"));
+        });
+
+        Future<Map<String, CoupangProductInfo>> first =
+                executor.submit(() -> service.getProductInfos(CREDENTIALS, List.of("SP-7")));
+        assertThat(apiStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Map<String, CoupangProductInfo>> second =
+                executor.submit(() -> service.getProductInfos(CREDENTIALS, List.of("SP-7")));
+
+        // 두 번째 호출이 진행 중인 조회에 합류할 때까지 대기 후 해제
+        Thread.sleep(200);
+        releaseApi.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsKey("SP-7");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsKey("SP-7");
+        verify(productClient, times(1)).fetchProductInfo(CREDENTIALS, "SP-7");
+    }
+
+    private CoupangCommissionService service(Executor productInfoExecutor) {
+        return new CoupangCommissionService(productClient, cacheRepository, productInfoExecutor, 24, 4, 10);
+    }
+
+    private static CoupangProductInfo info(String sellerProductId, String commission) {
+        return CoupangProductInfo.builder()
+                .sellerProductId(sellerProductId)
+                .displayCategoryCode("1001")
+                .saleAgentCommission(new BigDecimal(commission))
+                .itemCommissions(Map.of())
+                .build();
+    }
+}
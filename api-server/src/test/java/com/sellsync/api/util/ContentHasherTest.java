@@ -0,0 +1,43 @@
+package com.sellsync.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내용 지문 계산 검증
+ */
+class ContentHasherTest {
+
+    @Test
+    @DisplayName("[ContentHash] SHA256 소문자 16진수를 반환한다")
+    void sha256Hex_lowercaseHex() {
+        assertThat(ContentHasher.sha256Hex("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("[ContentHash] 필드 값은 길이 접두어로 연결한다")
+    void add_lengthPrefixed() {
+        String expected = ContentHasher.sha256Hex("-1:0:[3:abc]");
+
+        String actual = new ContentHasher()
+                .add(null, "")
+                .mark('[')
+                .add("abc")
+                .mark(']')
+                .hash();
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("[ContentHash] null과 빈 문자열, 필드 경계를 구분한다")
+    void add_distinguishesNullEmptyAndBoundaries() {
+        assertThat(new ContentHasher().add((Object) null).hash())
+                .isNotEqualTo(new ContentHasher().add("").hash());
+        assertThat(new ContentHasher().add("ab", "c").hash())
+                .isNotEqualTo(new ContentHasher().add("a", "bc").hash());
+    }
+}
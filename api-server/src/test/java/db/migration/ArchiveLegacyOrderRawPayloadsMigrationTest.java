@@ -0,0 +1,166 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V57 레거시 raw_payload 이관 마이그레이션 테스트 (+ V58 컬럼 삭제)
+ *
+ * 핵심:
+ * - orders / order_items.raw_payload를 GZIP 압축하여 order_raw_payloads로 이관 (주문 단위 키 = '')
+ * - 이미 보관된 키는 덮어쓰지 않음 (ON CONFLICT DO NOTHING)
+ * - marketplace_item_id 없는 주문 상품은 이관하지 않음
+ * - 배치 크기(500)를 넘는 건수도 키 순서 페이징으로 모두 이관
+ */
+@Testcontainers
+class ArchiveLegacyOrderRawPayloadsMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("sellsync_migration_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway(null).clean();
+        flyway("56").migrate();
+    }
+
+    @Test
+    @DisplayName("[V57 이관] 주문/상품 원본을 압축 이관하고 기존 보관분은 유지, V58에서 레거시 컬럼 삭제")
+    void testMigrate_archivesLegacyPayloads() {
+        // Given: V56 시점 레거시 원본
+        UUID legacyOrder = insertOrder("{\"orderId\": \"A\"}");
+        UUID archivedOrder = insertOrder("{\"orderId\": \"B-legacy\"}");
+        UUID noPayloadOrder = insertOrder(null);
+        insertItem(legacyOrder, 1, "ITEM-A1", "{\"item\": \"A1\"}");
+        insertItem(legacyOrder, 2, null, "{\"item\": \"no-id\"}");
+
+        // Given: V50 이후 이미 보관된 원본 (이관 대상 아님)
+        jdbcTemplate.update(
+                "INSERT INTO order_raw_payloads (order_id, marketplace_item_id, payload_gzip) VALUES (?, '', ?)",
+                archivedOrder, gzip("{\"orderId\": \"B-archived\"}"));
+
+        // When
+        flyway("57").migrate();
+
+        // Then: 주문/상품 원본 이관 (주문 단위 키 = '')
+        assertThat(archivedPayload(legacyOrder, "")).isEqualTo("{\"orderId\": \"A\"}");
+        assertThat(archivedPayload(legacyOrder, "ITEM-A1")).isEqualTo("{\"item\": \"A1\"}");
+
+        // Then: 기존 보관분 유지, 원본 없는 주문/ID 없는 상품은 이관하지 않음
+        assertThat(archivedPayload(archivedOrder, "")).isEqualTo("{\"orderId\": \"B-archived\"}");
+        assertThat(countArchived(noPayloadOrder)).isZero();
+        assertThat(countArchived(legacyOrder)).isEqualTo(2);
+
+        // When: V58 (레거시 컬럼 삭제)
+        flyway(null).migrate();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_name IN ('orders', 'order_items') AND column_name = 'raw_payload'",
+                Integer.class)).isZero();
+        assertThat(archivedPayload(legacyOrder, "")).isEqualTo("{\"orderId\": \"A\"}");
+    }
+
+    @Test
+    @DisplayName("[V57 이관] 배치 크기를 넘는 주문도 모두 이관")
+    void testMigrate_pagesPastBatchSize() {
+        // Given: 배치 크기(500) 2회 + 나머지
+        List<UUID> orderIds = IntStream.range(0, 1_201)
+                .mapToObj(i -> insertOrder("{\"seq\": " + i + "}"))
+                .toList();
+
+        // When
+        flyway("57").migrate();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_raw_payloads WHERE marketplace_item_id = ''", Integer.class))
+                .isEqualTo(orderIds.size());
+        assertThat(archivedPayload(orderIds.get(1_200), "")).isEqualTo("{\"seq\": 1200}");
+    }
+
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private UUID insertOrder(String rawPayload) {
+        UUID orderId = UUID.randomUUID();
+        jdbcTemplate.update(
+                "INSERT INTO orders (order_id, tenant_id, store_id, marketplace, marketplace_order_id, order_status, " +
+                "ordered_at, paid_at, buyer_name, receiver_name, raw_payload) " +
+                "VALUES (?, ?, ?, 'NAVER_SMARTSTORE', ?, 'PAID', NOW(), NOW(), '구매자', '수령인', CAST(? AS jsonb))",
+                orderId, UUID.randomUUID(), UUID.randomUUID(), "PO-" + orderId, rawPayload);
+        return orderId;
+    }
+
+    private void insertItem(UUID orderId, int lineNo, String marketplaceItemId, String rawPayload) {
+        jdbcTemplate.update(
+                "INSERT INTO order_items (order_item_id, order_id, line_no, marketplace_item_id, " +
+                "marketplace_product_id, product_name, raw_payload) " +
+                "VALUES (?, ?, ?, ?, 'P-001', '테스트 상품', CAST(? AS jsonb))",
+                UUID.randomUUID(), orderId, lineNo, marketplaceItemId, rawPayload);
+    }
+
+    private int countArchived(UUID orderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_raw_payloads WHERE order_id = ?", Integer.class, orderId);
+    }
+
+    private String archivedPayload(UUID orderId, String marketplaceItemId) {
+        byte[] compressed = jdbcTemplate.queryForObject(
+                "SELECT payload_gzip FROM order_raw_payloads WHERE order_id = ? AND marketplace_item_id = ?",
+                byte[].class, orderId, marketplaceItemId);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(String payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}